@@ -0,0 +1,50 @@
+package com.webisbrian.hospital_bed_planner.benchmark;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.service.PlacementService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Débit de {@link PlacementService#suggestBedForPatient} sur les adaptateurs en mémoire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PlacementBenchmark {
+
+    private PlacementService placementService;
+
+    @Setup(Level.Trial)
+    public void setUp(SyntheticDataset dataset) {
+        placementService = new PlacementService(
+                dataset.patientRepository, dataset.bedRepository, dataset.hospitalStayRepository);
+    }
+
+    @Benchmark
+    public Optional<Bed> suggestBedForPatientOnDate(SyntheticDataset dataset, QueryCursor cursor) {
+        return placementService.suggestBedForPatient(cursor.nextPatientId(dataset), SyntheticDataset.TODAY);
+    }
+
+    @Benchmark
+    public Optional<Bed> suggestBedForPatientOverPeriod(SyntheticDataset dataset, QueryCursor cursor) {
+        LocalDate from = SyntheticDataset.TODAY;
+        return placementService.suggestBedForPatient(cursor.nextPatientId(dataset), from, from.plusDays(7));
+    }
+}
@@ -0,0 +1,21 @@
+package com.webisbrian.hospital_bed_planner.benchmark;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Curseur propre à chaque thread de mesure : fait tourner les requêtes sur tous les patients
+ * pour éviter de mesurer toujours le même chemin (et les mêmes lignes de cache).
+ */
+@State(Scope.Thread)
+public class QueryCursor {
+
+    private static final int STRIDE = 7_919;
+
+    private int position;
+
+    String nextPatientId(SyntheticDataset dataset) {
+        position = (position + STRIDE) % dataset.patientIds.length;
+        return dataset.patientIds[position];
+    }
+}
@@ -0,0 +1,41 @@
+package com.webisbrian.hospital_bed_planner.benchmark;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Débit des lectures les plus sollicitées par la recherche de lit, sur les adaptateurs en mémoire.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RepositoryBenchmark {
+
+    @Benchmark
+    public List<HospitalStay> findActiveStaysOn(SyntheticDataset dataset) {
+        return dataset.hospitalStayRepository.findActiveStaysOn(SyntheticDataset.TODAY);
+    }
+
+    @Benchmark
+    public List<HospitalStay> findAllByPatientId(SyntheticDataset dataset, QueryCursor cursor) {
+        return dataset.hospitalStayRepository.findAllByPatientId(cursor.nextPatientId(dataset));
+    }
+
+    @Benchmark
+    public List<Bed> findByStatus(SyntheticDataset dataset) {
+        return dataset.bedRepository.findByStatus(BedStatus.AVAILABLE);
+    }
+}
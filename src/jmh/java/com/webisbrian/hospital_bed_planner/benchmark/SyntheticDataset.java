@@ -0,0 +1,111 @@
+package com.webisbrian.hospital_bed_planner.benchmark;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.model.Sex;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import com.webisbrian.hospital_bed_planner.domain.service.BedOccupancyCalendar;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryBedRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryHospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryPatientRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Jeu de données synthétique partagé par les benchmarks, chargé une fois par essai dans les adaptateurs en mémoire.
+ * <p>
+ * Génération déterministe (graine fixe) :
+ * - lits répartis par chambres de 2, 60 % AVAILABLE, 20 % permettant l'isolement ;
+ * - un patient pour 10 séjours, 10 % à isoler ;
+ * - séjours de 1 à 14 jours admis sur les 2 ans précédant {@link #TODAY}, clôturés sauf s'ils couvrent cette date.
+ */
+@State(Scope.Benchmark)
+public class SyntheticDataset {
+
+    static final LocalDate TODAY = LocalDate.of(2025, 1, 15);
+
+    private static final long SEED = 42L;
+    private static final int HISTORY_DAYS = 730;
+    private static final int STAYS_PER_PATIENT = 10;
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"100", "1000", "10000"})
+    public int beds;
+
+    @Param({"10000", "1000000"})
+    public int stays;
+
+    InMemoryPatientRepository patientRepository;
+    InMemoryBedRepository bedRepository;
+    InMemoryHospitalStayRepository hospitalStayRepository;
+
+    /** Identifiants des patients, dans l'ordre de création. */
+    String[] patientIds;
+
+    @Setup(Level.Trial)
+    public void load() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        patientRepository = new InMemoryPatientRepository();
+        bedRepository = new InMemoryBedRepository();
+        hospitalStayRepository = new InMemoryHospitalStayRepository(BedOccupancyCalendar.rollingAround(TODAY));
+
+        // 1. Lits
+        List<Bed> bedBatch = new ArrayList<>(beds);
+        for (int i = 0; i < beds; i++) {
+            bedBatch.add(new Bed("BED-" + i, "ROOM-" + (i / 2), String.format("B%05d", i),
+                    bedStatus(random), random.nextInt(5) == 0));
+        }
+        bedRepository.saveAll(bedBatch);
+
+        // 2. Patients
+        int patients = Math.max(1, stays / STAYS_PER_PATIENT);
+        patientIds = new String[patients];
+        List<Patient> patientBatch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < patients; i++) {
+            patientIds[i] = "PAT-" + i;
+            patientBatch.add(new Patient(patientIds[i], "Prénom" + i, "Nom" + i, LocalDate.of(1950, 1, 1).plusDays(i % 20_000),
+                    random.nextBoolean() ? Sex.FEMALE : Sex.MALE, false, random.nextInt(10) == 0, null, null));
+            if (patientBatch.size() == BATCH_SIZE) {
+                patientRepository.saveAll(patientBatch);
+                patientBatch.clear();
+            }
+        }
+        patientRepository.saveAll(patientBatch);
+
+        // 3. Séjours
+        List<HospitalStay> stayBatch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < stays; i++) {
+            LocalDate admission = TODAY.minusDays(random.nextInt(HISTORY_DAYS));
+            LocalDate plannedDischarge = admission.plusDays(random.nextInt(14));
+            LocalDate effectiveDischarge = plannedDischarge.isBefore(TODAY) ? plannedDischarge : null;
+            stayBatch.add(new HospitalStay("STAY-" + i, patientIds[random.nextInt(patients)], "BED-" + random.nextInt(beds),
+                    random.nextInt(4) == 0 ? StayType.DAY : StayType.WEEK, admission, plannedDischarge, effectiveDischarge));
+            if (stayBatch.size() == BATCH_SIZE) {
+                hospitalStayRepository.saveAll(stayBatch);
+                stayBatch.clear();
+            }
+        }
+        hospitalStayRepository.saveAll(stayBatch);
+    }
+
+    private static BedStatus bedStatus(SplittableRandom random) {
+        int draw = random.nextInt(20);
+        if (draw < 12) {
+            return BedStatus.AVAILABLE;
+        }
+        if (draw < 17) {
+            return BedStatus.OCCUPIED;
+        }
+        return draw < 19 ? BedStatus.CLEANING : BedStatus.OUT_OF_ORDER;
+    }
+}
@@ -0,0 +1,201 @@
+package com.webisbrian.hospital_bed_planner.application.usecase;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedOccupancy;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.model.Sex;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.PatientRepository;
+import com.webisbrian.hospital_bed_planner.domain.service.PlacementService;
+import com.webisbrian.hospital_bed_planner.domain.service.RepositoryBedAvailability;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+/**
+ * Façade asynchrone des use cases : chaque appel s'exécute sur un thread virtuel et renvoie un {@link CompletableFuture}.
+ * Les erreurs de validation arrivent en {@link java.util.concurrent.CompletionException} autour de
+ * l'{@link IllegalArgumentException} levée par le use case.
+ * <p>
+ * {@link #suggestBedForPatient(String, LocalDate, LocalDate)} lance en parallèle les trois lectures indépendantes
+ * (patient, lits AVAILABLE, occupation de la période) : une demande coûte la plus lente des trois et non leur somme.
+ * Les sous-tâches ne survivent pas à la demande : en cas d'échec ou d'interruption,
+ * celles encore en cours sont annulées. Elles tournent toujours sur leurs propres threads virtuels, jamais sur
+ * l'exécuteur de la façade : avec un exécuteur borné fourni par l'appelant, une demande qui attend ses sous-tâches
+ * ne peut pas bloquer le thread dont elles auraient besoin.
+ */
+public class AsyncHospitalBedPlanner implements AutoCloseable {
+
+    private final PatientRepository patientRepository;
+    private final BedRepository bedRepository;
+    private final HospitalStayRepository hospitalStayRepository;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final ThreadFactory lookupThreads = Thread.ofVirtual().name("bed-planner-lookup-", 0).factory();
+
+    private final CreatePatientUseCase createPatientUseCase;
+    private final CreateStayUseCase createStayUseCase;
+    private final PlacePatientUseCase placePatientUseCase;
+    private final DischargePatientUseCase dischargePatientUseCase;
+
+    /**
+     * Un thread virtuel par tâche ; l'exécuteur est fermé avec la façade.
+     */
+    public AsyncHospitalBedPlanner(PatientRepository patientRepository,
+                                   BedRepository bedRepository,
+                                   HospitalStayRepository hospitalStayRepository) {
+        this(patientRepository, bedRepository, hospitalStayRepository, Executors.newVirtualThreadPerTaskExecutor(), true);
+    }
+
+    /**
+     * Exécuteur fourni par l'appelant, qui reste responsable de sa fermeture.
+     */
+    public AsyncHospitalBedPlanner(PatientRepository patientRepository,
+                                   BedRepository bedRepository,
+                                   HospitalStayRepository hospitalStayRepository,
+                                   ExecutorService executor) {
+        this(patientRepository, bedRepository, hospitalStayRepository, executor, false);
+    }
+
+    private AsyncHospitalBedPlanner(PatientRepository patientRepository,
+                                    BedRepository bedRepository,
+                                    HospitalStayRepository hospitalStayRepository,
+                                    ExecutorService executor,
+                                    boolean ownsExecutor) {
+        this.patientRepository = patientRepository;
+        this.bedRepository = bedRepository;
+        this.hospitalStayRepository = hospitalStayRepository;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+
+        this.createPatientUseCase = new CreatePatientUseCase(patientRepository);
+        this.createStayUseCase = new CreateStayUseCase(hospitalStayRepository, patientRepository, bedRepository);
+        this.placePatientUseCase = new PlacePatientUseCase(
+                new PlacementService(patientRepository, bedRepository, hospitalStayRepository), hospitalStayRepository);
+        this.dischargePatientUseCase = new DischargePatientUseCase(hospitalStayRepository);
+    }
+
+    public CompletableFuture<Patient> createPatient(String id,
+                                                    String firstname,
+                                                    String lastname,
+                                                    LocalDate birthDate,
+                                                    Sex sex,
+                                                    boolean pmr,
+                                                    boolean isolationRequired,
+                                                    String phoneNumber,
+                                                    String notes) {
+        return async(() -> createPatientUseCase.createPatient(
+                id, firstname, lastname, birthDate, sex, pmr, isolationRequired, phoneNumber, notes));
+    }
+
+    public CompletableFuture<HospitalStay> createStay(String stayId,
+                                                      String patientId,
+                                                      String bedId,
+                                                      LocalDate admissionDate,
+                                                      LocalDate dischargeDatePlanned,
+                                                      StayType stayType) {
+        return async(() -> createStayUseCase.createStay(
+                stayId, patientId, bedId, admissionDate, dischargeDatePlanned, stayType));
+    }
+
+    public CompletableFuture<Optional<HospitalStay>> placePatient(String stayId,
+                                                                  String patientId,
+                                                                  LocalDate admissionDate,
+                                                                  LocalDate plannedDischargeDate,
+                                                                  StayType stayType) {
+        return async(() -> placePatientUseCase.placePatient(
+                stayId, patientId, admissionDate, plannedDischargeDate, stayType));
+    }
+
+    public CompletableFuture<HospitalStay> dischargePatient(String stayId, LocalDate dischargeDate) {
+        return async(() -> dischargePatientUseCase.discharge(stayId, dischargeDate));
+    }
+
+    /**
+     * Propose un lit libre sur la période [from, to], mêmes règles que
+     * {@link PlacementService#suggestBedForPatient(String, LocalDate, LocalDate)}.
+     */
+    public CompletableFuture<Optional<Bed>> suggestBedForPatient(String patientId, LocalDate from, LocalDate to) {
+        // 1. Validation simple des paramètres, avant tout lancement
+        if (patientId == null || patientId.isBlank()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Patient id cannot be null or blank"));
+        }
+        if (from == null || to == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Dates cannot be null"));
+        }
+        if (to.isBefore(from)) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("Planned discharge date cannot be before admission date"));
+        }
+
+        return async(() -> {
+            // 2. Lectures indépendantes lancées ensemble
+            Future<Optional<Patient>> patient = fork(() -> patientRepository.findById(patientId));
+            Future<List<Bed>> availableBeds = fork(() -> bedRepository.findByStatus(BedStatus.AVAILABLE));
+            Future<BedOccupancy> occupancy = fork(() -> hospitalStayRepository.findOccupancyBetween(from, to, LocalDate.now()));
+            try {
+                // 3. Le patient d'abord : s'il manque, inutile d'attendre le reste
+                Patient found = await(patient)
+                        .orElseThrow(() -> new IllegalArgumentException("Patient with id " + patientId + " does not exist"));
+                return RepositoryBedAvailability.firstFreeBed(found, await(availableBeds), await(occupancy));
+            } finally {
+                // 4. Aucune sous-tâche ne survit à la demande (sans effet sur celles terminées)
+                patient.cancel(true);
+                availableBeds.cancel(true);
+                occupancy.cancel(true);
+            }
+        });
+    }
+
+    /**
+     * Ferme l'exécuteur s'il a été créé par la façade, après la fin des tâches en cours.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.close();
+        }
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    /**
+     * Lance une lecture sur un thread virtuel dédié ; {@code cancel(true)} l'interrompt.
+     */
+    private <T> Future<T> fork(Callable<T> lookup) {
+        FutureTask<T> task = new FutureTask<>(lookup);
+        lookupThreads.newThread(task).start();
+        return task;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a repository lookup");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Repository lookup failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.webisbrian.hospital_bed_planner.application.usecase;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.PatientRepository;
+import com.webisbrian.hospital_bed_planner.domain.service.BedAssignmentSolver;
+import com.webisbrian.hospital_bed_planner.domain.service.BedOccupancyIndex;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Use case d'application permettant de placer une vague d'admissions (plusieurs patients à la fois)
+ * à partir d'une seule photographie des lits et des séjours.
+ */
+public class PlaceAdmissionWaveUseCase {
+
+    private final PatientRepository patientRepository;
+    private final BedRepository bedRepository;
+    private final HospitalStayRepository hospitalStayRepository;
+    private final BedAssignmentSolver bedAssignmentSolver = new BedAssignmentSolver();
+
+    public PlaceAdmissionWaveUseCase(PatientRepository patientRepository,
+                                     BedRepository bedRepository,
+                                     HospitalStayRepository hospitalStayRepository) {
+        this.patientRepository = patientRepository;
+        this.bedRepository = bedRepository;
+        this.hospitalStayRepository = hospitalStayRepository;
+    }
+
+    /**
+     * Place toutes les demandes d'une vague d'admissions.
+     *
+     * Règles :
+     * - Chaque demande est validée comme dans {@link PlacePatientUseCase#placePatient} ;
+     *   les identifiants de séjour doivent être uniques dans la vague et les patients doivent exister.
+     * - Les lits AVAILABLE et les séjours chevauchant la période de la vague sont chargés une seule fois.
+     * - Un lit doit être libre sur [admissionDate, plannedDischargeDate], ou le jour de l'admission
+     *   si la sortie prévue est inconnue.
+     * - Les demandes sont regroupées par période (dans l'ordre d'arrivée) ; chaque groupe est affecté
+     *   aux lits libres sur sa période par {@link BedAssignmentSolver} (isolement respecté, lits d'isolement
+     *   réservés en priorité aux patients qui en ont besoin, PMR prioritaires quand les lits manquent).
+     *   Les séjours attribués à un groupe sont pris en compte pour les groupes suivants.
+     * - Tous les séjours créés sont persistés en une seule écriture groupée.
+     *
+     * @param requests demandes de placement de la vague
+     * @return les séjours créés et les demandes restées sans lit
+     * @throws IllegalArgumentException si une demande est invalide ou si un patient n'existe pas ;
+     *                                  dans ce cas rien n'est persisté
+     */
+    public PlacementBatchResult placePatients(List<PlacementRequest> requests) {
+        // 1. Validation de toutes les demandes avant toute écriture
+        if (requests == null) {
+            throw new IllegalArgumentException("Placement requests cannot be null");
+        }
+        Set<String> stayIds = new HashSet<>();
+        Set<String> patientIds = new LinkedHashSet<>();
+        for (PlacementRequest request : requests) {
+            validate(request);
+            if (!stayIds.add(request.getStayId())) {
+                throw new IllegalArgumentException("Stay id " + request.getStayId() + " appears more than once in the batch");
+            }
+            patientIds.add(request.getPatientId());
+        }
+
+        // 2. Charger tous les patients de la vague en une seule lecture groupée
+        Map<String, Patient> patientsById = new HashMap<>();
+        for (Patient patient : patientRepository.findAllById(patientIds)) {
+            patientsById.put(patient.getId(), patient);
+        }
+        for (String patientId : patientIds) {
+            if (!patientsById.containsKey(patientId)) {
+                throw new IllegalArgumentException("Patient with id " + patientId + " does not exist");
+            }
+        }
+
+        if (requests.isEmpty()) {
+            return new PlacementBatchResult(List.of(), List.of());
+        }
+
+        // 3. Photographie unique : lits disponibles (triés par code) et séjours sur la période de la vague
+        LocalDate from = requests.stream().map(PlacementRequest::getAdmissionDate).min(LocalDate::compareTo).orElseThrow();
+        LocalDate to = requests.stream().map(this::lastDayOf).max(LocalDate::compareTo).orElseThrow();
+
+        List<Bed> availableBeds = bedRepository.findByStatus(BedStatus.AVAILABLE);
+        BedOccupancyIndex occupancy = new BedOccupancyIndex();
+        hospitalStayRepository.findStaysOverlapping(from, to).forEach(occupancy::add);
+        LocalDate today = LocalDate.now();
+
+        // 4. Affectation en mémoire, groupe de même période par groupe de même période
+        Map<List<LocalDate>, List<Integer>> requestsByPeriod = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            PlacementRequest request = requests.get(i);
+            requestsByPeriod.computeIfAbsent(List.of(request.getAdmissionDate(), lastDayOf(request)), period -> new ArrayList<>())
+                    .add(i);
+        }
+
+        HospitalStay[] stays = new HospitalStay[requests.size()];
+        for (Map.Entry<List<LocalDate>, List<Integer>> group : requestsByPeriod.entrySet()) {
+            LocalDate periodStart = group.getKey().get(0);
+            LocalDate periodEnd = group.getKey().get(1);
+
+            List<Bed> freeBeds = availableBeds.stream()
+                    .filter(bed -> !occupancy.isOccupied(bed.getId(), periodStart, periodEnd, today))
+                    .toList();
+            List<Patient> patients = group.getValue().stream()
+                    .map(i -> patientsById.get(requests.get(i).getPatientId()))
+                    .toList();
+
+            int[] assignment = bedAssignmentSolver.solve(patients, freeBeds);
+
+            for (int k = 0; k < assignment.length; k++) {
+                if (assignment[k] < 0) {
+                    continue;
+                }
+                int requestIndex = group.getValue().get(k);
+                PlacementRequest request = requests.get(requestIndex);
+                HospitalStay stay = new HospitalStay(
+                        request.getStayId(),
+                        request.getPatientId(),
+                        freeBeds.get(assignment[k]).getId(),
+                        request.getStayType(),
+                        request.getAdmissionDate(),
+                        request.getPlannedDischargeDate(),
+                        null
+                );
+                occupancy.add(stay);
+                stays[requestIndex] = stay;
+            }
+        }
+
+        List<HospitalStay> placed = new ArrayList<>();
+        List<PlacementRequest> unplaced = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (stays[i] != null) {
+                placed.add(stays[i]);
+            } else {
+                unplaced.add(requests.get(i));
+            }
+        }
+
+        // 5. Persistance groupée des séjours créés
+        if (!placed.isEmpty()) {
+            hospitalStayRepository.saveAll(placed);
+        }
+
+        return new PlacementBatchResult(placed, unplaced);
+    }
+
+    private void validate(PlacementRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Placement request cannot be null");
+        }
+        if (request.getStayId() == null || request.getStayId().isBlank()) {
+            throw new IllegalArgumentException("Stay id cannot be null or blank");
+        }
+        if (request.getPatientId() == null || request.getPatientId().isBlank()) {
+            throw new IllegalArgumentException("Patient id cannot be null or blank");
+        }
+        if (request.getAdmissionDate() == null) {
+            throw new IllegalArgumentException("Admission date cannot be null");
+        }
+        if (request.getStayType() == null) {
+            throw new IllegalArgumentException("Stay type cannot be null");
+        }
+        if (request.getPlannedDischargeDate() != null && request.getPlannedDischargeDate().isBefore(request.getAdmissionDate())) {
+            throw new IllegalArgumentException("Planned discharge date cannot be before admission date");
+        }
+    }
+
+    /**
+     * Dernier jour pendant lequel le lit doit être libre : la sortie prévue si elle est connue,
+     * sinon le jour de l'admission (même règle que {@link PlacePatientUseCase}).
+     */
+    private LocalDate lastDayOf(PlacementRequest request) {
+        return request.getPlannedDischargeDate() != null ? request.getPlannedDischargeDate() : request.getAdmissionDate();
+    }
+}
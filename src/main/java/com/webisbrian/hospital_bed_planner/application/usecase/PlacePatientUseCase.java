@@ -30,7 +30,9 @@ public class PlacePatientUseCase {
      * Règles :
      * - Les paramètres obligatoires (stayId, patientId, admissionDate, stayType) ne doivent pas être null/vides.
      * - Si la date de sortie prévue est renseignée, elle ne doit pas être avant la date d'admission.
-     * - Le placement repose sur {@link PlacementService#suggestBedForPatient(String, LocalDate)}.
+     * - Si la date de sortie prévue est renseignée, le lit doit être libre sur toute la période
+     *   [admissionDate, plannedDischargeDate] ({@link PlacementService#suggestBedForPatient(String, LocalDate, LocalDate)}).
+     * - Sinon, le lit doit être libre le jour de l'admission ({@link PlacementService#suggestBedForPatient(String, LocalDate)}).
      * - Si aucun lit n'est disponible, le use case retourne {@code Optional.empty()}.
      * - Si un lit est trouvé, un {@link HospitalStay} est créé et sauvegardé, puis renvoyé.
      *
@@ -65,8 +67,10 @@ public class PlacePatientUseCase {
             throw new IllegalArgumentException("Planned discharge date cannot be before admission date");
         }
 
-        // 2. Demander au service de placement un lit pour ce patient et cette date
-        Optional<Bed> suggestedBed = placementService.suggestBedForPatient(patientId, admissionDate);
+        // 2. Demander au service de placement un lit pour ce patient, sur toute la période si elle est connue
+        Optional<Bed> suggestedBed = (plannedDischargeDate != null)
+                ? placementService.suggestBedForPatient(patientId, admissionDate, plannedDischargeDate)
+                : placementService.suggestBedForPatient(patientId, admissionDate);
 
         // 3. Si aucun lit disponible, on retourne Optional.empty()
         if (suggestedBed.isEmpty()) {
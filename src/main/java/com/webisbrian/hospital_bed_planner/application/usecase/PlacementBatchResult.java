@@ -0,0 +1,39 @@
+package com.webisbrian.hospital_bed_planner.application.usecase;
+
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+
+import java.util.List;
+
+/**
+ * Résultat du placement d'une vague d'admissions :
+ * les séjours créés et les demandes pour lesquelles aucun lit n'a été trouvé.
+ */
+public class PlacementBatchResult {
+    private final List<HospitalStay> placed;
+    private final List<PlacementRequest> unplaced;
+
+    public PlacementBatchResult(List<HospitalStay> placed, List<PlacementRequest> unplaced) {
+        this.placed = List.copyOf(placed);
+        this.unplaced = List.copyOf(unplaced);
+    }
+
+    /* GETTERS */
+
+    public List<HospitalStay> getPlaced() {
+        return placed;
+    }
+
+    public List<PlacementRequest> getUnplaced() {
+        return unplaced;
+    }
+
+    /* METHODS AND OVERRIDES */
+
+    @Override
+    public String toString() {
+        return "PlacementBatchResult{" +
+                "placed=" + placed.size() +
+                ", unplaced=" + unplaced.size() +
+                '}';
+    }
+}
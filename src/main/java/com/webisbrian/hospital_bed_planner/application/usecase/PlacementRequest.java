@@ -0,0 +1,78 @@
+package com.webisbrian.hospital_bed_planner.application.usecase;
+
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Demande de placement d'un patient, telle que reçue dans une vague d'admissions.
+ * Reprend les paramètres de {@link PlacePatientUseCase#placePatient}.
+ */
+public class PlacementRequest {
+    private final String stayId;
+    private final String patientId;
+    private final LocalDate admissionDate;
+    private final LocalDate plannedDischargeDate;   // peut être null
+    private final StayType stayType;
+
+    public PlacementRequest(String stayId,
+                            String patientId,
+                            LocalDate admissionDate,
+                            LocalDate plannedDischargeDate,
+                            StayType stayType) {
+        this.stayId = stayId;
+        this.patientId = patientId;
+        this.admissionDate = admissionDate;
+        this.plannedDischargeDate = plannedDischargeDate;
+        this.stayType = stayType;
+    }
+
+    /* GETTERS */
+
+    public String getStayId() {
+        return stayId;
+    }
+
+    public String getPatientId() {
+        return patientId;
+    }
+
+    public LocalDate getAdmissionDate() {
+        return admissionDate;
+    }
+
+    public LocalDate getPlannedDischargeDate() {
+        return plannedDischargeDate;
+    }
+
+    public StayType getStayType() {
+        return stayType;
+    }
+
+    /* METHODS AND OVERRIDES */
+
+    @Override
+    public String toString() {
+        return "PlacementRequest{" +
+                "stayId='" + stayId + '\'' +
+                ", patientId='" + patientId + '\'' +
+                ", admissionDate=" + admissionDate +
+                ", plannedDischargeDate=" + plannedDischargeDate +
+                ", stayType=" + stayType +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PlacementRequest that = (PlacementRequest) o;
+        return Objects.equals(stayId, that.stayId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(stayId);
+    }
+}
@@ -7,17 +7,35 @@ import com.webisbrian.hospital_bed_planner.application.usecase.PlacePatientUseCa
 import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
 import com.webisbrian.hospital_bed_planner.domain.model.Sex;
 import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedAvailabilityRepository;
 import com.webisbrian.hospital_bed_planner.domain.repository.BedRepository;
 import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
 import com.webisbrian.hospital_bed_planner.domain.repository.PatientRepository;
 import com.webisbrian.hospital_bed_planner.domain.service.PlacementService;
+import com.webisbrian.hospital_bed_planner.infrastructure.cache.CachingBedRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.cache.CachingPatientRepository;
 import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryBedRepository;
 import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryHospitalStayRepository;
 import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryPatientRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.metrics.MeteredBedAvailabilityRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.metrics.MeteredBedRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.metrics.MeteredCreatePatientUseCase;
+import com.webisbrian.hospital_bed_planner.infrastructure.metrics.MeteredCreateStayUseCase;
+import com.webisbrian.hospital_bed_planner.infrastructure.metrics.MeteredDischargePatientUseCase;
+import com.webisbrian.hospital_bed_planner.infrastructure.metrics.MeteredHospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.metrics.MeteredPatientRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.metrics.MeteredPlacePatientUseCase;
+import com.webisbrian.hospital_bed_planner.infrastructure.metrics.MetricsRegistry;
 import com.webisbrian.hospital_bed_planner.infrastructure.mysql.MysqlBedRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.mysql.MysqlConnectionPool;
 import com.webisbrian.hospital_bed_planner.infrastructure.mysql.MysqlHospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.mysql.MysqlIndexChecker;
+import com.webisbrian.hospital_bed_planner.infrastructure.mysql.MysqlMigrationRunner;
 import com.webisbrian.hospital_bed_planner.infrastructure.mysql.MysqlPatientRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.mysql.MysqlPoolConfig;
 
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Scanner;
 
@@ -29,37 +47,71 @@ public class HospitalBedPlannerConsoleApp {
     private final Scanner scanner = new Scanner(System.in);
 
     // Configuration DB (adapte ces valeurs à ton environnement local)
-    private static final String DB_URL = "jdbc:mysql://localhost:3306/hospital_bed_manager?serverTimezone=Europe/Paris";
+    private static final String DB_URL = "jdbc:mysql://localhost:3306/hospital_bed_manager?serverTimezone=Europe/Paris&useCursorFetch=true";
     private static final String DB_USER = "root";
     private static final String DB_PASSWORD = "root";
 
+    // Nombre de lignes affichées par page dans les listes
+    private static final int LIST_PAGE_SIZE = 20;
+
+    // Pool de connexions partagé par les repositories (db.pool.minSize=5 / db.pool.maxSize=20 par défaut)
+    private final MysqlConnectionPool connectionPool =
+            MysqlConnectionPool.start(new MysqlPoolConfig(DB_URL, DB_USER, DB_PASSWORD));
+
+    // Métriques JMX et vidage périodique, activées par -Dhospital.metrics.enabled=true ;
+    // désactivées, aucun décorateur n'est posé
+    private static final boolean METRICS_ENABLED = Boolean.getBoolean("hospital.metrics.enabled");
+    private static final Duration METRICS_DUMP_PERIOD = Duration.ofMinutes(1);
+
+    private final MetricsRegistry metrics = METRICS_ENABLED ? new MetricsRegistry() : null;
+
     // Repositories MySQL
-    private final PatientRepository patientRepository =
-            new MysqlPatientRepository(DB_URL, DB_USER, DB_PASSWORD);
+    // Patients lus à chaque placement : mis en cache (10 000 entrées, 5 minutes)
+    private final PatientRepository patientRepository = metered(
+            new CachingPatientRepository(new MysqlPatientRepository(connectionPool), 10_000, Duration.ofMinutes(5)));
+
+    // Sert aussi de BedAvailabilityRepository : la recherche de lit libre est faite en SQL
+    private final MysqlBedRepository bedRepository =
+            new MysqlBedRepository(connectionPool);
+
+    private final BedAvailabilityRepository bedAvailabilityRepository = meteredAvailability(bedRepository);
 
-    private final BedRepository bedRepository =
-            new MysqlBedRepository(DB_URL, DB_USER, DB_PASSWORD);
+    // Lectures de lits par identifiant mises en cache (le statut peut changer : durée de vie courte)
+    private final BedRepository cachedBedRepository =
+            metered(new CachingBedRepository(bedRepository, 5_000, Duration.ofMinutes(1)));
 
     private final HospitalStayRepository hospitalStayRepository =
-            new MysqlHospitalStayRepository(DB_URL, DB_USER, DB_PASSWORD);
+            metered(new MysqlHospitalStayRepository(connectionPool));
 
     // Domain services
     private final PlacementService placementService = new PlacementService(
             patientRepository,
-            bedRepository,
-            hospitalStayRepository
+            bedAvailabilityRepository
     );
 
-    private final CreatePatientUseCase createPatientUseCase = new CreatePatientUseCase(patientRepository);
-    private final CreateStayUseCase createStayUseCase = new CreateStayUseCase(hospitalStayRepository, patientRepository, bedRepository);
-    private final PlacePatientUseCase placePatientUseCase = new PlacePatientUseCase(placementService, hospitalStayRepository);
-    private final DischargePatientUseCase dischargePatientUseCase = new DischargePatientUseCase(hospitalStayRepository);
+    private final CreatePatientUseCase createPatientUseCase = metrics == null
+            ? new CreatePatientUseCase(patientRepository)
+            : new MeteredCreatePatientUseCase(patientRepository, metrics);
+    private final CreateStayUseCase createStayUseCase = metrics == null
+            ? new CreateStayUseCase(hospitalStayRepository, patientRepository, cachedBedRepository)
+            : new MeteredCreateStayUseCase(hospitalStayRepository, patientRepository, cachedBedRepository, metrics);
+    private final PlacePatientUseCase placePatientUseCase = metrics == null
+            ? new PlacePatientUseCase(placementService, hospitalStayRepository)
+            : new MeteredPlacePatientUseCase(placementService, hospitalStayRepository, metrics);
+    private final DischargePatientUseCase dischargePatientUseCase = metrics == null
+            ? new DischargePatientUseCase(hospitalStayRepository)
+            : new MeteredDischargePatientUseCase(hospitalStayRepository, metrics);
 
     public static void main(String[] args) {
         new HospitalBedPlannerConsoleApp().run();
     }
 
     public void run() {
+        migrateDatabase();
+        if (metrics != null) {
+            metrics.registerMBeans(ManagementFactory.getPlatformMBeanServer());
+            metrics.startPeriodicDump(METRICS_DUMP_PERIOD, System.err::print);
+        }
         boolean running = true;
 
         while (running) {
@@ -74,6 +126,11 @@ public class HospitalBedPlannerConsoleApp {
                 case "5" -> handleVisualisationMenu();
                 case "0" -> {
                     System.out.println("Au revoir.");
+                    if (metrics != null) {
+                        System.err.print(metrics.dump());
+                        metrics.close();
+                    }
+                    connectionPool.close();
                     running = false;
                 }
                 default -> System.out.println("Choix invalide, merci de réessayer.");
@@ -81,6 +138,36 @@ public class HospitalBedPlannerConsoleApp {
         }
     }
 
+    /**
+     * Applique les migrations de schéma puis signale les index manquants.
+     */
+    private void migrateDatabase() {
+        var applied = new MysqlMigrationRunner(connectionPool).migrate();
+        if (!applied.isEmpty()) {
+            System.out.println("Migrations appliquées : " + applied);
+        }
+        var missingIndexes = new MysqlIndexChecker(connectionPool).findMissingIndexes();
+        missingIndexes.forEach(index -> System.out.println("⚠️ Index manquant : " + index));
+    }
+
+    // Décorateurs de mesure, posés seulement si les métriques sont activées
+
+    private PatientRepository metered(PatientRepository repository) {
+        return metrics == null ? repository : new MeteredPatientRepository(repository, metrics);
+    }
+
+    private BedRepository metered(BedRepository repository) {
+        return metrics == null ? repository : new MeteredBedRepository(repository, metrics);
+    }
+
+    private HospitalStayRepository metered(HospitalStayRepository repository) {
+        return metrics == null ? repository : new MeteredHospitalStayRepository(repository, metrics);
+    }
+
+    private BedAvailabilityRepository meteredAvailability(BedAvailabilityRepository repository) {
+        return metrics == null ? repository : new MeteredBedAvailabilityRepository(repository, metrics);
+    }
+
     private void printMainMenu() {
         System.out.println("=== Hospital Bed Planner ===");
         System.out.println("1. Créer un patient");
@@ -285,38 +372,58 @@ public class HospitalBedPlannerConsoleApp {
     }
 
     private void listPatients() {
-        var patients = patientRepository.findAll();
+        var page = patientRepository.findPageAfter(null, LIST_PAGE_SIZE);
 
-        if (patients.isEmpty()) {
+        if (page.isEmpty()) {
             System.out.println("Aucun patient enregistré.");
             return;
         }
 
         System.out.println("--- Liste des patients ---");
-        patients.forEach(p -> System.out.println(
-                "- " + p.getId() + " : " + p.getFullName()
-                        + " (" + p.getBirthDate() + ", " + p.getSex() + ")"
-        ));
+        while (!page.isEmpty()) {
+            page.forEach(p -> System.out.println(
+                    "- " + p.getId() + " : " + p.getFullName()
+                            + " (" + p.getBirthDate() + ", " + p.getSex() + ")"
+            ));
+            if (page.size() < LIST_PAGE_SIZE || !askNextPage()) {
+                return;
+            }
+            page = patientRepository.findPageAfter(page.get(page.size() - 1), LIST_PAGE_SIZE);
+        }
     }
 
     private void listAllStays() {
-        var stays = hospitalStayRepository.findAll();
+        var page = hospitalStayRepository.findPageAfter(null, LIST_PAGE_SIZE);
 
-        if (stays.isEmpty()) {
+        if (page.isEmpty()) {
             System.out.println("Aucun séjour enregistré.");
             return;
         }
 
         System.out.println("--- Liste de tous les séjours ---");
-        stays.forEach(s -> System.out.println(
-                "- " + s.getId()
-                        + " | patient=" + s.getPatientId()
-                        + " | lit=" + s.getBedId()
-                        + " | type=" + s.getStayType()
-                        + " | admission=" + s.getAdmissionDate()
-                        + " | sortie prévue=" + s.getDischargeDatePlanned()
-                        + " | sortie effective=" + s.getDischargeDateEffective()
-        ));
+        while (!page.isEmpty()) {
+            page.forEach(s -> System.out.println(
+                    "- " + s.getId()
+                            + " | patient=" + s.getPatientId()
+                            + " | lit=" + s.getBedId()
+                            + " | type=" + s.getStayType()
+                            + " | admission=" + s.getAdmissionDate()
+                            + " | sortie prévue=" + s.getDischargeDatePlanned()
+                            + " | sortie effective=" + s.getDischargeDateEffective()
+            ));
+            if (page.size() < LIST_PAGE_SIZE || !askNextPage()) {
+                return;
+            }
+            page = hospitalStayRepository.findPageAfter(page.get(page.size() - 1), LIST_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Demande à l'utilisateur s'il veut afficher la page suivante.
+     */
+    private boolean askNextPage() {
+        System.out.print("Entrée : page suivante, q : retour au menu > ");
+        return !scanner.nextLine().trim().equalsIgnoreCase("q");
     }
 
     private void listActiveStaysForDate() {
@@ -0,0 +1,11 @@
+package com.webisbrian.hospital_bed_planner.domain.model;
+
+/**
+ * Vue de l'occupation des lits pour une date donnée.
+ * Permet de savoir si un lit est pris par un séjour actif, sans matérialiser la liste des séjours.
+ */
+@FunctionalInterface
+public interface BedOccupancy {
+
+    boolean isOccupied(String bedId);
+}
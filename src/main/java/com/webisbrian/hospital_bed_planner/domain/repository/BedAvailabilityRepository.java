@@ -0,0 +1,27 @@
+package com.webisbrian.hospital_bed_planner.domain.repository;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Port de recherche du lit à proposer à un patient.
+ * Permet aux adaptateurs qui le peuvent (ex : MySQL) de combiner lits et séjours
+ * en une seule requête, au lieu de charger les deux côtés séparément.
+ *
+ * Le lit retourné doit respecter les règles de {@code PlacementService} :
+ * - statut AVAILABLE et lit libre sur la période [from, to] au sens de
+ *   {@link HospitalStayRepository#findOccupancyBetween(LocalDate, LocalDate, LocalDate)} ;
+ * - lit permettant l'isolement si le patient doit être isolé ;
+ * - lit sans isolement de préférence pour un patient qui n'en a pas besoin ;
+ * - à préférence égale, le plus petit code.
+ */
+public interface BedAvailabilityRepository {
+
+    /**
+     * @param today date du jour, qui distingue les séjours en cours des réservations
+     */
+    Optional<Bed> findFirstFreeBed(Patient patient, LocalDate from, LocalDate to, LocalDate today);
+}
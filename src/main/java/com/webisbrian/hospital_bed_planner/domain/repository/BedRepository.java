@@ -3,6 +3,7 @@ package com.webisbrian.hospital_bed_planner.domain.repository;
 import com.webisbrian.hospital_bed_planner.domain.model.Bed;
 import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,10 +16,18 @@ public interface BedRepository {
 
     Bed save(Bed bed);
 
+    /**
+     * Enregistre plusieurs lits en une seule écriture groupée (tout ou rien).
+     */
+    void saveAll(Collection<Bed> beds);
+
     Optional<Bed> findById(String id);
 
     List<Bed> findAll();
 
+    /**
+     * Retourne les lits ayant le statut donné, triés par code.
+     */
     List<Bed> findByStatus(BedStatus status);
 
     void deleteById(String id);
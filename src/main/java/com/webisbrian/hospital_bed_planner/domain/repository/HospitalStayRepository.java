@@ -1,10 +1,13 @@
 package com.webisbrian.hospital_bed_planner.domain.repository;
 
+import com.webisbrian.hospital_bed_planner.domain.model.BedOccupancy;
 import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Port de persistance pour l'entité {@link HospitalStay}.
@@ -13,16 +16,60 @@ import java.util.Optional;
  * Un séjour est considéré actif à une date donnée si :
  * - la date d'admission est antérieure ou égale à cette date,
  * - et la date de sortie effective est nulle ou postérieure à cette date.
+ *
+ * Pour un placement, un séjour sans sortie effective qui n'a pas encore commencé (admission après
+ * la date du jour) est une réservation : il ne bloque son lit que jusqu'à sa sortie prévue.
+ * Un séjour commencé et non clôturé garde son lit sans limite, même au-delà de sa sortie prévue.
  */
 public interface HospitalStayRepository {
 
     HospitalStay save(HospitalStay hospitalStay);
 
+    /**
+     * Enregistre plusieurs séjours en une seule écriture groupée.
+     */
+    void saveAll(Collection<HospitalStay> hospitalStays);
+
     Optional<HospitalStay> findById(String id);
 
     List<HospitalStay> findAllByPatientId(String patientId);
 
     List<HospitalStay> findAll();
 
+    /**
+     * Parcourt tous les séjours (même ordre que {@link #findAll()}) sans les charger en mémoire d'un bloc.
+     * Le stream retient des ressources jusqu'à sa fermeture : l'utiliser dans un try-with-resources.
+     */
+    Stream<HospitalStay> streamAll();
+
+    /**
+     * Retourne une page de séjours triés par date d'admission puis identifiant, décroissants
+     * (pagination par clé : le coût d'une page ne dépend pas de sa position).
+     *
+     * @param lastOfPreviousPage dernier séjour de la page précédente, ou {@code null} pour la première page
+     * @param pageSize           nombre maximal de séjours retournés
+     */
+    List<HospitalStay> findPageAfter(HospitalStay lastOfPreviousPage, int pageSize);
+
     List<HospitalStay> findActiveStaysOn(LocalDate date);
+
+    /**
+     * Retourne les séjours qui chevauchent la période [from, to] (bornes incluses),
+     * c'est-à-dire actifs au moins un jour de cette période.
+     *
+     * @param to dernier jour de la période, ou {@code null} pour une période sans fin
+     */
+    List<HospitalStay> findStaysOverlapping(LocalDate from, LocalDate to);
+
+    /**
+     * Retourne l'occupation des lits pour un placement sur la période [from, to] (bornes incluses) :
+     * un lit est occupé si au moins un de ses séjours chevauche cette période, une réservation
+     * (séjour non clôturé admis après {@code today}) s'arrêtant à sa sortie prévue.
+     * Seuls les identifiants des lits sont lus, sans charger les séjours eux-mêmes.
+     * Avec {@code from = to = today}, un lit est occupé s'il porte un séjour actif ce jour-là.
+     *
+     * @param to    dernier jour de la période, ou {@code null} pour une période sans fin
+     * @param today date du jour, qui distingue les séjours en cours des réservations
+     */
+    BedOccupancy findOccupancyBetween(LocalDate from, LocalDate to, LocalDate today);
 }
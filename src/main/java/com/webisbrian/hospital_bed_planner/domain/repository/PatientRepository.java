@@ -2,8 +2,10 @@ package com.webisbrian.hospital_bed_planner.domain.repository;
 
 import com.webisbrian.hospital_bed_planner.domain.model.Patient;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Port de persistance pour l'entité {@link Patient}.
@@ -14,11 +16,37 @@ public interface PatientRepository {
 
     Patient save(Patient patient);
 
+    /**
+     * Enregistre plusieurs patients en une seule écriture groupée (tout ou rien).
+     */
+    void saveAll(Collection<Patient> patients);
+
     Optional<Patient> findById(String id);
 
+    /**
+     * Charge plusieurs patients en une seule lecture groupée, dans un ordre quelconque.
+     * Les identifiants inconnus sont ignorés ; chaque patient n'est retourné qu'une fois.
+     */
+    List<Patient> findAllById(Collection<String> ids);
+
     boolean existsById(String id);
 
     List<Patient> findAll();
 
+    /**
+     * Parcourt tous les patients (même ordre que {@link #findAll()}) sans les charger en mémoire d'un bloc.
+     * Le stream retient des ressources jusqu'à sa fermeture : l'utiliser dans un try-with-resources.
+     */
+    Stream<Patient> streamAll();
+
+    /**
+     * Retourne une page de patients triés par nom, prénom puis identifiant
+     * (pagination par clé : le coût d'une page ne dépend pas de sa position).
+     *
+     * @param lastOfPreviousPage dernier patient de la page précédente, ou {@code null} pour la première page
+     * @param pageSize           nombre maximal de patients retournés
+     */
+    List<Patient> findPageAfter(Patient lastOfPreviousPage, int pageSize);
+
     void deleteById(String id);
 }
@@ -0,0 +1,244 @@
+package com.webisbrian.hospital_bed_planner.domain.service;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Affectation optimale d'un lot de patients à un ensemble de lits libres.
+ * <p>
+ * Minimise un coût global plutôt que de prendre, patient par patient, le plus petit code :
+ * - un patient à isoler ne peut occuper qu'un lit permettant l'isolement ;
+ * - placer un patient sans besoin d'isolement dans un lit d'isolement coûte {@link #ISOLATION_WASTE_COST}
+ *   (le lit est « gaspillé » pour un futur patient à isoler) ;
+ * - laisser un patient sans lit coûte {@link #UNPLACED_COST}, majoré de {@link #UNPLACED_PMR_EXTRA_COST}
+ *   pour un patient PMR. Le modèle {@link Bed} ne décrit pas l'accessibilité des lits :
+ *   le critère PMR sert donc à prioriser ces patients quand les lits manquent.
+ * <p>
+ * Ces coûts ne dépendent que de quelques attributs : patients et lits sont regroupés par profil,
+ * et le problème est résolu par un flot de coût minimum sur ce petit graphe de profils
+ * (source → profils patients → profils lits → puits). Le temps de calcul ne dépend donc
+ * presque pas du nombre de lits et de patients, au-delà du regroupement initial.
+ * <p>
+ * À coût égal, les patients sont servis dans l'ordre de la liste et les lits pris dans l'ordre fourni
+ * (l'appelant les passe triés par code).
+ */
+public class BedAssignmentSolver {
+
+    public static final long ISOLATION_WASTE_COST = 1;
+    public static final long UNPLACED_COST = 1_000;
+    public static final long UNPLACED_PMR_EXTRA_COST = 100;
+
+    /** Profils patients : isolement requis × PMR. */
+    private static final int PATIENT_PROFILES = 4;
+    /** Profils lits : sans isolement, avec isolement (les lits sans isolement sont préférés à coût égal). */
+    private static final int BED_PROFILES = 2;
+
+    /**
+     * Indique si le lit peut accueillir le patient.
+     */
+    public static boolean isCompatible(Patient patient, Bed bed) {
+        return !patient.isIsolationRequired() || bed.isIsolationCapable();
+    }
+
+    /**
+     * Coût de l'affectation d'un patient à un lit compatible.
+     */
+    public static long assignmentCost(Patient patient, Bed bed) {
+        return (!patient.isIsolationRequired() && bed.isIsolationCapable()) ? ISOLATION_WASTE_COST : 0;
+    }
+
+    /**
+     * Coût de l'absence de lit pour ce patient.
+     */
+    public static long unplacedCost(Patient patient) {
+        return patient.isPmr() ? UNPLACED_COST + UNPLACED_PMR_EXTRA_COST : UNPLACED_COST;
+    }
+
+    /**
+     * Calcule une affectation de coût minimum.
+     *
+     * @param patients patients à placer, par ordre de priorité à coût égal
+     * @param beds     lits libres, dans l'ordre de préférence (typiquement triés par code)
+     * @return pour chaque patient (même indice), l'indice du lit attribué dans {@code beds}, ou -1
+     */
+    public int[] solve(List<Patient> patients, List<Bed> beds) {
+        // 1. Regrouper patients et lits par profil (en conservant l'ordre d'origine)
+        int[] patientCounts = new int[PATIENT_PROFILES];
+        for (Patient patient : patients) {
+            patientCounts[patientProfile(patient)]++;
+        }
+
+        List<ArrayDeque<Integer>> bedsByProfile = new ArrayList<>();
+        for (int profile = 0; profile < BED_PROFILES; profile++) {
+            bedsByProfile.add(new ArrayDeque<>());
+        }
+        for (int i = 0; i < beds.size(); i++) {
+            bedsByProfile.get(bedProfile(beds.get(i))).add(i);
+        }
+
+        // 2. Flot de coût minimum sur le graphe des profils
+        int source = 0;
+        int firstPatientNode = 1;
+        int firstBedNode = firstPatientNode + PATIENT_PROFILES;
+        int sink = firstBedNode + BED_PROFILES;
+        MinCostFlow flow = new MinCostFlow(sink + 1);
+
+        int[][] assignmentEdges = new int[PATIENT_PROFILES][BED_PROFILES];
+        for (int p = 0; p < PATIENT_PROFILES; p++) {
+            if (patientCounts[p] == 0) {
+                continue;
+            }
+            Patient representative = representative(patients, p);
+            flow.addEdge(source, firstPatientNode + p, patientCounts[p], 0);
+            flow.addEdge(firstPatientNode + p, sink, patientCounts[p], unplacedCost(representative));
+
+            for (int b = 0; b < BED_PROFILES; b++) {
+                Bed bedOfProfile = bedsByProfile.get(b).isEmpty() ? null : beds.get(bedsByProfile.get(b).peek());
+                if (bedOfProfile != null && isCompatible(representative, bedOfProfile)) {
+                    assignmentEdges[p][b] = flow.addEdge(firstPatientNode + p, firstBedNode + b,
+                            patientCounts[p], assignmentCost(representative, bedOfProfile));
+                } else {
+                    assignmentEdges[p][b] = -1;
+                }
+            }
+        }
+        for (int b = 0; b < BED_PROFILES; b++) {
+            if (!bedsByProfile.get(b).isEmpty()) {
+                flow.addEdge(firstBedNode + b, sink, bedsByProfile.get(b).size(), 0);
+            }
+        }
+        flow.run(source, sink);
+
+        // 3. Quotas par (profil patient, profil lit), puis attribution des lits concrets dans l'ordre
+        int[][] quotas = new int[PATIENT_PROFILES][BED_PROFILES];
+        for (int p = 0; p < PATIENT_PROFILES; p++) {
+            for (int b = 0; b < BED_PROFILES; b++) {
+                if (patientCounts[p] > 0 && assignmentEdges[p][b] >= 0) {
+                    quotas[p][b] = flow.flowOn(assignmentEdges[p][b]);
+                }
+            }
+        }
+
+        int[] assignment = new int[patients.size()];
+        Arrays.fill(assignment, -1);
+        for (int i = 0; i < patients.size(); i++) {
+            int p = patientProfile(patients.get(i));
+            for (int b = 0; b < BED_PROFILES; b++) {
+                if (quotas[p][b] > 0) {
+                    quotas[p][b]--;
+                    assignment[i] = bedsByProfile.get(b).poll();
+                    break;
+                }
+            }
+        }
+        return assignment;
+    }
+
+    private static int patientProfile(Patient patient) {
+        return (patient.isIsolationRequired() ? 2 : 0) + (patient.isPmr() ? 1 : 0);
+    }
+
+    private static int bedProfile(Bed bed) {
+        return bed.isIsolationCapable() ? 1 : 0;
+    }
+
+    private static Patient representative(List<Patient> patients, int profile) {
+        for (Patient patient : patients) {
+            if (patientProfile(patient) == profile) {
+                return patient;
+            }
+        }
+        throw new IllegalStateException("No patient for profile " + profile);
+    }
+
+    /**
+     * Flot de coût minimum par plus courts chemins successifs (Bellman-Ford / SPFA).
+     * Adapté aux petits graphes : ici quelques nœuds de profils.
+     */
+    private static final class MinCostFlow {
+
+        private final List<List<Integer>> adjacency = new ArrayList<>();
+        private final List<int[]> edges = new ArrayList<>();   // {from, to, capacity, flow}
+        private final List<Long> costs = new ArrayList<>();
+
+        MinCostFlow(int nodeCount) {
+            for (int i = 0; i < nodeCount; i++) {
+                adjacency.add(new ArrayList<>());
+            }
+        }
+
+        /**
+         * @return l'indice de l'arc créé (l'arc inverse suit immédiatement)
+         */
+        int addEdge(int from, int to, int capacity, long cost) {
+            int index = edges.size();
+            edges.add(new int[]{from, to, capacity, 0});
+            costs.add(cost);
+            adjacency.get(from).add(index);
+            edges.add(new int[]{to, from, 0, 0});
+            costs.add(-cost);
+            adjacency.get(to).add(index + 1);
+            return index;
+        }
+
+        int flowOn(int edgeIndex) {
+            return edges.get(edgeIndex)[3];
+        }
+
+        void run(int source, int sink) {
+            int nodeCount = adjacency.size();
+            long[] distance = new long[nodeCount];
+            int[] previousEdge = new int[nodeCount];
+            boolean[] inQueue = new boolean[nodeCount];
+
+            while (true) {
+                Arrays.fill(distance, Long.MAX_VALUE);
+                Arrays.fill(previousEdge, -1);
+                distance[source] = 0;
+                ArrayDeque<Integer> queue = new ArrayDeque<>();
+                queue.add(source);
+                inQueue[source] = true;
+
+                while (!queue.isEmpty()) {
+                    int node = queue.poll();
+                    inQueue[node] = false;
+                    for (int edgeIndex : adjacency.get(node)) {
+                        int[] edge = edges.get(edgeIndex);
+                        if (edge[2] - edge[3] <= 0) {
+                            continue;
+                        }
+                        long candidate = distance[node] + costs.get(edgeIndex);
+                        if (candidate < distance[edge[1]]) {
+                            distance[edge[1]] = candidate;
+                            previousEdge[edge[1]] = edgeIndex;
+                            if (!inQueue[edge[1]]) {
+                                queue.add(edge[1]);
+                                inQueue[edge[1]] = true;
+                            }
+                        }
+                    }
+                }
+
+                if (distance[sink] == Long.MAX_VALUE) {
+                    return;
+                }
+
+                int bottleneck = Integer.MAX_VALUE;
+                for (int node = sink; node != source; node = edges.get(previousEdge[node])[0]) {
+                    int[] edge = edges.get(previousEdge[node]);
+                    bottleneck = Math.min(bottleneck, edge[2] - edge[3]);
+                }
+                for (int node = sink; node != source; node = edges.get(previousEdge[node])[0]) {
+                    int edgeIndex = previousEdge[node];
+                    edges.get(edgeIndex)[3] += bottleneck;
+                    edges.get(edgeIndex ^ 1)[3] -= bottleneck;
+                }
+            }
+        }
+    }
+}
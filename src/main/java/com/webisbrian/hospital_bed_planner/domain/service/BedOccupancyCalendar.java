@@ -0,0 +1,218 @@
+package com.webisbrian.hospital_bed_planner.domain.service;
+
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Calendrier d'occupation des lits sous forme de bitsets : pour chaque lit, un bit par jour
+ * sur un horizon fixe (un {@code long} couvre 64 jours).
+ * <p>
+ * « Ce lit est-il occupé le jour D ? » devient un test de bit, et « est-il libre sur une période ? »
+ * un ET logique entre les mots du lit et un masque de la période. Les bits portent l'occupation prévue
+ * (jusqu'à la sortie effective, à défaut prévue) ; un séjour non clôturé occupe en plus son lit sans limite
+ * à partir de son admission, ce que le calendrier retient par lit sous forme de première admission non clôturée.
+ * <p>
+ * Les jours hors de l'horizon ne sont pas représentés : l'appelant vérifie {@link #covers(LocalDate, LocalDate)}
+ * et se replie sinon sur un {@link BedOccupancyIndex}. Le calendrier est alimenté à partir du même index
+ * et applique donc la même règle d'occupation.
+ * <p>
+ * Cette classe n'est pas thread-safe.
+ */
+public class BedOccupancyCalendar {
+
+    private final long firstDay;
+    private final long lastDay;
+    private final int wordCount;
+    private final Map<String, long[]> bitsByBed = new HashMap<>();
+    private final Map<String, Long> firstOpenStartByBed = new HashMap<>();
+
+    /**
+     * @param firstDay premier jour couvert (inclus)
+     * @param lastDay  dernier jour couvert (inclus)
+     */
+    public BedOccupancyCalendar(LocalDate firstDay, LocalDate lastDay) {
+        if (firstDay == null || lastDay == null || lastDay.isBefore(firstDay)) {
+            throw new IllegalArgumentException("Calendar horizon must be a non-empty date range");
+        }
+        this.firstDay = firstDay.toEpochDay();
+        this.lastDay = lastDay.toEpochDay();
+        this.wordCount = (int) ((this.lastDay - this.firstDay) / Long.SIZE) + 1;
+    }
+
+    /**
+     * Horizon glissant autour d'une date : deux ans en arrière, un an en avant.
+     */
+    public static BedOccupancyCalendar rollingAround(LocalDate today) {
+        return new BedOccupancyCalendar(today.minusYears(2), today.plusYears(1));
+    }
+
+    /**
+     * Indique si la période [from, to] est entièrement dans l'horizon ({@code to} null = sans fin, jamais couverte).
+     */
+    public boolean covers(LocalDate from, LocalDate to) {
+        return to != null && from.toEpochDay() >= firstDay && to.toEpochDay() <= lastDay;
+    }
+
+    /**
+     * Marque les jours occupés par un séjour (tronqués à l'horizon).
+     */
+    public void mark(HospitalStay stay) {
+        long[] bits = bitsByBed.computeIfAbsent(stay.getBedId(), bedId -> new long[wordCount]);
+        long startDay = BedOccupancyIndex.startOf(stay);
+        setRange(bits, startDay, BedOccupancyIndex.plannedEndOf(stay));
+        if (BedOccupancyIndex.isOpen(stay)) {
+            firstOpenStartByBed.merge(stay.getBedId(), startDay, Math::min);
+        }
+    }
+
+    /**
+     * Recalcule les bits d'un lit à partir de l'index, après le retrait ou la modification d'un séjour
+     * (un bit ne peut pas être simplement effacé : un autre séjour peut couvrir le même jour).
+     */
+    public void rebuild(String bedId, BedOccupancyIndex index) {
+        long[] bits = new long[wordCount];
+        long[] firstOpenStart = {Long.MAX_VALUE};
+        index.forEachInterval(bedId, (startDay, endDay, open) -> {
+            setRange(bits, startDay, endDay);
+            if (open) {
+                firstOpenStart[0] = Math.min(firstOpenStart[0], startDay);
+            }
+        });
+
+        if (firstOpenStart[0] != Long.MAX_VALUE) {
+            firstOpenStartByBed.put(bedId, firstOpenStart[0]);
+        } else {
+            firstOpenStartByBed.remove(bedId);
+        }
+        for (long word : bits) {
+            if (word != 0) {
+                bitsByBed.put(bedId, bits);
+                return;
+            }
+        }
+        bitsByBed.remove(bedId);
+    }
+
+    /**
+     * Indique si le lit est occupé au moins un jour de [from, to].
+     * La période doit être couverte par l'horizon ({@link #covers(LocalDate, LocalDate)}).
+     */
+    public boolean isOccupied(String bedId, LocalDate from, LocalDate to) {
+        return isOccupied(bedId, from, to, LocalDate.MAX);
+    }
+
+    /**
+     * Indique si le lit est indisponible pour un placement sur [from, to] : même règle que
+     * {@link BedOccupancyIndex#isOccupied(String, LocalDate, LocalDate, LocalDate)}.
+     * La période doit être couverte par l'horizon ({@link #covers(LocalDate, LocalDate)}).
+     */
+    public boolean isOccupied(String bedId, LocalDate from, LocalDate to, LocalDate today) {
+        if (!covers(from, to)) {
+            throw new IllegalArgumentException("Period " + from + " - " + to + " is outside the calendar horizon");
+        }
+        long[] bits = bitsByBed.get(bedId);
+        return (bits != null && intersects(bits, (int) (from.toEpochDay() - firstDay), (int) (to.toEpochDay() - firstDay)))
+                || startedOpenStay(bedId, Math.min(to.toEpochDay(), today.toEpochDay()));
+    }
+
+    /**
+     * Retourne les lits occupés au moins un jour de [from, to], en un passage sur les bitsets.
+     * La période doit être couverte par l'horizon ({@link #covers(LocalDate, LocalDate)}).
+     */
+    public Set<String> occupiedBedIdsBetween(LocalDate from, LocalDate to) {
+        return occupiedBedIdsBetween(from, to, LocalDate.MAX);
+    }
+
+    /**
+     * Retourne les lits indisponibles pour un placement sur [from, to]
+     * (voir {@link #isOccupied(String, LocalDate, LocalDate, LocalDate)}).
+     * La période doit être couverte par l'horizon ({@link #covers(LocalDate, LocalDate)}).
+     */
+    public Set<String> occupiedBedIdsBetween(LocalDate from, LocalDate to, LocalDate today) {
+        if (!covers(from, to)) {
+            throw new IllegalArgumentException("Period " + from + " - " + to + " is outside the calendar horizon");
+        }
+        int fromBit = (int) (from.toEpochDay() - firstDay);
+        int toBit = (int) (to.toEpochDay() - firstDay);
+        long openUntil = Math.min(to.toEpochDay(), today.toEpochDay());
+        Set<String> occupied = new HashSet<>();
+        bitsByBed.forEach((bedId, bits) -> {
+            if (intersects(bits, fromBit, toBit)) {
+                occupied.add(bedId);
+            }
+        });
+        firstOpenStartByBed.forEach((bedId, firstOpenStart) -> {
+            if (firstOpenStart <= openUntil) {
+                occupied.add(bedId);
+            }
+        });
+        return occupied;
+    }
+
+    public void clear() {
+        bitsByBed.clear();
+        firstOpenStartByBed.clear();
+    }
+
+    /**
+     * Indique si un séjour non clôturé du lit a commencé au plus tard à {@code day}.
+     */
+    private boolean startedOpenStay(String bedId, long day) {
+        Long firstOpenStart = firstOpenStartByBed.get(bedId);
+        return firstOpenStart != null && firstOpenStart <= day;
+    }
+
+    /**
+     * Indique si au moins un bit de [fromBit, toBit] est positionné.
+     */
+    private static boolean intersects(long[] bits, int fromBit, int toBit) {
+        int fromWord = fromBit >>> 6;
+        int toWord = toBit >>> 6;
+
+        for (int word = fromWord; word <= toWord; word++) {
+            long mask = -1L;
+            if (word == fromWord) {
+                mask &= -1L << (fromBit & 63);
+            }
+            if (word == toWord) {
+                mask &= -1L >>> (63 - (toBit & 63));
+            }
+            if ((bits[word] & mask) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Positionne les bits de [startDay, endDay] tronqué à l'horizon.
+     */
+    private void setRange(long[] bits, long startDay, long endDay) {
+        long from = Math.max(startDay, firstDay);
+        long to = Math.min(endDay, lastDay);
+        if (from > to) {
+            return;
+        }
+
+        int fromBit = (int) (from - firstDay);
+        int toBit = (int) (to - firstDay);
+        int fromWord = fromBit >>> 6;
+        int toWord = toBit >>> 6;
+
+        for (int word = fromWord; word <= toWord; word++) {
+            long mask = -1L;
+            if (word == fromWord) {
+                mask &= -1L << (fromBit & 63);
+            }
+            if (word == toWord) {
+                mask &= -1L >>> (63 - (toBit & 63));
+            }
+            bits[word] |= mask;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.webisbrian.hospital_bed_planner.domain.service;
+
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Index d'occupation des lits, maintenu au fil des enregistrements de séjours.
+ * <p>
+ * Pour chaque lit, les séjours sont rangés par date d'admission croissante, avec le maximum
+ * cumulé des fins prévues et la première admission d'un séjour non clôturé. Savoir si un lit est
+ * occupé à une date, ou sur une période, coûte alors une recherche dichotomique (O(log n),
+ * n = nombre de séjours du lit) au lieu d'un parcours de tous les séjours.
+ * <p>
+ * Un séjour occupe son lit de la date d'admission jusqu'à la date de sortie effective incluse,
+ * ou sans limite tant que la sortie effective n'est pas renseignée
+ * (même règle que {@code HospitalStayRepository#findActiveStaysOn}).
+ * Pour un placement ({@link #isOccupied(String, LocalDate, LocalDate, LocalDate)}), une réservation
+ * (séjour non clôturé admis après la date du jour) ne bloque son lit que jusqu'à sa sortie prévue.
+ * <p>
+ * Cette classe n'est pas thread-safe.
+ */
+public class BedOccupancyIndex {
+
+    private final Map<String, BedIntervals> intervalsByBed = new HashMap<>();
+
+    /**
+     * Ajoute un séjour à l'index.
+     */
+    public void add(HospitalStay stay) {
+        intervalsByBed.computeIfAbsent(stay.getBedId(), bedId -> new BedIntervals())
+                .add(stay.getId(), startOf(stay), plannedEndOf(stay), isOpen(stay));
+    }
+
+    /**
+     * Retire un séjour de l'index (tel qu'il y avait été ajouté).
+     */
+    public void remove(HospitalStay stay) {
+        BedIntervals intervals = intervalsByBed.get(stay.getBedId());
+        if (intervals == null) {
+            return;
+        }
+        intervals.remove(stay.getId(), startOf(stay));
+        if (intervals.isEmpty()) {
+            intervalsByBed.remove(stay.getBedId());
+        }
+    }
+
+    /**
+     * Indique si le lit est occupé par au moins un séjour actif à la date donnée.
+     */
+    public boolean isOccupied(String bedId, LocalDate date) {
+        return isOccupied(bedId, date, date);
+    }
+
+    /**
+     * Indique si le lit est occupé par au moins un séjour sur tout ou partie de la période [from, to].
+     *
+     * @param to dernier jour de la période (inclus), ou {@code null} pour une période sans fin
+     */
+    public boolean isOccupied(String bedId, LocalDate from, LocalDate to) {
+        return isOccupied(bedId, from, to, LocalDate.MAX);
+    }
+
+    /**
+     * Indique si le lit est indisponible pour un placement sur [from, to] : un séjour le chevauche,
+     * une réservation (séjour non clôturé admis après {@code today}) s'arrêtant à sa sortie prévue.
+     *
+     * @param to    dernier jour de la période (inclus), ou {@code null} pour une période sans fin
+     * @param today date du jour
+     */
+    public boolean isOccupied(String bedId, LocalDate from, LocalDate to, LocalDate today) {
+        BedIntervals intervals = intervalsByBed.get(bedId);
+        if (intervals == null) {
+            return false;
+        }
+        long end = to != null ? to.toEpochDay() : Long.MAX_VALUE;
+        return intervals.overlaps(from.toEpochDay(), end, today.toEpochDay());
+    }
+
+    /**
+     * Retourne les lits occupés sur tout ou partie de la période [from, to].
+     *
+     * @param to dernier jour de la période (inclus), ou {@code null} pour une période sans fin
+     */
+    public Set<String> occupiedBedIdsBetween(LocalDate from, LocalDate to) {
+        return occupiedBedIdsBetween(from, to, LocalDate.MAX);
+    }
+
+    /**
+     * Retourne les lits indisponibles pour un placement sur [from, to]
+     * (voir {@link #isOccupied(String, LocalDate, LocalDate, LocalDate)}).
+     *
+     * @param to    dernier jour de la période (inclus), ou {@code null} pour une période sans fin
+     * @param today date du jour
+     */
+    public Set<String> occupiedBedIdsBetween(LocalDate from, LocalDate to, LocalDate today) {
+        long start = from.toEpochDay();
+        long end = to != null ? to.toEpochDay() : Long.MAX_VALUE;
+        long openUntil = today.toEpochDay();
+        Set<String> occupied = new HashSet<>();
+        intervalsByBed.forEach((bedId, intervals) -> {
+            if (intervals.overlaps(start, end, openUntil)) {
+                occupied.add(bedId);
+            }
+        });
+        return occupied;
+    }
+
+    /**
+     * Parcourt les identifiants des séjours qui chevauchent la période [from, to], tous lits confondus.
+     * Seuls les séjours admis au plus tard à {@code to} sont examinés.
+     *
+     * @param to dernier jour de la période (inclus), ou {@code null} pour une période sans fin
+     */
+    public void forEachStayOverlapping(LocalDate from, LocalDate to, Consumer<String> stayIdConsumer) {
+        long start = from.toEpochDay();
+        long end = to != null ? to.toEpochDay() : Long.MAX_VALUE;
+        for (BedIntervals intervals : intervalsByBed.values()) {
+            int admitted = intervals.upperBound(end);
+            for (int i = 0; i < admitted; i++) {
+                if (intervals.ends[i] >= start || intervals.open[i]) {
+                    stayIdConsumer.accept(intervals.stayIds[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parcourt les intervalles d'occupation prévus d'un lit, par date d'admission croissante.
+     */
+    public void forEachInterval(String bedId, IntervalConsumer consumer) {
+        BedIntervals intervals = intervalsByBed.get(bedId);
+        if (intervals == null) {
+            return;
+        }
+        for (int i = 0; i < intervals.size; i++) {
+            consumer.accept(intervals.starts[i], intervals.ends[i], intervals.open[i]);
+        }
+    }
+
+    public void clear() {
+        intervalsByBed.clear();
+    }
+
+    /**
+     * Premier jour d'occupation d'un séjour (jour epoch).
+     */
+    static long startOf(HospitalStay stay) {
+        return stay.getAdmissionDate().toEpochDay();
+    }
+
+    /**
+     * Dernier jour d'occupation prévu d'un séjour (jour epoch) : sortie effective, à défaut sortie prévue,
+     * {@code Long.MAX_VALUE} si aucune n'est renseignée.
+     */
+    static long plannedEndOf(HospitalStay stay) {
+        LocalDate end = stay.getDischargeDateEffective() != null ? stay.getDischargeDateEffective() : stay.getDischargeDatePlanned();
+        return end != null ? end.toEpochDay() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Indique si le séjour n'est pas clôturé (pas de sortie effective).
+     */
+    static boolean isOpen(HospitalStay stay) {
+        return stay.getDischargeDateEffective() == null;
+    }
+
+    /**
+     * Reçoit un intervalle d'occupation prévu [startDay, endDay] en jours epoch, bornes incluses,
+     * et si le séjour n'est pas clôturé.
+     */
+    @FunctionalInterface
+    public interface IntervalConsumer {
+        void accept(long startDay, long endDay, boolean open);
+    }
+
+    /**
+     * Intervalles prévus [début, fin] (jours epoch, bornes incluses) des séjours d'un lit,
+     * triés par début, avec le maximum cumulé des fins et le premier début d'un séjour non clôturé.
+     */
+    private static final class BedIntervals {
+
+        private String[] stayIds = new String[4];
+        private long[] starts = new long[4];
+        private long[] ends = new long[4];
+        private long[] maxEnds = new long[4];
+        private boolean[] open = new boolean[4];
+        private long firstOpenStart = Long.MAX_VALUE;
+        private int size;
+
+        void add(String stayId, long start, long end, boolean isOpen) {
+            if (size == starts.length) {
+                int capacity = size * 2;
+                stayIds = Arrays.copyOf(stayIds, capacity);
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                maxEnds = Arrays.copyOf(maxEnds, capacity);
+                open = Arrays.copyOf(open, capacity);
+            }
+
+            int position = upperBound(start);
+            int moved = size - position;
+            System.arraycopy(stayIds, position, stayIds, position + 1, moved);
+            System.arraycopy(starts, position, starts, position + 1, moved);
+            System.arraycopy(ends, position, ends, position + 1, moved);
+            System.arraycopy(open, position, open, position + 1, moved);
+
+            stayIds[position] = stayId;
+            starts[position] = start;
+            ends[position] = end;
+            open[position] = isOpen;
+            size++;
+            refreshMaxEnds(position);
+            if (isOpen) {
+                firstOpenStart = Math.min(firstOpenStart, start);
+            }
+        }
+
+        void remove(String stayId, long start) {
+            for (int i = upperBound(start - 1); i < size && starts[i] == start; i++) {
+                if (stayIds[i].equals(stayId)) {
+                    int moved = size - i - 1;
+                    System.arraycopy(stayIds, i + 1, stayIds, i, moved);
+                    System.arraycopy(starts, i + 1, starts, i, moved);
+                    System.arraycopy(ends, i + 1, ends, i, moved);
+                    System.arraycopy(open, i + 1, open, i, moved);
+                    size--;
+                    stayIds[size] = null;
+                    refreshMaxEnds(i);
+                    refreshFirstOpenStart();
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Un séjour non clôturé admis au plus tard à {@code openUntil} occupe son lit sans limite ;
+         * les autres s'arrêtent à leur fin prévue.
+         */
+        boolean overlaps(long from, long to, long openUntil) {
+            // Dernier séjour admis au plus tard à "to" : si aucune fin cumulée n'atteint "from"
+            // et qu'aucun séjour en cours n'a commencé avant "to", le lit est libre.
+            int last = upperBound(to) - 1;
+            return last >= 0 && (maxEnds[last] >= from || firstOpenStart <= Math.min(to, openUntil));
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Première position dont le début est strictement supérieur à {@code value}.
+         */
+        private int upperBound(long value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private void refreshMaxEnds(int from) {
+            long max = from > 0 ? maxEnds[from - 1] : Long.MIN_VALUE;
+            for (int i = from; i < size; i++) {
+                max = Math.max(max, ends[i]);
+                maxEnds[i] = max;
+            }
+        }
+
+        private void refreshFirstOpenStart() {
+            firstOpenStart = Long.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                if (open[i]) {
+                    firstOpenStart = starts[i];
+                    return;
+                }
+            }
+        }
+    }
+}
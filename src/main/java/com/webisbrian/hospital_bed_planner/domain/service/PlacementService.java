@@ -1,32 +1,54 @@
 package com.webisbrian.hospital_bed_planner.domain.service;
 
 import com.webisbrian.hospital_bed_planner.domain.model.Bed;
-import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
-import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedAvailabilityRepository;
 import com.webisbrian.hospital_bed_planner.domain.repository.BedRepository;
 import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
 import com.webisbrian.hospital_bed_planner.domain.repository.PatientRepository;
 
+import java.time.Clock;
 import java.time.LocalDate;
-import java.util.Comparator;
-import java.util.List;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 public class PlacementService {
 
     private final PatientRepository patientRepository;
-    private final BedRepository bedRepository;
-    private final HospitalStayRepository hospitalStayRepository;
+    private final BedAvailabilityRepository bedAvailabilityRepository;
+    private final Clock clock;
 
+    /**
+     * Recherche de lit calculée à partir des ports lits et séjours ({@link RepositoryBedAvailability}).
+     */
     public PlacementService(PatientRepository patientRepository,
                             BedRepository bedRepository,
                             HospitalStayRepository hospitalStayRepository) {
 
+        this(patientRepository, new RepositoryBedAvailability(bedRepository, hospitalStayRepository));
+    }
+
+    /**
+     * Recherche de lit déléguée à un adaptateur dédié (ex : une seule requête SQL).
+     */
+    public PlacementService(PatientRepository patientRepository,
+                            BedAvailabilityRepository bedAvailabilityRepository) {
+
+        this(patientRepository, bedAvailabilityRepository, Clock.systemDefaultZone());
+    }
+
+    /**
+     * @param clock horloge donnant la date du jour, qui distingue les séjours en cours des réservations
+     */
+    public PlacementService(PatientRepository patientRepository,
+                            BedAvailabilityRepository bedAvailabilityRepository,
+                            Clock clock) {
+
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
         this.patientRepository = patientRepository;
-        this.bedRepository = bedRepository;
-        this.hospitalStayRepository = hospitalStayRepository;
+        this.bedAvailabilityRepository = bedAvailabilityRepository;
+        this.clock = clock;
     }
 
     /**
@@ -36,7 +58,10 @@ public class PlacementService {
      * - Le patient doit exister.
      * - Le lit doit être en statut AVAILABLE.
      * - Le lit ne doit pas être déjà occupé via un séjour actif ce jour-là.
-     * - Parmi les lits éligibles, on choisit celui avec le plus petit code (ordre alphabétique).
+     * - Un patient à isoler ne peut occuper qu'un lit permettant l'isolement.
+     * - Un patient sans besoin d'isolement reçoit de préférence un lit sans isolement,
+     *   pour garder les lits d'isolement aux patients qui en ont besoin (voir {@link BedAssignmentSolver}).
+     * - Parmi les lits éligibles de même préférence, on choisit celui avec le plus petit code (ordre alphabétique).
      *
      * @param patientId identifiant du patient
      * @param date      date d'hospitalisation visée
@@ -53,28 +78,49 @@ public class PlacementService {
         }
 
         // 2. Vérifier que le patient existe
-        if (patientRepository.findById(patientId).isEmpty()) {
-            throw new IllegalArgumentException("Patient with id " + patientId + " does not exist");
+        Patient patient = patientRepository.findById(patientId)
+                .orElseThrow(() -> new IllegalArgumentException("Patient with id " + patientId + " does not exist"));
+
+        // 3. Meilleur lit AVAILABLE libre ce jour-là
+        return bedAvailabilityRepository.findFirstFreeBed(patient, date, date, LocalDate.now(clock));
+    }
+
+    /**
+     * Propose un lit libre pendant toute la période [admissionDate, plannedDischargeDate].
+     * <p>
+     * Mêmes règles que {@link #suggestBedForPatient(String, LocalDate)}, mais un lit est écarté
+     * dès qu'un séjour (en cours ou réservation future) chevauche la période, pas seulement
+     * s'il est occupé le jour de l'admission. Un séjour en cours garde son lit tant qu'il n'est pas clôturé ;
+     * une réservation pas encore commencée le libère à sa sortie prévue.
+     *
+     * @param patientId            identifiant du patient
+     * @param admissionDate        premier jour de la période (inclus)
+     * @param plannedDischargeDate dernier jour de la période (inclus)
+     * @return un lit libre sur toute la période, ou {@code Optional.empty()} si aucun.
+     * @throws IllegalArgumentException si le patient n'existe pas ou si les paramètres sont invalides
+     */
+    public Optional<Bed> suggestBedForPatient(String patientId,
+                                              LocalDate admissionDate,
+                                              LocalDate plannedDischargeDate) {
+        // 1. Validation simple des paramètres
+        if (patientId == null || patientId.isBlank()) {
+            throw new IllegalArgumentException("Patient id cannot be null or blank");
+        }
+        if (admissionDate == null) {
+            throw new IllegalArgumentException("Admission date cannot be null");
+        }
+        if (plannedDischargeDate == null) {
+            throw new IllegalArgumentException("Planned discharge date cannot be null");
         }
+        if (plannedDischargeDate.isBefore(admissionDate)) {
+            throw new IllegalArgumentException("Planned discharge date cannot be before admission date");
+        }
+
+        // 2. Vérifier que le patient existe
+        Patient patient = patientRepository.findById(patientId)
+                .orElseThrow(() -> new IllegalArgumentException("Patient with id " + patientId + " does not exist"));
 
-        // 3. Récupérer les séjours actifs à cette date
-        List<HospitalStay> activeStays = hospitalStayRepository.findActiveStaysOn(date);
-
-        // 4. En déduire la liste des lits déjà occupés
-        Set<String> occupiedBedIds = activeStays.stream()
-                .map(HospitalStay::getBedId)
-                .collect(Collectors.toSet());
-
-        // 5. Récupérer tous les lits et filtrer
-        //      - statut AVAILABLE
-        //      - lit non occupé ce jour-là
-
-        return bedRepository.findAll().stream()
-                .filter(bed -> bed.getStatus() == BedStatus.AVAILABLE)
-                .filter(bed -> !occupiedBedIds.contains(bed.getId()))
-                // 6. Trier par code pour avoir un comportement déterministe
-                .sorted(Comparator.comparing(Bed::getCode))
-                // 7. Retourner le premier lit trouvé
-                .findFirst();
+        // 3. Meilleur lit AVAILABLE libre sur toute la période
+        return bedAvailabilityRepository.findFirstFreeBed(patient, admissionDate, plannedDischargeDate, LocalDate.now(clock));
     }
 }
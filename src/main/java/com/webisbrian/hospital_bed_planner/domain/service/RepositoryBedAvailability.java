@@ -0,0 +1,61 @@
+package com.webisbrian.hospital_bed_planner.domain.service;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedOccupancy;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedAvailabilityRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implémentation de {@link BedAvailabilityRepository} à partir des ports lits et séjours :
+ * parcourt les lits AVAILABLE (triés par code) et interroge l'occupation fournie par le repository des séjours.
+ * Utilisée quand l'adaptateur de persistance ne sait pas faire la recherche en une seule requête.
+ */
+public class RepositoryBedAvailability implements BedAvailabilityRepository {
+
+    private final BedRepository bedRepository;
+    private final HospitalStayRepository hospitalStayRepository;
+
+    public RepositoryBedAvailability(BedRepository bedRepository,
+                                     HospitalStayRepository hospitalStayRepository) {
+        this.bedRepository = bedRepository;
+        this.hospitalStayRepository = hospitalStayRepository;
+    }
+
+    /**
+     * Retourne le premier lit libre, compatible et sans surcoût pour ce patient,
+     * à défaut le premier lit libre compatible.
+     */
+    @Override
+    public Optional<Bed> findFirstFreeBed(Patient patient, LocalDate from, LocalDate to, LocalDate today) {
+        BedOccupancy occupancy = hospitalStayRepository.findOccupancyBetween(from, to, today);
+        return firstFreeBed(patient, bedRepository.findByStatus(BedStatus.AVAILABLE), occupancy);
+    }
+
+    /**
+     * Choisit le lit parmi des lits AVAILABLE déjà chargés (triés par code) et une occupation déjà calculée :
+     * permet de charger les deux côtés en parallèle.
+     */
+    public static Optional<Bed> firstFreeBed(Patient patient, List<Bed> availableBeds, BedOccupancy occupancy) {
+        Bed fallback = null;
+
+        for (Bed bed : availableBeds) {
+            if (!BedAssignmentSolver.isCompatible(patient, bed) || occupancy.isOccupied(bed.getId())) {
+                continue;
+            }
+            if (BedAssignmentSolver.assignmentCost(patient, bed) == 0) {
+                return Optional.of(bed);
+            }
+            if (fallback == null) {
+                fallback = bed;
+            }
+        }
+        return Optional.ofNullable(fallback);
+    }
+}
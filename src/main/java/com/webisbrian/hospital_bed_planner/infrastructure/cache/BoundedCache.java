@@ -0,0 +1,205 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Cache borné en lecture traversante : LRU, TTL optionnel, mise en cache des absences.
+ * <p>
+ * Les valeurs sont stockées sous forme d'{@link Optional} : un identifiant inconnu est mémorisé
+ * comme absent et ne provoque pas de nouvel aller-retour vers la source jusqu'à son invalidation.
+ * Le chargement se fait hors verrou ; si une invalidation survient pendant un chargement,
+ * son résultat n'est pas conservé (il pourrait être antérieur à l'écriture).
+ *
+ * @param <K> type de clé
+ * @param <V> type de valeur
+ */
+public class BoundedCache<K, V> {
+
+    private final int maxSize;
+    private final Duration timeToLive;      // null = pas d'expiration
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long invalidations;
+    private long hits;
+    private long negativeHits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    /**
+     * @param maxSize    nombre maximal d'entrées (présences et absences confondues)
+     * @param timeToLive durée de vie d'une entrée, ou {@code null} pour ne jamais expirer
+     */
+    public BoundedCache(int maxSize, Duration timeToLive) {
+        this(maxSize, timeToLive, Clock.systemUTC());
+    }
+
+    public BoundedCache(int maxSize, Duration timeToLive, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache max size must be positive");
+        }
+        if (timeToLive != null && (timeToLive.isNegative() || timeToLive.isZero())) {
+            throw new IllegalArgumentException("Cache time to live must be positive");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Retourne la valeur en cache, ou la charge depuis la source et la mémorise (y compris une absence).
+     */
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        long invalidationsBeforeLoad;
+
+        // 1. Lecture en cache
+        synchronized (this) {
+            Entry<V> entry = lookup(key);
+            if (entry != null) {
+                return entry.value;
+            }
+            invalidationsBeforeLoad = invalidations;
+        }
+
+        // 2. Chargement hors verrou
+        Optional<V> loaded = loader.apply(key);
+        if (loaded == null) {
+            loaded = Optional.empty();
+        }
+
+        // 3. Mémorisation, sauf si une écriture a eu lieu entre-temps
+        synchronized (this) {
+            if (invalidations == invalidationsBeforeLoad) {
+                entries.put(key, new Entry<>(loaded, clock.millis()));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Variante groupée de {@link #get(Object, Function)} : les clés absentes du cache sont chargées en un seul appel
+     * à la source, et celles que la source ne renvoie pas sont mémorisées comme absentes.
+     *
+     * @param loader charge les valeurs existantes parmi les clés demandées, indexées par clé
+     * @return une entrée par clé distincte, dans l'ordre des clés
+     */
+    public Map<K, Optional<V>> getAll(Collection<K> keys, Function<Collection<K>, Map<K, V>> loader) {
+        Map<K, Optional<V>> result = new LinkedHashMap<>();
+        List<K> missing = new ArrayList<>();
+        long invalidationsBeforeLoad;
+
+        // 1. Lecture en cache
+        synchronized (this) {
+            for (K key : keys) {
+                if (result.containsKey(key)) {
+                    continue;
+                }
+                Entry<V> entry = lookup(key);
+                result.put(key, entry != null ? entry.value : null);
+                if (entry == null) {
+                    missing.add(key);
+                }
+            }
+            invalidationsBeforeLoad = invalidations;
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        // 2. Chargement groupé hors verrou
+        Map<K, V> loaded = loader.apply(missing);
+
+        // 3. Mémorisation, sauf si une écriture a eu lieu entre-temps
+        synchronized (this) {
+            long now = clock.millis();
+            for (K key : missing) {
+                Optional<V> value = Optional.ofNullable(loaded.get(key));
+                result.put(key, value);
+                if (invalidations == invalidationsBeforeLoad) {
+                    entries.put(key, new Entry<>(value, now));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Mémorise une valeur connue (écriture traversante).
+     */
+    public synchronized void put(K key, V value) {
+        invalidations++;
+        entries.put(key, new Entry<>(Optional.ofNullable(value), clock.millis()));
+    }
+
+    public synchronized void invalidate(K key) {
+        invalidations++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations++;
+        entries.clear();
+    }
+
+    public synchronized CacheStats getStats() {
+        return new CacheStats(hits, negativeHits, misses, evictions, expirations, entries.size());
+    }
+
+    /**
+     * Entrée valide pour la clé, ou {@code null} (expirée ou absente) ; compte succès et échecs.
+     * Appelé sous le verrou de l'instance.
+     */
+    private Entry<V> lookup(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && isExpired(entry)) {
+            entries.remove(key);
+            expirations++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        if (entry.value.isEmpty()) {
+            negativeHits++;
+        }
+        return entry;
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return timeToLive != null && clock.millis() - entry.storedAtMillis >= timeToLive.toMillis();
+    }
+
+    private static final class Entry<V> {
+        private final Optional<V> value;
+        private final long storedAtMillis;
+
+        Entry(Optional<V> value, long storedAtMillis) {
+            this.value = value;
+            this.storedAtMillis = storedAtMillis;
+        }
+    }
+}
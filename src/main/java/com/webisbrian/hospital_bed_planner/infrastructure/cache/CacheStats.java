@@ -0,0 +1,68 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.cache;
+
+/**
+ * Photographie des statistiques d'un {@link BoundedCache}.
+ */
+public class CacheStats {
+    private final long hits;
+    private final long negativeHits;    // parmi les hits : absences mises en cache
+    private final long misses;
+    private final long evictions;       // entrées écartées pour respecter la taille maximale
+    private final long expirations;     // entrées écartées à l'expiration de leur TTL
+    private final int size;
+
+    public CacheStats(long hits, long negativeHits, long misses, long evictions, long expirations, int size) {
+        this.hits = hits;
+        this.negativeHits = negativeHits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.size = size;
+    }
+
+    /* GETTERS */
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getNegativeHits() {
+        return negativeHits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getExpirations() {
+        return expirations;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    /* METHODS AND OVERRIDES */
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "hits=" + hits +
+                ", negativeHits=" + negativeHits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                ", expirations=" + expirations +
+                ", size=" + size +
+                ", hitRate=" + String.format("%.3f", getHitRate()) +
+                '}';
+    }
+}
@@ -0,0 +1,80 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.cache;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Décorateur de {@link BedRepository} qui met en cache les lectures par identifiant.
+ * <p>
+ * {@link #findById(String)} est servi par un {@link BoundedCache} (absences comprises) ;
+ * les écritures passent au repository décoré puis mettent le cache à jour.
+ * {@link #findByStatus(BedStatus)} n'est pas mis en cache : le statut d'un lit change souvent.
+ */
+public class CachingBedRepository implements BedRepository {
+
+    private final BedRepository delegate;
+    private final BoundedCache<String, Bed> cache;
+
+    /**
+     * @param maxSize    nombre maximal de lits (ou d'absences) gardés en cache
+     * @param timeToLive durée de vie d'une entrée, ou {@code null} pour ne jamais expirer
+     */
+    public CachingBedRepository(BedRepository delegate, int maxSize, Duration timeToLive) {
+        this(delegate, new BoundedCache<>(maxSize, timeToLive));
+    }
+
+    public CachingBedRepository(BedRepository delegate, BoundedCache<String, Bed> cache) {
+        if (delegate == null || cache == null) {
+            throw new IllegalArgumentException("Delegate repository and cache cannot be null");
+        }
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Bed save(Bed bed) {
+        Bed saved = delegate.save(bed);
+        cache.put(saved.getId(), saved);
+        return saved;
+    }
+
+    @Override
+    public void saveAll(Collection<Bed> beds) {
+        delegate.saveAll(beds);
+        beds.forEach(bed -> cache.put(bed.getId(), bed));
+    }
+
+    @Override
+    public Optional<Bed> findById(String id) {
+        return cache.get(id, delegate::findById);
+    }
+
+    @Override
+    public List<Bed> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Bed> findByStatus(BedStatus status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.getStats();
+    }
+}
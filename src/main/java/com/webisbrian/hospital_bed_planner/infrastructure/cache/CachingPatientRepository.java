@@ -0,0 +1,108 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.cache;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.repository.PatientRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Décorateur de {@link PatientRepository} qui met en cache les lectures par identifiant.
+ * <p>
+ * {@link #findById(String)}, {@link #findAllById(Collection)} et {@link #existsById(String)} sont servis
+ * par un {@link BoundedCache} (absences comprises) ; les écritures passent au repository décoré puis mettent
+ * le cache à jour.
+ * Les listes et pages ne sont pas mises en cache.
+ */
+public class CachingPatientRepository implements PatientRepository {
+
+    private final PatientRepository delegate;
+    private final BoundedCache<String, Patient> cache;
+
+    /**
+     * @param maxSize    nombre maximal de patients (ou d'absences) gardés en cache
+     * @param timeToLive durée de vie d'une entrée, ou {@code null} pour ne jamais expirer
+     */
+    public CachingPatientRepository(PatientRepository delegate, int maxSize, Duration timeToLive) {
+        this(delegate, new BoundedCache<>(maxSize, timeToLive));
+    }
+
+    public CachingPatientRepository(PatientRepository delegate, BoundedCache<String, Patient> cache) {
+        if (delegate == null || cache == null) {
+            throw new IllegalArgumentException("Delegate repository and cache cannot be null");
+        }
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Patient save(Patient patient) {
+        Patient saved = delegate.save(patient);
+        cache.put(saved.getId(), saved);
+        return saved;
+    }
+
+    @Override
+    public void saveAll(Collection<Patient> patients) {
+        delegate.saveAll(patients);
+        patients.forEach(patient -> cache.put(patient.getId(), patient));
+    }
+
+    @Override
+    public Optional<Patient> findById(String id) {
+        return cache.get(id, delegate::findById);
+    }
+
+    /**
+     * Les patients en cache sont servis directement ; les autres sont chargés en une seule lecture groupée.
+     */
+    @Override
+    public List<Patient> findAllById(Collection<String> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Patient ids cannot be null");
+        }
+        return cache.getAll(ids, missing -> delegate.findAllById(missing).stream()
+                        .collect(Collectors.toMap(Patient::getId, Function.identity())))
+                .values().stream()
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return findById(id).isPresent();
+    }
+
+    @Override
+    public List<Patient> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Stream<Patient> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<Patient> findPageAfter(Patient lastOfPreviousPage, int pageSize) {
+        return delegate.findPageAfter(lastOfPreviousPage, pageSize);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.getStats();
+    }
+}
@@ -0,0 +1,36 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.file;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Format binaire d'un {@link Bed} dans les fichiers locaux.
+ * Tous les champs sont nullables sauf l'identifiant.
+ */
+public final class BedRecordCodec {
+
+    private BedRecordCodec() {
+    }
+
+    public static void write(DataOutput out, Bed bed) throws IOException {
+        out.writeUTF(bed.getId());
+        RecordFields.writeNullableString(out, bed.getRoomId());
+        RecordFields.writeNullableString(out, bed.getCode());
+        RecordFields.writeNullableEnum(out, bed.getStatus());
+        out.writeBoolean(bed.isIsolationCapable());
+    }
+
+    public static Bed read(DataInput in) throws IOException {
+        return new Bed(
+                in.readUTF(),
+                RecordFields.readNullableString(in),
+                RecordFields.readNullableString(in),
+                RecordFields.readNullableEnum(in, BedStatus.class),
+                in.readBoolean()
+        );
+    }
+}
@@ -0,0 +1,170 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.file;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedRepository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Implémentation fichier de {@link BedRepository}, sans serveur de base de données.
+ * <p>
+ * Les lits sont écrits dans un {@link SegmentedLog} (sous-dossier {@code beds}) et relus dans ses segments projetés ;
+ * un ensemble de clés (code, identifiant, statut) trié par code sert {@link #findByStatus(BedStatus)} sans tri.
+ */
+public class FileBedRepository implements BedRepository, AutoCloseable {
+
+    private static final Comparator<CodeKey> BY_CODE = Comparator
+            .comparing((CodeKey key) -> key.code, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(key -> key.id);
+
+    /**
+     * Clé de tri d'un lit (sans le lit lui-même).
+     */
+    private static final class CodeKey {
+        final String code;
+        final String id;
+        final BedStatus status;
+
+        CodeKey(String code, String id, BedStatus status) {
+            this.code = code;
+            this.id = id;
+            this.status = status;
+        }
+    }
+
+    private final SegmentedLog<Bed> log;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableSet<CodeKey> bedsByCode = new TreeSet<>(BY_CODE);
+
+    public FileBedRepository(Path storeDirectory) {
+        this(storeDirectory, new FileStoreConfig());
+    }
+
+    public FileBedRepository(Path storeDirectory, FileStoreConfig config) {
+        try {
+            this.log = new SegmentedLog<>(storeDirectory.resolve("beds"), config,
+                    BedRecordCodec::write, BedRecordCodec::read);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open bed store in " + storeDirectory, e);
+        }
+        log.forEach((id, bed) -> bedsByCode.add(codeKeyOf(bed)));
+    }
+
+    @Override
+    public Bed save(Bed bed) {
+        if (bed == null) {
+            throw new IllegalArgumentException("Bed cannot be null");
+        }
+        if (bed.getId() == null || bed.getId().isBlank()) {
+            throw new IllegalArgumentException("Bed id cannot be null or blank");
+        }
+        saveAll(List.of(bed));
+        return bed;
+    }
+
+    @Override
+    public void saveAll(Collection<Bed> beds) {
+        if (beds == null) {
+            throw new IllegalArgumentException("Beds cannot be null");
+        }
+        Map<String, Bed> byId = new LinkedHashMap<>();
+        for (Bed bed : beds) {
+            if (bed == null || bed.getId() == null || bed.getId().isBlank()) {
+                throw new IllegalArgumentException("Bed and its id cannot be null or blank");
+            }
+            byId.put(bed.getId(), bed);
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Bed bed : byId.values()) {
+                log.get(bed.getId()).ifPresent(previous -> bedsByCode.remove(codeKeyOf(previous)));
+            }
+            log.putAll(byId);
+            byId.values().forEach(bed -> bedsByCode.add(codeKeyOf(bed)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Bed> findById(String id) {
+        return log.get(id);
+    }
+
+    /**
+     * Retourne tous les lits, triés par code.
+     */
+    @Override
+    public List<Bed> findAll() {
+        lock.readLock().lock();
+        try {
+            return load(bedsByCode.stream().map(key -> key.id).toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Bed> findByStatus(BedStatus status) {
+        lock.readLock().lock();
+        try {
+            return load(bedsByCode.stream()
+                    .filter(key -> key.status == status)
+                    .map(key -> key.id)
+                    .toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        lock.writeLock().lock();
+        try {
+            Optional<Bed> previous = log.get(id);
+            if (previous.isPresent()) {
+                log.delete(id);
+                bedsByCode.remove(codeKeyOf(previous.get()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compacte les segments scellés du journal.
+     */
+    public void compact() {
+        log.compact();
+    }
+
+    @Override
+    public void close() {
+        log.close();
+    }
+
+    private List<Bed> load(List<String> ids) {
+        List<Bed> beds = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            log.get(id).ifPresent(beds::add);
+        }
+        return beds;
+    }
+
+    private static CodeKey codeKeyOf(Bed bed) {
+        return new CodeKey(bed.getCode(), bed.getId(), bed.getStatus());
+    }
+}
@@ -0,0 +1,258 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.file;
+
+import com.webisbrian.hospital_bed_planner.domain.model.BedOccupancy;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.domain.service.BedOccupancyIndex;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Implémentation fichier de {@link HospitalStayRepository}, sans serveur de base de données.
+ * <p>
+ * Les séjours sont écrits dans un {@link SegmentedLog} (sous-dossier {@code stays}) et relus dans ses segments projetés.
+ * Seuls les index tiennent en mémoire : un {@link BedOccupancyIndex} (intervalles par lit) pour les requêtes
+ * d'occupation et de chevauchement, les séjours de chaque patient, et les clés de pagination.
+ * Ils sont reconstruits à l'ouverture en relisant le journal.
+ */
+public class FileHospitalStayRepository implements HospitalStayRepository, AutoCloseable {
+
+    /** Ordre de pagination : date d'admission puis identifiant, décroissants. */
+    private static final Comparator<PageKey> PAGE_ORDER = Comparator
+            .comparing((PageKey key) -> key.admissionDate)
+            .thenComparing(key -> key.id)
+            .reversed();
+
+    /**
+     * Clé de pagination d'un séjour (sans le séjour lui-même).
+     */
+    private static final class PageKey {
+        final LocalDate admissionDate;
+        final String id;
+
+        PageKey(LocalDate admissionDate, String id) {
+            this.admissionDate = admissionDate;
+            this.id = id;
+        }
+    }
+
+    private final SegmentedLog<HospitalStay> log;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final BedOccupancyIndex occupancyIndex = new BedOccupancyIndex();
+    private final Map<String, NavigableSet<PageKey>> pageKeysByPatient = new HashMap<>();
+    private final NavigableSet<PageKey> pageKeys = new TreeSet<>(PAGE_ORDER);
+
+    public FileHospitalStayRepository(Path storeDirectory) {
+        this(storeDirectory, new FileStoreConfig());
+    }
+
+    public FileHospitalStayRepository(Path storeDirectory, FileStoreConfig config) {
+        try {
+            this.log = new SegmentedLog<>(storeDirectory.resolve("stays"), config,
+                    HospitalStayRecordCodec::write, HospitalStayRecordCodec::read);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open stay store in " + storeDirectory, e);
+        }
+        log.forEach((id, stay) -> addToIndexes(stay));
+    }
+
+    @Override
+    public HospitalStay save(HospitalStay hospitalStay) {
+        if (hospitalStay == null) {
+            throw new IllegalArgumentException("HospitalStay cannot be null");
+        }
+        if (hospitalStay.getId() == null || hospitalStay.getId().isBlank()) {
+            throw new IllegalArgumentException("HospitalStay id cannot be null or blank");
+        }
+        saveAll(List.of(hospitalStay));
+        return hospitalStay;
+    }
+
+    @Override
+    public void saveAll(Collection<HospitalStay> hospitalStays) {
+        if (hospitalStays == null) {
+            throw new IllegalArgumentException("HospitalStays cannot be null");
+        }
+        Map<String, HospitalStay> byId = new LinkedHashMap<>();
+        for (HospitalStay hospitalStay : hospitalStays) {
+            if (hospitalStay == null || hospitalStay.getId() == null || hospitalStay.getId().isBlank()) {
+                throw new IllegalArgumentException("HospitalStay and its id cannot be null or blank");
+            }
+            byId.put(hospitalStay.getId(), hospitalStay);
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (HospitalStay hospitalStay : byId.values()) {
+                log.get(hospitalStay.getId()).ifPresent(this::removeFromIndexes);
+            }
+            log.putAll(byId);
+            byId.values().forEach(this::addToIndexes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<HospitalStay> findById(String id) {
+        return log.get(id);
+    }
+
+    /**
+     * Retourne les séjours du patient dans l'ordre de pagination, comme les autres adaptateurs.
+     */
+    @Override
+    public List<HospitalStay> findAllByPatientId(String patientId) {
+        lock.readLock().lock();
+        try {
+            return load(pageKeysByPatient.getOrDefault(patientId, Collections.emptyNavigableSet()).stream()
+                    .map(key -> key.id)
+                    .toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retourne tous les séjours dans l'ordre de pagination.
+     */
+    @Override
+    public List<HospitalStay> findAll() {
+        lock.readLock().lock();
+        try {
+            return load(pageKeys.stream().map(key -> key.id).toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Fige la liste des identifiants, puis lit chaque séjour à la demande.
+     */
+    @Override
+    public Stream<HospitalStay> streamAll() {
+        List<String> ids;
+        lock.readLock().lock();
+        try {
+            ids = pageKeys.stream().map(key -> key.id).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids.stream().map(log::get).flatMap(Optional::stream);
+    }
+
+    @Override
+    public List<HospitalStay> findPageAfter(HospitalStay lastOfPreviousPage, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        lock.readLock().lock();
+        try {
+            NavigableSet<PageKey> remaining = lastOfPreviousPage == null
+                    ? pageKeys
+                    : pageKeys.tailSet(pageKeyOf(lastOfPreviousPage), false);
+            return load(remaining.stream().limit(pageSize).map(key -> key.id).toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<HospitalStay> findActiveStaysOn(LocalDate date) {
+        return findStaysOverlapping(date, date);
+    }
+
+    @Override
+    public List<HospitalStay> findStaysOverlapping(LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            List<String> ids = new ArrayList<>();
+            occupancyIndex.forEachStayOverlapping(from, to, ids::add);
+            return load(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Photographie de l'occupation : les écritures ultérieures n'y sont pas reflétées.
+     */
+    @Override
+    public BedOccupancy findOccupancyBetween(LocalDate from, LocalDate to, LocalDate today) {
+        Set<String> occupied = findOccupiedBedIdsBetween(from, to, today);
+        return occupied::contains;
+    }
+
+    /**
+     * Compacte les segments scellés du journal.
+     */
+    public void compact() {
+        log.compact();
+    }
+
+    @Override
+    public void close() {
+        log.close();
+    }
+
+    int getSegmentCount() {
+        return log.getSegmentCount();
+    }
+
+    private Set<String> findOccupiedBedIdsBetween(LocalDate from, LocalDate to, LocalDate today) {
+        lock.readLock().lock();
+        try {
+            return occupancyIndex.occupiedBedIdsBetween(from, to, today);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<HospitalStay> load(Collection<String> ids) {
+        List<HospitalStay> stays = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            log.get(id).ifPresent(stays::add);
+        }
+        return stays;
+    }
+
+    private void addToIndexes(HospitalStay stay) {
+        occupancyIndex.add(stay);
+        PageKey pageKey = pageKeyOf(stay);
+        pageKeysByPatient.computeIfAbsent(stay.getPatientId(), patientId -> new TreeSet<>(PAGE_ORDER)).add(pageKey);
+        pageKeys.add(pageKey);
+    }
+
+    private void removeFromIndexes(HospitalStay stay) {
+        occupancyIndex.remove(stay);
+        PageKey pageKey = pageKeyOf(stay);
+        NavigableSet<PageKey> patientPageKeys = pageKeysByPatient.get(stay.getPatientId());
+        if (patientPageKeys != null) {
+            patientPageKeys.remove(pageKey);
+            if (patientPageKeys.isEmpty()) {
+                pageKeysByPatient.remove(stay.getPatientId());
+            }
+        }
+        pageKeys.remove(pageKey);
+    }
+
+    private static PageKey pageKeyOf(HospitalStay stay) {
+        return new PageKey(stay.getAdmissionDate(), stay.getId());
+    }
+}
@@ -0,0 +1,211 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.file;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.repository.PatientRepository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Implémentation fichier de {@link PatientRepository}, sans serveur de base de données.
+ * <p>
+ * Les patients sont écrits dans un {@link SegmentedLog} (sous-dossier {@code patients}) et relus dans ses segments
+ * projetés ; seules les clés de pagination (nom, prénom, identifiant) sont gardées en mémoire à côté de l'index du journal.
+ */
+public class FilePatientRepository implements PatientRepository, AutoCloseable {
+
+    /** Ordre de pagination : nom, prénom puis identifiant. */
+    private static final Comparator<PageKey> PAGE_ORDER = Comparator
+            .comparing((PageKey key) -> key.lastName, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(key -> key.firstName, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(key -> key.id);
+
+    /**
+     * Clé de pagination d'un patient (sans le patient lui-même).
+     */
+    private static final class PageKey {
+        final String lastName;
+        final String firstName;
+        final String id;
+
+        PageKey(String lastName, String firstName, String id) {
+            this.lastName = lastName;
+            this.firstName = firstName;
+            this.id = id;
+        }
+    }
+
+    private final SegmentedLog<Patient> log;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableSet<PageKey> pageKeys = new TreeSet<>(PAGE_ORDER);
+
+    public FilePatientRepository(Path storeDirectory) {
+        this(storeDirectory, new FileStoreConfig());
+    }
+
+    public FilePatientRepository(Path storeDirectory, FileStoreConfig config) {
+        try {
+            this.log = new SegmentedLog<>(storeDirectory.resolve("patients"), config,
+                    PatientRecordCodec::write, PatientRecordCodec::read);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open patient store in " + storeDirectory, e);
+        }
+        log.forEach((id, patient) -> pageKeys.add(pageKeyOf(patient)));
+    }
+
+    @Override
+    public Patient save(Patient patient) {
+        if (patient == null) {
+            throw new IllegalArgumentException("Patient cannot be null");
+        }
+        if (patient.getId() == null || patient.getId().isBlank()) {
+            throw new IllegalArgumentException("Patient id cannot be null or blank");
+        }
+        saveAll(List.of(patient));
+        return patient;
+    }
+
+    @Override
+    public void saveAll(Collection<Patient> patients) {
+        if (patients == null) {
+            throw new IllegalArgumentException("Patients cannot be null");
+        }
+
+        // Validation complète avant écriture : tout ou rien, comme l'implémentation MySQL
+        Map<String, Patient> byId = new LinkedHashMap<>();
+        for (Patient patient : patients) {
+            if (patient == null || patient.getId() == null || patient.getId().isBlank()) {
+                throw new IllegalArgumentException("Patient and its id cannot be null or blank");
+            }
+            byId.put(patient.getId(), patient);
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Patient patient : byId.values()) {
+                log.get(patient.getId()).ifPresent(previous -> pageKeys.remove(pageKeyOf(previous)));
+            }
+            log.putAll(byId);
+            byId.values().forEach(patient -> pageKeys.add(pageKeyOf(patient)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Patient> findById(String id) {
+        return log.get(id);
+    }
+
+    @Override
+    public List<Patient> findAllById(Collection<String> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Patient ids cannot be null");
+        }
+        for (String id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException("Patient ids cannot contain null");
+            }
+        }
+        return load(List.copyOf(new LinkedHashSet<>(ids)));
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return log.contains(id);
+    }
+
+    /**
+     * Retourne tous les patients dans l'ordre de pagination.
+     */
+    @Override
+    public List<Patient> findAll() {
+        lock.readLock().lock();
+        try {
+            return load(pageKeys.stream().map(key -> key.id).toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Fige la liste des identifiants, puis lit chaque patient à la demande.
+     */
+    @Override
+    public Stream<Patient> streamAll() {
+        List<String> ids;
+        lock.readLock().lock();
+        try {
+            ids = pageKeys.stream().map(key -> key.id).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids.stream().map(log::get).flatMap(Optional::stream);
+    }
+
+    @Override
+    public List<Patient> findPageAfter(Patient lastOfPreviousPage, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        lock.readLock().lock();
+        try {
+            NavigableSet<PageKey> remaining = lastOfPreviousPage == null
+                    ? pageKeys
+                    : pageKeys.tailSet(pageKeyOf(lastOfPreviousPage), false);
+            return load(remaining.stream().limit(pageSize).map(key -> key.id).toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        lock.writeLock().lock();
+        try {
+            Optional<Patient> previous = log.get(id);
+            if (previous.isPresent()) {
+                log.delete(id);
+                pageKeys.remove(pageKeyOf(previous.get()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compacte les segments scellés du journal.
+     */
+    public void compact() {
+        log.compact();
+    }
+
+    @Override
+    public void close() {
+        log.close();
+    }
+
+    private List<Patient> load(List<String> ids) {
+        List<Patient> patients = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            log.get(id).ifPresent(patients::add);
+        }
+        return patients;
+    }
+
+    private static PageKey pageKeyOf(Patient patient) {
+        return new PageKey(patient.getLastName(), patient.getFirstName(), patient.getId());
+    }
+}
@@ -0,0 +1,63 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.file;
+
+import java.time.Duration;
+
+/**
+ * Paramètres du stockage fichier embarqué (journaux segmentés de {@link SegmentedLog}).
+ */
+public class FileStoreConfig {
+
+    public static final int DEFAULT_SEGMENT_BYTES = 16 * 1024 * 1024;
+    public static final FsyncPolicy DEFAULT_FSYNC_POLICY = FsyncPolicy.ALWAYS;
+    public static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofMillis(100);
+    public static final double DEFAULT_COMPACTION_THRESHOLD = 0.5;
+
+    private final int segmentBytes;                 // taille d'un segment, réservée et projetée en mémoire à sa création
+    private final FsyncPolicy fsyncPolicy;
+    private final Duration syncInterval;            // période de synchronisation en mode PERIODIC
+    private final double compactionThreshold;       // part d'octets morts des segments scellés déclenchant un compactage
+
+    public FileStoreConfig() {
+        this(DEFAULT_SEGMENT_BYTES, DEFAULT_FSYNC_POLICY, DEFAULT_SYNC_INTERVAL, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public FileStoreConfig(int segmentBytes,
+                           FsyncPolicy fsyncPolicy,
+                           Duration syncInterval,
+                           double compactionThreshold) {
+        if (segmentBytes < 1024) {
+            throw new IllegalArgumentException("Segment size must be at least 1024 bytes");
+        }
+        if (fsyncPolicy == null) {
+            throw new IllegalArgumentException("Fsync policy cannot be null");
+        }
+        if (syncInterval == null || syncInterval.isNegative() || syncInterval.isZero()) {
+            throw new IllegalArgumentException("Sync interval must be positive");
+        }
+        if (compactionThreshold <= 0 || compactionThreshold > 1) {
+            throw new IllegalArgumentException("Compaction threshold must be in ]0, 1]");
+        }
+        this.segmentBytes = segmentBytes;
+        this.fsyncPolicy = fsyncPolicy;
+        this.syncInterval = syncInterval;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /* GETTERS */
+
+    public int getSegmentBytes() {
+        return segmentBytes;
+    }
+
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public Duration getSyncInterval() {
+        return syncInterval;
+    }
+
+    public double getCompactionThreshold() {
+        return compactionThreshold;
+    }
+}
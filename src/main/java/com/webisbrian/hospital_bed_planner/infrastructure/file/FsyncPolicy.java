@@ -0,0 +1,13 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.file;
+
+/**
+ * Moment où les écritures du stockage fichier sont forcées sur disque.
+ */
+public enum FsyncPolicy {
+    /** Chaque écriture est synchronisée avant d'être acquittée : aucune perte après un arrêt brutal. */
+    ALWAYS,
+    /** Synchronisation périodique en tâche de fond : au plus un intervalle d'écritures perdu. */
+    PERIODIC,
+    /** Synchronisation laissée au système, et forcée à la fermeture seulement. */
+    NEVER
+}
@@ -0,0 +1,125 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.file;
+
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.zip.CRC32;
+
+/**
+ * Format binaire d'un {@link HospitalStay} dans les fichiers locaux (journaux, logs, instantanés).
+ * <p>
+ * Un enregistrement est encadré : {@code [longueur int][charge utile][CRC32 int]}.
+ * Une fin de fichier tronquée (écriture interrompue) ou un CRC invalide est détecté à la lecture :
+ * {@link #readFramed(InputStream)} renvoie alors {@code null} comme pour une fin de fichier.
+ * Tous les champs sont nullables sauf l'identifiant ; les dates sont écrites en jours epoch.
+ */
+public final class HospitalStayRecordCodec {
+
+    /** Borne de sécurité : une longueur au-delà signale un fichier corrompu. */
+    private static final int MAX_RECORD_SIZE = 1 << 20;
+
+    private HospitalStayRecordCodec() {
+    }
+
+    /**
+     * Écrit les champs du séjour (sans cadre).
+     */
+    public static void write(DataOutput out, HospitalStay stay) throws IOException {
+        out.writeUTF(stay.getId());
+        RecordFields.writeNullableString(out, stay.getPatientId());
+        RecordFields.writeNullableString(out, stay.getBedId());
+        RecordFields.writeNullableEnum(out, stay.getStayType());
+        RecordFields.writeNullableDate(out, stay.getAdmissionDate());
+        RecordFields.writeNullableDate(out, stay.getDischargeDatePlanned());
+        RecordFields.writeNullableDate(out, stay.getDischargeDateEffective());
+    }
+
+    /**
+     * Lit les champs d'un séjour écrits par {@link #write(DataOutput, HospitalStay)}.
+     */
+    public static HospitalStay read(DataInput in) throws IOException {
+        String id = in.readUTF();
+        String patientId = RecordFields.readNullableString(in);
+        String bedId = RecordFields.readNullableString(in);
+        StayType stayType = RecordFields.readNullableEnum(in, StayType.class);
+        LocalDate admissionDate = RecordFields.readNullableDate(in);
+        LocalDate dischargeDatePlanned = RecordFields.readNullableDate(in);
+        LocalDate dischargeDateEffective = RecordFields.readNullableDate(in);
+        return new HospitalStay(
+                id,
+                patientId,
+                bedId,
+                stayType,
+                admissionDate,
+                dischargeDatePlanned,
+                dischargeDateEffective
+        );
+    }
+
+    /**
+     * Encode un séjour en enregistrement encadré.
+     */
+    public static byte[] toFramedBytes(HospitalStay stay) {
+        try {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream(64);
+            write(new DataOutputStream(payload), stay);
+            byte[] bytes = payload.toByteArray();
+
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+
+            ByteArrayOutputStream framed = new ByteArrayOutputStream(bytes.length + 8);
+            DataOutputStream out = new DataOutputStream(framed);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+            out.writeInt((int) crc.getValue());
+            return framed.toByteArray();
+        } catch (IOException e) {
+            // Écriture en mémoire : ne peut pas échouer
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void writeFramed(OutputStream out, HospitalStay stay) throws IOException {
+        out.write(toFramedBytes(stay));
+    }
+
+    /**
+     * Lit l'enregistrement encadré suivant.
+     *
+     * @return le séjour, ou {@code null} en fin de flux ou sur un enregistrement tronqué / corrompu
+     */
+    public static HospitalStay readFramed(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        try {
+            int length = data.readInt();
+            if (length <= 0 || length > MAX_RECORD_SIZE) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            data.readFully(bytes);
+            int expectedCrc = data.readInt();
+
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            if ((int) crc.getValue() != expectedCrc) {
+                return null;
+            }
+            return read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+}
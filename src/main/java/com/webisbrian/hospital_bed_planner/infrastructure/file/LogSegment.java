@@ -0,0 +1,180 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.file;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Fichier segment d'un {@link SegmentedLog}, de taille fixe, projeté en mémoire en lecture-écriture.
+ * <p>
+ * Un enregistrement est {@code [longueur int][CRC32 int][corps]}. Le fichier est réservé à sa création :
+ * la zone non écrite est à zéro, et une longueur nulle marque la fin des écritures.
+ * Les lectures se font directement dans la projection, sans appel système.
+ * <p>
+ * Cette classe n'est pas thread-safe : {@link SegmentedLog} sérialise les écritures.
+ */
+final class LogSegment {
+
+    /** Longueur et CRC précédant le corps de chaque enregistrement. */
+    static final int HEADER_BYTES = 8;
+
+    private static final byte[] ZEROS = new byte[8192];
+
+    /**
+     * Reçoit un enregistrement valide relu au démarrage.
+     */
+    @FunctionalInterface
+    interface RecordVisitor {
+        void visit(int offset, int length, byte[] body) throws IOException;
+    }
+
+    private final long number;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private int writePosition;
+    private int syncedPosition;
+    private long liveBytes;         // octets des enregistrements encore référencés par l'index
+
+    private LogSegment(long number, Path path, FileChannel channel, int capacity) throws IOException {
+        this.number = number;
+        this.path = path;
+        this.channel = channel;
+        this.capacity = capacity;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    /**
+     * Crée un segment vide de {@code capacity} octets.
+     */
+    static LogSegment create(Path path, long number, int capacity) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new LogSegment(number, path, channel, capacity);
+    }
+
+    /**
+     * Ouvre un segment existant ; {@link #scan(RecordVisitor)} doit ensuite être appelé pour situer la fin.
+     */
+    static LogSegment open(Path path, long number) throws IOException {
+        long size = Files.size(path);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Segment too large: " + path);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new LogSegment(number, path, channel, (int) size);
+    }
+
+    /**
+     * Relit les enregistrements valides dans l'ordre d'écriture et place la fin après le dernier.
+     * Un enregistrement tronqué ou corrompu (arrêt brutal pendant une écriture) termine la lecture :
+     * la suite du segment est remise à zéro pour que les prochains ajouts repartent de là.
+     */
+    void scan(RecordVisitor visitor) throws IOException {
+        int position = 0;
+        boolean corrupted = false;
+        CRC32 crc = new CRC32();
+        while (position + HEADER_BYTES <= capacity) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || length > capacity - position - HEADER_BYTES) {
+                corrupted = true;
+                break;
+            }
+            byte[] body = new byte[length];
+            buffer.get(position + HEADER_BYTES, body);
+            crc.reset();
+            crc.update(body);
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                corrupted = true;
+                break;
+            }
+            visitor.visit(position, HEADER_BYTES + length, body);
+            position += HEADER_BYTES + length;
+        }
+
+        if (corrupted) {
+            for (int i = position; i < capacity; i += ZEROS.length) {
+                buffer.put(i, ZEROS, 0, Math.min(ZEROS.length, capacity - i));
+            }
+            buffer.force(position, capacity - position);
+        }
+        writePosition = position;
+        syncedPosition = position;
+    }
+
+    /**
+     * Ajoute un enregistrement complet (en-tête compris).
+     *
+     * @return sa position dans le segment, ou -1 s'il ne reste pas assez de place
+     */
+    int append(byte[] record) {
+        if (record.length > capacity - writePosition) {
+            return -1;
+        }
+        int offset = writePosition;
+        buffer.put(offset, record);
+        writePosition += record.length;
+        return offset;
+    }
+
+    /**
+     * Copie {@code length} octets à partir de {@code offset}.
+     */
+    byte[] read(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return bytes;
+    }
+
+    /**
+     * Force sur disque ce qui a été écrit depuis la dernière synchronisation.
+     */
+    void force() {
+        if (syncedPosition < writePosition) {
+            buffer.force(syncedPosition, writePosition - syncedPosition);
+            syncedPosition = writePosition;
+        }
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Ferme et supprime le fichier (la projection est libérée par le ramasse-miettes).
+     */
+    void delete() throws IOException {
+        channel.close();
+        Files.deleteIfExists(path);
+    }
+
+    void addLiveBytes(long bytes) {
+        liveBytes += bytes;
+    }
+
+    /* GETTERS */
+
+    long getNumber() {
+        return number;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getWritePosition() {
+        return writePosition;
+    }
+
+    long getLiveBytes() {
+        return liveBytes;
+    }
+}
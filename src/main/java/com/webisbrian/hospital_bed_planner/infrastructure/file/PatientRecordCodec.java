@@ -0,0 +1,44 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.file;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.model.Sex;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Format binaire d'un {@link Patient} dans les fichiers locaux.
+ * Tous les champs sont nullables sauf l'identifiant ; la date de naissance est écrite en jour epoch.
+ */
+public final class PatientRecordCodec {
+
+    private PatientRecordCodec() {
+    }
+
+    public static void write(DataOutput out, Patient patient) throws IOException {
+        out.writeUTF(patient.getId());
+        RecordFields.writeNullableString(out, patient.getFirstName());
+        RecordFields.writeNullableString(out, patient.getLastName());
+        RecordFields.writeNullableDate(out, patient.getBirthDate());
+        RecordFields.writeNullableEnum(out, patient.getSex());
+        out.writeBoolean(patient.isPmr());
+        out.writeBoolean(patient.isIsolationRequired());
+        RecordFields.writeNullableString(out, patient.getPhoneNumber());
+        RecordFields.writeNullableString(out, patient.getNotes());
+    }
+
+    public static Patient read(DataInput in) throws IOException {
+        return new Patient(
+                in.readUTF(),
+                RecordFields.readNullableString(in),
+                RecordFields.readNullableString(in),
+                RecordFields.readNullableDate(in),
+                RecordFields.readNullableEnum(in, Sex.class),
+                in.readBoolean(),
+                in.readBoolean(),
+                RecordFields.readNullableString(in),
+                RecordFields.readNullableString(in)
+        );
+    }
+}
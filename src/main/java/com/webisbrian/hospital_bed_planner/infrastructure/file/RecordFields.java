@@ -0,0 +1,47 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.file;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Encodage des champs nullables communs aux formats binaires locaux :
+ * un booléen de présence, puis la valeur (chaîne UTF ou jour epoch).
+ */
+final class RecordFields {
+
+    private RecordFields() {
+    }
+
+    static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    static void writeNullableDate(DataOutput out, LocalDate value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochDay());
+        }
+    }
+
+    static LocalDate readNullableDate(DataInput in) throws IOException {
+        return in.readBoolean() ? LocalDate.ofEpochDay(in.readLong()) : null;
+    }
+
+    static void writeNullableEnum(DataOutput out, Enum<?> value) throws IOException {
+        writeNullableString(out, value != null ? value.name() : null);
+    }
+
+    static <E extends Enum<E>> E readNullableEnum(DataInput in, Class<E> type) throws IOException {
+        String name = readNullableString(in);
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+}
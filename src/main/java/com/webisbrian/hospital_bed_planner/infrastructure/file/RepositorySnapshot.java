@@ -0,0 +1,290 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.file;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.model.Sex;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.PatientRepository;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Instantané binaire des patients, lits et séjours, pour redémarrer les dépôts en mémoire sans relire MySQL.
+ * <p>
+ * Format (entiers big-endian) :
+ * <pre>
+ * [magic][version]
+ * [nombre de chaînes] puis pour chacune [longueur][octets UTF-8]      -- dictionnaire
+ * [nombre de patients] puis des enregistrements de taille fixe
+ * [nombre de lits]     puis des enregistrements de taille fixe
+ * [nombre de séjours]  puis des enregistrements de 7 entiers
+ * [CRC32 de tout ce qui précède]
+ * </pre>
+ * Identifiants, textes et valeurs d'énumération sont écrits une seule fois dans le dictionnaire et référencés
+ * par leur rang ({@code -1} pour {@code null}) ; les dates sont des jours epoch sur un entier
+ * ({@link Integer#MIN_VALUE} pour {@code null}). Au chargement, le fichier est projeté en mémoire et les séjours
+ * sont décodés par blocs d'entiers, puis insérés par lots avec {@code saveAll}.
+ */
+public final class RepositorySnapshot {
+
+    private static final int MAGIC = 0x48425053;           // "HBPS"
+    private static final int VERSION = 1;
+    private static final int NULL_REF = -1;
+    private static final int NULL_DATE = Integer.MIN_VALUE;
+    private static final int STAY_INTS = 7;
+    private static final int LOAD_BATCH = 10_000;
+
+    private RepositorySnapshot() {
+    }
+
+    /**
+     * Écrit l'instantané des trois dépôts (fichier temporaire synchronisé, puis renommage atomique).
+     */
+    public static void write(Path file,
+                             PatientRepository patientRepository,
+                             BedRepository bedRepository,
+                             HospitalStayRepository hospitalStayRepository) {
+        List<Patient> patients = patientRepository.findAll();
+        List<Bed> beds = bedRepository.findAll();
+        List<HospitalStay> stays = hospitalStayRepository.findAll();
+
+        // 1. Dictionnaire de toutes les chaînes, dans l'ordre de première rencontre
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Patient patient : patients) {
+            intern(dictionary, patient.getId(), patient.getFirstName(), patient.getLastName(),
+                    enumName(patient.getSex()), patient.getPhoneNumber(), patient.getNotes());
+        }
+        for (Bed bed : beds) {
+            intern(dictionary, bed.getId(), bed.getRoomId(), bed.getCode(), enumName(bed.getStatus()));
+        }
+        for (HospitalStay stay : stays) {
+            intern(dictionary, stay.getId(), stay.getPatientId(), stay.getBedId(), enumName(stay.getStayType()));
+        }
+
+        // 2. Écriture
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(temporary,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                CRC32 crc = new CRC32();
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                        new CheckedOutputStream(Channels.newOutputStream(channel), crc), 1 << 16));
+
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+
+                out.writeInt(dictionary.size());
+                for (String value : dictionary.keySet()) {
+                    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+
+                out.writeInt(patients.size());
+                for (Patient patient : patients) {
+                    out.writeInt(ref(dictionary, patient.getId()));
+                    out.writeInt(ref(dictionary, patient.getFirstName()));
+                    out.writeInt(ref(dictionary, patient.getLastName()));
+                    out.writeInt(epochDay(patient.getBirthDate()));
+                    out.writeInt(ref(dictionary, enumName(patient.getSex())));
+                    out.writeInt(ref(dictionary, patient.getPhoneNumber()));
+                    out.writeInt(ref(dictionary, patient.getNotes()));
+                    out.writeByte((patient.isPmr() ? 1 : 0) | (patient.isIsolationRequired() ? 2 : 0));
+                }
+
+                out.writeInt(beds.size());
+                for (Bed bed : beds) {
+                    out.writeInt(ref(dictionary, bed.getId()));
+                    out.writeInt(ref(dictionary, bed.getRoomId()));
+                    out.writeInt(ref(dictionary, bed.getCode()));
+                    out.writeInt(ref(dictionary, enumName(bed.getStatus())));
+                    out.writeBoolean(bed.isIsolationCapable());
+                }
+
+                out.writeInt(stays.size());
+                for (HospitalStay stay : stays) {
+                    out.writeInt(ref(dictionary, stay.getId()));
+                    out.writeInt(ref(dictionary, stay.getPatientId()));
+                    out.writeInt(ref(dictionary, stay.getBedId()));
+                    out.writeInt(ref(dictionary, enumName(stay.getStayType())));
+                    out.writeInt(epochDay(stay.getAdmissionDate()));
+                    out.writeInt(epochDay(stay.getDischargeDatePlanned()));
+                    out.writeInt(epochDay(stay.getDischargeDateEffective()));
+                }
+                out.flush();
+
+                ByteBuffer trailer = ByteBuffer.allocate(Integer.BYTES).putInt((int) crc.getValue()).flip();
+                while (trailer.hasRemaining()) {
+                    channel.write(trailer);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Charge l'instantané dans les trois dépôts (en plus de leur contenu actuel).
+     */
+    public static void load(Path file,
+                            PatientRepository patientRepository,
+                            BedRepository bedRepository,
+                            HospitalStayRepository hospitalStayRepository) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 3L * Integer.BYTES || size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Invalid snapshot size: " + size + " bytes in " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            // 1. Intégrité
+            int contentSize = (int) size - Integer.BYTES;
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(0, contentSize));
+            if ((int) crc.getValue() != buffer.getInt(contentSize)) {
+                throw new IllegalStateException("Snapshot checksum mismatch in " + file);
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IllegalStateException("Unsupported snapshot format in " + file);
+            }
+
+            // 2. Dictionnaire
+            String[] dictionary = new String[buffer.getInt()];
+            byte[] scratch = new byte[64];
+            for (int i = 0; i < dictionary.length; i++) {
+                int length = buffer.getInt();
+                if (length > scratch.length) {
+                    scratch = new byte[Math.max(length, scratch.length * 2)];
+                }
+                buffer.get(scratch, 0, length);
+                dictionary[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+
+            // 3. Patients et lits
+            int patientCount = buffer.getInt();
+            List<Patient> patients = new ArrayList<>(Math.min(patientCount, LOAD_BATCH));
+            for (int i = 0; i < patientCount; i++) {
+                String id = string(dictionary, buffer.getInt());
+                String firstName = string(dictionary, buffer.getInt());
+                String lastName = string(dictionary, buffer.getInt());
+                LocalDate birthDate = date(buffer.getInt());
+                Sex sex = enumValue(Sex.class, string(dictionary, buffer.getInt()));
+                String phoneNumber = string(dictionary, buffer.getInt());
+                String notes = string(dictionary, buffer.getInt());
+                byte flags = buffer.get();
+                patients.add(new Patient(id, firstName, lastName, birthDate, sex,
+                        (flags & 1) != 0, (flags & 2) != 0, phoneNumber, notes));
+                if (patients.size() == LOAD_BATCH) {
+                    patientRepository.saveAll(patients);
+                    patients.clear();
+                }
+            }
+            patientRepository.saveAll(patients);
+
+            int bedCount = buffer.getInt();
+            List<Bed> beds = new ArrayList<>(Math.min(bedCount, LOAD_BATCH));
+            for (int i = 0; i < bedCount; i++) {
+                beds.add(new Bed(
+                        string(dictionary, buffer.getInt()),
+                        string(dictionary, buffer.getInt()),
+                        string(dictionary, buffer.getInt()),
+                        enumValue(BedStatus.class, string(dictionary, buffer.getInt())),
+                        buffer.get() != 0));
+                if (beds.size() == LOAD_BATCH) {
+                    bedRepository.saveAll(beds);
+                    beds.clear();
+                }
+            }
+            bedRepository.saveAll(beds);
+
+            // 4. Séjours : lecture par blocs d'entiers
+            int stayCount = buffer.getInt();
+            IntBuffer stayInts = buffer.slice().asIntBuffer();
+            int[] block = new int[LOAD_BATCH * STAY_INTS];
+            List<HospitalStay> stays = new ArrayList<>(Math.min(stayCount, LOAD_BATCH));
+            for (int loaded = 0; loaded < stayCount; loaded += stays.size()) {
+                int count = Math.min(LOAD_BATCH, stayCount - loaded);
+                stayInts.get(block, 0, count * STAY_INTS);
+                stays.clear();
+                for (int i = 0; i < count; i++) {
+                    int base = i * STAY_INTS;
+                    stays.add(new HospitalStay(
+                            string(dictionary, block[base]),
+                            string(dictionary, block[base + 1]),
+                            string(dictionary, block[base + 2]),
+                            enumValue(StayType.class, string(dictionary, block[base + 3])),
+                            date(block[base + 4]),
+                            date(block[base + 5]),
+                            date(block[base + 6])));
+                }
+                hospitalStayRepository.saveAll(stays);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read snapshot " + file, e);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalStateException("Corrupted snapshot " + file, e);
+        }
+    }
+
+    private static void intern(Map<String, Integer> dictionary, String... values) {
+        for (String value : values) {
+            if (value != null) {
+                dictionary.putIfAbsent(value, dictionary.size());
+            }
+        }
+    }
+
+    private static int ref(Map<String, Integer> dictionary, String value) {
+        return value != null ? dictionary.get(value) : NULL_REF;
+    }
+
+    private static String string(String[] dictionary, int ref) {
+        return ref != NULL_REF ? dictionary[ref] : null;
+    }
+
+    private static String enumName(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String name) {
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    private static int epochDay(LocalDate date) {
+        return date != null ? Math.toIntExact(date.toEpochDay()) : NULL_DATE;
+    }
+
+    private static LocalDate date(int epochDay) {
+        return epochDay != NULL_DATE ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+}
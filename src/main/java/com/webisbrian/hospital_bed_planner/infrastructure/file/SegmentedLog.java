@@ -0,0 +1,483 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * Journal clé-valeur en ajout seul, découpé en segments de taille fixe projetés en mémoire.
+ * <p>
+ * Chaque écriture ajoute un enregistrement {@code [numéro de séquence][PUT|DELETE][clé][entité]} au segment actif ;
+ * un index en mémoire associe chaque clé à la position de sa dernière version, lue directement dans la projection.
+ * Au démarrage, les segments sont relus et l'index reconstruit : pour chaque clé, l'enregistrement de plus grand
+ * numéro de séquence l'emporte, ce qui rend la relecture indépendante de l'ordre des fichiers.
+ * <p>
+ * Quand un segment est plein, il est scellé et un nouveau segment devient actif. Si la part d'octets morts
+ * (versions remplacées, suppressions) des segments scellés dépasse le seuil configuré, ils sont compactés :
+ * les enregistrements vivants sont recopiés dans de nouveaux segments, puis les anciens sont supprimés,
+ * du plus ancien au plus récent pour qu'une suppression ne puisse jamais réapparaître après un arrêt brutal.
+ *
+ * @param <T> type d'entité stockée
+ */
+final class SegmentedLog<T> implements AutoCloseable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final byte OP_PUT = 1;
+    private static final byte OP_DELETE = 2;
+
+    /**
+     * Écrit les champs d'une entité.
+     */
+    @FunctionalInterface
+    interface RecordWriter<T> {
+        void write(DataOutput out, T entity) throws IOException;
+    }
+
+    /**
+     * Relit les champs d'une entité écrits par le {@link RecordWriter} associé.
+     */
+    @FunctionalInterface
+    interface RecordReader<T> {
+        T read(DataInput in) throws IOException;
+    }
+
+    /**
+     * Position de la dernière version d'une clé.
+     */
+    private static final class RecordLocation {
+        final LogSegment segment;
+        final int offset;
+        final int length;
+        final long sequence;
+
+        RecordLocation(LogSegment segment, int offset, int length, long sequence) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+            this.sequence = sequence;
+        }
+    }
+
+    private final Path directory;
+    private final FileStoreConfig config;
+    private final RecordWriter<T> writer;
+    private final RecordReader<T> reader;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<Long, LogSegment> segments = new TreeMap<>();
+    private final Map<String, RecordLocation> index = new HashMap<>();
+    private final ScheduledExecutorService syncScheduler;
+
+    private LogSegment active;
+    private long nextSequence = 1;
+    private long compactionCount;
+    private boolean closed;
+
+    SegmentedLog(Path directory, FileStoreConfig config, RecordWriter<T> writer, RecordReader<T> reader) throws IOException {
+        this.directory = directory;
+        this.config = config;
+        this.writer = writer;
+        this.reader = reader;
+        Files.createDirectories(directory);
+
+        // 1. Segments existants
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                long number = segmentNumber(file);
+                segments.put(number, LogSegment.open(file, number));
+            }
+        }
+
+        // 2. Reconstruction de l'index : la plus grande séquence l'emporte, suppressions comprises
+        Map<String, Long> deletedAt = new HashMap<>();
+        for (LogSegment segment : segments.values()) {
+            segment.scan((offset, length, body) -> replay(segment, offset, length, body, deletedAt));
+        }
+
+        // 3. Segment actif : le plus récent, ou un nouveau
+        this.active = segments.isEmpty() ? createSegment() : segments.lastEntry().getValue();
+
+        // 4. Synchronisation périodique
+        if (config.getFsyncPolicy() == FsyncPolicy.PERIODIC) {
+            this.syncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "file-store-sync-" + directory.getFileName());
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = config.getSyncInterval().toMillis();
+            syncScheduler.scheduleWithFixedDelay(this::syncQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.syncScheduler = null;
+        }
+    }
+
+    /**
+     * Retourne la dernière version de la clé, lue dans le segment projeté.
+     */
+    Optional<T> get(String key) {
+        lock.readLock().lock();
+        try {
+            RecordLocation location = index.get(key);
+            return location != null ? Optional.of(decode(location)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    boolean contains(String key) {
+        lock.readLock().lock();
+        try {
+            return index.containsKey(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    Set<String> keys() {
+        lock.readLock().lock();
+        try {
+            return Set.copyOf(index.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Parcourt toutes les entités vivantes, dans un ordre quelconque.
+     */
+    void forEach(BiConsumer<String, T> consumer) {
+        lock.readLock().lock();
+        try {
+            index.forEach((key, location) -> consumer.accept(key, decode(location)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(String key, T entity) {
+        putAll(Map.of(key, entity));
+    }
+
+    /**
+     * Ajoute toutes les entités puis synchronise une seule fois selon la politique configurée.
+     */
+    void putAll(Map<String, T> entities) {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            for (Map.Entry<String, T> entry : entities.entrySet()) {
+                append(entry.getKey(), OP_PUT, entry.getValue());
+            }
+            syncIfRequired();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Supprime la clé (enregistrement de suppression).
+     *
+     * @return {@code true} si la clé existait
+     */
+    boolean delete(String key) {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            if (!index.containsKey(key)) {
+                return false;
+            }
+            append(key, OP_DELETE, null);
+            syncIfRequired();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Force sur disque les écritures du segment actif.
+     */
+    void sync() {
+        lock.writeLock().lock();
+        try {
+            if (!closed) {
+                active.force();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Recopie les enregistrements vivants des segments scellés dans de nouveaux segments,
+     * puis supprime les anciens. Le segment actif n'est pas touché.
+     */
+    void compact() {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            List<LogSegment> sealed = new ArrayList<>(segments.values());
+            sealed.remove(active);
+            if (sealed.isEmpty()) {
+                return;
+            }
+
+            // 1. Recopie des enregistrements vivants (les suppressions ne sont plus utiles)
+            LogSegment output = null;
+            for (Map.Entry<String, RecordLocation> entry : index.entrySet()) {
+                RecordLocation location = entry.getValue();
+                if (location.segment == active) {
+                    continue;
+                }
+                byte[] record = location.segment.read(location.offset, location.length);
+                int offset = output != null ? output.append(record) : -1;
+                if (offset < 0) {
+                    if (output != null) {
+                        output.force();
+                    }
+                    output = createSegment();
+                    offset = output.append(record);
+                }
+                output.addLiveBytes(location.length);
+                entry.setValue(new RecordLocation(output, offset, location.length, location.sequence));
+            }
+            if (output != null) {
+                output.force();
+            }
+
+            // 2. Suppression des anciens segments, du plus ancien au plus récent
+            for (LogSegment segment : sealed) {
+                segments.remove(segment.getNumber());
+                segment.delete();
+            }
+            compactionCount++;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to compact file store in " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (syncScheduler != null) {
+                syncScheduler.shutdownNow();
+            }
+            active.force();
+            for (LogSegment segment : segments.values()) {
+                segment.close();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to close file store in " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int getSegmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long getCompactionCount() {
+        lock.readLock().lock();
+        try {
+            return compactionCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void replay(LogSegment segment, int offset, int length, byte[] body, Map<String, Long> deletedAt) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        long sequence = in.readLong();
+        byte op = in.readByte();
+        String key = in.readUTF();
+        nextSequence = Math.max(nextSequence, sequence + 1);
+
+        RecordLocation current = index.get(key);
+        long latest = Math.max(current != null ? current.sequence : 0, deletedAt.getOrDefault(key, 0L));
+        if (sequence <= latest) {
+            return;
+        }
+        if (current != null) {
+            current.segment.addLiveBytes(-current.length);
+        }
+        if (op == OP_PUT) {
+            index.put(key, new RecordLocation(segment, offset, length, sequence));
+            segment.addLiveBytes(length);
+            deletedAt.remove(key);
+        } else {
+            index.remove(key);
+            deletedAt.put(key, sequence);
+        }
+    }
+
+    private void append(String key, byte op, T entity) {
+        long sequence = nextSequence++;
+        byte[] record = encode(sequence, op, key, entity);
+        if (record.length > config.getSegmentBytes()) {
+            throw new IllegalArgumentException("Record for key " + key + " is larger than a segment");
+        }
+
+        try {
+            int offset = active.append(record);
+            if (offset < 0) {
+                rollSegment();
+                offset = active.append(record);
+            }
+
+            RecordLocation previous = op == OP_PUT
+                    ? index.put(key, new RecordLocation(active, offset, record.length, sequence))
+                    : index.remove(key);
+            if (previous != null) {
+                previous.segment.addLiveBytes(-previous.length);
+            }
+            if (op == OP_PUT) {
+                active.addLiveBytes(record.length);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to append to file store in " + directory, e);
+        }
+    }
+
+    private byte[] encode(long sequence, byte op, String key, T entity) {
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(body);
+            out.writeLong(sequence);
+            out.writeByte(op);
+            out.writeUTF(key);
+            if (entity != null) {
+                writer.write(out, entity);
+            }
+            byte[] bytes = body.toByteArray();
+
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            return ByteBuffer.allocate(LogSegment.HEADER_BYTES + bytes.length)
+                    .putInt(bytes.length)
+                    .putInt((int) crc.getValue())
+                    .put(bytes)
+                    .array();
+        } catch (IOException e) {
+            // Écriture en mémoire : ne peut pas échouer
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private T decode(RecordLocation location) {
+        byte[] body = location.segment.read(location.offset + LogSegment.HEADER_BYTES,
+                location.length - LogSegment.HEADER_BYTES);
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+            in.readLong();
+            in.readByte();
+            in.readUTF();
+            return reader.read(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupted record in file store " + directory, e);
+        }
+    }
+
+    /**
+     * Scelle le segment actif (synchronisé) et en ouvre un nouveau, puis compacte si nécessaire.
+     */
+    private void rollSegment() throws IOException {
+        active.force();
+        active = createSegment();
+        if (garbageRatioOfSealedSegments() >= config.getCompactionThreshold()) {
+            compact();
+        }
+    }
+
+    private double garbageRatioOfSealedSegments() {
+        long written = 0;
+        long live = 0;
+        for (LogSegment segment : segments.values()) {
+            if (segment != active) {
+                written += segment.getWritePosition();
+                live += segment.getLiveBytes();
+            }
+        }
+        return written == 0 ? 0 : (double) (written - live) / written;
+    }
+
+    private LogSegment createSegment() throws IOException {
+        long number = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+        Path file = directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+        LogSegment segment = LogSegment.create(file, number, config.getSegmentBytes());
+        segments.put(number, segment);
+        return segment;
+    }
+
+    private void syncIfRequired() {
+        if (config.getFsyncPolicy() == FsyncPolicy.ALWAYS) {
+            active.force();
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            // Nouvel essai au prochain passage ; close() force de toute façon les écritures
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("File store is closed: " + directory);
+        }
+    }
+
+    private static long segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Unexpected segment file name: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,512 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.inmemory;
+
+import com.webisbrian.hospital_bed_planner.domain.model.BedOccupancy;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.domain.service.BedOccupancyIndex;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Implémentation en mémoire de {@link HospitalStayRepository} pour un gros historique de séjours.
+ * <p>
+ * Les séjours sont rangés en colonnes de tableaux primitifs, une ligne par séjour : dates en jours epoch sur un
+ * {@code int}, identifiants de patient et de lit remplacés par un code de dictionnaire, type de séjour sur un octet.
+ * Seul l'identifiant du séjour reste une chaîne. Un séjour coûte ainsi une centaine d'octets au lieu de plusieurs
+ * centaines pour un {@link HospitalStay} et ses objets ; les {@link HospitalStay} ne sont créés qu'à la lecture.
+ * <p>
+ * Les requêtes d'occupation passent par un {@link BedOccupancyIndex}. L'ordre de pagination est un tableau de lignes
+ * trié, tenu à jour sans retri complet : les lignes écrites depuis la dernière pagination attendent à part, puis sont
+ * triées entre elles et fusionnées à la pagination suivante ; {@link #findAllByPatientId(String)} parcourt la
+ * colonne des codes patient. Accès protégés par un {@link StampedLock} (exclusif / partagé).
+ */
+public class ColumnarHospitalStayRepository implements HospitalStayRepository {
+
+    private static final int NULL_CODE = -1;
+    private static final int NULL_DAY = Integer.MIN_VALUE;
+    private static final StayType[] STAY_TYPES = StayType.values();
+
+    /** Ordre de pagination : date d'admission puis identifiant, décroissants. */
+    private static final Comparator<HospitalStay> PAGE_ORDER = Comparator
+            .comparing(HospitalStay::getAdmissionDate)
+            .thenComparing(HospitalStay::getId)
+            .reversed();
+
+    private final StringDictionary patientIds = new StringDictionary();
+    private final StringDictionary bedIds = new StringDictionary();
+    private final BedOccupancyIndex occupancyIndex = new BedOccupancyIndex();
+    private final StampedLock lock = new StampedLock();
+
+    private String[] ids;
+    private int[] patientCodes;
+    private int[] bedCodes;
+    private byte[] stayTypes;
+    private int[] admissionDays;
+    private int[] plannedDischargeDays;
+    private int[] effectiveDischargeDays;
+    private int size;
+
+    private int[] rowSlots = new int[16];       // table de hachage identifiant -> ligne + 1 (0 = case vide)
+    private int[] pageOrder = new int[16];      // lignes dans l'ordre de pagination
+    private int pageOrderSize;
+    private int[] pendingRows = new int[16];    // lignes écrites, pas encore fusionnées dans pageOrder
+    private int pendingCount;
+
+    public ColumnarHospitalStayRepository() {
+        this(1_024);
+    }
+
+    public ColumnarHospitalStayRepository(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        ids = new String[initialCapacity];
+        patientCodes = new int[initialCapacity];
+        bedCodes = new int[initialCapacity];
+        stayTypes = new byte[initialCapacity];
+        admissionDays = new int[initialCapacity];
+        plannedDischargeDays = new int[initialCapacity];
+        effectiveDischargeDays = new int[initialCapacity];
+    }
+
+    @Override
+    public HospitalStay save(HospitalStay hospitalStay) {
+        validate(hospitalStay);
+
+        long stamp = lock.writeLock();
+        try {
+            store(hospitalStay);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return hospitalStay;
+    }
+
+    @Override
+    public void saveAll(Collection<HospitalStay> hospitalStays) {
+        if (hospitalStays == null) {
+            throw new IllegalArgumentException("HospitalStays cannot be null");
+        }
+        hospitalStays.forEach(this::validate);
+
+        long stamp = lock.writeLock();
+        try {
+            for (HospitalStay hospitalStay : hospitalStays) {
+                store(hospitalStay);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Optional<HospitalStay> findById(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        long stamp = lock.readLock();
+        try {
+            int row = rowOf(id);
+            return row >= 0 ? Optional.of(materialize(row)) : Optional.empty();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Parcourt la colonne des codes patient, puis trie le résultat par date d'admission décroissante.
+     */
+    @Override
+    public List<HospitalStay> findAllByPatientId(String patientId) {
+        long stamp = lock.readLock();
+        try {
+            int code = patientId != null ? patientIds.codeOf(patientId) : NULL_CODE;
+            if (patientId != null && code == NULL_CODE) {
+                return List.of();
+            }
+            List<HospitalStay> stays = new ArrayList<>();
+            for (int row = 0; row < size; row++) {
+                if (patientCodes[row] == code) {
+                    stays.add(materialize(row));
+                }
+            }
+            stays.sort(PAGE_ORDER);
+            return stays;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Retourne tous les séjours dans l'ordre de première insertion.
+     */
+    @Override
+    public List<HospitalStay> findAll() {
+        long stamp = lock.readLock();
+        try {
+            List<HospitalStay> stays = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                stays.add(materialize(row));
+            }
+            return stays;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Crée chaque séjour au fil du parcours ; les lignes n'étant jamais supprimées, le stream couvre
+     * les séjours présents à son ouverture (dans leur dernière version).
+     */
+    @Override
+    public Stream<HospitalStay> streamAll() {
+        long stamp = lock.readLock();
+        int rows;
+        try {
+            rows = size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return IntStream.range(0, rows).mapToObj(row -> {
+            long readStamp = lock.readLock();
+            try {
+                return materialize(row);
+            } finally {
+                lock.unlockRead(readStamp);
+            }
+        });
+    }
+
+    @Override
+    public List<HospitalStay> findPageAfter(HospitalStay lastOfPreviousPage, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        long stamp = lock.readLock();
+        try {
+            // 1. Fusion des lignes en attente, sous verrou exclusif après une écriture
+            if (pendingCount > 0) {
+                long writeStamp = lock.tryConvertToWriteLock(stamp);
+                if (writeStamp == 0L) {
+                    lock.unlockRead(stamp);
+                    writeStamp = lock.writeLock();
+                }
+                stamp = writeStamp;
+                if (pendingCount > 0) {
+                    mergePendingRows();
+                }
+            }
+
+            // 2. Première ligne après la clé, par recherche dichotomique
+            int start = lastOfPreviousPage == null
+                    ? 0
+                    : firstPositionAfter(epochDay(lastOfPreviousPage.getAdmissionDate()), lastOfPreviousPage.getId());
+            int end = Math.min(pageOrderSize, start + pageSize);
+            List<HospitalStay> page = new ArrayList<>(Math.max(0, end - start));
+            for (int position = start; position < end; position++) {
+                page.add(materialize(pageOrder[position]));
+            }
+            return page;
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    @Override
+    public List<HospitalStay> findActiveStaysOn(LocalDate date) {
+        return findStaysOverlapping(date, date);
+    }
+
+    @Override
+    public List<HospitalStay> findStaysOverlapping(LocalDate from, LocalDate to) {
+        long stamp = lock.readLock();
+        try {
+            List<HospitalStay> stays = new ArrayList<>();
+            occupancyIndex.forEachStayOverlapping(from, to, stayId -> stays.add(materialize(rowOf(stayId))));
+            return stays;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Photographie de l'occupation, calculée sous un seul verrou partagé.
+     */
+    @Override
+    public BedOccupancy findOccupancyBetween(LocalDate from, LocalDate to, LocalDate today) {
+        Set<String> occupied;
+        long stamp = lock.readLock();
+        try {
+            occupied = occupancyIndex.occupiedBedIdsBetween(from, to, today);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return occupied::contains;
+    }
+
+    /**
+     * Nombre de séjours stockés.
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void validate(HospitalStay hospitalStay) {
+        if (hospitalStay == null || hospitalStay.getId() == null || hospitalStay.getId().isBlank()) {
+            throw new IllegalArgumentException("HospitalStay and its id cannot be null or blank");
+        }
+        if (hospitalStay.getAdmissionDate() == null) {
+            throw new IllegalArgumentException("HospitalStay admission date cannot be null");
+        }
+    }
+
+    /**
+     * Écrit le séjour dans sa ligne (nouvelle ou existante) ; appelé sous le verrou exclusif.
+     */
+    private void store(HospitalStay hospitalStay) {
+        int row = rowOf(hospitalStay.getId());
+        if (row >= 0) {
+            occupancyIndex.remove(materialize(row));
+            // La ligne ne change de place que si sa date d'admission change
+            if (admissionDays[row] != epochDay(hospitalStay.getAdmissionDate()) && removeFromPageOrder(row)) {
+                addPendingRow(row);
+            }
+        } else {
+            row = size;
+            ensureCapacity(size + 1);
+            size++;
+            addRowSlot(hospitalStay.getId(), row);
+            addPendingRow(row);
+        }
+
+        ids[row] = hospitalStay.getId();
+        patientCodes[row] = patientIds.encode(hospitalStay.getPatientId());
+        bedCodes[row] = bedIds.encode(hospitalStay.getBedId());
+        stayTypes[row] = hospitalStay.getStayType() != null ? (byte) hospitalStay.getStayType().ordinal() : -1;
+        admissionDays[row] = epochDay(hospitalStay.getAdmissionDate());
+        plannedDischargeDays[row] = epochDay(hospitalStay.getDischargeDatePlanned());
+        effectiveDischargeDays[row] = epochDay(hospitalStay.getDischargeDateEffective());
+
+        occupancyIndex.add(hospitalStay);
+    }
+
+    private HospitalStay materialize(int row) {
+        byte stayType = stayTypes[row];
+        return new HospitalStay(
+                ids[row],
+                patientIds.decode(patientCodes[row]),
+                bedIds.decode(bedCodes[row]),
+                stayType >= 0 ? STAY_TYPES[stayType] : null,
+                date(admissionDays[row]),
+                date(plannedDischargeDays[row]),
+                date(effectiveDischargeDays[row])
+        );
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, newCapacity);
+        patientCodes = Arrays.copyOf(patientCodes, newCapacity);
+        bedCodes = Arrays.copyOf(bedCodes, newCapacity);
+        stayTypes = Arrays.copyOf(stayTypes, newCapacity);
+        admissionDays = Arrays.copyOf(admissionDays, newCapacity);
+        plannedDischargeDays = Arrays.copyOf(plannedDischargeDays, newCapacity);
+        effectiveDischargeDays = Arrays.copyOf(effectiveDischargeDays, newCapacity);
+    }
+
+    /* TABLE IDENTIFIANT -> LIGNE (adressage ouvert, sondage linéaire, sans suppression) */
+
+    private int rowOf(String id) {
+        int mask = rowSlots.length - 1;
+        for (int i = spread(id.hashCode()) & mask; ; i = (i + 1) & mask) {
+            int slot = rowSlots[i];
+            if (slot == 0) {
+                return -1;
+            }
+            if (ids[slot - 1].equals(id)) {
+                return slot - 1;
+            }
+        }
+    }
+
+    private void addRowSlot(String id, int row) {
+        // Taux de remplissage maximal de 1/2 : les sondages restent courts
+        if (size * 2 > rowSlots.length) {
+            int[] previous = rowSlots;
+            rowSlots = new int[previous.length * 2];
+            for (int slot : previous) {
+                if (slot != 0) {
+                    placeRowSlot(ids[slot - 1], slot);
+                }
+            }
+        }
+        placeRowSlot(id, row + 1);
+    }
+
+    private void placeRowSlot(String id, int slot) {
+        int mask = rowSlots.length - 1;
+        int i = spread(id.hashCode()) & mask;
+        while (rowSlots[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        rowSlots[i] = slot;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /* ORDRE DE PAGINATION */
+
+    private void addPendingRow(int row) {
+        if (pendingCount == pendingRows.length) {
+            pendingRows = Arrays.copyOf(pendingRows, pendingCount * 2);
+        }
+        pendingRows[pendingCount++] = row;
+    }
+
+    /**
+     * Retire la ligne de {@link #pageOrder} avant modification de sa date d'admission.
+     *
+     * @return false si la ligne n'y figurait pas (elle est déjà en attente)
+     */
+    private boolean removeFromPageOrder(int row) {
+        int position = firstPositionAfter(admissionDays[row], ids[row]) - 1;
+        if (position < 0 || pageOrder[position] != row) {
+            return false;
+        }
+        System.arraycopy(pageOrder, position + 1, pageOrder, position, pageOrderSize - position - 1);
+        pageOrderSize--;
+        return true;
+    }
+
+    private void mergePendingRows() {
+        // 1. Tri des seules lignes en attente
+        int[] pending = Arrays.copyOf(pendingRows, pendingCount);
+        sortRows(pending, new int[pending.length], 0, pending.length);
+
+        // 2. Fusion avec l'ordre existant, en un seul passage
+        int[] merged = new int[Math.max(16, pageOrderSize + pending.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < pageOrderSize && j < pending.length) {
+            merged[k++] = precedes(pending[j], pageOrder[i]) ? pending[j++] : pageOrder[i++];
+        }
+        while (i < pageOrderSize) {
+            merged[k++] = pageOrder[i++];
+        }
+        while (j < pending.length) {
+            merged[k++] = pending[j++];
+        }
+        pageOrder = merged;
+        pageOrderSize = k;
+        pendingCount = 0;
+    }
+
+    /**
+     * Tri fusion de lignes dans l'ordre de pagination, sur tableaux primitifs.
+     */
+    private void sortRows(int[] rows, int[] buffer, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sortRows(rows, buffer, from, mid);
+        sortRows(rows, buffer, mid, to);
+        if (!precedes(rows[mid], rows[mid - 1])) {
+            return;
+        }
+        System.arraycopy(rows, from, buffer, from, to - from);
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (j >= to || (i < mid && !precedes(buffer[j], buffer[i]))) {
+                rows[k] = buffer[i++];
+            } else {
+                rows[k] = buffer[j++];
+            }
+        }
+    }
+
+    /**
+     * Ordre de pagination : date d'admission puis identifiant, décroissants.
+     */
+    private boolean precedes(int row, int other) {
+        return admissionDays[row] != admissionDays[other]
+                ? admissionDays[row] > admissionDays[other]
+                : ids[row].compareTo(ids[other]) > 0;
+    }
+
+    /**
+     * Première position de {@link #pageOrder} strictement après la clé (date d'admission, identifiant).
+     */
+    private int firstPositionAfter(int day, String id) {
+        int low = 0;
+        int high = pageOrderSize;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int row = pageOrder[mid];
+            boolean beforeOrAtKey = admissionDays[row] != day
+                    ? admissionDays[row] > day
+                    : ids[row].compareTo(id) >= 0;
+            if (beforeOrAtKey) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int epochDay(LocalDate date) {
+        return date != null ? Math.toIntExact(date.toEpochDay()) : NULL_DAY;
+    }
+
+    private static LocalDate date(int epochDay) {
+        return epochDay != NULL_DAY ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+
+    /**
+     * Dictionnaire de chaînes : chaque valeur distincte reçoit un code entier stable.
+     */
+    private static final class StringDictionary {
+
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+
+        int encode(String value) {
+            if (value == null) {
+                return NULL_CODE;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                values.add(value);
+                codes.put(value, code);
+            }
+            return code;
+        }
+
+        int codeOf(String value) {
+            return codes.getOrDefault(value, NULL_CODE);
+        }
+
+        String decode(int code) {
+            return code != NULL_CODE ? values.get(code) : null;
+        }
+    }
+}
@@ -4,18 +4,37 @@ import com.webisbrian.hospital_bed_planner.domain.model.Bed;
 import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
 import com.webisbrian.hospital_bed_planner.domain.repository.BedRepository;
 
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
 
 /**
- * Implémentation en mémoire de {@link BedRepository} pour les tests.
- * Stocke les lits dans une HashMap indexée par identifiant.
+ * Implémentation en mémoire de {@link BedRepository}, partageable entre threads.
+ * Stocke les lits dans une ConcurrentHashMap indexée par identifiant,
+ * doublée d'un index par statut ({@link EnumMap} d'ensembles triés par code) : {@link #findByStatus(BedStatus)}
+ * coûte la taille du résultat, et un changement de statut déplace le lit d'un ensemble à l'autre.
+ * <p>
+ * Les lectures par identifiant sont sans verrou ; écritures et lectures de plusieurs lits
+ * passent par un {@link StampedLock} (exclusif / partagé) pour garder map et index cohérents.
  */
 public class InMemoryBedRepository implements BedRepository {
 
-    private final Map<String, Bed> storage = new HashMap<>();
+    private static final Comparator<Bed> BY_CODE = Comparator
+            .comparing(Bed::getCode, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Bed::getId);
+
+    private final Map<String, Bed> storage = new ConcurrentHashMap<>();
+    private final Map<BedStatus, NavigableSet<Bed>> bedsByStatus = new EnumMap<>(BedStatus.class);
+    private final NavigableSet<Bed> bedsWithoutStatus = new TreeSet<>(BY_CODE);
+    private final StampedLock lock = new StampedLock();
 
     @Override
     public Bed save(Bed bed) {
@@ -26,10 +45,36 @@ public class InMemoryBedRepository implements BedRepository {
             throw new IllegalArgumentException("Bed id cannot be null or blank");
         }
 
-        storage.put(bed.getId(), bed);
+        long stamp = lock.writeLock();
+        try {
+            store(bed);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
         return bed;
     }
 
+    @Override
+    public void saveAll(Collection<Bed> beds) {
+        if (beds == null) {
+            throw new IllegalArgumentException("Beds cannot be null");
+        }
+        for (Bed bed : beds) {
+            if (bed == null || bed.getId() == null || bed.getId().isBlank()) {
+                throw new IllegalArgumentException("Bed and its id cannot be null or blank");
+            }
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            for (Bed bed : beds) {
+                store(bed);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
     @Override
     public Optional<Bed> findById(String id) {
         return Optional.ofNullable(storage.get(id));
@@ -37,19 +82,62 @@ public class InMemoryBedRepository implements BedRepository {
 
     @Override
     public List<Bed> findAll() {
-        return List.copyOf(storage.values());
+        long stamp = lock.readLock();
+        try {
+            return List.copyOf(storage.values());
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
 
     @Override
     public List<Bed> findByStatus(BedStatus status) {
-        return storage.values().stream()
-                .filter(bed -> bed.getStatus() == status)
-                .toList();
+        long stamp = lock.readLock();
+        try {
+            return List.copyOf(status != null
+                    ? bedsByStatus.getOrDefault(status, Collections.emptyNavigableSet())
+                    : bedsWithoutStatus);
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
 
     @Override
     public void deleteById(String id) {
-        storage.remove(id);
+        long stamp = lock.writeLock();
+        try {
+            Bed removed = storage.remove(id);
+            if (removed != null) {
+                unindex(removed);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
     }
 
+    /**
+     * Met à jour la map et l'index par statut ; appelé sous le verrou exclusif.
+     */
+    private void store(Bed bed) {
+        Bed previous = storage.put(bed.getId(), bed);
+        if (previous != null) {
+            unindex(previous);
+        }
+        if (bed.getStatus() != null) {
+            bedsByStatus.computeIfAbsent(bed.getStatus(), status -> new TreeSet<>(BY_CODE)).add(bed);
+        } else {
+            bedsWithoutStatus.add(bed);
+        }
+    }
+
+    private void unindex(Bed bed) {
+        if (bed.getStatus() == null) {
+            bedsWithoutStatus.remove(bed);
+            return;
+        }
+        NavigableSet<Bed> beds = bedsByStatus.get(bed.getStatus());
+        if (beds != null) {
+            beds.remove(bed);
+        }
+    }
 }
@@ -1,18 +1,55 @@
 package com.webisbrian.hospital_bed_planner.infrastructure.inmemory;
 
+import com.webisbrian.hospital_bed_planner.domain.model.BedOccupancy;
 import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
 import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.domain.service.BedOccupancyCalendar;
+import com.webisbrian.hospital_bed_planner.domain.service.BedOccupancyIndex;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.Stream;
 
 /**
- * Implémentation en mémoire de {@link HospitalStayRepository} pour les tests.
- * Stocke les séjours dans une HashMap indexée par identifiant.
+ * Implémentation en mémoire de {@link HospitalStayRepository}, partageable entre threads.
+ * Stocke les séjours dans une ConcurrentHashMap indexée par identifiant,
+ * et maintient à chaque enregistrement un {@link BedOccupancyIndex} ainsi qu'un
+ * {@link BedOccupancyCalendar} (bitsets par lit) qui répond aux requêtes d'occupation dans son horizon,
+ * un ensemble trié pour la pagination par clé, et les séjours de chaque patient et de chaque lit
+ * (triés comme la pagination) : ces recherches coûtent la taille du résultat, pas celle de la table.
+ * <p>
+ * La lecture par identifiant est sans verrou. Les écritures mettent à jour la map et les index sous le verrou
+ * exclusif d'un {@link StampedLock} ; les lectures de plusieurs séjours et d'occupation prennent son verrou partagé
+ * une fois par appel et voient donc un état cohérent, jamais une écriture à moitié appliquée.
  */
 public class InMemoryHospitalStayRepository implements HospitalStayRepository {
 
-    private final Map<String, HospitalStay> storage = new HashMap<>();
+    /** Ordre de pagination : date d'admission puis identifiant, décroissants. */
+    private static final Comparator<HospitalStay> PAGE_ORDER = Comparator
+            .comparing(HospitalStay::getAdmissionDate)
+            .thenComparing(HospitalStay::getId)
+            .reversed();
+
+    private final Map<String, HospitalStay> storage = new ConcurrentHashMap<>();
+    private final StampedLock lock = new StampedLock();
+    private final NavigableSet<HospitalStay> staysInPageOrder = new TreeSet<>(PAGE_ORDER);
+    private final Map<String, NavigableSet<HospitalStay>> staysByPatient = new HashMap<>();
+    private final Map<String, NavigableSet<HospitalStay>> staysByBed = new HashMap<>();
+    private final BedOccupancyIndex occupancyIndex = new BedOccupancyIndex();
+    private final BedOccupancyCalendar occupancyCalendar;
+
+    /**
+     * Calendrier d'occupation sur un horizon glissant autour de la date du jour.
+     */
+    public InMemoryHospitalStayRepository() {
+        this(BedOccupancyCalendar.rollingAround(LocalDate.now()));
+    }
+
+    public InMemoryHospitalStayRepository(BedOccupancyCalendar occupancyCalendar) {
+        this.occupancyCalendar = occupancyCalendar;
+    }
 
     @Override
     public HospitalStay save(HospitalStay hospitalStay) {
@@ -23,38 +60,168 @@ public class InMemoryHospitalStayRepository implements HospitalStayRepository {
             throw new IllegalArgumentException("HospitalStay id cannot be null or blank");
         }
 
-        storage.put(hospitalStay.getId(), hospitalStay);
+        long stamp = lock.writeLock();
+        try {
+            store(hospitalStay);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
         return hospitalStay;
     }
 
+    /**
+     * Enregistre tous les séjours sous un seul verrou exclusif : les lectures de plusieurs séjours voient le lot entier ou rien.
+     */
+    @Override
+    public void saveAll(Collection<HospitalStay> hospitalStays) {
+        if (hospitalStays == null) {
+            throw new IllegalArgumentException("HospitalStays cannot be null");
+        }
+        for (HospitalStay hospitalStay : hospitalStays) {
+            if (hospitalStay == null || hospitalStay.getId() == null || hospitalStay.getId().isBlank()) {
+                throw new IllegalArgumentException("HospitalStay and its id cannot be null or blank");
+            }
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            for (HospitalStay hospitalStay : hospitalStays) {
+                store(hospitalStay);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
     @Override
     public Optional<HospitalStay> findById(String id) {
         return Optional.ofNullable(storage.get(id));
     }
 
+    /**
+     * Retourne les séjours du patient, par date d'admission décroissante.
+     */
     @Override
     public List<HospitalStay> findAllByPatientId(String patientId) {
-        return storage.values().stream()
-                .filter(hospitalStay -> Objects.equals(hospitalStay.getPatientId(), patientId))
-                .toList();
+        long stamp = lock.readLock();
+        try {
+            return List.copyOf(staysByPatient.getOrDefault(patientId, Collections.emptyNavigableSet()));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Retourne les séjours portés par le lit, par date d'admission décroissante.
+     */
+    public List<HospitalStay> findAllByBedId(String bedId) {
+        long stamp = lock.readLock();
+        try {
+            return List.copyOf(staysByBed.getOrDefault(bedId, Collections.emptyNavigableSet()));
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
 
     @Override
     public List<HospitalStay> findAll() {
-        return List.copyOf(storage.values());
+        long stamp = lock.readLock();
+        try {
+            return List.copyOf(storage.values());
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Stream<HospitalStay> streamAll() {
+        return findAll().stream();
+    }
+
+    @Override
+    public List<HospitalStay> findPageAfter(HospitalStay lastOfPreviousPage, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        long stamp = lock.readLock();
+        try {
+            NavigableSet<HospitalStay> remaining = lastOfPreviousPage == null
+                    ? staysInPageOrder
+                    : staysInPageOrder.tailSet(lastOfPreviousPage, false);
+            return remaining.stream().limit(pageSize).toList();
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
 
     @Override
     public List<HospitalStay> findActiveStaysOn(LocalDate date) {
-        return storage.values().stream()
-                .filter(stay -> isActiveOn(stay, date))
-                .toList();
+        return findStaysOverlapping(date, date);
+    }
+
+    /**
+     * Parcourt l'index d'occupation plutôt que tous les séjours : seuls les séjours admis au plus tard à {@code to}
+     * sont examinés.
+     */
+    @Override
+    public List<HospitalStay> findStaysOverlapping(LocalDate from, LocalDate to) {
+        long stamp = lock.readLock();
+        try {
+            List<HospitalStay> stays = new ArrayList<>();
+            occupancyIndex.forEachStayOverlapping(from, to, stayId -> stays.add(storage.get(stayId)));
+            return stays;
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
 
-    private boolean isActiveOn(HospitalStay stay, LocalDate date) {
-        boolean admitted = !stay.getAdmissionDate().isAfter(date);
-        LocalDate discharge = stay.getDischargeDateEffective();
-        boolean notDischargedYet = (discharge == null || !discharge.isBefore(date));
-        return admitted && notDischargedYet;
+    /**
+     * Photographie de l'occupation, calculée sous un seul verrou partagé : les écritures ultérieures n'y sont pas
+     * reflétées, et les appels de {@link BedOccupancy#isOccupied(String)} ne prennent plus aucun verrou.
+     */
+    @Override
+    public BedOccupancy findOccupancyBetween(LocalDate from, LocalDate to, LocalDate today) {
+        Set<String> occupied;
+        long stamp = lock.readLock();
+        try {
+            occupied = occupancyCalendar.covers(from, to)
+                    ? occupancyCalendar.occupiedBedIdsBetween(from, to, today)
+                    : occupancyIndex.occupiedBedIdsBetween(from, to, today);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return occupied::contains;
+    }
+
+    /**
+     * Met à jour la map et les index ; appelé sous le verrou exclusif.
+     */
+    private void store(HospitalStay hospitalStay) {
+        HospitalStay previous = storage.put(hospitalStay.getId(), hospitalStay);
+        if (previous != null) {
+            occupancyIndex.remove(previous);
+            staysInPageOrder.remove(previous);
+            removeFrom(staysByPatient, previous.getPatientId(), previous);
+            removeFrom(staysByBed, previous.getBedId(), previous);
+        }
+        occupancyIndex.add(hospitalStay);
+        staysInPageOrder.add(hospitalStay);
+        staysByPatient.computeIfAbsent(hospitalStay.getPatientId(), patientId -> new TreeSet<>(PAGE_ORDER)).add(hospitalStay);
+        staysByBed.computeIfAbsent(hospitalStay.getBedId(), bedId -> new TreeSet<>(PAGE_ORDER)).add(hospitalStay);
+
+        if (previous != null) {
+            occupancyCalendar.rebuild(previous.getBedId(), occupancyIndex);
+        }
+        occupancyCalendar.mark(hospitalStay);
+    }
+
+    private static void removeFrom(Map<String, NavigableSet<HospitalStay>> index, String key, HospitalStay stay) {
+        NavigableSet<HospitalStay> stays = index.get(key);
+        if (stays != null) {
+            stays.remove(stay);
+            if (stays.isEmpty()) {
+                index.remove(key);
+            }
+        }
     }
 }
@@ -4,14 +4,29 @@ import com.webisbrian.hospital_bed_planner.domain.model.Patient;
 import com.webisbrian.hospital_bed_planner.domain.repository.PatientRepository;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.Stream;
 
 /**
- * Implémentation en mémoire de {@link PatientRepository} pour les tests.
- * Stocke les patients dans une HashMap indexée par identifiant.
+ * Implémentation en mémoire de {@link PatientRepository}, partageable entre threads.
+ * Stocke les patients dans une ConcurrentHashMap indexée par identifiant,
+ * doublée d'un ensemble trié par nom pour la pagination par clé.
+ * <p>
+ * Les lectures par identifiant sont sans verrou ; écritures et lectures de plusieurs patients
+ * passent par un {@link StampedLock} (exclusif / partagé) pour garder map et ensemble trié cohérents.
  */
 public class InMemoryPatientRepository implements PatientRepository {
 
-    private final Map<String, Patient> storage = new HashMap<>();
+    /** Ordre de pagination : nom, prénom puis identifiant. */
+    private static final Comparator<Patient> PAGE_ORDER = Comparator
+            .comparing(Patient::getLastName, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Patient::getFirstName, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Patient::getId);
+
+    private final Map<String, Patient> storage = new ConcurrentHashMap<>();
+    private final NavigableSet<Patient> patientsInPageOrder = new TreeSet<>(PAGE_ORDER);
+    private final StampedLock lock = new StampedLock();
 
     @Override
     public Patient save(Patient patient) {
@@ -22,15 +37,56 @@ public class InMemoryPatientRepository implements PatientRepository {
             throw new IllegalArgumentException("Patient id cannot be null or blank");
         }
 
-        storage.put(patient.getId(), patient);
+        long stamp = lock.writeLock();
+        try {
+            store(patient);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
         return patient;
     }
 
+    @Override
+    public void saveAll(Collection<Patient> patients) {
+        if (patients == null) {
+            throw new IllegalArgumentException("Patients cannot be null");
+        }
+
+        // Validation complète avant écriture : tout ou rien, comme l'implémentation MySQL
+        for (Patient patient : patients) {
+            if (patient == null || patient.getId() == null || patient.getId().isBlank()) {
+                throw new IllegalArgumentException("Patient and its id cannot be null or blank");
+            }
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            for (Patient patient : patients) {
+                store(patient);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
     @Override
     public Optional<Patient> findById(String id) {
         return Optional.ofNullable(storage.get(id));
     }
 
+    @Override
+    public List<Patient> findAllById(Collection<String> ids) {
+        validateIds(ids);
+        List<Patient> patients = new ArrayList<>(ids.size());
+        for (String id : new LinkedHashSet<>(ids)) {
+            Patient patient = storage.get(id);
+            if (patient != null) {
+                patients.add(patient);
+            }
+        }
+        return patients;
+    }
+
     @Override
     public boolean existsById(String id) {
         return storage.containsKey(id);
@@ -38,11 +94,67 @@ public class InMemoryPatientRepository implements PatientRepository {
 
     @Override
     public List<Patient> findAll() {
-        return new ArrayList<>(storage.values());
+        long stamp = lock.readLock();
+        try {
+            return new ArrayList<>(storage.values());
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Stream<Patient> streamAll() {
+        return findAll().stream();
+    }
+
+    @Override
+    public List<Patient> findPageAfter(Patient lastOfPreviousPage, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        long stamp = lock.readLock();
+        try {
+            NavigableSet<Patient> remaining = lastOfPreviousPage == null
+                    ? patientsInPageOrder
+                    : patientsInPageOrder.tailSet(lastOfPreviousPage, false);
+            return remaining.stream().limit(pageSize).toList();
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
 
     @Override
     public void deleteById(String id) {
-        storage.remove(id);
+        long stamp = lock.writeLock();
+        try {
+            Patient removed = storage.remove(id);
+            if (removed != null) {
+                patientsInPageOrder.remove(removed);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Met à jour la map et l'ensemble trié ; appelé sous le verrou exclusif.
+     */
+    private static void validateIds(Collection<String> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Patient ids cannot be null");
+        }
+        for (String id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException("Patient ids cannot contain null");
+            }
+        }
+    }
+
+    private void store(Patient patient) {
+        Patient previous = storage.put(patient.getId(), patient);
+        if (previous != null) {
+            patientsInPageOrder.remove(previous);
+        }
+        patientsInPageOrder.add(patient);
     }
 }
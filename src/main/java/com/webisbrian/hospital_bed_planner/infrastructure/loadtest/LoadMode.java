@@ -0,0 +1,9 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.loadtest;
+
+/**
+ * Mode d'injection de la charge.
+ */
+public enum LoadMode {
+    OPEN_LOOP,      // arrivées à débit fixe, indépendantes des réponses ; latence mesurée depuis l'arrivée prévue
+    CLOSED_LOOP     // N utilisateurs enchaînant les opérations sans pause
+}
@@ -0,0 +1,12 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.loadtest;
+
+/**
+ * Opération tirée par {@link LoadTestDriver}, selon les poids de {@link LoadTestConfig#getMix()}.
+ */
+public enum LoadOperation {
+    CREATE_PATIENT,     // CreatePatientUseCase
+    PLACE_PATIENT,      // PlacePatientUseCase, séjour WEEK sur une période
+    DISCHARGE_PATIENT,  // DischargePatientUseCase, sur un séjour placé pendant le tir
+    LIST_ACTIVE_STAYS,  // HospitalStayRepository#findActiveStaysOn
+    LIST_STAY_PAGES     // HospitalStayRepository#findPageAfter, première page puis la suivante
+}
@@ -0,0 +1,105 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.loadtest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Paramètres d'un tir de {@link LoadTestDriver}.
+ */
+public class LoadTestConfig {
+
+    public static final Map<LoadOperation, Integer> DEFAULT_MIX = Collections.unmodifiableMap(new EnumMap<>(Map.of(
+            LoadOperation.CREATE_PATIENT, 10,
+            LoadOperation.PLACE_PATIENT, 40,
+            LoadOperation.DISCHARGE_PATIENT, 30,
+            LoadOperation.LIST_ACTIVE_STAYS, 15,
+            LoadOperation.LIST_STAY_PAGES, 5)));
+    public static final LocalDate DEFAULT_REFERENCE_DATE = LocalDate.of(2025, 1, 15);
+    public static final int DEFAULT_PLACEMENT_HORIZON_DAYS = 30;
+
+    private final LoadMode mode;
+    private final int concurrency;                  // threads virtuels (CLOSED_LOOP) ou requêtes en vol au plus (OPEN_LOOP)
+    private final double arrivalRatePerSecond;      // débit d'arrivée en OPEN_LOOP, ignoré en CLOSED_LOOP
+    private final Duration duration;
+    private final Map<LoadOperation, Integer> mix;  // poids relatifs ; une opération absente n'est jamais tirée
+    private final LocalDate referenceDate;          // les admissions sont tirées dans les jours qui suivent
+    private final int placementHorizonDays;
+
+    public LoadTestConfig(LoadMode mode, int concurrency, double arrivalRatePerSecond, Duration duration) {
+        this(mode, concurrency, arrivalRatePerSecond, duration,
+                DEFAULT_MIX,
+                DEFAULT_REFERENCE_DATE,
+                DEFAULT_PLACEMENT_HORIZON_DAYS);
+    }
+
+    public LoadTestConfig(LoadMode mode,
+                          int concurrency,
+                          double arrivalRatePerSecond,
+                          Duration duration,
+                          Map<LoadOperation, Integer> mix,
+                          LocalDate referenceDate,
+                          int placementHorizonDays) {
+        if (mode == null) {
+            throw new IllegalArgumentException("Load mode cannot be null");
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        if (mode == LoadMode.OPEN_LOOP && !(arrivalRatePerSecond > 0)) {
+            throw new IllegalArgumentException("Open-loop arrival rate must be positive");
+        }
+        if (duration == null || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+        if (mix == null || mix.values().stream().anyMatch(weight -> weight == null || weight < 0)
+                || mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Operation mix needs non-negative weights and at least one positive weight");
+        }
+        if (referenceDate == null) {
+            throw new IllegalArgumentException("Reference date cannot be null");
+        }
+        if (placementHorizonDays < 1) {
+            throw new IllegalArgumentException("Placement horizon must be at least 1 day");
+        }
+        this.mode = mode;
+        this.concurrency = concurrency;
+        this.arrivalRatePerSecond = arrivalRatePerSecond;
+        this.duration = duration;
+        this.mix = Collections.unmodifiableMap(new EnumMap<>(mix));
+        this.referenceDate = referenceDate;
+        this.placementHorizonDays = placementHorizonDays;
+    }
+
+    /* GETTERS */
+
+    public LoadMode getMode() {
+        return mode;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public double getArrivalRatePerSecond() {
+        return arrivalRatePerSecond;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Map<LoadOperation, Integer> getMix() {
+        return mix;
+    }
+
+    public LocalDate getReferenceDate() {
+        return referenceDate;
+    }
+
+    public int getPlacementHorizonDays() {
+        return placementHorizonDays;
+    }
+}
@@ -0,0 +1,315 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.loadtest;
+
+import com.webisbrian.hospital_bed_planner.application.usecase.CreatePatientUseCase;
+import com.webisbrian.hospital_bed_planner.application.usecase.DischargePatientUseCase;
+import com.webisbrian.hospital_bed_planner.application.usecase.PlacePatientUseCase;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.model.Sex;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.PatientRepository;
+import com.webisbrian.hospital_bed_planner.domain.service.PlacementService;
+import com.webisbrian.hospital_bed_planner.infrastructure.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Injecteur de charge : exécute un mélange pondéré de use cases sur des threads virtuels et mesure leurs latences.
+ * <p>
+ * - {@link LoadMode#CLOSED_LOOP} : N threads enchaînent les opérations jusqu'à la fin du tir.
+ * - {@link LoadMode#OPEN_LOOP} : une opération est lancée à chaque arrivée prévue, au débit fixé, avec au plus N
+ *   opérations en vol ; la latence court depuis l'arrivée prévue, attente comprise (pas d'omission coordonnée).
+ * <p>
+ * Les patients et séjours créés portent un préfixe propre au tir. À la fin, les séjours à partir de la date de
+ * référence sont relus pour détecter les doubles réservations (deux séjours occupant le même lit le même jour,
+ * selon la règle de {@link com.webisbrian.hospital_bed_planner.domain.service.BedOccupancyIndex}).
+ * <p>
+ * Un tir à la fois par instance.
+ */
+public class LoadTestDriver {
+
+    private static final int MAX_PLANNED_STAY_DAYS = 7;
+    private static final int STAY_PAGE_SIZE = 50;
+
+    private final PatientRepository patientRepository;
+    private final HospitalStayRepository hospitalStayRepository;
+    private final LoadTestConfig config;
+
+    private final CreatePatientUseCase createPatientUseCase;
+    private final PlacePatientUseCase placePatientUseCase;
+    private final DischargePatientUseCase dischargePatientUseCase;
+
+    private final LoadOperation[] operations;   // opérations tirables et poids cumulés associés
+    private final int[] cumulativeWeights;
+
+    public LoadTestDriver(PatientRepository patientRepository,
+                          BedRepository bedRepository,
+                          HospitalStayRepository hospitalStayRepository,
+                          LoadTestConfig config) {
+        if (patientRepository == null || bedRepository == null || hospitalStayRepository == null) {
+            throw new IllegalArgumentException("Repositories cannot be null");
+        }
+        if (config == null) {
+            throw new IllegalArgumentException("Load test config cannot be null");
+        }
+        this.patientRepository = patientRepository;
+        this.hospitalStayRepository = hospitalStayRepository;
+        this.config = config;
+
+        this.createPatientUseCase = new CreatePatientUseCase(patientRepository);
+        this.placePatientUseCase = new PlacePatientUseCase(
+                new PlacementService(patientRepository, bedRepository, hospitalStayRepository), hospitalStayRepository);
+        this.dischargePatientUseCase = new DischargePatientUseCase(hospitalStayRepository);
+
+        List<LoadOperation> weighted = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<LoadOperation, Integer> entry : config.getMix().entrySet()) {
+            if (entry.getValue() > 0) {
+                total += entry.getValue();
+                weighted.add(entry.getKey());
+                cumulative.add(total);
+            }
+        }
+        this.operations = weighted.toArray(new LoadOperation[0]);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Exécute un tir complet et renvoie son rapport. Bloque jusqu'à la fin des opérations en vol.
+     */
+    public LoadTestReport run() {
+        // 1. État du tir : patients connus au départ, préfixe des identifiants créés
+        Run run = new Run("LT" + Long.toString(System.currentTimeMillis(), 36) + "-",
+                patientRepository.findAll().stream().map(Patient::getId).toList());
+
+        // 2. Injection
+        long start = System.nanoTime();
+        long deadline = start + config.getDuration().toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (config.getMode() == LoadMode.CLOSED_LOOP) {
+                for (int i = 0; i < config.getConcurrency(); i++) {
+                    executor.submit(() -> {
+                        while (System.nanoTime() < deadline) {
+                            execute(run, System.nanoTime());
+                        }
+                    });
+                }
+            } else {
+                injectOpenLoop(executor, run, start, deadline);
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // 3. Détection des doubles réservations sur la fenêtre touchée par le tir
+        LocalDate from = config.getReferenceDate();
+        List<String> doubleBookings = findDoubleBookings(hospitalStayRepository.findStaysOverlapping(
+                from, from.plusDays(config.getPlacementHorizonDays() + MAX_PLANNED_STAY_DAYS)));
+
+        return new LoadTestReport(config, elapsed, run.latencies, sum(run.errors), sum(run.skipped), doubleBookings);
+    }
+
+    /**
+     * Recherche les séjours dont les périodes prévues se chevauchent sur un même lit : un séjour va de son admission
+     * à sa sortie effective incluse, à défaut à sa sortie prévue, sans limite si aucune n'est renseignée
+     * (le placement garantit qu'un nouveau séjour ne chevauche ni ces périodes ni un séjour en cours).
+     *
+     * @return une ligne « lit séjour séjour » par chevauchement, triée par lit
+     */
+    public static List<String> findDoubleBookings(Collection<HospitalStay> stays) {
+        Map<String, List<HospitalStay>> staysByBed = new TreeMap<>();
+        for (HospitalStay stay : stays) {
+            staysByBed.computeIfAbsent(stay.getBedId(), bedId -> new ArrayList<>()).add(stay);
+        }
+
+        List<String> doubleBookings = new ArrayList<>();
+        for (Map.Entry<String, List<HospitalStay>> entry : staysByBed.entrySet()) {
+            List<HospitalStay> timeline = entry.getValue();
+            timeline.sort(Comparator.comparing(HospitalStay::getAdmissionDate).thenComparing(HospitalStay::getId));
+            HospitalStay latestEnding = null;
+            for (HospitalStay stay : timeline) {
+                if (latestEnding != null && stay.getAdmissionDate().toEpochDay() <= endOf(latestEnding)) {
+                    doubleBookings.add(entry.getKey() + " " + latestEnding.getId() + " " + stay.getId());
+                }
+                if (latestEnding == null || endOf(stay) > endOf(latestEnding)) {
+                    latestEnding = stay;
+                }
+            }
+        }
+        return doubleBookings;
+    }
+
+    private void injectOpenLoop(ExecutorService executor, Run run, long start, long deadline) {
+        long interval = Math.max(1, (long) (1e9 / config.getArrivalRatePerSecond()));
+        Semaphore inFlight = new Semaphore(config.getConcurrency());
+        for (long arrival = 0; ; arrival++) {
+            long scheduledAt = start + arrival * interval;
+            if (scheduledAt >= deadline) {
+                return;
+            }
+            long wait;
+            while ((wait = scheduledAt - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            // Au-delà de N en vol, l'arrivée attend : ce retard reste compté dans sa latence
+            inFlight.acquireUninterruptibly();
+            executor.submit(() -> {
+                try {
+                    execute(run, scheduledAt);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * Tire une opération, l'exécute, et enregistre sa latence depuis {@code startedAt} (ou l'erreur levée).
+     */
+    private void execute(Run run, long startedAt) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LoadOperation operation = pick(random);
+        try {
+            boolean done = switch (operation) {
+                case CREATE_PATIENT -> createPatient(run);
+                case PLACE_PATIENT -> placePatient(run, random);
+                case DISCHARGE_PATIENT -> dischargePatient(run);
+                case LIST_ACTIVE_STAYS -> {
+                    hospitalStayRepository.findActiveStaysOn(randomDate(random));
+                    yield true;
+                }
+                case LIST_STAY_PAGES -> listStayPages();
+            };
+            if (done) {
+                run.latencies.get(operation).record(System.nanoTime() - startedAt);
+            } else {
+                run.skipped.get(operation).increment();
+            }
+        } catch (RuntimeException e) {
+            run.errors.get(operation).increment();
+        }
+    }
+
+    private boolean createPatient(Run run) {
+        String patientId = run.prefix + "PAT-" + run.sequence.incrementAndGet();
+        createPatientUseCase.createPatient(patientId, "Charge", "Test", LocalDate.of(1980, 1, 1),
+                Sex.FEMALE, false, false, null, null);
+        run.addPatient(patientId);
+        return true;
+    }
+
+    private boolean placePatient(Run run, ThreadLocalRandom random) {
+        String patientId = run.randomPatient(random);
+        if (patientId == null) {
+            return false;
+        }
+        LocalDate admission = randomDate(random);
+        Optional<HospitalStay> stay = placePatientUseCase.placePatient(run.prefix + "STAY-" + run.sequence.incrementAndGet(),
+                patientId, admission, admission.plusDays(random.nextInt(MAX_PLANNED_STAY_DAYS)), StayType.WEEK);
+        stay.ifPresent(run.openStays::add);
+        return true;
+    }
+
+    private boolean dischargePatient(Run run) {
+        HospitalStay stay = run.openStays.poll();
+        if (stay == null) {
+            return false;
+        }
+        dischargePatientUseCase.discharge(stay.getId(), stay.getDischargeDatePlanned());
+        return true;
+    }
+
+    /**
+     * Première page de la liste des séjours, puis la suivante par clé (pagination de la console).
+     */
+    private boolean listStayPages() {
+        List<HospitalStay> firstPage = hospitalStayRepository.findPageAfter(null, STAY_PAGE_SIZE);
+        if (!firstPage.isEmpty()) {
+            hospitalStayRepository.findPageAfter(firstPage.get(firstPage.size() - 1), STAY_PAGE_SIZE);
+        }
+        return true;
+    }
+
+    private LocalDate randomDate(ThreadLocalRandom random) {
+        return config.getReferenceDate().plusDays(random.nextInt(config.getPlacementHorizonDays()));
+    }
+
+    private LoadOperation pick(ThreadLocalRandom random) {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < operations.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * Fin de la période prévue : sortie effective, à défaut sortie prévue, sinon sans fin.
+     */
+    private static long endOf(HospitalStay stay) {
+        LocalDate end = stay.getDischargeDateEffective() != null ? stay.getDischargeDateEffective() : stay.getDischargeDatePlanned();
+        return end != null ? end.toEpochDay() : Long.MAX_VALUE;
+    }
+
+    private static Map<LoadOperation, Long> sum(Map<LoadOperation, LongAdder> counters) {
+        Map<LoadOperation, Long> sums = new EnumMap<>(LoadOperation.class);
+        counters.forEach((operation, counter) -> sums.put(operation, counter.sum()));
+        return sums;
+    }
+
+    /**
+     * État partagé par les opérations d'un tir.
+     */
+    private static final class Run {
+        final String prefix;
+        final AtomicLong sequence = new AtomicLong();
+        final List<String> patientIds;                      // gardée par son propre moniteur
+        final Queue<HospitalStay> openStays = new ConcurrentLinkedQueue<>();
+        final Map<LoadOperation, LatencyHistogram> latencies = new EnumMap<>(LoadOperation.class);
+        final Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+        final Map<LoadOperation, LongAdder> skipped = new EnumMap<>(LoadOperation.class);
+
+        Run(String prefix, List<String> initialPatientIds) {
+            this.prefix = prefix;
+            this.patientIds = new ArrayList<>(initialPatientIds);
+            for (LoadOperation operation : LoadOperation.values()) {
+                latencies.put(operation, new LatencyHistogram());
+                errors.put(operation, new LongAdder());
+                skipped.put(operation, new LongAdder());
+            }
+        }
+
+        void addPatient(String patientId) {
+            synchronized (patientIds) {
+                patientIds.add(patientId);
+            }
+        }
+
+        String randomPatient(ThreadLocalRandom random) {
+            synchronized (patientIds) {
+                return patientIds.isEmpty() ? null : patientIds.get(random.nextInt(patientIds.size()));
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.loadtest;
+
+import com.webisbrian.hospital_bed_planner.infrastructure.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Résultat d'un tir : latences par opération, erreurs, doubles réservations détectées.
+ * <p>
+ * {@link #toText()} produit toujours les mêmes lignes dans le même ordre (clés puis tableau à colonnes fixes,
+ * latences en microsecondes) : deux rapports se comparent par un simple diff.
+ */
+public class LoadTestReport {
+
+    private final LoadTestConfig config;
+    private final Duration elapsed;
+    private final Map<LoadOperation, LatencyHistogram> latencies;
+    private final Map<LoadOperation, Long> errors;      // exceptions levées par l'opération
+    private final Map<LoadOperation, Long> skipped;     // opérations sans objet (ex : aucun séjour à clôturer)
+    private final List<String> doubleBookings;          // une ligne par chevauchement : lit, séjour, séjour
+
+    public LoadTestReport(LoadTestConfig config,
+                          Duration elapsed,
+                          Map<LoadOperation, LatencyHistogram> latencies,
+                          Map<LoadOperation, Long> errors,
+                          Map<LoadOperation, Long> skipped,
+                          List<String> doubleBookings) {
+        this.config = config;
+        this.elapsed = elapsed;
+        this.latencies = latencies;
+        this.errors = errors;
+        this.skipped = skipped;
+        this.doubleBookings = List.copyOf(doubleBookings);
+    }
+
+    /**
+     * Opérations réussies par seconde sur la durée réelle du tir.
+     */
+    public double getThroughputPerSecond(LoadOperation operation) {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0.0 : latencies.get(operation).getCount() / seconds;
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append("mode=").append(config.getMode()).append('\n');
+        text.append("concurrency=").append(config.getConcurrency()).append('\n');
+        text.append("arrivalRatePerSecond=").append(format(config.getArrivalRatePerSecond())).append('\n');
+        text.append("durationMs=").append(config.getDuration().toMillis()).append('\n');
+        text.append("elapsedMs=").append(elapsed.toMillis()).append('\n');
+        text.append("mix=").append(config.getMix()).append('\n');
+        text.append("doubleBookings=").append(doubleBookings.size()).append('\n');
+        text.append('\n');
+        text.append(String.format(Locale.ROOT, "%-18s %10s %8s %8s %12s %10s %10s %10s %10s%n",
+                "operation", "count", "errors", "skipped", "ops/s", "p50_us", "p99_us", "p99.9_us", "max_us"));
+        for (LoadOperation operation : LoadOperation.values()) {
+            LatencyHistogram histogram = latencies.get(operation);
+            text.append(String.format(Locale.ROOT, "%-18s %10d %8d %8d %12s %10s %10s %10s %10s%n",
+                    operation,
+                    histogram.getCount(),
+                    errors.get(operation),
+                    skipped.get(operation),
+                    format(getThroughputPerSecond(operation)),
+                    micros(histogram.valueAtPercentile(50)),
+                    micros(histogram.valueAtPercentile(99)),
+                    micros(histogram.valueAtPercentile(99.9)),
+                    micros(histogram.getMax())));
+        }
+        for (String doubleBooking : doubleBookings) {
+            text.append("doubleBooking=").append(doubleBooking).append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Écrit {@link #toText()} dans le fichier donné (remplacé s'il existe).
+     */
+    public void writeTo(Path file) {
+        try {
+            Files.writeString(file, toText());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write load test report to " + file, e);
+        }
+    }
+
+    private static String micros(long nanos) {
+        return format(nanos / 1_000.0);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    /* GETTERS */
+
+    public LoadTestConfig getConfig() {
+        return config;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public LatencyHistogram getLatency(LoadOperation operation) {
+        return latencies.get(operation);
+    }
+
+    public long getErrors(LoadOperation operation) {
+        return errors.get(operation);
+    }
+
+    public long getSkipped(LoadOperation operation) {
+        return skipped.get(operation);
+    }
+
+    public List<String> getDoubleBookings() {
+        return doubleBookings;
+    }
+}
@@ -0,0 +1,30 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.metrics;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedAvailabilityRepository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Décorateur de {@link BedAvailabilityRepository} qui mesure la recherche de lit libre.
+ */
+public class MeteredBedAvailabilityRepository implements BedAvailabilityRepository {
+
+    private final BedAvailabilityRepository delegate;
+    private final OperationMetrics findFirstFreeBed;
+
+    public MeteredBedAvailabilityRepository(BedAvailabilityRepository delegate, MetricsRegistry metrics) {
+        if (delegate == null || metrics == null) {
+            throw new IllegalArgumentException("Delegate repository and metrics registry cannot be null");
+        }
+        this.delegate = delegate;
+        this.findFirstFreeBed = metrics.repository("BedAvailabilityRepository", "findFirstFreeBed");
+    }
+
+    @Override
+    public Optional<Bed> findFirstFreeBed(Patient patient, LocalDate from, LocalDate to, LocalDate today) {
+        return findFirstFreeBed.call(() -> delegate.findFirstFreeBed(patient, from, to, today));
+    }
+}
@@ -0,0 +1,68 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.metrics;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Décorateur de {@link BedRepository} qui mesure chaque méthode (appels, échecs, latences).
+ */
+public class MeteredBedRepository implements BedRepository {
+
+    private static final String NAME = "BedRepository";
+
+    private final BedRepository delegate;
+    private final OperationMetrics save;
+    private final OperationMetrics saveAll;
+    private final OperationMetrics findById;
+    private final OperationMetrics findAll;
+    private final OperationMetrics findByStatus;
+    private final OperationMetrics deleteById;
+
+    public MeteredBedRepository(BedRepository delegate, MetricsRegistry metrics) {
+        if (delegate == null || metrics == null) {
+            throw new IllegalArgumentException("Delegate repository and metrics registry cannot be null");
+        }
+        this.delegate = delegate;
+        this.save = metrics.repository(NAME, "save");
+        this.saveAll = metrics.repository(NAME, "saveAll");
+        this.findById = metrics.repository(NAME, "findById");
+        this.findAll = metrics.repository(NAME, "findAll");
+        this.findByStatus = metrics.repository(NAME, "findByStatus");
+        this.deleteById = metrics.repository(NAME, "deleteById");
+    }
+
+    @Override
+    public Bed save(Bed bed) {
+        return save.call(() -> delegate.save(bed));
+    }
+
+    @Override
+    public void saveAll(Collection<Bed> beds) {
+        saveAll.run(() -> delegate.saveAll(beds));
+    }
+
+    @Override
+    public Optional<Bed> findById(String id) {
+        return findById.call(() -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Bed> findAll() {
+        return findAll.call(delegate::findAll);
+    }
+
+    @Override
+    public List<Bed> findByStatus(BedStatus status) {
+        return findByStatus.call(() -> delegate.findByStatus(status));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        deleteById.run(() -> delegate.deleteById(id));
+    }
+}
@@ -0,0 +1,38 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.metrics;
+
+import com.webisbrian.hospital_bed_planner.application.usecase.CreatePatientUseCase;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.model.Sex;
+import com.webisbrian.hospital_bed_planner.domain.repository.PatientRepository;
+
+import java.time.LocalDate;
+
+/**
+ * {@link CreatePatientUseCase} mesuré (métrique {@code createPatient}).
+ */
+public class MeteredCreatePatientUseCase extends CreatePatientUseCase {
+
+    private final OperationMetrics createPatient;
+
+    public MeteredCreatePatientUseCase(PatientRepository patientRepository, MetricsRegistry metrics) {
+        super(patientRepository);
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+        this.createPatient = metrics.useCase("createPatient");
+    }
+
+    @Override
+    public Patient createPatient(String id,
+                                 String firstname,
+                                 String lastname,
+                                 LocalDate birthDate,
+                                 Sex sex,
+                                 boolean pmr,
+                                 boolean isolationRequired,
+                                 String phoneNumber,
+                                 String notes) {
+        return createPatient.call(() -> super.createPatient(
+                id, firstname, lastname, birthDate, sex, pmr, isolationRequired, phoneNumber, notes));
+    }
+}
@@ -0,0 +1,40 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.metrics;
+
+import com.webisbrian.hospital_bed_planner.application.usecase.CreateStayUseCase;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.PatientRepository;
+
+import java.time.LocalDate;
+
+/**
+ * {@link CreateStayUseCase} mesuré (métrique {@code createStay}).
+ */
+public class MeteredCreateStayUseCase extends CreateStayUseCase {
+
+    private final OperationMetrics createStay;
+
+    public MeteredCreateStayUseCase(HospitalStayRepository hospitalStayRepository,
+                                    PatientRepository patientRepository,
+                                    BedRepository bedRepository,
+                                    MetricsRegistry metrics) {
+        super(hospitalStayRepository, patientRepository, bedRepository);
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+        this.createStay = metrics.useCase("createStay");
+    }
+
+    @Override
+    public HospitalStay createStay(String stayId,
+                                   String patientId,
+                                   String bedId,
+                                   LocalDate admissionDate,
+                                   LocalDate dischargeDatePlanned,
+                                   StayType stayType) {
+        return createStay.call(() -> super.createStay(
+                stayId, patientId, bedId, admissionDate, dischargeDatePlanned, stayType));
+    }
+}
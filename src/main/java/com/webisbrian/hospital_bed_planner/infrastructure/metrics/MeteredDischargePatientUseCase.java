@@ -0,0 +1,28 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.metrics;
+
+import com.webisbrian.hospital_bed_planner.application.usecase.DischargePatientUseCase;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
+
+import java.time.LocalDate;
+
+/**
+ * {@link DischargePatientUseCase} mesuré (métrique {@code discharge}).
+ */
+public class MeteredDischargePatientUseCase extends DischargePatientUseCase {
+
+    private final OperationMetrics discharge;
+
+    public MeteredDischargePatientUseCase(HospitalStayRepository hospitalStayRepository, MetricsRegistry metrics) {
+        super(hospitalStayRepository);
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+        this.discharge = metrics.useCase("discharge");
+    }
+
+    @Override
+    public HospitalStay discharge(String stayId, LocalDate dischargeDate) {
+        return discharge.call(() -> super.discharge(stayId, dischargeDate));
+    }
+}
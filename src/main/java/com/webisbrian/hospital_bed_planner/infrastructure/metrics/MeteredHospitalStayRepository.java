@@ -0,0 +1,99 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.metrics;
+
+import com.webisbrian.hospital_bed_planner.domain.model.BedOccupancy;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Décorateur de {@link HospitalStayRepository} qui mesure chaque méthode (appels, échecs, latences).
+ * {@link #streamAll()} mesure l'ouverture du flux, pas sa consommation.
+ */
+public class MeteredHospitalStayRepository implements HospitalStayRepository {
+
+    private static final String NAME = "HospitalStayRepository";
+
+    private final HospitalStayRepository delegate;
+    private final OperationMetrics save;
+    private final OperationMetrics saveAll;
+    private final OperationMetrics findById;
+    private final OperationMetrics findAllByPatientId;
+    private final OperationMetrics findAll;
+    private final OperationMetrics streamAll;
+    private final OperationMetrics findPageAfter;
+    private final OperationMetrics findActiveStaysOn;
+    private final OperationMetrics findStaysOverlapping;
+    private final OperationMetrics findOccupancyBetween;
+
+    public MeteredHospitalStayRepository(HospitalStayRepository delegate, MetricsRegistry metrics) {
+        if (delegate == null || metrics == null) {
+            throw new IllegalArgumentException("Delegate repository and metrics registry cannot be null");
+        }
+        this.delegate = delegate;
+        this.save = metrics.repository(NAME, "save");
+        this.saveAll = metrics.repository(NAME, "saveAll");
+        this.findById = metrics.repository(NAME, "findById");
+        this.findAllByPatientId = metrics.repository(NAME, "findAllByPatientId");
+        this.findAll = metrics.repository(NAME, "findAll");
+        this.streamAll = metrics.repository(NAME, "streamAll");
+        this.findPageAfter = metrics.repository(NAME, "findPageAfter");
+        this.findActiveStaysOn = metrics.repository(NAME, "findActiveStaysOn");
+        this.findStaysOverlapping = metrics.repository(NAME, "findStaysOverlapping");
+        this.findOccupancyBetween = metrics.repository(NAME, "findOccupancyBetween");
+    }
+
+    @Override
+    public HospitalStay save(HospitalStay hospitalStay) {
+        return save.call(() -> delegate.save(hospitalStay));
+    }
+
+    @Override
+    public void saveAll(Collection<HospitalStay> hospitalStays) {
+        saveAll.run(() -> delegate.saveAll(hospitalStays));
+    }
+
+    @Override
+    public Optional<HospitalStay> findById(String id) {
+        return findById.call(() -> delegate.findById(id));
+    }
+
+    @Override
+    public List<HospitalStay> findAllByPatientId(String patientId) {
+        return findAllByPatientId.call(() -> delegate.findAllByPatientId(patientId));
+    }
+
+    @Override
+    public List<HospitalStay> findAll() {
+        return findAll.call(delegate::findAll);
+    }
+
+    @Override
+    public Stream<HospitalStay> streamAll() {
+        return streamAll.call(delegate::streamAll);
+    }
+
+    @Override
+    public List<HospitalStay> findPageAfter(HospitalStay lastOfPreviousPage, int pageSize) {
+        return findPageAfter.call(() -> delegate.findPageAfter(lastOfPreviousPage, pageSize));
+    }
+
+    @Override
+    public List<HospitalStay> findActiveStaysOn(LocalDate date) {
+        return findActiveStaysOn.call(() -> delegate.findActiveStaysOn(date));
+    }
+
+    @Override
+    public List<HospitalStay> findStaysOverlapping(LocalDate from, LocalDate to) {
+        return findStaysOverlapping.call(() -> delegate.findStaysOverlapping(from, to));
+    }
+
+    @Override
+    public BedOccupancy findOccupancyBetween(LocalDate from, LocalDate to, LocalDate today) {
+        return findOccupancyBetween.call(() -> delegate.findOccupancyBetween(from, to, today));
+    }
+}
@@ -0,0 +1,90 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.metrics;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.repository.PatientRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Décorateur de {@link PatientRepository} qui mesure chaque méthode (appels, échecs, latences).
+ * {@link #streamAll()} mesure l'ouverture du flux, pas sa consommation.
+ */
+public class MeteredPatientRepository implements PatientRepository {
+
+    private static final String NAME = "PatientRepository";
+
+    private final PatientRepository delegate;
+    private final OperationMetrics save;
+    private final OperationMetrics saveAll;
+    private final OperationMetrics findById;
+    private final OperationMetrics findAllById;
+    private final OperationMetrics existsById;
+    private final OperationMetrics findAll;
+    private final OperationMetrics streamAll;
+    private final OperationMetrics findPageAfter;
+    private final OperationMetrics deleteById;
+
+    public MeteredPatientRepository(PatientRepository delegate, MetricsRegistry metrics) {
+        if (delegate == null || metrics == null) {
+            throw new IllegalArgumentException("Delegate repository and metrics registry cannot be null");
+        }
+        this.delegate = delegate;
+        this.save = metrics.repository(NAME, "save");
+        this.saveAll = metrics.repository(NAME, "saveAll");
+        this.findById = metrics.repository(NAME, "findById");
+        this.findAllById = metrics.repository(NAME, "findAllById");
+        this.existsById = metrics.repository(NAME, "existsById");
+        this.findAll = metrics.repository(NAME, "findAll");
+        this.streamAll = metrics.repository(NAME, "streamAll");
+        this.findPageAfter = metrics.repository(NAME, "findPageAfter");
+        this.deleteById = metrics.repository(NAME, "deleteById");
+    }
+
+    @Override
+    public Patient save(Patient patient) {
+        return save.call(() -> delegate.save(patient));
+    }
+
+    @Override
+    public void saveAll(Collection<Patient> patients) {
+        saveAll.run(() -> delegate.saveAll(patients));
+    }
+
+    @Override
+    public Optional<Patient> findById(String id) {
+        return findById.call(() -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Patient> findAllById(Collection<String> ids) {
+        return findAllById.call(() -> delegate.findAllById(ids));
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return existsById.call(() -> delegate.existsById(id));
+    }
+
+    @Override
+    public List<Patient> findAll() {
+        return findAll.call(delegate::findAll);
+    }
+
+    @Override
+    public Stream<Patient> streamAll() {
+        return streamAll.call(delegate::streamAll);
+    }
+
+    @Override
+    public List<Patient> findPageAfter(Patient lastOfPreviousPage, int pageSize) {
+        return findPageAfter.call(() -> delegate.findPageAfter(lastOfPreviousPage, pageSize));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        deleteById.run(() -> delegate.deleteById(id));
+    }
+}
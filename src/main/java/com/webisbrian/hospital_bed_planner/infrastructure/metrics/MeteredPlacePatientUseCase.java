@@ -0,0 +1,53 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.metrics;
+
+import com.webisbrian.hospital_bed_planner.application.usecase.PlacePatientUseCase;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.domain.service.PlacementService;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * {@link PlacePatientUseCase} mesuré (métrique {@code placePatient}) ; chaque demande compte aussi dans
+ * {@link PlacementMetrics} : placée, sans lit libre, ou en échec.
+ */
+public class MeteredPlacePatientUseCase extends PlacePatientUseCase {
+
+    private final OperationMetrics placePatient;
+    private final PlacementMetrics placement;
+
+    public MeteredPlacePatientUseCase(PlacementService placementService,
+                                      HospitalStayRepository hospitalStayRepository,
+                                      MetricsRegistry metrics) {
+        super(placementService, hospitalStayRepository);
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+        this.placePatient = metrics.useCase("placePatient");
+        this.placement = metrics.getPlacement();
+    }
+
+    @Override
+    public Optional<HospitalStay> placePatient(String stayId,
+                                               String patientId,
+                                               LocalDate admissionDate,
+                                               LocalDate plannedDischargeDate,
+                                               StayType stayType) {
+        Optional<HospitalStay> stay;
+        try {
+            stay = placePatient.call(() -> super.placePatient(
+                    stayId, patientId, admissionDate, plannedDischargeDate, stayType));
+        } catch (RuntimeException e) {
+            placement.recordFailed();
+            throw e;
+        }
+        if (stay.isPresent()) {
+            placement.recordPlaced();
+        } else {
+            placement.recordUnplaced();
+        }
+        return stay;
+    }
+}
@@ -0,0 +1,166 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Registre des métriques des use cases et des repositories, exposées en MBeans JMX et en texte.
+ * <p>
+ * Les métriques sont créées à la construction des décorateurs ({@code Metered*}) ; leur enregistrement ne passe donc
+ * jamais par le chemin chaud. Désactiver la mesure revient à ne pas poser ces décorateurs : aucun coût résiduel.
+ * <p>
+ * Noms JMX : {@code com.webisbrian.hospital_bed_planner:type=UseCase,name=placePatient},
+ * {@code ...:type=Repository,name=PatientRepository.findById} et {@code ...:type=Placement}.
+ */
+public class MetricsRegistry implements AutoCloseable {
+
+    public static final String JMX_DOMAIN = "com.webisbrian.hospital_bed_planner";
+    public static final String USE_CASE = "UseCase";
+    public static final String REPOSITORY = "Repository";
+
+    private final Map<String, OperationMetrics> operations = new TreeMap<>();     // clé : type + nom, ordre du rapport
+    private final PlacementMetrics placement = new PlacementMetrics();
+    private final List<ObjectName> registeredNames = new ArrayList<>();
+    private MBeanServer mbeanServer;
+    private ScheduledExecutorService dumper;
+
+    /**
+     * Métriques d'un use case (créées au premier appel, partagées ensuite).
+     */
+    public OperationMetrics useCase(String name) {
+        return operation(USE_CASE, name);
+    }
+
+    /**
+     * Métriques d'une méthode de repository, nommées {@code Repository.methode}.
+     */
+    public OperationMetrics repository(String repository, String method) {
+        return operation(REPOSITORY, repository + "." + method);
+    }
+
+    public PlacementMetrics getPlacement() {
+        return placement;
+    }
+
+    public synchronized List<OperationMetrics> getOperations() {
+        return List.copyOf(operations.values());
+    }
+
+    /**
+     * Enregistre les MBeans existants, puis ceux des opérations créées ensuite, jusqu'à {@link #close()}.
+     */
+    public synchronized void registerMBeans(MBeanServer server) {
+        if (server == null) {
+            throw new IllegalArgumentException("MBean server cannot be null");
+        }
+        if (mbeanServer != null) {
+            throw new IllegalStateException("Metrics are already registered in an MBean server");
+        }
+        mbeanServer = server;
+        register(placement, JMX_DOMAIN + ":type=Placement");
+        operations.values().forEach(this::register);
+    }
+
+    /**
+     * Écrit {@link #dump()} dans {@code sink} à intervalle régulier, sur un thread démon, jusqu'à {@link #close()}.
+     */
+    public synchronized void startPeriodicDump(Duration period, Consumer<String> sink) {
+        if (period == null || period.isZero() || period.isNegative() || sink == null) {
+            throw new IllegalArgumentException("Dump period must be positive and sink cannot be null");
+        }
+        if (dumper != null) {
+            throw new IllegalStateException("Periodic dump is already running");
+        }
+        dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(() -> sink.accept(dump()),
+                period.toNanos(), period.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Rapport texte : une ligne par opération, puis les issues de placement.
+     */
+    public String dump() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "%-10s %-42s %10s %8s %10s %10s %10s %10s %10s%n",
+                "type", "operation", "calls", "failures", "mean_us", "p50_us", "p99_us", "p99.9_us", "max_us"));
+        for (OperationMetrics metrics : getOperations()) {
+            text.append(String.format(Locale.ROOT, "%-10s %-42s %10d %8d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                    metrics.getType(),
+                    metrics.getName(),
+                    metrics.getCalls(),
+                    metrics.getFailures(),
+                    metrics.getMeanMicros(),
+                    metrics.getP50Micros(),
+                    metrics.getP99Micros(),
+                    metrics.getP999Micros(),
+                    metrics.getMaxMicros()));
+        }
+        text.append(String.format(Locale.ROOT, "placement placed=%d unplaced=%d failed=%d successRatio=%.3f%n",
+                placement.getPlaced(), placement.getUnplaced(), placement.getFailed(), placement.getSuccessRatio()));
+        return text.toString();
+    }
+
+    /**
+     * Arrête le vidage périodique et retire les MBeans enregistrés.
+     */
+    @Override
+    public synchronized void close() {
+        if (dumper != null) {
+            dumper.shutdownNow();
+            dumper = null;
+        }
+        if (mbeanServer != null) {
+            for (ObjectName name : registeredNames) {
+                try {
+                    mbeanServer.unregisterMBean(name);
+                } catch (JMException e) {
+                    // Déjà retiré : rien à faire
+                }
+            }
+            registeredNames.clear();
+            mbeanServer = null;
+        }
+    }
+
+    private synchronized OperationMetrics operation(String type, String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Operation name cannot be null or blank");
+        }
+        return operations.computeIfAbsent(type + ":" + name, key -> {
+            OperationMetrics created = new OperationMetrics(type, name);
+            if (mbeanServer != null) {
+                register(created);
+            }
+            return created;
+        });
+    }
+
+    private void register(OperationMetrics metrics) {
+        register(metrics, JMX_DOMAIN + ":type=" + metrics.getType() + ",name=" + metrics.getName());
+    }
+
+    private void register(Object mbean, String name) {
+        try {
+            ObjectName objectName = new ObjectName(name);
+            mbeanServer.registerMBean(mbean, objectName);
+            registeredNames.add(objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register MBean " + name, e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Compteurs et histogramme de latences d'une opération.
+ * <p>
+ * Sur le chemin chaud : deux lectures d'horloge, un seau d'histogramme et des compteurs répartis ({@link LongAdder}),
+ * sans verrou. La mesure elle-même n'alloue rien, mais l'opération passée à {@link #call(Supplier)} ou
+ * {@link #run(Runnable)} est en général un lambda capturant, alloué à chaque appel par le décorateur.
+ * Un appel qui lève une exception compte comme appel et comme échec.
+ */
+public class OperationMetrics implements OperationMetricsMXBean {
+
+    private final String type;
+    private final String name;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder failures = new LongAdder();
+
+    OperationMetrics(String type, String name) {
+        this.type = type;
+        this.name = name;
+    }
+
+    /**
+     * Exécute et mesure une opération qui renvoie une valeur.
+     */
+    public <T> T call(Supplier<T> operation) {
+        long start = System.nanoTime();
+        try {
+            return operation.get();
+        } catch (RuntimeException | Error e) {
+            failures.increment();
+            throw e;
+        } finally {
+            latencies.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Exécute et mesure une opération sans résultat.
+     */
+    public void run(Runnable operation) {
+        long start = System.nanoTime();
+        try {
+            operation.run();
+        } catch (RuntimeException | Error e) {
+            failures.increment();
+            throw e;
+        } finally {
+            latencies.record(System.nanoTime() - start);
+        }
+    }
+
+    /* GETTERS */
+
+    public String getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getCalls() {
+        return latencies.getCount();
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return latencies.getMean() / 1_000.0;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return latencies.valueAtPercentile(50) / 1_000.0;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return latencies.valueAtPercentile(99) / 1_000.0;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return latencies.valueAtPercentile(99.9) / 1_000.0;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return latencies.getMax() / 1_000.0;
+    }
+}
@@ -0,0 +1,21 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.metrics;
+
+/**
+ * Vue JMX des métriques d'une opération (use case ou méthode de repository). Latences en microsecondes.
+ */
+public interface OperationMetricsMXBean {
+
+    long getCalls();
+
+    long getFailures();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP99Micros();
+
+    double getP999Micros();
+
+    double getMaxMicros();
+}
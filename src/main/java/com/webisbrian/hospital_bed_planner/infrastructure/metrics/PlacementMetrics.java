@@ -0,0 +1,56 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Issues des demandes de placement : patient placé, aucun lit libre, ou échec (paramètres invalides, patient inconnu,
+ * erreur d'infrastructure).
+ */
+public class PlacementMetrics implements PlacementMetricsMXBean {
+
+    private final LongAdder placed = new LongAdder();
+    private final LongAdder unplaced = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    PlacementMetrics() {
+    }
+
+    void recordPlaced() {
+        placed.increment();
+    }
+
+    void recordUnplaced() {
+        unplaced.increment();
+    }
+
+    void recordFailed() {
+        failed.increment();
+    }
+
+    /* GETTERS */
+
+    @Override
+    public long getPlaced() {
+        return placed.sum();
+    }
+
+    @Override
+    public long getUnplaced() {
+        return unplaced.sum();
+    }
+
+    @Override
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * Part des demandes ayant abouti à un placement, ou 0 sans demande.
+     */
+    @Override
+    public double getSuccessRatio() {
+        long placedCount = getPlaced();
+        long total = placedCount + getUnplaced() + getFailed();
+        return total == 0 ? 0.0 : (double) placedCount / total;
+    }
+}
@@ -0,0 +1,15 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.metrics;
+
+/**
+ * Vue JMX des issues de placement.
+ */
+public interface PlacementMetricsMXBean {
+
+    long getPlaced();
+
+    long getUnplaced();
+
+    long getFailed();
+
+    double getSuccessRatio();
+}
@@ -0,0 +1,14 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Fournit les connexions JDBC utilisées par les repositories MySQL.
+ * L'appelant ferme la connexion après usage (une connexion de pool est alors rendue au pool).
+ */
+@FunctionalInterface
+public interface ConnectionProvider {
+
+    Connection getConnection() throws SQLException;
+}
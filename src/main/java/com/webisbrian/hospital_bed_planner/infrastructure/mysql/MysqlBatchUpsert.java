@@ -0,0 +1,112 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Écriture groupée {@code INSERT ... ON DUPLICATE KEY UPDATE} pour une table.
+ * <p>
+ * Les lignes sont envoyées par requêtes multi-lignes de {@link #ROWS_PER_STATEMENT} tuples
+ * ({@code VALUES (...), (...), ...}), elles-mêmes regroupées avec {@code addBatch}/{@code executeBatch} :
+ * quelques allers-retours suffisent pour des dizaines de milliers de lignes, sans dépendre de l'option
+ * {@code rewriteBatchedStatements} du driver. La transaction est gérée par l'appelant.
+ *
+ * @param <T> type d'entité écrite
+ */
+final class MysqlBatchUpsert<T> {
+
+    /** Taille d'un lot multi-lignes : reste loin de max_allowed_packet et de la limite de 65 535 paramètres. */
+    static final int ROWS_PER_STATEMENT = 500;
+
+    /**
+     * Lie les colonnes d'une entité à partir du paramètre {@code offset + 1}.
+     */
+    @FunctionalInterface
+    interface RowBinder<T> {
+        void bind(PreparedStatement ps, int offset, T entity) throws SQLException;
+    }
+
+    private final String table;
+    private final List<String> columns;
+    private final RowBinder<T> binder;
+    private final String fullChunkSql;
+
+    /**
+     * @param table   table cible
+     * @param columns colonnes dans l'ordre de liaison, la clé primaire en premier (non mise à jour)
+     * @param binder  liaison d'une entité
+     */
+    MysqlBatchUpsert(String table, List<String> columns, RowBinder<T> binder) {
+        this.table = table;
+        this.columns = List.copyOf(columns);
+        this.binder = binder;
+        this.fullChunkSql = sql(ROWS_PER_STATEMENT);
+    }
+
+    /**
+     * Requête d'upsert pour {@code rows} lignes.
+     */
+    String sql(int rows) {
+        StringJoiner tuple = new StringJoiner(", ", "(", ")");
+        columns.forEach(column -> tuple.add("?"));
+
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < rows; i++) {
+            values.add(tuple.toString());
+        }
+
+        StringJoiner updates = new StringJoiner(", ");
+        columns.stream().skip(1).forEach(column -> updates.add(column + " = VALUES(" + column + ")"));
+
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES " + values
+                + " ON DUPLICATE KEY UPDATE " + updates;
+    }
+
+    /**
+     * Liaison d'une seule ligne sur une requête préparée avec {@code sql(1)}.
+     */
+    void bind(PreparedStatement ps, T entity) throws SQLException {
+        binder.bind(ps, 0, entity);
+    }
+
+    /**
+     * Écrit toutes les entités sur la connexion fournie (sans commit).
+     */
+    void execute(Connection conn, Collection<T> entities) throws SQLException {
+        List<T> rows = new ArrayList<>(entities);
+        int fullChunks = rows.size() / ROWS_PER_STATEMENT;
+
+        // 1. Lots complets : une même requête multi-lignes, envoyée en batch
+        if (fullChunks > 0) {
+            try (PreparedStatement ps = conn.prepareStatement(fullChunkSql)) {
+                for (int chunk = 0; chunk < fullChunks; chunk++) {
+                    bindRows(ps, rows.subList(chunk * ROWS_PER_STATEMENT, (chunk + 1) * ROWS_PER_STATEMENT));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        }
+
+        // 2. Reste : une requête dimensionnée au nombre de lignes restantes
+        List<T> remainder = rows.subList(fullChunks * ROWS_PER_STATEMENT, rows.size());
+        if (!remainder.isEmpty()) {
+            try (PreparedStatement ps = conn.prepareStatement(sql(remainder.size()))) {
+                bindRows(ps, remainder);
+                ps.executeUpdate();
+            }
+        }
+    }
+
+    private void bindRows(PreparedStatement ps, List<T> chunk) throws SQLException {
+        int offset = 0;
+        for (T entity : chunk) {
+            binder.bind(ps, offset, entity);
+            offset += columns.size();
+        }
+    }
+}
@@ -2,30 +2,43 @@ package com.webisbrian.hospital_bed_planner.infrastructure.mysql;
 
 import com.webisbrian.hospital_bed_planner.domain.model.Bed;
 import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedAvailabilityRepository;
 import com.webisbrian.hospital_bed_planner.domain.repository.BedRepository;
 
 import java.sql.*;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Implémentation de BedRepository basée sur MySQL via JDBC.
+ * Implémente aussi BedAvailabilityRepository : la recherche d'un lit libre se fait en une seule requête.
  */
-public class MysqlBedRepository implements BedRepository {
+public class MysqlBedRepository implements BedRepository, BedAvailabilityRepository {
 
-    private final String url;
-    private final String user;
-    private final String password;
+    private static final MysqlBatchUpsert<Bed> UPSERT = new MysqlBatchUpsert<>(
+            "bed",
+            List.of("id", "room_id", "code", "status", "isolation_capable"),
+            MysqlBedRepository::bindBed
+    );
+
+    private static final String UPSERT_SQL = UPSERT.sql(1);
+
+    private final ConnectionProvider connectionProvider;
 
     public MysqlBedRepository(String url, String user, String password) {
-        this.url = url;
-        this.user = user;
-        this.password = password;
+        this(() -> DriverManager.getConnection(url, user, password));
+    }
+
+    public MysqlBedRepository(ConnectionProvider connectionProvider) {
+        this.connectionProvider = connectionProvider;
     }
 
     private Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(url, user, password);
+        return connectionProvider.getConnection();
     }
 
     @Override
@@ -37,25 +50,10 @@ public class MysqlBedRepository implements BedRepository {
             throw new IllegalArgumentException("Bed id cannot be null or blank");
         }
 
-        String sql = """
-                INSERT INTO bed (id, room_id, code, status, isolation_capable)
-                VALUES (?, ?, ?, ?, ?)
-                ON DUPLICATE KEY UPDATE
-                    room_id = VALUES(room_id),
-                    code = VALUES(code),
-                    status = VALUES(status),
-                    isolation_capable = VALUES(isolation_capable)
-                """;
-
         try (Connection conn = getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setString(1, bed.getId());
-            ps.setString(2, bed.getRoomId());
-            ps.setString(3, bed.getCode());
-            ps.setString(4, bed.getStatus().name());
-            ps.setBoolean(5, bed.isIsolationCapable());
+             PreparedStatement ps = conn.prepareStatement(UPSERT_SQL)) {
 
+            UPSERT.bind(ps, bed);
             ps.executeUpdate();
             return bed;
         } catch (SQLException e) {
@@ -63,6 +61,35 @@ public class MysqlBedRepository implements BedRepository {
         }
     }
 
+    @Override
+    public void saveAll(Collection<Bed> beds) {
+        if (beds == null) {
+            throw new IllegalArgumentException("Beds cannot be null");
+        }
+        for (Bed bed : beds) {
+            if (bed == null || bed.getId() == null || bed.getId().isBlank()) {
+                throw new IllegalArgumentException("Bed and its id cannot be null or blank");
+            }
+        }
+        if (beds.isEmpty()) {
+            return;
+        }
+
+        // Une seule connexion et une transaction ; requêtes multi-lignes envoyées en batch
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                UPSERT.execute(conn, beds);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to save " + beds.size() + " beds", e);
+        }
+    }
+
     @Override
     public Optional<Bed> findById(String id) {
         String sql = "SELECT * FROM bed WHERE id = ?";
@@ -102,7 +129,7 @@ public class MysqlBedRepository implements BedRepository {
 
     @Override
     public List<Bed> findByStatus(BedStatus status) {
-        String sql = "SELECT * FROM bed WHERE status = ? ORDER BY room_id, code";
+        String sql = "SELECT * FROM bed WHERE status = ? ORDER BY code, id";
         List<Bed> beds = new ArrayList<>();
 
         try (Connection conn = getConnection();
@@ -134,6 +161,58 @@ public class MysqlBedRepository implements BedRepository {
         }
     }
 
+    @Override
+    public Optional<Bed> findFirstFreeBed(Patient patient, LocalDate from, LocalDate to, LocalDate today) {
+        // Anti-jointure : lits AVAILABLE sans séjour bloquant [from, to]
+        // (une réservation, non clôturée et admise après today, s'arrête à sa sortie prévue).
+        // - patient à isoler : seuls les lits d'isolement sont candidats ;
+        // - sinon, les lits standards passent avant les lits d'isolement (isolation_capable = FALSE d'abord),
+        //   puis ordre des codes. Une seule ligne remonte.
+        String sql = """
+                SELECT b.*
+                FROM bed b
+                LEFT JOIN hospital_stay s
+                       ON s.bed_id = b.id
+                      AND s.admission_date <= ?
+                      AND (s.discharge_date_effective >= ?
+                           OR (s.discharge_date_effective IS NULL
+                               AND (s.admission_date <= ? OR s.discharge_date_planned IS NULL OR s.discharge_date_planned >= ?)))
+                WHERE b.status = ?
+                  AND (b.isolation_capable = TRUE OR ? = FALSE)
+                  AND s.id IS NULL
+                ORDER BY b.isolation_capable, b.code, b.id
+                LIMIT 1
+                """;
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setDate(1, Date.valueOf(to));
+            ps.setDate(2, Date.valueOf(from));
+            ps.setDate(3, Date.valueOf(today));
+            ps.setDate(4, Date.valueOf(from));
+            ps.setString(5, BedStatus.AVAILABLE.name());
+            ps.setBoolean(6, patient.isIsolationRequired());
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(mapRowToBed(rs));
+                }
+                return Optional.empty();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to find a free bed between " + from + " and " + to, e);
+        }
+    }
+
+    private static void bindBed(PreparedStatement ps, int offset, Bed bed) throws SQLException {
+        ps.setString(offset + 1, bed.getId());
+        ps.setString(offset + 2, bed.getRoomId());
+        ps.setString(offset + 3, bed.getCode());
+        ps.setString(offset + 4, bed.getStatus().name());
+        ps.setBoolean(offset + 5, bed.isIsolationCapable());
+    }
+
     private Bed mapRowToBed(ResultSet rs) throws SQLException {
         String id = rs.getString("id");
         String roomId = rs.getString("room_id");
@@ -0,0 +1,568 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pool borné de connexions MySQL partagé par les repositories.
+ * <p>
+ * - au plus {@code maxSize} connexions physiques ; au-delà, l'emprunt attend (jusqu'à {@code borrowTimeout}) ;
+ * - une connexion inactive depuis plus de 500 ms est validée ({@link Connection#isValid(int)}) avant d'être prêtée :
+ *   une connexion rendue juste avant est prêtée sans aller-retour supplémentaire ;
+ * - les connexions inactives depuis plus de {@code idleTimeout} sont fermées (en gardant {@code minSize}),
+ *   et toute connexion plus vieille que {@code maxLifetime} est fermée à son retour ;
+ * - chaque connexion garde un cache LRU de ses requêtes préparées ({@code prepareStatement(String)}) :
+ *   un repository qui réexécute le même SQL réutilise la requête déjà préparée par le serveur.
+ *   Une requête encore ouverte par l'emprunteur n'est jamais fermée par l'éviction LRU (elle l'est à sa fermeture),
+ *   et une requête dont un réglage a été modifié ({@code setFetchSize}, {@code setMaxRows}, {@code setQueryTimeout}...)
+ *   est retirée du cache à sa fermeture : le prochain emprunteur ne hérite jamais des réglages d'un autre.
+ * <p>
+ * Le pool se crée par {@link #start(MysqlPoolConfig)}, qui lance aussi la tâche périodique d'entretien.
+ * <p>
+ * {@link #getConnection()} renvoie un proxy : {@code close()} rend la connexion au pool au lieu de la fermer,
+ * et {@code close()} sur une requête préparée issue du cache la garde ouverte pour le prochain emprunteur.
+ */
+public class MysqlConnectionPool implements ConnectionProvider, AutoCloseable {
+
+    private static final long HOUSEKEEPING_PERIOD_SECONDS = 30;
+    private static final long VALIDATION_IDLE_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    /** Réglages d'une requête préparée qui survivraient à l'emprunt : leur modification exclut la requête du cache. */
+    private static final Set<String> STATEMENT_SETTINGS = Set.of(
+            "setFetchSize", "setFetchDirection", "setMaxRows", "setLargeMaxRows", "setMaxFieldSize",
+            "setQueryTimeout", "setEscapeProcessing", "setCursorName", "setPoolable", "closeOnCompletion");
+
+    private final MysqlPoolConfig config;
+    private final ConnectionProvider physicalConnections;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition connectionReleased = lock.newCondition();
+    private final ArrayDeque<PooledConnection> idle = new ArrayDeque<>();   // LIFO : la plus récente en tête
+    private int totalConnections;
+    private int activeConnections;
+    private int waitingThreads;
+    private boolean closed;
+
+    private final ScheduledExecutorService housekeeper;
+
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong createdConnections = new AtomicLong();
+    private final AtomicLong closedConnections = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+
+    private MysqlConnectionPool(MysqlPoolConfig config, ConnectionProvider physicalConnections) {
+        this.config = config;
+        this.physicalConnections = physicalConnections;
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mysql-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Crée un pool sur le driver JDBC et lance son entretien périodique.
+     */
+    public static MysqlConnectionPool start(MysqlPoolConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Pool config cannot be null");
+        }
+        return start(config, () -> DriverManager.getConnection(config.getUrl(), config.getUser(), config.getPassword()));
+    }
+
+    /**
+     * Crée un pool et lance son entretien périodique (fermeture des connexions inactives, remontée à {@code minSize}).
+     *
+     * @param physicalConnections source des connexions physiques (le driver JDBC en production)
+     */
+    public static MysqlConnectionPool start(MysqlPoolConfig config, ConnectionProvider physicalConnections) {
+        if (config == null || physicalConnections == null) {
+            throw new IllegalArgumentException("Pool config and connection source cannot be null");
+        }
+        MysqlConnectionPool pool = new MysqlConnectionPool(config, physicalConnections);
+        pool.housekeeper.scheduleWithFixedDelay(pool::housekeep, 0, HOUSEKEEPING_PERIOD_SECONDS, TimeUnit.SECONDS);
+        return pool;
+    }
+
+    /**
+     * Emprunte une connexion ; l'appelant la rend en la fermant (try-with-resources).
+     *
+     * @throws SQLException si aucune connexion n'est disponible avant {@code borrowTimeout}
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + config.getBorrowTimeout().toNanos();
+
+        while (true) {
+            // 1. Sous verrou : prendre une connexion inactive ou réserver la création d'une nouvelle
+            PooledConnection candidate = null;
+            boolean mayCreate = false;
+            lock.lock();
+            try {
+                while (true) {
+                    if (closed) {
+                        throw new SQLException("Connection pool is closed");
+                    }
+                    if (!idle.isEmpty()) {
+                        candidate = idle.pollFirst();
+                        activeConnections++;
+                        break;
+                    }
+                    if (totalConnections < config.getMaxSize()) {
+                        totalConnections++;
+                        activeConnections++;
+                        mayCreate = true;
+                        break;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new SQLException("Timed out after " + config.getBorrowTimeout().toMillis()
+                                + " ms waiting for a database connection (pool max size " + config.getMaxSize() + ")");
+                    }
+                    waitingThreads++;
+                    try {
+                        connectionReleased.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("Interrupted while waiting for a database connection", e);
+                    } finally {
+                        waitingThreads--;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            // 2. Hors verrou : créer ou valider (appels réseau)
+            if (mayCreate) {
+                try {
+                    candidate = new PooledConnection(physicalConnections.getConnection());
+                    createdConnections.incrementAndGet();
+                } catch (SQLException | RuntimeException e) {
+                    discardSlot();
+                    throw e;
+                }
+            } else if (isExpired(candidate, System.nanoTime()) || !isValidAfterIdle(candidate)) {
+                destroy(candidate);
+                discardSlot();
+                continue;
+            }
+
+            recordWait(System.nanoTime() - startNanos);
+            return candidate.lend();
+        }
+    }
+
+    public MysqlPoolMetrics getMetrics() {
+        lock.lock();
+        try {
+            return new MysqlPoolMetrics(
+                    activeConnections,
+                    idle.size(),
+                    waitingThreads,
+                    borrowCount.get(),
+                    Duration.ofNanos(totalWaitNanos.get()),
+                    Duration.ofNanos(maxWaitNanos.get()),
+                    createdConnections.get(),
+                    closedConnections.get(),
+                    validationFailures.get(),
+                    statementCacheHits.get(),
+                    statementCacheMisses.get()
+            );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public MysqlPoolConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Ferme les connexions inactives ; les connexions empruntées sont fermées à leur retour.
+     */
+    @Override
+    public void close() {
+        housekeeper.shutdownNow();
+        ArrayDeque<PooledConnection> toClose;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toClose = new ArrayDeque<>(idle);
+            totalConnections -= idle.size();
+            idle.clear();
+            connectionReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        toClose.forEach(this::destroy);
+    }
+
+    /**
+     * Tâche périodique : ferme les connexions inactives trop anciennes, puis remonte à {@code minSize}.
+     */
+    void housekeep() {
+        long now = System.nanoTime();
+        long idleTimeoutNanos = config.getIdleTimeout().toNanos();
+        ArrayDeque<PooledConnection> toClose = new ArrayDeque<>();
+        int missing;
+
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            // Les plus anciennes sont en queue de la pile
+            Iterator<PooledConnection> oldestFirst = idle.descendingIterator();
+            while (oldestFirst.hasNext()) {
+                PooledConnection connection = oldestFirst.next();
+                boolean idleTooLong = now - connection.lastReleasedNanos > idleTimeoutNanos
+                        && totalConnections > config.getMinSize();
+                if (idleTooLong || isExpired(connection, now)) {
+                    oldestFirst.remove();
+                    totalConnections--;
+                    toClose.add(connection);
+                }
+            }
+            missing = Math.max(0, config.getMinSize() - totalConnections);
+            totalConnections += missing;
+        } finally {
+            lock.unlock();
+        }
+        toClose.forEach(this::destroy);
+
+        for (int i = 0; i < missing; i++) {
+            try {
+                PooledConnection connection = new PooledConnection(physicalConnections.getConnection());
+                createdConnections.incrementAndGet();
+                returnToIdle(connection);
+            } catch (SQLException | RuntimeException e) {
+                // Base indisponible : on réessaiera au prochain passage, les emprunts remonteront l'erreur
+                lock.lock();
+                try {
+                    totalConnections -= missing - i;
+                    connectionReleased.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Retour d'une connexion empruntée : remise à l'état par défaut, puis remise dans le pool ou fermeture.
+     */
+    private void release(PooledConnection connection) {
+        boolean reusable;
+        try {
+            Connection physical = connection.physical;
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            reusable = !isExpired(connection, System.nanoTime());
+        } catch (SQLException e) {
+            reusable = false;
+        }
+
+        lock.lock();
+        try {
+            activeConnections--;
+            if (reusable && !closed) {
+                connection.lastReleasedNanos = System.nanoTime();
+                idle.addFirst(connection);
+                connectionReleased.signal();
+                return;
+            }
+            totalConnections--;
+            connectionReleased.signal();
+        } finally {
+            lock.unlock();
+        }
+        destroy(connection);
+    }
+
+    private void returnToIdle(PooledConnection connection) {
+        lock.lock();
+        try {
+            if (!closed) {
+                connection.lastReleasedNanos = System.nanoTime();
+                idle.addFirst(connection);
+                connectionReleased.signal();
+                return;
+            }
+            totalConnections--;
+        } finally {
+            lock.unlock();
+        }
+        destroy(connection);
+    }
+
+    /**
+     * Libère la place d'une connexion qui n'a pas pu être créée ou qui a été écartée à l'emprunt.
+     */
+    private void discardSlot() {
+        lock.lock();
+        try {
+            totalConnections--;
+            activeConnections--;
+            connectionReleased.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isExpired(PooledConnection connection, long nowNanos) {
+        return nowNanos - connection.createdNanos > config.getMaxLifetime().toNanos();
+    }
+
+    /**
+     * Valide une connexion inactive depuis plus de {@code VALIDATION_IDLE_THRESHOLD_NANOS} ; une connexion
+     * rendue juste avant est supposée valide (une erreur éventuelle remontera à l'emprunteur).
+     */
+    private boolean isValidAfterIdle(PooledConnection connection) {
+        if (System.nanoTime() - connection.lastReleasedNanos <= VALIDATION_IDLE_THRESHOLD_NANOS) {
+            return true;
+        }
+        try {
+            if (connection.physical.isValid(config.getValidationTimeoutSeconds())) {
+                return true;
+            }
+        } catch (SQLException e) {
+            // Connexion inutilisable : traitée comme invalide
+        }
+        validationFailures.incrementAndGet();
+        return false;
+    }
+
+    private void destroy(PooledConnection connection) {
+        connection.closeStatements();
+        try {
+            connection.physical.close();
+        } catch (SQLException e) {
+            // La connexion est abandonnée de toute façon
+        }
+        closedConnections.incrementAndGet();
+    }
+
+    private void recordWait(long waitNanos) {
+        borrowCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * Connexion physique gérée par le pool et son cache de requêtes préparées.
+     * Une seule instance emprunteuse à la fois : le cache n'a pas besoin d'être synchronisé.
+     */
+    private final class PooledConnection {
+        private final Connection physical;
+        private final long createdNanos = System.nanoTime();
+        private long lastReleasedNanos = createdNanos;
+        private final Map<String, PreparedStatement> statementCache;
+        private final Set<PreparedStatement> statementsInUse = Collections.newSetFromMap(new IdentityHashMap<>());
+        /** Requêtes évincées du cache pendant qu'elles étaient ouvertes : fermées à leur fermeture par l'emprunteur. */
+        private final Set<PreparedStatement> evictedInUse = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.statementCache = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() > config.getStatementCacheSize()) {
+                        if (statementsInUse.contains(eldest.getValue())) {
+                            evictedInUse.add(eldest.getValue());
+                        } else {
+                            closeQuietly(eldest.getValue());
+                        }
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        Connection lend() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new LentConnectionHandler(this));
+        }
+
+        PreparedStatement prepareCached(String sql) throws SQLException {
+            if (config.getStatementCacheSize() == 0) {
+                return physical.prepareStatement(sql);
+            }
+            PreparedStatement statement = statementCache.get(sql);
+            if (statement != null && statementsInUse.contains(statement)) {
+                // Même SQL déjà ouvert dans cet emprunt : requête non mise en cache
+                return physical.prepareStatement(sql);
+            }
+            if (statement != null && !statement.isClosed()) {
+                statementCacheHits.incrementAndGet();
+                statement.clearParameters();
+                statement.clearBatch();
+            } else {
+                statementCacheMisses.incrementAndGet();
+                statement = physical.prepareStatement(sql);
+                statementCache.put(sql, statement);
+            }
+            statementsInUse.add(statement);
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    new CachedStatementHandler(this, sql, statement));
+        }
+
+        /**
+         * Fin d'utilisation d'une requête du cache : elle y reste prête pour le prochain emprunteur, sauf si elle
+         * a été évincée entre-temps ou si ses réglages ont été modifiés.
+         */
+        void statementClosed(String sql, PreparedStatement statement, boolean settingsChanged) {
+            statementsInUse.remove(statement);
+            if (evictedInUse.remove(statement)) {
+                closeQuietly(statement);
+            } else if (settingsChanged) {
+                statementCache.remove(sql, statement);
+                closeQuietly(statement);
+            }
+        }
+
+        void closeStatements() {
+            statementsInUse.clear();
+            evictedInUse.forEach(PooledConnection::closeQuietly);
+            evictedInUse.clear();
+            statementCache.values().forEach(PooledConnection::closeQuietly);
+            statementCache.clear();
+        }
+
+        private static void closeQuietly(PreparedStatement statement) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                // Requête abandonnée de toute façon
+            }
+        }
+    }
+
+    /**
+     * Vue d'un emprunt : {@code close()} rend la connexion, et toute utilisation ultérieure échoue.
+     */
+    private final class LentConnectionHandler implements InvocationHandler {
+        private final PooledConnection connection;
+        private boolean returned;
+
+        LentConnectionHandler(PooledConnection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(connection);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || connection.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + connection.physical + "]";
+                default:
+                    break;
+            }
+            if (returned) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            if (method.getName().equals("prepareStatement") && args != null && args.length == 1) {
+                return connection.prepareCached((String) args[0]);
+            }
+            return invokeTarget(connection.physical, method, args);
+        }
+    }
+
+    /**
+     * Requête préparée du cache : {@code close()} la garde ouverte pour le prochain emprunteur.
+     */
+    private static final class CachedStatementHandler implements InvocationHandler {
+        private final PooledConnection owner;
+        private final String sql;
+        private final PreparedStatement statement;
+        private boolean closed;
+        private boolean settingsChanged;
+
+        CachedStatementHandler(PooledConnection owner, String sql, PreparedStatement statement) {
+            this.owner = owner;
+            this.sql = sql;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        owner.statementClosed(sql, statement, settingsChanged);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || statement.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    if (closed) {
+                        throw new SQLException("Statement is closed");
+                    }
+                    if (STATEMENT_SETTINGS.contains(method.getName())) {
+                        settingsChanged = true;
+                    }
+                    return invokeTarget(statement, method, args);
+            }
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.webisbrian.hospital_bed_planner.infrastructure.mysql;
 
+import com.webisbrian.hospital_bed_planner.domain.model.BedOccupancy;
 import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
 import com.webisbrian.hospital_bed_planner.domain.model.StayType;
 import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
@@ -12,26 +13,59 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Implémentation de HospitalStayRepository basée sur MySQL via JDBC.
  */
 public class MysqlHospitalStayRepository implements HospitalStayRepository {
 
-    private final String url;
-    private final String user;
-    private final String password;
+    private static final MysqlBatchUpsert<HospitalStay> UPSERT = new MysqlBatchUpsert<>(
+            "hospital_stay",
+            List.of(
+                    "id",
+                    "patient_id",
+                    "bed_id",
+                    "stay_type",
+                    "admission_date",
+                    "discharge_date_planned",
+                    "discharge_date_effective"
+            ),
+            MysqlHospitalStayRepository::bindHospitalStay
+    );
+
+    private static final String UPSERT_SQL = UPSERT.sql(1);
+
+    private final ConnectionProvider connectionProvider;
+    private final int streamFetchSize;
 
     public MysqlHospitalStayRepository(String url, String user, String password) {
-        this.url = url;
-        this.user = user;
-        this.password = password;
+        this(() -> DriverManager.getConnection(url, user, password));
+    }
+
+    public MysqlHospitalStayRepository(ConnectionProvider connectionProvider) {
+        this(connectionProvider, MysqlResultStream.DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * @param streamFetchSize nombre de lignes lues par aller-retour dans {@link #streamAll()}
+     *                        (curseur serveur avec {@code useCursorFetch=true} dans l'URL JDBC)
+     */
+    public MysqlHospitalStayRepository(ConnectionProvider connectionProvider, int streamFetchSize) {
+        if (streamFetchSize <= 0) {
+            throw new IllegalArgumentException("Stream fetch size must be positive");
+        }
+        this.connectionProvider = connectionProvider;
+        this.streamFetchSize = streamFetchSize;
     }
 
     private Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(url, user, password);
+        return connectionProvider.getConnection();
     }
 
     @Override
@@ -43,50 +77,43 @@ public class MysqlHospitalStayRepository implements HospitalStayRepository {
             throw new IllegalArgumentException("HospitalStay id cannot be null or blank");
         }
 
-        String sql = """
-                INSERT INTO hospital_stay (
-                    id,
-                    patient_id,
-                    bed_id,
-                    stay_type,
-                    admission_date,
-                    discharge_date_planned,
-                    discharge_date_effective
-                ) VALUES (?, ?, ?, ?, ?, ?, ?)
-                ON DUPLICATE KEY UPDATE
-                    patient_id = VALUES(patient_id),
-                    bed_id = VALUES(bed_id),
-                    stay_type = VALUES(stay_type),
-                    admission_date = VALUES(admission_date),
-                    discharge_date_planned = VALUES(discharge_date_planned),
-                    discharge_date_effective = VALUES(discharge_date_effective)
-                """;
-
         try (Connection conn = getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+             PreparedStatement ps = conn.prepareStatement(UPSERT_SQL)) {
 
-            ps.setString(1, hospitalStay.getId());
-            ps.setString(2, hospitalStay.getPatientId());
-            ps.setString(3, hospitalStay.getBedId());
-            ps.setString(4, hospitalStay.getStayType().name());
-            ps.setDate(5, Date.valueOf(hospitalStay.getAdmissionDate()));
+            UPSERT.bind(ps, hospitalStay);
+            ps.executeUpdate();
+            return hospitalStay;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to save hospital stay with id " + hospitalStay.getId(), e);
+        }
+    }
 
-            if (hospitalStay.getDischargeDatePlanned() != null) {
-                ps.setDate(6, Date.valueOf(hospitalStay.getDischargeDatePlanned()));
-            } else {
-                ps.setNull(6, java.sql.Types.DATE);
+    @Override
+    public void saveAll(Collection<HospitalStay> hospitalStays) {
+        if (hospitalStays == null) {
+            throw new IllegalArgumentException("HospitalStays cannot be null");
+        }
+        for (HospitalStay hospitalStay : hospitalStays) {
+            if (hospitalStay == null || hospitalStay.getId() == null || hospitalStay.getId().isBlank()) {
+                throw new IllegalArgumentException("HospitalStay and its id cannot be null or blank");
             }
+        }
+        if (hospitalStays.isEmpty()) {
+            return;
+        }
 
-            if (hospitalStay.getDischargeDateEffective() != null) {
-                ps.setDate(7, Date.valueOf(hospitalStay.getDischargeDateEffective()));
-            } else {
-                ps.setNull(7, java.sql.Types.DATE);
+        // Une seule connexion et une transaction ; requêtes multi-lignes envoyées en batch
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                UPSERT.execute(conn, hospitalStays);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
             }
-
-            ps.executeUpdate();
-            return hospitalStay;
         } catch (SQLException e) {
-            throw new IllegalStateException("Failed to save hospital stay with id " + hospitalStay.getId(), e);
+            throw new IllegalStateException("Failed to save " + hospitalStays.size() + " hospital stays", e);
         }
     }
 
@@ -147,6 +174,49 @@ public class MysqlHospitalStayRepository implements HospitalStayRepository {
         }
     }
 
+    @Override
+    public Stream<HospitalStay> streamAll() {
+        String sql = "SELECT * FROM hospital_stay ORDER BY admission_date DESC";
+        return MysqlResultStream.open(connectionProvider, sql, streamFetchSize, this::mapRowToHospitalStay);
+    }
+
+    @Override
+    public List<HospitalStay> findPageAfter(HospitalStay lastOfPreviousPage, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+
+        // Pagination par clé : on reprend après (admission_date, id) au lieu d'un OFFSET
+        String sql = lastOfPreviousPage == null
+                ? "SELECT * FROM hospital_stay ORDER BY admission_date DESC, id DESC LIMIT ?"
+                : """
+                SELECT * FROM hospital_stay
+                WHERE (admission_date, id) < (?, ?)
+                ORDER BY admission_date DESC, id DESC
+                LIMIT ?
+                """;
+        List<HospitalStay> stays = new ArrayList<>();
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            if (lastOfPreviousPage != null) {
+                ps.setDate(index++, Date.valueOf(lastOfPreviousPage.getAdmissionDate()));
+                ps.setString(index++, lastOfPreviousPage.getId());
+            }
+            ps.setInt(index, pageSize);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    stays.add(mapRowToHospitalStay(rs));
+                }
+            }
+            return stays;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to load page of hospital stays", e);
+        }
+    }
+
     @Override
     public List<HospitalStay> findActiveStaysOn(LocalDate date) {
         // Séjours actifs:
@@ -179,6 +249,116 @@ public class MysqlHospitalStayRepository implements HospitalStayRepository {
         }
     }
 
+    @Override
+    public List<HospitalStay> findStaysOverlapping(LocalDate from, LocalDate to) {
+        String sql = "SELECT * FROM hospital_stay WHERE " + overlapCondition(to);
+
+        List<HospitalStay> stays = new ArrayList<>();
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            bindOverlap(ps, from, to);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    stays.add(mapRowToHospitalStay(rs));
+                }
+            }
+            return stays;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to load stays between " + from + " and " + to, e);
+        }
+    }
+
+    @Override
+    public BedOccupancy findOccupancyBetween(LocalDate from, LocalDate to, LocalDate today) {
+        // Projection : seule la colonne bed_id est lue (index couvrant idx_stay_admission_end_bed)
+        String sql = "SELECT DISTINCT bed_id FROM hospital_stay WHERE " + placementCondition(to);
+
+        Set<String> occupiedBedIds = new HashSet<>();
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            bindPlacement(ps, from, to, today);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    occupiedBedIds.add(rs.getString("bed_id"));
+                }
+            }
+            return occupiedBedIds::contains;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to load bed occupancy between " + from + " and " + to, e);
+        }
+    }
+
+    private static void bindHospitalStay(PreparedStatement ps, int offset, HospitalStay hospitalStay) throws SQLException {
+        ps.setString(offset + 1, hospitalStay.getId());
+        ps.setString(offset + 2, hospitalStay.getPatientId());
+        ps.setString(offset + 3, hospitalStay.getBedId());
+        ps.setString(offset + 4, hospitalStay.getStayType().name());
+        ps.setDate(offset + 5, Date.valueOf(hospitalStay.getAdmissionDate()));
+
+        if (hospitalStay.getDischargeDatePlanned() != null) {
+            ps.setDate(offset + 6, Date.valueOf(hospitalStay.getDischargeDatePlanned()));
+        } else {
+            ps.setNull(offset + 6, java.sql.Types.DATE);
+        }
+
+        if (hospitalStay.getDischargeDateEffective() != null) {
+            ps.setDate(offset + 7, Date.valueOf(hospitalStay.getDischargeDateEffective()));
+        } else {
+            ps.setNull(offset + 7, java.sql.Types.DATE);
+        }
+    }
+
+    /**
+     * Condition des séjours chevauchant [from, to] :
+     * admission_date <= to, omise si to est null (pas de paramètre nullable, pour que MySQL
+     * garde un parcours par plage sur les index commençant par admission_date)
+     * AND (discharge_date_effective IS NULL OR discharge_date_effective >= from).
+     */
+    private static String overlapCondition(LocalDate to) {
+        String endCondition = "(discharge_date_effective IS NULL OR discharge_date_effective >= ?)";
+        return to != null ? "admission_date <= ? AND " + endCondition : endCondition;
+    }
+
+    private static void bindOverlap(PreparedStatement ps, LocalDate from, LocalDate to) throws SQLException {
+        int index = 1;
+        if (to != null) {
+            ps.setDate(index++, Date.valueOf(to));
+        }
+        ps.setDate(index, Date.valueOf(from));
+    }
+
+    /**
+     * Condition des séjours bloquant un placement sur [from, to] (voir {@link HospitalStayRepository}) :
+     * admission_date <= to (omise si to est null)
+     * AND (discharge_date_effective >= from
+     *      OR (discharge_date_effective IS NULL
+     *          AND (admission_date <= today OR discharge_date_planned IS NULL OR discharge_date_planned >= from))).
+     */
+    private static String placementCondition(LocalDate to) {
+        String endCondition = """
+                (discharge_date_effective >= ?
+                 OR (discharge_date_effective IS NULL
+                     AND (admission_date <= ? OR discharge_date_planned IS NULL OR discharge_date_planned >= ?)))
+                """;
+        return to != null ? "admission_date <= ? AND " + endCondition : endCondition;
+    }
+
+    private static void bindPlacement(PreparedStatement ps, LocalDate from, LocalDate to, LocalDate today) throws SQLException {
+        int index = 1;
+        if (to != null) {
+            ps.setDate(index++, Date.valueOf(to));
+        }
+        ps.setDate(index++, Date.valueOf(from));
+        ps.setDate(index++, Date.valueOf(today));
+        ps.setDate(index, Date.valueOf(from));
+    }
+
     private HospitalStay mapRowToHospitalStay(ResultSet rs) throws SQLException {
         String id = rs.getString("id");
         String patientId = rs.getString("patient_id");
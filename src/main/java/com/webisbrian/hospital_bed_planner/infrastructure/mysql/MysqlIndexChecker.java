@@ -0,0 +1,140 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Vérifie que la base expose les index dont dépendent les requêtes des repositories MySQL.
+ * <p>
+ * Un index attendu est satisfait par tout index de la même table qui commence par les mêmes colonnes,
+ * dans le même ordre (l'ordre de tri ASC/DESC n'est pas comparé).
+ */
+public class MysqlIndexChecker {
+
+    /** Index attendus, alignés sur les migrations {@code db/migration/V2__performance_indexes.sql} et {@code V3__occupancy_end_indexes.sql}. */
+    public static final List<ExpectedIndex> EXPECTED_INDEXES = List.of(
+            new ExpectedIndex("hospital_stay", List.of("admission_date", "discharge_date_effective", "discharge_date_planned", "bed_id"),
+                    "occupation à une date / sur une période"),
+            new ExpectedIndex("hospital_stay", List.of("patient_id", "admission_date"),
+                    "historique d'un patient"),
+            new ExpectedIndex("hospital_stay", List.of("bed_id", "admission_date", "discharge_date_effective", "discharge_date_planned"),
+                    "recherche de lit libre"),
+            new ExpectedIndex("hospital_stay", List.of("admission_date", "id"),
+                    "pagination des séjours"),
+            new ExpectedIndex("bed", List.of("status", "code"),
+                    "lits par statut triés par code"),
+            new ExpectedIndex("patient", List.of("last_name", "first_name", "id"),
+                    "pagination des patients")
+    );
+
+    private final ConnectionProvider connectionProvider;
+
+    public MysqlIndexChecker(ConnectionProvider connectionProvider) {
+        if (connectionProvider == null) {
+            throw new IllegalArgumentException("Connection provider cannot be null");
+        }
+        this.connectionProvider = connectionProvider;
+    }
+
+    /**
+     * Retourne les index attendus absents du schéma courant.
+     */
+    public List<ExpectedIndex> findMissingIndexes() {
+        String sql = """
+                SELECT table_name, index_name, column_name
+                FROM information_schema.statistics
+                WHERE table_schema = DATABASE()
+                ORDER BY table_name, index_name, seq_in_index
+                """;
+
+        // table -> index -> colonnes dans l'ordre
+        Map<String, Map<String, List<String>>> existing = new LinkedHashMap<>();
+
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql);
+             ResultSet rs = ps.executeQuery()) {
+
+            while (rs.next()) {
+                existing.computeIfAbsent(rs.getString(1).toLowerCase(Locale.ROOT), table -> new LinkedHashMap<>())
+                        .computeIfAbsent(rs.getString(2), index -> new ArrayList<>())
+                        .add(rs.getString(3).toLowerCase(Locale.ROOT));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to read index metadata", e);
+        }
+
+        List<ExpectedIndex> missing = new ArrayList<>();
+        for (ExpectedIndex expected : EXPECTED_INDEXES) {
+            Map<String, List<String>> indexes = existing.getOrDefault(expected.getTable(), Map.of());
+            if (indexes.values().stream().noneMatch(expected::isSatisfiedBy)) {
+                missing.add(expected);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Index attendu sur une table : colonnes de tête, dans l'ordre.
+     */
+    public static final class ExpectedIndex {
+        private final String table;
+        private final List<String> columns;
+        private final String purpose;
+
+        public ExpectedIndex(String table, List<String> columns, String purpose) {
+            this.table = table;
+            this.columns = List.copyOf(columns);
+            this.purpose = purpose;
+        }
+
+        /**
+         * Indique si un index existant (colonnes dans l'ordre) commence par les colonnes attendues.
+         */
+        public boolean isSatisfiedBy(List<String> indexColumns) {
+            return indexColumns.size() >= columns.size()
+                    && indexColumns.subList(0, columns.size()).equals(columns);
+        }
+
+        /* GETTERS */
+
+        public String getTable() {
+            return table;
+        }
+
+        public List<String> getColumns() {
+            return columns;
+        }
+
+        public String getPurpose() {
+            return purpose;
+        }
+
+        /* METHODS AND OVERRIDES */
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ExpectedIndex that = (ExpectedIndex) o;
+            return Objects.equals(table, that.table) && Objects.equals(columns, that.columns);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(table, columns);
+        }
+
+        @Override
+        public String toString() {
+            return table + "(" + String.join(", ", columns) + ") : " + purpose;
+        }
+    }
+}
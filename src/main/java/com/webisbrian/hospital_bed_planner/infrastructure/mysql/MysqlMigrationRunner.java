@@ -0,0 +1,223 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Applique au démarrage les scripts de migration versionnés de {@code db/migration} (classpath).
+ * <p>
+ * Chaque script {@code V<version>__<description>.sql} est exécuté une seule fois, dans l'ordre des versions,
+ * puis enregistré dans la table {@code schema_version} avec une somme de contrôle : un script modifié
+ * après son application est refusé. Un verrou nommé MySQL ({@code GET_LOCK}) empêche deux instances
+ * de migrer en même temps.
+ * <p>
+ * Le DDL MySQL n'est pas transactionnel : si un script échoue à mi-parcours, il n'est pas enregistré
+ * et doit être corrigé à la main avant de relancer.
+ */
+public class MysqlMigrationRunner {
+
+    /** Scripts connus, dans l'ordre d'application. Ajouter ici toute nouvelle migration. */
+    public static final List<String> MIGRATIONS = List.of(
+            "V1__create_tables.sql",
+            "V2__performance_indexes.sql",
+            "V3__occupancy_end_indexes.sql"
+    );
+
+    private static final String LOCATION = "db/migration/";
+    private static final String LOCK_NAME = "hospital_bed_planner.migrations";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    private final ConnectionProvider connectionProvider;
+
+    public MysqlMigrationRunner(ConnectionProvider connectionProvider) {
+        if (connectionProvider == null) {
+            throw new IllegalArgumentException("Connection provider cannot be null");
+        }
+        this.connectionProvider = connectionProvider;
+    }
+
+    /**
+     * Applique les migrations manquantes.
+     *
+     * @return les versions appliquées lors de cet appel
+     */
+    public List<Integer> migrate() {
+        List<Migration> migrations = loadMigrations();
+        List<Integer> applied = new ArrayList<>();
+
+        try (Connection conn = connectionProvider.getConnection()) {
+            acquireLock(conn);
+            try {
+                // 1. Table de suivi et versions déjà appliquées
+                try (Statement st = conn.createStatement()) {
+                    st.execute("""
+                            CREATE TABLE IF NOT EXISTS schema_version (
+                                version      INT          NOT NULL,
+                                description  VARCHAR(200) NOT NULL,
+                                checksum     BIGINT       NOT NULL,
+                                installed_on TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                PRIMARY KEY (version)
+                            )
+                            """);
+                }
+                Map<Integer, Long> checksums = appliedChecksums(conn);
+
+                // 2. Migrations dans l'ordre ; les scripts déjà appliqués ne doivent pas avoir changé
+                for (Migration migration : migrations) {
+                    Long recorded = checksums.get(migration.version);
+                    if (recorded != null) {
+                        if (recorded != migration.checksum) {
+                            throw new IllegalStateException("Migration V" + migration.version
+                                    + " has been modified after being applied");
+                        }
+                        continue;
+                    }
+                    apply(conn, migration);
+                    applied.add(migration.version);
+                }
+            } finally {
+                releaseLock(conn);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to run database migrations", e);
+        }
+        return applied;
+    }
+
+    private void apply(Connection conn, Migration migration) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            for (String sql : splitStatements(migration.script)) {
+                st.execute(sql);
+            }
+        } catch (SQLException e) {
+            throw new SQLException("Migration V" + migration.version + " (" + migration.description + ") failed", e);
+        }
+
+        String sql = "INSERT INTO schema_version (version, description, checksum) VALUES (?, ?, ?)";
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, migration.version);
+            ps.setString(2, migration.description);
+            ps.setLong(3, migration.checksum);
+            ps.executeUpdate();
+        }
+    }
+
+    private Map<Integer, Long> appliedChecksums(Connection conn) throws SQLException {
+        Map<Integer, Long> checksums = new HashMap<>();
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT version, checksum FROM schema_version")) {
+            while (rs.next()) {
+                checksums.put(rs.getInt("version"), rs.getLong("checksum"));
+            }
+        }
+        return checksums;
+    }
+
+    private void acquireLock(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new IllegalStateException("Could not acquire migration lock within "
+                            + LOCK_TIMEOUT_SECONDS + " seconds");
+                }
+            }
+        }
+    }
+
+    private void releaseLock(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.executeQuery().close();
+        }
+    }
+
+    /**
+     * Charge les scripts de {@link #MIGRATIONS} depuis le classpath, triés par version.
+     */
+    static List<Migration> loadMigrations() {
+        List<Migration> migrations = new ArrayList<>();
+        for (String fileName : MIGRATIONS) {
+            Matcher matcher = FILE_NAME.matcher(fileName);
+            if (!matcher.matches()) {
+                throw new IllegalStateException("Invalid migration file name: " + fileName);
+            }
+            String script = readResource(LOCATION + fileName);
+            migrations.add(new Migration(
+                    Integer.parseInt(matcher.group(1)),
+                    matcher.group(2).replace('_', ' '),
+                    script
+            ));
+        }
+        migrations.sort((a, b) -> Integer.compare(a.version, b.version));
+        return migrations;
+    }
+
+    /**
+     * Découpe un script en instructions : lignes de commentaire {@code --} ignorées,
+     * instructions terminées par {@code ;}.
+     */
+    static List<String> splitStatements(String script) {
+        StringBuilder withoutComments = new StringBuilder();
+        for (String line : script.split("\\R")) {
+            if (!line.trim().startsWith("--")) {
+                withoutComments.append(line).append('\n');
+            }
+        }
+
+        List<String> statements = new ArrayList<>();
+        for (String statement : withoutComments.toString().split(";")) {
+            String trimmed = statement.trim();
+            if (!trimmed.isEmpty()) {
+                statements.add(trimmed);
+            }
+        }
+        return statements;
+    }
+
+    private static String readResource(String path) {
+        try (InputStream in = MysqlMigrationRunner.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Migration script not found on classpath: " + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read migration script " + path, e);
+        }
+    }
+
+    /**
+     * Script de migration chargé.
+     */
+    static final class Migration {
+        final int version;
+        final String description;
+        final String script;
+        final long checksum;
+
+        Migration(int version, String description, String script) {
+            this.version = version;
+            this.description = description;
+            this.script = script;
+            CRC32 crc = new CRC32();
+            // Fins de ligne normalisées : un checkout Windows ne doit pas changer la somme de contrôle
+            crc.update(script.replace("\r\n", "\n").getBytes(StandardCharsets.UTF_8));
+            this.checksum = crc.getValue();
+        }
+    }
+}
@@ -12,31 +12,64 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Implémentation de PatientRepository basée sur MySQL via JDBC.
  */
 public class MysqlPatientRepository implements PatientRepository {
 
-    private final String url;
-    private final String user;
-    private final String password;
+    private static final MysqlBatchUpsert<Patient> UPSERT = new MysqlBatchUpsert<>(
+            "patient",
+            List.of("id", "first_name", "last_name", "birth_date", "sex", "pmr", "isolation", "phone_number", "notes"),
+            MysqlPatientRepository::bindPatient
+    );
+
+    private static final String UPSERT_SQL = UPSERT.sql(1);
+
+    /** Identifiants par requête {@code IN (...)} : les lots pleins partagent le même texte SQL. */
+    private static final int IDS_PER_QUERY = 500;
+
+    private final ConnectionProvider connectionProvider;
+    private final int streamFetchSize;
 
     /**
+     * Une connexion est ouverte à chaque appel ; préférer le constructeur avec un {@link MysqlConnectionPool}.
+     *
      * @param url      URL JDBC, ex: jdbc:mysql://localhost:3306/hospital_bed_planner
      * @param user     utilisateur MySQL
      * @param password mot de passe MySQL
      */
     public MysqlPatientRepository(String url, String user, String password) {
-        this.url = url;
-        this.user = user;
-        this.password = password;
+        this(() -> DriverManager.getConnection(url, user, password));
+    }
+
+    /**
+     * @param connectionProvider source des connexions, typiquement un {@link MysqlConnectionPool} partagé
+     */
+    public MysqlPatientRepository(ConnectionProvider connectionProvider) {
+        this(connectionProvider, MysqlResultStream.DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * @param streamFetchSize nombre de lignes lues par aller-retour dans {@link #streamAll()}
+     *                        (curseur serveur avec {@code useCursorFetch=true} dans l'URL JDBC)
+     */
+    public MysqlPatientRepository(ConnectionProvider connectionProvider, int streamFetchSize) {
+        if (streamFetchSize <= 0) {
+            throw new IllegalArgumentException("Stream fetch size must be positive");
+        }
+        this.connectionProvider = connectionProvider;
+        this.streamFetchSize = streamFetchSize;
     }
 
     private Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(url, user, password);
+        return connectionProvider.getConnection();
     }
 
     @Override
@@ -45,32 +78,9 @@ public class MysqlPatientRepository implements PatientRepository {
             throw new IllegalArgumentException("Patient cannot be null");
         }
 
-        String sql = """
-                INSERT INTO patient (id, first_name, last_name, birth_date, sex, pmr, isolation, phone_number, notes)
-                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
-                ON DUPLICATE KEY UPDATE
-                    first_name = VALUES(first_name),
-                    last_name = VALUES(last_name),
-                    birth_date = VALUES(birth_date),
-                    sex = VALUES(sex),
-                    pmr = VALUES(pmr),
-                    isolation = VALUES(isolation),
-                    phone_number = VALUES(phone_number),
-                    notes = VALUES(notes)
-                """;
-
-        try (Connection conn = getConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setString(1, patient.getId());
-            ps.setString(2, patient.getFirstName());
-            ps.setString(3, patient.getLastName());
-            ps.setDate(4, Date.valueOf(patient.getBirthDate()));
-            ps.setString(5, patient.getSex().name());
-            ps.setBoolean(6, patient.isPmr());
-            ps.setBoolean(7, patient.isIsolationRequired());
-            ps.setString(8, patient.getPhoneNumber());
-            ps.setString(9, patient.getNotes());
+        try (Connection conn = getConnection(); PreparedStatement ps = conn.prepareStatement(UPSERT_SQL)) {
 
+            UPSERT.bind(ps, patient);
             ps.executeUpdate();
             return patient;
         } catch (SQLException e) {
@@ -78,6 +88,35 @@ public class MysqlPatientRepository implements PatientRepository {
         }
     }
 
+    @Override
+    public void saveAll(Collection<Patient> patients) {
+        if (patients == null) {
+            throw new IllegalArgumentException("Patients cannot be null");
+        }
+        for (Patient patient : patients) {
+            if (patient == null || patient.getId() == null || patient.getId().isBlank()) {
+                throw new IllegalArgumentException("Patient and its id cannot be null or blank");
+            }
+        }
+        if (patients.isEmpty()) {
+            return;
+        }
+
+        // Une seule connexion et une transaction ; requêtes multi-lignes envoyées en batch
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                UPSERT.execute(conn, patients);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to save " + patients.size() + " patients", e);
+        }
+    }
+
     @Override
     public Optional<Patient> findById(String id) {
         String sql = "SELECT * FROM patient WHERE id = ?";
@@ -96,6 +135,46 @@ public class MysqlPatientRepository implements PatientRepository {
         }
     }
 
+    /**
+     * Une requête {@code WHERE id IN (...)} par lot de {@value #IDS_PER_QUERY} identifiants, sur une seule connexion.
+     */
+    @Override
+    public List<Patient> findAllById(Collection<String> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Patient ids cannot be null");
+        }
+        for (String id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException("Patient ids cannot contain null");
+            }
+        }
+        List<String> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        List<Patient> patients = new ArrayList<>(distinctIds.size());
+        if (distinctIds.isEmpty()) {
+            return patients;
+        }
+
+        try (Connection conn = getConnection()) {
+            for (int from = 0; from < distinctIds.size(); from += IDS_PER_QUERY) {
+                List<String> chunk = distinctIds.subList(from, Math.min(distinctIds.size(), from + IDS_PER_QUERY));
+                String sql = "SELECT * FROM patient WHERE id IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        ps.setString(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            patients.add(mapRowToPatient(rs));
+                        }
+                    }
+                }
+            }
+            return patients;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to find " + distinctIds.size() + " patients by id", e);
+        }
+    }
+
     @Override
     public boolean existsById(String id) {
         String sql = "SELECT 1 FROM patient WHERE id = ?";
@@ -127,6 +206,49 @@ public class MysqlPatientRepository implements PatientRepository {
         }
     }
 
+    @Override
+    public Stream<Patient> streamAll() {
+        String sql = "SELECT * FROM patient ORDER BY last_name, first_name";
+        return MysqlResultStream.open(connectionProvider, sql, streamFetchSize, this::mapRowToPatient);
+    }
+
+    @Override
+    public List<Patient> findPageAfter(Patient lastOfPreviousPage, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+
+        // Pagination par clé : on reprend après (last_name, first_name, id) au lieu d'un OFFSET
+        String sql = lastOfPreviousPage == null
+                ? "SELECT * FROM patient ORDER BY last_name, first_name, id LIMIT ?"
+                : """
+                SELECT * FROM patient
+                WHERE (last_name, first_name, id) > (?, ?, ?)
+                ORDER BY last_name, first_name, id
+                LIMIT ?
+                """;
+        List<Patient> patients = new ArrayList<>();
+
+        try (Connection conn = getConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            if (lastOfPreviousPage != null) {
+                ps.setString(index++, lastOfPreviousPage.getLastName());
+                ps.setString(index++, lastOfPreviousPage.getFirstName());
+                ps.setString(index++, lastOfPreviousPage.getId());
+            }
+            ps.setInt(index, pageSize);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    patients.add(mapRowToPatient(rs));
+                }
+            }
+            return patients;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to load page of patients", e);
+        }
+    }
+
     @Override
     public void deleteById(String id) {
         String sql = "DELETE FROM patient WHERE id = ?";
@@ -140,6 +262,18 @@ public class MysqlPatientRepository implements PatientRepository {
         }
     }
 
+    private static void bindPatient(PreparedStatement ps, int offset, Patient patient) throws SQLException {
+        ps.setString(offset + 1, patient.getId());
+        ps.setString(offset + 2, patient.getFirstName());
+        ps.setString(offset + 3, patient.getLastName());
+        ps.setDate(offset + 4, Date.valueOf(patient.getBirthDate()));
+        ps.setString(offset + 5, patient.getSex().name());
+        ps.setBoolean(offset + 6, patient.isPmr());
+        ps.setBoolean(offset + 7, patient.isIsolationRequired());
+        ps.setString(offset + 8, patient.getPhoneNumber());
+        ps.setString(offset + 9, patient.getNotes());
+    }
+
     private Patient mapRowToPatient(ResultSet rs) throws SQLException {
         String id = rs.getString("id");
         String firstName = rs.getString("first_name");
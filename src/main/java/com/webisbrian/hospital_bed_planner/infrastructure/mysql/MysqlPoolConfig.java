@@ -0,0 +1,148 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Paramètres du pool de connexions {@link MysqlConnectionPool}.
+ * Les clés reconnues par {@link #fromProperties(Properties)} sont celles de {@code database.properties}.
+ */
+public class MysqlPoolConfig {
+
+    public static final int DEFAULT_MIN_SIZE = 5;
+    public static final int DEFAULT_MAX_SIZE = 20;
+    public static final Duration DEFAULT_BORROW_TIMEOUT = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+    public static final Duration DEFAULT_MAX_LIFETIME = Duration.ofMinutes(30);
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+    public static final int DEFAULT_VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int minSize;                      // connexions gardées ouvertes même inactives
+    private final int maxSize;                      // borne du nombre total de connexions
+    private final Duration borrowTimeout;           // attente maximale d'une connexion libre
+    private final Duration idleTimeout;             // au-delà, une connexion inactive est fermée (au-dessus de minSize)
+    private final Duration maxLifetime;             // au-delà, une connexion est fermée à son retour au pool
+    private final int statementCacheSize;           // requêtes préparées gardées par connexion (0 = pas de cache)
+    private final int validationTimeoutSeconds;     // délai de Connection.isValid à l'emprunt
+
+    public MysqlPoolConfig(String url, String user, String password) {
+        this(url, user, password,
+                DEFAULT_MIN_SIZE,
+                DEFAULT_MAX_SIZE,
+                DEFAULT_BORROW_TIMEOUT,
+                DEFAULT_IDLE_TIMEOUT,
+                DEFAULT_MAX_LIFETIME,
+                DEFAULT_STATEMENT_CACHE_SIZE,
+                DEFAULT_VALIDATION_TIMEOUT_SECONDS);
+    }
+
+    public MysqlPoolConfig(String url,
+                           String user,
+                           String password,
+                           int minSize,
+                           int maxSize,
+                           Duration borrowTimeout,
+                           Duration idleTimeout,
+                           Duration maxLifetime,
+                           int statementCacheSize,
+                           int validationTimeoutSeconds) {
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("Database url cannot be null or blank");
+        }
+        if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+            throw new IllegalArgumentException("Pool sizes must satisfy 0 <= minSize <= maxSize and maxSize >= 1");
+        }
+        if (borrowTimeout == null || idleTimeout == null || maxLifetime == null) {
+            throw new IllegalArgumentException("Pool timeouts cannot be null");
+        }
+        if (statementCacheSize < 0 || validationTimeoutSeconds < 0) {
+            throw new IllegalArgumentException("Statement cache size and validation timeout cannot be negative");
+        }
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.borrowTimeout = borrowTimeout;
+        this.idleTimeout = idleTimeout;
+        this.maxLifetime = maxLifetime;
+        this.statementCacheSize = statementCacheSize;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    /**
+     * Lit la configuration depuis les clés {@code db.url}, {@code db.username}, {@code db.password}
+     * et {@code db.pool.*} ; les clés de pool absentes prennent leur valeur par défaut.
+     */
+    public static MysqlPoolConfig fromProperties(Properties properties) {
+        return new MysqlPoolConfig(
+                properties.getProperty("db.url"),
+                properties.getProperty("db.username"),
+                properties.getProperty("db.password"),
+                intProperty(properties, "db.pool.minSize", DEFAULT_MIN_SIZE),
+                intProperty(properties, "db.pool.maxSize", DEFAULT_MAX_SIZE),
+                Duration.ofMillis(intProperty(properties, "db.pool.borrowTimeoutMs", (int) DEFAULT_BORROW_TIMEOUT.toMillis())),
+                Duration.ofSeconds(intProperty(properties, "db.pool.idleTimeoutSeconds", (int) DEFAULT_IDLE_TIMEOUT.toSeconds())),
+                Duration.ofSeconds(intProperty(properties, "db.pool.maxLifetimeSeconds", (int) DEFAULT_MAX_LIFETIME.toSeconds())),
+                intProperty(properties, "db.pool.statementCacheSize", DEFAULT_STATEMENT_CACHE_SIZE),
+                intProperty(properties, "db.pool.validationTimeoutSeconds", DEFAULT_VALIDATION_TIMEOUT_SECONDS)
+        );
+    }
+
+    private static int intProperty(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Property " + key + " must be an integer, got: " + value, e);
+        }
+    }
+
+    /* GETTERS */
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public Duration getBorrowTimeout() {
+        return borrowTimeout;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public Duration getMaxLifetime() {
+        return maxLifetime;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+}
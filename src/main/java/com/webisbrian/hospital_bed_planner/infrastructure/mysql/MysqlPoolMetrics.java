@@ -0,0 +1,113 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql;
+
+import java.time.Duration;
+
+/**
+ * Photographie des métriques d'un {@link MysqlConnectionPool}.
+ */
+public class MysqlPoolMetrics {
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int waitingThreads;
+    private final long borrowCount;
+    private final Duration totalWaitTime;       // temps cumulé passé à attendre une connexion
+    private final Duration maxWaitTime;
+    private final long createdConnections;
+    private final long closedConnections;
+    private final long validationFailures;
+    private final long statementCacheHits;
+    private final long statementCacheMisses;
+
+    public MysqlPoolMetrics(int activeConnections,
+                            int idleConnections,
+                            int waitingThreads,
+                            long borrowCount,
+                            Duration totalWaitTime,
+                            Duration maxWaitTime,
+                            long createdConnections,
+                            long closedConnections,
+                            long validationFailures,
+                            long statementCacheHits,
+                            long statementCacheMisses) {
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.waitingThreads = waitingThreads;
+        this.borrowCount = borrowCount;
+        this.totalWaitTime = totalWaitTime;
+        this.maxWaitTime = maxWaitTime;
+        this.createdConnections = createdConnections;
+        this.closedConnections = closedConnections;
+        this.validationFailures = validationFailures;
+        this.statementCacheHits = statementCacheHits;
+        this.statementCacheMisses = statementCacheMisses;
+    }
+
+    /* GETTERS */
+
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    public int getWaitingThreads() {
+        return waitingThreads;
+    }
+
+    public long getBorrowCount() {
+        return borrowCount;
+    }
+
+    public Duration getTotalWaitTime() {
+        return totalWaitTime;
+    }
+
+    public Duration getMaxWaitTime() {
+        return maxWaitTime;
+    }
+
+    public Duration getAverageWaitTime() {
+        return borrowCount == 0 ? Duration.ZERO : totalWaitTime.dividedBy(borrowCount);
+    }
+
+    public long getCreatedConnections() {
+        return createdConnections;
+    }
+
+    public long getClosedConnections() {
+        return closedConnections;
+    }
+
+    public long getValidationFailures() {
+        return validationFailures;
+    }
+
+    public long getStatementCacheHits() {
+        return statementCacheHits;
+    }
+
+    public long getStatementCacheMisses() {
+        return statementCacheMisses;
+    }
+
+    /* METHODS AND OVERRIDES */
+
+    @Override
+    public String toString() {
+        return "MysqlPoolMetrics{" +
+                "active=" + activeConnections +
+                ", idle=" + idleConnections +
+                ", waiting=" + waitingThreads +
+                ", borrows=" + borrowCount +
+                ", avgWait=" + getAverageWaitTime() +
+                ", maxWait=" + maxWaitTime +
+                ", created=" + createdConnections +
+                ", closed=" + closedConnections +
+                ", validationFailures=" + validationFailures +
+                ", statementCacheHits=" + statementCacheHits +
+                ", statementCacheMisses=" + statementCacheMisses +
+                '}';
+    }
+}
@@ -0,0 +1,95 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Expose le résultat d'une requête comme un {@link Stream} paresseux, lu ligne à ligne.
+ * <p>
+ * La requête est ouverte en avant seulement / lecture seule avec une taille de fetch :
+ * avec {@code useCursorFetch=true} dans l'URL JDBC, MySQL sert les lignes par paquets depuis un curseur serveur,
+ * et la mémoire consommée ne dépend plus de la taille de la table.
+ * Connexion, requête et résultat restent ouverts jusqu'à la fermeture du stream :
+ * l'appelant doit l'utiliser dans un try-with-resources.
+ */
+final class MysqlResultStream {
+
+    /** Taille de fetch par défaut des lectures en flux. */
+    static final int DEFAULT_FETCH_SIZE = 1_000;
+
+    /**
+     * Transforme la ligne courante d'un {@link ResultSet} en entité.
+     */
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    private MysqlResultStream() {
+    }
+
+    static <T> Stream<T> open(ConnectionProvider connectionProvider, String sql, int fetchSize, RowMapper<T> mapper) {
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        try {
+            // 1. Ouverture des ressources (fermées en cas d'échec)
+            conn = connectionProvider.getConnection();
+            ps = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            rs = ps.executeQuery();
+        } catch (SQLException e) {
+            closeAll(rs, ps, conn);
+            throw new IllegalStateException("Failed to open stream for query: " + sql, e);
+        }
+
+        // 2. Stream paresseux, ressources libérées à la fermeture
+        ResultSet resultSet = rs;
+        PreparedStatement statement = ps;
+        Connection connection = conn;
+        Spliterator<T> rows = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!resultSet.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(resultSet));
+                    return true;
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Failed to read row for query: " + sql, e);
+                }
+            }
+        };
+        return StreamSupport.stream(rows, false)
+                .onClose(() -> closeAll(resultSet, statement, connection));
+    }
+
+    private static void closeAll(AutoCloseable... resources) {
+        IllegalStateException failure = null;
+        for (AutoCloseable resource : resources) {
+            if (resource == null) {
+                continue;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = new IllegalStateException("Failed to close streaming query resources", e);
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
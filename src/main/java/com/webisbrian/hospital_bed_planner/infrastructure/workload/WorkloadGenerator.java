@@ -0,0 +1,272 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.workload;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.model.Sex;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.PatientRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Générateur déterministe de patients, lits et séjours, écrits par lots dans n'importe quelle implémentation des ports
+ * (en mémoire, MySQL, ou fichiers via les dépôts {@code File*} du paquet {@code infrastructure.file}).
+ * <p>
+ * Modèle :
+ * - les lits sont rangés par service et par chambre ; toutes les chambres « isolement » d'un service sont en tête ;
+ * - un patient à isoler n'est placé que dans un lit permettant l'isolement ;
+ * - chaque lit reçoit sa part des séjours, sans chevauchement, en remontant le temps depuis la date de référence :
+ *   durée log-normale pour un séjour WEEK, sortie le jour même pour un séjour DAY, et intervalle libre entre deux
+ *   séjours d'autant plus court que la saison est chargée (pic d'admissions mi-janvier) ;
+ * - un séjour terminé avant la date de référence est clôturé, celui qui la couvre est en cours (lit OCCUPIED),
+ *   ceux qui commencent après sont des réservations : un lit réservé en porte plusieurs à la suite, chacune
+ *   occupant le lit jusqu'à sa sortie prévue.
+ * La profondeur d'historique découle donc du nombre de séjours par lit.
+ * <p>
+ * Ordre d'écriture compatible avec les clés étrangères : tous les patients, puis chaque lot de lits suivi de ses séjours.
+ * Seuls les lots en cours sont gardés en mémoire : la taille du jeu n'est bornée que par le dépôt cible.
+ */
+public class WorkloadGenerator {
+
+    public static final int DEFAULT_BATCH_SIZE = 10_000;
+
+    private static final String[] FIRST_NAMES = {
+            "Alice", "Bernard", "Camille", "David", "Emma", "François", "Gabrielle", "Hugo",
+            "Inès", "Jules", "Léa", "Louis", "Manon", "Nathan", "Océane", "Paul"
+    };
+    private static final String[] LAST_NAMES = {
+            "Martin", "Bernard", "Thomas", "Petit", "Robert", "Richard", "Durand", "Dubois",
+            "Moreau", "Laurent", "Simon", "Michel", "Lefebvre", "Leroy", "Roux", "David"
+    };
+
+    private static final double PMR_RATIO = 0.08;
+    private static final double WEEK_STAY_SPREAD = 0.6;         // écart-type du logarithme de la durée WEEK
+    private static final int MAX_WEEK_STAY_DAYS = 90;
+    private static final double MEAN_IDLE_DAYS = 1.5;           // intervalle libre moyen entre deux séjours d'un lit
+    private static final int SEASONAL_PEAK_DAY_OF_YEAR = 15;
+    private static final double CLEANING_RATIO = 0.06;          // statut des lits libres à la date de référence
+    private static final double OUT_OF_ORDER_RATIO = 0.04;
+
+    private final WorkloadProfile profile;
+    private final int batchSize;
+
+    public WorkloadGenerator(WorkloadProfile profile) {
+        this(profile, DEFAULT_BATCH_SIZE);
+    }
+
+    public WorkloadGenerator(WorkloadProfile profile, int batchSize) {
+        if (profile == null) {
+            throw new IllegalArgumentException("Workload profile cannot be null");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.profile = profile;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Génère le jeu de données complet et l'écrit dans les dépôts fournis.
+     */
+    public void generate(PatientRepository patientRepository,
+                         BedRepository bedRepository,
+                         HospitalStayRepository hospitalStayRepository) {
+        if (patientRepository == null || bedRepository == null || hospitalStayRepository == null) {
+            throw new IllegalArgumentException("Repositories cannot be null");
+        }
+        SplittableRandom random = new SplittableRandom(profile.getSeed());
+        int isolationPatients = isolationPatients();
+
+        // 1. Patients : les isolationPatients premiers sont à isoler
+        List<Patient> patients = new ArrayList<>(Math.min(batchSize, profile.getPatients()));
+        for (int i = 0; i < profile.getPatients(); i++) {
+            patients.add(patient(i, i < isolationPatients, random));
+            if (patients.size() == batchSize) {
+                patientRepository.saveAll(patients);
+                patients.clear();
+            }
+        }
+        if (!patients.isEmpty()) {
+            patientRepository.saveAll(patients);
+        }
+
+        // 2. Lits et séjours, lot de lits par lot de lits
+        int beds = profile.getBeds();
+        long stayNumber = 0;
+        List<Bed> bedBatch = new ArrayList<>();
+        List<HospitalStay> stayBatch = new ArrayList<>(batchSize);
+        for (int bed = 0; bed < beds; bed++) {
+            int staysOfBed = profile.getStays() / beds + (bed < profile.getStays() % beds ? 1 : 0);
+            boolean isolationCapable = isIsolationCapable(bed);
+            String bedId = bedId(bed);
+            double statusDraw = random.nextDouble();
+
+            boolean occupied = false;
+            boolean bedQueued = false;
+            long cursor = firstCursor(random);
+            for (int s = 0; s < staysOfBed; s++) {
+                // 2.1 Intervalle libre puis séjour, en remontant le temps
+                long discharge = cursor - idleDays(cursor, random);
+                StayType stayType = random.nextDouble() < profile.getDayStayRatio() ? StayType.DAY : StayType.WEEK;
+                long admission = discharge - (stayType == StayType.DAY ? 0 : weekStayDays(random));
+                cursor = admission - 1;
+
+                String patientId = "PAT-" + (isolationCapable
+                        ? random.nextInt(profile.getPatients())
+                        : isolationPatients + random.nextInt(profile.getPatients() - isolationPatients));
+                stayBatch.add(stay("STAY-" + stayNumber++, patientId, bedId, stayType, admission, discharge));
+                occupied |= admission <= referenceDay() && referenceDay() <= discharge;
+
+                // 2.2 Lot plein au milieu d'un lit : une fois la date de référence dépassée, son statut est connu
+                if (stayBatch.size() >= batchSize && cursor < referenceDay()) {
+                    if (!bedQueued) {
+                        bedBatch.add(bed(bed, bedId, isolationCapable, occupied, statusDraw));
+                        bedQueued = true;
+                    }
+                    flush(bedBatch, stayBatch, bedRepository, hospitalStayRepository);
+                }
+            }
+
+            if (!bedQueued) {
+                bedBatch.add(bed(bed, bedId, isolationCapable, occupied, statusDraw));
+            }
+            if (stayBatch.size() >= batchSize || bedBatch.size() >= batchSize || bed == beds - 1) {
+                flush(bedBatch, stayBatch, bedRepository, hospitalStayRepository);
+            }
+        }
+    }
+
+    /**
+     * Écrit les lits avant leurs séjours, puis vide les deux lots.
+     */
+    private static void flush(List<Bed> bedBatch,
+                              List<HospitalStay> stayBatch,
+                              BedRepository bedRepository,
+                              HospitalStayRepository hospitalStayRepository) {
+        if (!bedBatch.isEmpty()) {
+            bedRepository.saveAll(bedBatch);
+            bedBatch.clear();
+        }
+        if (!stayBatch.isEmpty()) {
+            hospitalStayRepository.saveAll(stayBatch);
+            stayBatch.clear();
+        }
+    }
+
+    private Patient patient(int index, boolean isolationRequired, SplittableRandom random) {
+        LocalDate birthDate = LocalDate.of(1930, 1, 1).plusDays(random.nextInt(365 * 90));
+        return new Patient("PAT-" + index,
+                FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                birthDate,
+                random.nextBoolean() ? Sex.FEMALE : Sex.MALE,
+                random.nextDouble() < PMR_RATIO,
+                isolationRequired,
+                null,
+                null);
+    }
+
+    /**
+     * Lit OCCUPIED s'il a un séjour en cours, sinon statut tiré de {@code statusDraw} (tiré avant ses séjours,
+     * pour que les données ne dépendent pas de la taille des lots).
+     */
+    private Bed bed(int index, String bedId, boolean isolationCapable, boolean occupied, double statusDraw) {
+        BedStatus status = BedStatus.OCCUPIED;
+        if (!occupied) {
+            status = statusDraw < CLEANING_RATIO ? BedStatus.CLEANING
+                    : statusDraw < CLEANING_RATIO + OUT_OF_ORDER_RATIO ? BedStatus.OUT_OF_ORDER
+                    : BedStatus.AVAILABLE;
+        }
+        return new Bed(bedId, roomId(index), codeOf(index), status, isolationCapable);
+    }
+
+    private HospitalStay stay(String id, String patientId, String bedId, StayType stayType, long admission, long discharge) {
+        LocalDate admissionDate = LocalDate.ofEpochDay(admission);
+        LocalDate plannedDischarge = LocalDate.ofEpochDay(discharge);
+        // Clôturé seulement s'il est terminé à la date de référence ; en cours et réservations restent ouverts
+        LocalDate effectiveDischarge = discharge < referenceDay() ? plannedDischarge : null;
+        return new HospitalStay(id, patientId, bedId, stayType, admissionDate, plannedDischarge, effectiveDischarge);
+    }
+
+    /**
+     * Point de départ de la remontée : après la date de référence (réservations) pour une part des lits,
+     * sinon à quelques jours de celle-ci.
+     */
+    private long firstCursor(SplittableRandom random) {
+        if (random.nextDouble() < profile.getFutureReservationRatio()) {
+            return referenceDay() + 1 + random.nextInt(profile.getReservationHorizonDays());
+        }
+        return referenceDay() + random.nextInt(3);
+    }
+
+    /**
+     * Intervalle libre (loi exponentielle arrondie) de moyenne divisée par l'intensité saisonnière du jour.
+     */
+    private long idleDays(long epochDay, SplittableRandom random) {
+        int dayOfYear = LocalDate.ofEpochDay(epochDay).getDayOfYear();
+        double season = 1 + profile.getSeasonalAmplitude()
+                * Math.cos(2 * Math.PI * (dayOfYear - SEASONAL_PEAK_DAY_OF_YEAR) / 365.25);
+        return (long) (-Math.log(1 - random.nextDouble()) * MEAN_IDLE_DAYS / season);
+    }
+
+    /**
+     * Durée log-normale d'un séjour WEEK, entre 1 et {@value #MAX_WEEK_STAY_DAYS} jours.
+     */
+    private long weekStayDays(SplittableRandom random) {
+        double days = profile.getMedianWeekStayDays() * Math.exp(WEEK_STAY_SPREAD * random.nextGaussian());
+        return Math.max(1, Math.min(MAX_WEEK_STAY_DAYS, Math.round(days)));
+    }
+
+    private long referenceDay() {
+        return profile.getReferenceDate().toEpochDay();
+    }
+
+    /**
+     * Patients à isoler, en gardant au moins un patient pour les lits sans isolement.
+     */
+    private int isolationPatients() {
+        int requested = (int) Math.round(profile.getPatients() * profile.getIsolationRequiredRatio());
+        return Math.min(requested, profile.getPatients() - 1);
+    }
+
+    private boolean isIsolationCapable(int bed) {
+        if (profile.getIsolationCapableRatio() == 0) {
+            return false;
+        }
+        int capableRooms = Math.max(1, (int) Math.round(profile.getRoomsPerWard() * profile.getIsolationCapableRatio()));
+        return roomInWard(bed) < capableRooms;
+    }
+
+    private int roomInWard(int bed) {
+        return (bed / profile.getBedsPerRoom()) % profile.getRoomsPerWard();
+    }
+
+    private String roomId(int bed) {
+        int ward = bed / (profile.getBedsPerRoom() * profile.getRoomsPerWard());
+        return "W" + pad(ward + 1, profile.getWards()) + "-R" + pad(roomInWard(bed) + 1, profile.getRoomsPerWard());
+    }
+
+    private String codeOf(int bed) {
+        return roomId(bed) + "-" + pad(bed % profile.getBedsPerRoom() + 1, profile.getBedsPerRoom());
+    }
+
+    private String bedId(int bed) {
+        return "BED-" + codeOf(bed);
+    }
+
+    /**
+     * Complète par des zéros à la largeur de {@code max}, pour que l'ordre alphabétique des codes suive l'ordre des lits.
+     */
+    private static String pad(int value, int max) {
+        String digits = Integer.toString(value);
+        int width = Math.max(2, Integer.toString(max).length());
+        return "0".repeat(Math.max(0, width - digits.length())) + digits;
+    }
+}
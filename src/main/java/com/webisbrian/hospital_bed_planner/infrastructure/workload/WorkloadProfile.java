@@ -0,0 +1,176 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.workload;
+
+import java.time.LocalDate;
+
+/**
+ * Paramètres du jeu de données synthétique produit par {@link WorkloadGenerator}.
+ * Deux générateurs construits avec le même profil produisent exactement les mêmes données.
+ */
+public class WorkloadProfile {
+
+    public static final int DEFAULT_ROOMS_PER_WARD = 12;
+    public static final int DEFAULT_BEDS_PER_ROOM = 2;
+    public static final double DEFAULT_ISOLATION_CAPABLE_RATIO = 0.15;
+    public static final double DEFAULT_ISOLATION_REQUIRED_RATIO = 0.05;
+    public static final double DEFAULT_DAY_STAY_RATIO = 0.3;
+    public static final double DEFAULT_MEDIAN_WEEK_STAY_DAYS = 4.0;
+    public static final double DEFAULT_SEASONAL_AMPLITUDE = 0.25;
+    public static final LocalDate DEFAULT_REFERENCE_DATE = LocalDate.of(2025, 1, 15);
+    public static final double DEFAULT_FUTURE_RESERVATION_RATIO = 0.3;
+    public static final int DEFAULT_RESERVATION_HORIZON_DAYS = 30;
+
+    private final long seed;
+    private final int wards;                        // services, chacun de roomsPerWard chambres
+    private final int roomsPerWard;
+    private final int bedsPerRoom;
+    private final double isolationCapableRatio;     // part des chambres dont les lits permettent l'isolement
+    private final int patients;
+    private final double isolationRequiredRatio;    // part des patients à isoler
+    private final int stays;
+    private final double dayStayRatio;             // part des séjours DAY (sortie le jour de l'admission), les autres en WEEK
+    private final double medianWeekStayDays;       // médiane de la durée log-normale d'un séjour WEEK
+    private final double seasonalAmplitude;        // variation des admissions autour de la moyenne, pic en hiver
+    private final LocalDate referenceDate;         // « aujourd'hui » : avant, séjours clôturés ; après, réservations
+    private final double futureReservationRatio;   // part des lits ayant des réservations après referenceDate
+    private final int reservationHorizonDays;      // portée maximale des réservations après referenceDate
+
+    public WorkloadProfile(long seed, int wards, int patients, int stays) {
+        this(seed, wards,
+                DEFAULT_ROOMS_PER_WARD,
+                DEFAULT_BEDS_PER_ROOM,
+                DEFAULT_ISOLATION_CAPABLE_RATIO,
+                patients,
+                DEFAULT_ISOLATION_REQUIRED_RATIO,
+                stays,
+                DEFAULT_DAY_STAY_RATIO,
+                DEFAULT_MEDIAN_WEEK_STAY_DAYS,
+                DEFAULT_SEASONAL_AMPLITUDE,
+                DEFAULT_REFERENCE_DATE,
+                DEFAULT_FUTURE_RESERVATION_RATIO,
+                DEFAULT_RESERVATION_HORIZON_DAYS);
+    }
+
+    public WorkloadProfile(long seed,
+                           int wards,
+                           int roomsPerWard,
+                           int bedsPerRoom,
+                           double isolationCapableRatio,
+                           int patients,
+                           double isolationRequiredRatio,
+                           int stays,
+                           double dayStayRatio,
+                           double medianWeekStayDays,
+                           double seasonalAmplitude,
+                           LocalDate referenceDate,
+                           double futureReservationRatio,
+                           int reservationHorizonDays) {
+        if (wards < 1 || roomsPerWard < 1 || bedsPerRoom < 1) {
+            throw new IllegalArgumentException("Wards, rooms per ward and beds per room must be at least 1");
+        }
+        if (patients < 1 || stays < 0) {
+            throw new IllegalArgumentException("Patients must be at least 1 and stays cannot be negative");
+        }
+        if (!isRatio(isolationCapableRatio) || !isRatio(isolationRequiredRatio)
+                || !isRatio(dayStayRatio) || !isRatio(futureReservationRatio)) {
+            throw new IllegalArgumentException("Ratios must be in [0, 1]");
+        }
+        if (isolationRequiredRatio > 0 && isolationCapableRatio == 0) {
+            throw new IllegalArgumentException("Patients requiring isolation need isolation-capable rooms");
+        }
+        if (medianWeekStayDays < 1) {
+            throw new IllegalArgumentException("Median week stay must be at least 1 day");
+        }
+        if (seasonalAmplitude < 0 || seasonalAmplitude >= 1) {
+            throw new IllegalArgumentException("Seasonal amplitude must be in [0, 1[");
+        }
+        if (referenceDate == null) {
+            throw new IllegalArgumentException("Reference date cannot be null");
+        }
+        if (reservationHorizonDays < 1) {
+            throw new IllegalArgumentException("Reservation horizon must be at least 1 day");
+        }
+        this.seed = seed;
+        this.wards = wards;
+        this.roomsPerWard = roomsPerWard;
+        this.bedsPerRoom = bedsPerRoom;
+        this.isolationCapableRatio = isolationCapableRatio;
+        this.patients = patients;
+        this.isolationRequiredRatio = isolationRequiredRatio;
+        this.stays = stays;
+        this.dayStayRatio = dayStayRatio;
+        this.medianWeekStayDays = medianWeekStayDays;
+        this.seasonalAmplitude = seasonalAmplitude;
+        this.referenceDate = referenceDate;
+        this.futureReservationRatio = futureReservationRatio;
+        this.reservationHorizonDays = reservationHorizonDays;
+    }
+
+    private static boolean isRatio(double value) {
+        return value >= 0 && value <= 1;
+    }
+
+    /**
+     * Nombre total de lits : services × chambres × lits par chambre.
+     */
+    public int getBeds() {
+        return wards * roomsPerWard * bedsPerRoom;
+    }
+
+    /* GETTERS */
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getWards() {
+        return wards;
+    }
+
+    public int getRoomsPerWard() {
+        return roomsPerWard;
+    }
+
+    public int getBedsPerRoom() {
+        return bedsPerRoom;
+    }
+
+    public double getIsolationCapableRatio() {
+        return isolationCapableRatio;
+    }
+
+    public int getPatients() {
+        return patients;
+    }
+
+    public double getIsolationRequiredRatio() {
+        return isolationRequiredRatio;
+    }
+
+    public int getStays() {
+        return stays;
+    }
+
+    public double getDayStayRatio() {
+        return dayStayRatio;
+    }
+
+    public double getMedianWeekStayDays() {
+        return medianWeekStayDays;
+    }
+
+    public double getSeasonalAmplitude() {
+        return seasonalAmplitude;
+    }
+
+    public LocalDate getReferenceDate() {
+        return referenceDate;
+    }
+
+    public double getFutureReservationRatio() {
+        return futureReservationRatio;
+    }
+
+    public int getReservationHorizonDays() {
+        return reservationHorizonDays;
+    }
+}
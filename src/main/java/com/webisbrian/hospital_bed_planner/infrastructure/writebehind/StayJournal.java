@@ -0,0 +1,132 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.writebehind;
+
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.infrastructure.file.HospitalStayRecordCodec;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Journal local des séjours en attente d'écriture : chaque écriture est ajoutée puis synchronisée
+ * sur disque ({@code force}) avant d'être acquittée. Le journal est réécrit avec les seules entrées
+ * encore en attente quand l'appelant le décide, au vu du nombre d'enregistrements ({@link #getRecordCount()}).
+ * <p>
+ * Cette classe n'est pas thread-safe : l'appelant sérialise les accès.
+ */
+final class StayJournal implements AutoCloseable {
+
+    private final Path path;
+    private FileChannel channel;
+    private long recordCount;
+
+    StayJournal(Path path) throws IOException {
+        this.path = path;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = openForAppend(path);
+    }
+
+    /**
+     * Relit le journal : dernière version de chaque séjour, dans l'ordre de première écriture.
+     * Une fin tronquée ou corrompue (arrêt brutal pendant un ajout) est ignorée et coupée du fichier :
+     * sinon les ajouts suivants seraient écrits derrière elle, et perdus à la relecture suivante.
+     */
+    Map<String, HospitalStay> replay() throws IOException {
+        Map<String, HospitalStay> stays = new LinkedHashMap<>();
+        long validLength = 0;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            HospitalStay stay;
+            while ((stay = HospitalStayRecordCodec.readFramed(in)) != null) {
+                stays.put(stay.getId(), stay);
+                validLength += HospitalStayRecordCodec.toFramedBytes(stay).length;
+                recordCount++;
+            }
+        }
+
+        if (channel.size() > validLength) {
+            channel.truncate(validLength);
+            channel.force(false);
+        }
+        return stays;
+    }
+
+    /**
+     * Ajoute les séjours et attend leur écriture sur disque.
+     */
+    void append(Collection<HospitalStay> stays) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (HospitalStay stay : stays) {
+            HospitalStayRecordCodec.writeFramed(bytes, stay);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+        recordCount += stays.size();
+    }
+
+    /**
+     * Remplace le contenu du journal par les séjours donnés (fichier temporaire puis renommage atomique).
+     */
+    void rewrite(Collection<HospitalStay> stays) throws IOException {
+        if (stays.isEmpty()) {
+            channel.truncate(0);
+            channel.force(false);
+            recordCount = 0;
+            return;
+        }
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            for (HospitalStay stay : stays) {
+                HospitalStayRecordCodec.writeFramed(bytes, stay);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(false);
+        }
+
+        // Le canal est rouvert même si le renommage échoue : le journal d'origine reste alors en place
+        channel.close();
+        try {
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            channel = openForAppend(path);
+        }
+        recordCount = stays.size();
+    }
+
+    /**
+     * Nombre d'enregistrements du fichier, versions périmées comprises.
+     */
+    long getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static FileChannel openForAppend(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,651 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.writebehind;
+
+import com.webisbrian.hospital_bed_planner.domain.model.BedOccupancy;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedAvailabilityRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.domain.service.RepositoryBedAvailability;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLNonTransientException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Décorateur « write-behind » de {@link HospitalStayRepository} : une écriture est acquittée dès qu'elle
+ * est synchronisée dans un journal local, puis écrite dans le repository décoré par un thread de fond.
+ * <p>
+ * - les écritures en attente sont regroupées par identifiant de séjour (seule la dernière version est envoyée) ;
+ * - elles partent par lots de {@code batchSize} via {@link HospitalStayRepository#saveAll(Collection)},
+ *   après au plus {@code flushInterval} ;
+ * - le tampon est borné à {@code maxPending} séjours : au-delà, l'écriture attend (jusqu'à {@code offerTimeout}) ;
+ * - les lectures voient les écritures en attente (lecture de ses propres écritures) ;
+ *   {@link #streamAll()} et {@link #findPageAfter(HospitalStay, int)} vident d'abord le tampon ;
+ * - une recherche de lit faite directement en base (ex : {@code MysqlBedRepository#findFirstFreeBed}) ne voit pas
+ *   les séjours en attente et peut proposer un lit déjà attribué : le placement doit passer par
+ *   {@link #bedAvailability(BedRepository, BedAvailabilityRepository)} ;
+ * - {@link #close()} vide le tampon ; ce qui n'a pas pu être écrit reste dans le journal
+ *   et est rejoué au prochain démarrage.
+ * <p>
+ * Échecs d'envoi : la dernière erreur est conservée ({@link #getLastFailure()}).
+ * - une panne du repository décoré (base indisponible...) laisse le lot en attente ; il est réessayé
+ *   après {@code flushInterval} ;
+ * - un refus de données (contrainte violée, valeur invalide : voir {@link #isRejection(RuntimeException)})
+ *   fait scinder le lot en deux, récursivement, pour envoyer tous les séjours acceptés. Les séjours refusés
+ *   seuls sont écartés du tampon ({@link #getParkedStays()}) : ils ne bloquent plus les écritures suivantes,
+ *   ne sont plus visibles en lecture, et restent dans le journal pour être réessayés au prochain démarrage.
+ *   Une nouvelle version d'un séjour écarté le remet en attente.
+ */
+public class WriteBehindHospitalStayRepository implements HospitalStayRepository, AutoCloseable {
+
+    public static final int DEFAULT_MAX_PENDING = 10_000;
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(200);
+    public static final Duration DEFAULT_OFFER_TIMEOUT = Duration.ofSeconds(5);
+    public static final Duration DEFAULT_FLUSH_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HospitalStayRepository delegate;
+    private final StayJournal journal;
+    private final int maxPending;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration offerTimeout;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workAvailable = lock.newCondition();
+    private final Condition spaceAvailable = lock.newCondition();
+    private final Condition batchFlushed = lock.newCondition();
+    private final LinkedHashMap<String, HospitalStay> pending = new LinkedHashMap<>();
+    private final LinkedHashMap<String, HospitalStay> parked = new LinkedHashMap<>();
+    private boolean flushRequested;
+    private boolean closed;
+
+    private long flushedStays;
+    private long failedFlushes;
+    private RuntimeException lastFailure;
+
+    private final Thread flusher;
+
+    public WriteBehindHospitalStayRepository(HospitalStayRepository delegate, Path journalPath) {
+        this(delegate, journalPath, DEFAULT_MAX_PENDING, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL, DEFAULT_OFFER_TIMEOUT);
+    }
+
+    /**
+     * @param delegate      repository de destination (typiquement MySQL)
+     * @param journalPath   fichier du journal local ; ses entrées sont rejouées au démarrage
+     * @param maxPending    nombre maximal de séjours en attente
+     * @param batchSize     nombre maximal de séjours par écriture groupée
+     * @param flushInterval délai de regroupement avant un envoi
+     * @param offerTimeout  attente maximale d'une place dans le tampon
+     */
+    public WriteBehindHospitalStayRepository(HospitalStayRepository delegate,
+                                             Path journalPath,
+                                             int maxPending,
+                                             int batchSize,
+                                             Duration flushInterval,
+                                             Duration offerTimeout) {
+        if (delegate == null || journalPath == null) {
+            throw new IllegalArgumentException("Delegate repository and journal path cannot be null");
+        }
+        if (maxPending <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Max pending and batch size must be positive");
+        }
+        if (flushInterval == null || offerTimeout == null) {
+            throw new IllegalArgumentException("Flush interval and offer timeout cannot be null");
+        }
+        this.delegate = delegate;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.offerTimeout = offerTimeout;
+
+        // 1. Reprise : les écritures acquittées mais non envoyées avant l'arrêt sont rejouées
+        try {
+            this.journal = new StayJournal(journalPath);
+            this.pending.putAll(journal.replay());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open write-behind journal " + journalPath, e);
+        }
+
+        // 2. Thread d'envoi
+        this.flusher = new Thread(this::runFlusher, "stay-write-behind");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public HospitalStay save(HospitalStay hospitalStay) {
+        if (hospitalStay == null) {
+            throw new IllegalArgumentException("HospitalStay cannot be null");
+        }
+        if (hospitalStay.getId() == null || hospitalStay.getId().isBlank()) {
+            throw new IllegalArgumentException("HospitalStay id cannot be null or blank");
+        }
+        enqueue(List.of(hospitalStay));
+        return hospitalStay;
+    }
+
+    @Override
+    public void saveAll(Collection<HospitalStay> hospitalStays) {
+        if (hospitalStays == null) {
+            throw new IllegalArgumentException("HospitalStays cannot be null");
+        }
+        for (HospitalStay hospitalStay : hospitalStays) {
+            if (hospitalStay == null || hospitalStay.getId() == null || hospitalStay.getId().isBlank()) {
+                throw new IllegalArgumentException("HospitalStay and its id cannot be null or blank");
+            }
+        }
+        if (hospitalStays.isEmpty()) {
+            return;
+        }
+
+        if (hospitalStays.size() > maxPending) {
+            // Chargement massif plus grand que le tampon : écriture directe, après les écritures en attente
+            flush();
+            delegate.saveAll(hospitalStays);
+            return;
+        }
+        enqueue(new ArrayList<>(hospitalStays));
+    }
+
+    @Override
+    public Optional<HospitalStay> findById(String id) {
+        lock.lock();
+        try {
+            HospitalStay pendingStay = pending.get(id);
+            if (pendingStay != null) {
+                return Optional.of(pendingStay);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<HospitalStay> findAllByPatientId(String patientId) {
+        Map<String, HospitalStay> overlay = pendingSnapshot();
+        return merge(delegate.findAllByPatientId(patientId), overlay,
+                stay -> Objects.equals(stay.getPatientId(), patientId));
+    }
+
+    @Override
+    public List<HospitalStay> findAll() {
+        Map<String, HospitalStay> overlay = pendingSnapshot();
+        return merge(delegate.findAll(), overlay, stay -> true);
+    }
+
+    @Override
+    public Stream<HospitalStay> streamAll() {
+        flush();
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<HospitalStay> findPageAfter(HospitalStay lastOfPreviousPage, int pageSize) {
+        flush();
+        return delegate.findPageAfter(lastOfPreviousPage, pageSize);
+    }
+
+    @Override
+    public List<HospitalStay> findActiveStaysOn(LocalDate date) {
+        Map<String, HospitalStay> overlay = pendingSnapshot();
+        return merge(delegate.findActiveStaysOn(date), overlay, stay -> overlaps(stay, date, date));
+    }
+
+    @Override
+    public List<HospitalStay> findStaysOverlapping(LocalDate from, LocalDate to) {
+        Map<String, HospitalStay> overlay = pendingSnapshot();
+        return merge(delegate.findStaysOverlapping(from, to), overlay, stay -> overlaps(stay, from, to));
+    }
+
+    @Override
+    public BedOccupancy findOccupancyBetween(LocalDate from, LocalDate to, LocalDate today) {
+        if (getPendingCount() == 0) {
+            return delegate.findOccupancyBetween(from, to, today);
+        }
+        Set<String> occupiedBedIds = new HashSet<>();
+        for (HospitalStay stay : findStaysOverlapping(from, to)) {
+            if (blocksPlacement(stay, from, today)) {
+                occupiedBedIds.add(stay.getBedId());
+            }
+        }
+        return occupiedBedIds::contains;
+    }
+
+    /**
+     * Recherche de lit cohérente avec les écritures en attente : la recherche faite en base ({@code pushdown})
+     * quand le tampon est vide, sinon le parcours des lits avec l'occupation fusionnée de ce repository.
+     *
+     * @param bedRepository lits candidats
+     * @param pushdown      recherche en une requête du repository décoré (ex : {@code MysqlBedRepository})
+     */
+    public BedAvailabilityRepository bedAvailability(BedRepository bedRepository, BedAvailabilityRepository pushdown) {
+        if (bedRepository == null || pushdown == null) {
+            throw new IllegalArgumentException("Bed repository and availability repository cannot be null");
+        }
+        RepositoryBedAvailability withPendingStays = new RepositoryBedAvailability(bedRepository, this);
+        return (patient, from, to, today) -> getPendingCount() == 0
+                ? pushdown.findFirstFreeBed(patient, from, to, today)
+                : withPendingStays.findFirstFreeBed(patient, from, to, today);
+    }
+
+    /**
+     * Attend que toutes les écritures en attente soient envoyées au repository décoré.
+     *
+     * @throws IllegalStateException si le tampon n'est pas vidé avant {@link #DEFAULT_FLUSH_TIMEOUT}
+     */
+    public void flush() {
+        long deadline = System.nanoTime() + DEFAULT_FLUSH_TIMEOUT.toNanos();
+        lock.lock();
+        try {
+            while (!pending.isEmpty()) {
+                flushRequested = true;
+                workAvailable.signal();
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !flusher.isAlive()) {
+                    throw new IllegalStateException(pending.size() + " hospital stays could not be flushed", lastFailure);
+                }
+                batchFlushed.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while flushing hospital stays", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Vide le tampon puis arrête le thread d'envoi. Les séjours non envoyés restent dans le journal.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            workAvailable.signalAll();
+            spaceAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to close write-behind journal", e);
+        }
+    }
+
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getFlushedCount() {
+        lock.lock();
+        try {
+            return flushedStays;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getFailedFlushCount() {
+        lock.lock();
+        try {
+            return failedFlushes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Dernière erreur renvoyée par le repository décoré lors d'un envoi (vide si aucun envoi n'a échoué).
+     */
+    public Optional<RuntimeException> getLastFailure() {
+        lock.lock();
+        try {
+            return Optional.ofNullable(lastFailure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Séjours refusés par le repository décoré et écartés du tampon.
+     */
+    public List<HospitalStay> getParkedStays() {
+        lock.lock();
+        try {
+            return List.copyOf(parked.values());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Journalise puis met en attente ; attend une place si le tampon est plein.
+     */
+    private void enqueue(List<HospitalStay> stays) {
+        long deadline = System.nanoTime() + offerTimeout.toNanos();
+        lock.lock();
+        try {
+            // 1. Place dans le tampon (une réécriture d'un séjour déjà en attente n'en prend pas)
+            while (!closed && pending.size() + newEntries(stays) > maxPending) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new IllegalStateException("Write-behind buffer is full (" + maxPending + " pending stays)",
+                            lastFailure);
+                }
+                flushRequested = true;
+                workAvailable.signal();
+                spaceAvailable.awaitNanos(remaining);
+            }
+            if (closed) {
+                throw new IllegalStateException("Write-behind repository is closed");
+            }
+
+            // 2. Durabilité locale avant acquittement
+            journal.append(stays);
+
+            // 3. Regroupement par séjour (une nouvelle version d'un séjour écarté le remet en attente)
+            for (HospitalStay stay : stays) {
+                parked.remove(stay.getId());
+                pending.put(stay.getId(), stay);
+            }
+            if (pending.size() >= batchSize) {
+                flushRequested = true;
+            }
+            workAvailable.signal();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to journal " + stays.size() + " hospital stays", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for write-behind buffer space", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int newEntries(List<HospitalStay> stays) {
+        Set<String> ids = new HashSet<>();
+        for (HospitalStay stay : stays) {
+            if (!pending.containsKey(stay.getId())) {
+                ids.add(stay.getId());
+            }
+        }
+        return ids.size();
+    }
+
+    /**
+     * Boucle du thread d'envoi : attend du travail, laisse les écritures se regrouper, envoie un lot.
+     */
+    private void runFlusher() {
+        while (true) {
+            List<HospitalStay> batch;
+
+            // 1. Attente d'un lot
+            lock.lock();
+            try {
+                while (pending.isEmpty() && !closed) {
+                    workAvailable.awaitUninterruptibly();
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (!closed && !flushRequested && pending.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    workAvailable.awaitNanos(remaining);
+                }
+                flushRequested = false;
+                batch = pending.values().stream().limit(batchSize).toList();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            // 2. Envoi hors verrou ; un lot refusé est scindé pour isoler les séjours en cause
+            FlushResult result = send(batch);
+
+            // 3. Retrait des séjours envoyés ou écartés (sauf s'ils ont été réécrits entre-temps) et compactage du journal
+            boolean closedNow;
+            lock.lock();
+            try {
+                for (HospitalStay stay : result.sent) {
+                    pending.remove(stay.getId(), stay);
+                }
+                for (HospitalStay stay : result.rejected) {
+                    if (pending.remove(stay.getId(), stay)) {
+                        parked.put(stay.getId(), stay);
+                    }
+                }
+                flushedStays += result.sent.size();
+                if (result.failure != null) {
+                    failedFlushes++;
+                    lastFailure = result.failure;
+                }
+                if (!result.sent.isEmpty() || !result.rejected.isEmpty()) {
+                    compactJournalIfNeeded();
+                    spaceAvailable.signalAll();
+                }
+            } catch (IOException e) {
+                // Journal non compacté : il contient des entrées déjà envoyées, rejouées sans risque (upsert)
+            } finally {
+                closedNow = closed;
+                batchFlushed.signalAll();
+                lock.unlock();
+            }
+
+            // 4. Panne du repository décoré : nouvel essai après flushInterval, ou arrêt (le journal garde les séjours)
+            if (result.retryLater) {
+                if (closedNow) {
+                    return;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(flushInterval.toNanos());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Envoie un lot. S'il est refusé, le scinde en moitiés, niveau par niveau, jusqu'à isoler les séjours refusés seuls.
+     * Un séjour refusé seul n'est écarté que si le repository décoré a accepté d'autres séjours du lot (ou si le lot
+     * n'en contenait qu'un) : un refus de tout le lot signale plutôt une erreur systématique, et le lot est réessayé.
+     */
+    private FlushResult send(List<HospitalStay> batch) {
+        FlushResult result = new FlushResult();
+        List<HospitalStay> rejectedAlone = new ArrayList<>();
+        List<List<HospitalStay>> chunks = List.of(batch);
+
+        while (!chunks.isEmpty()) {
+            List<List<HospitalStay>> halves = new ArrayList<>();
+            for (List<HospitalStay> chunk : chunks) {
+                try {
+                    delegate.saveAll(chunk);
+                    result.sent.addAll(chunk);
+                } catch (RuntimeException e) {
+                    result.failure = e;
+                    if (!isRejection(e)) {
+                        // Panne : inutile de scinder, le reste du lot attendra le prochain essai
+                        result.retryLater = true;
+                        return result;
+                    }
+                    if (chunk.size() == 1) {
+                        rejectedAlone.add(chunk.get(0));
+                    } else {
+                        int half = chunk.size() / 2;
+                        halves.add(chunk.subList(0, half));
+                        halves.add(chunk.subList(half, chunk.size()));
+                    }
+                }
+            }
+            chunks = halves;
+        }
+
+        if (!result.sent.isEmpty() || batch.size() == 1) {
+            result.rejected.addAll(rejectedAlone);
+        } else if (!rejectedAlone.isEmpty()) {
+            result.retryLater = true;
+        }
+        return result;
+    }
+
+    /**
+     * Distingue un refus de données d'une panne : argument invalide, ou {@link SQLNonTransientException}
+     * (contrainte violée, donnée invalide...) autre qu'une perte de connexion, dans la chaîne des causes.
+     * Réessayer à l'identique un séjour refusé échouerait de nouveau.
+     */
+    static boolean isRejection(RuntimeException e) {
+        if (e instanceof IllegalArgumentException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            for (Throwable sqlCause = cause; sqlCause != null;
+                 sqlCause = sqlCause instanceof SQLException sql ? sql.getNextException() : null) {
+                if (sqlCause instanceof SQLNonTransientException
+                        && !(sqlCause instanceof SQLNonTransientConnectionException)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Réécrit le journal quand les versions déjà envoyées y dominent : vide, il est simplement tronqué ;
+     * sinon il n'est réécrit que si ses entrées périmées dépassent ses entrées vivantes (et au moins un lot).
+     * La taille du journal reste bornée sans réécrire tout le tampon, sous le verrou, après chaque lot.
+     * Appelé sous le verrou.
+     */
+    private void compactJournalIfNeeded() throws IOException {
+        int live = pending.size() + parked.size();
+        long stale = journal.getRecordCount() - live;
+        if (live == 0 || stale > Math.max(live, batchSize)) {
+            journal.rewrite(journalEntries());
+        }
+    }
+
+    /**
+     * Contenu du journal : séjours en attente et séjours écartés.
+     */
+    private List<HospitalStay> journalEntries() {
+        List<HospitalStay> entries = new ArrayList<>(pending.size() + parked.size());
+        entries.addAll(pending.values());
+        entries.addAll(parked.values());
+        return entries;
+    }
+
+    private Map<String, HospitalStay> pendingSnapshot() {
+        lock.lock();
+        try {
+            return new LinkedHashMap<>(pending);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remplace dans le résultat du repository décoré les séjours en attente, et ajoute ceux qui satisfont le critère.
+     */
+    private static List<HospitalStay> merge(List<HospitalStay> persisted,
+                                            Map<String, HospitalStay> overlay,
+                                            Predicate<HospitalStay> criteria) {
+        if (overlay.isEmpty()) {
+            return persisted;
+        }
+        Map<String, HospitalStay> remaining = new LinkedHashMap<>(overlay);
+        List<HospitalStay> merged = new ArrayList<>(persisted.size() + overlay.size());
+        for (HospitalStay stay : persisted) {
+            HospitalStay newer = remaining.remove(stay.getId());
+            if (newer == null) {
+                merged.add(stay);
+            } else if (criteria.test(newer)) {
+                merged.add(newer);
+            }
+        }
+        for (HospitalStay stay : remaining.values()) {
+            if (criteria.test(stay)) {
+                merged.add(stay);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Même règle que les repositories : occupé de l'admission à la sortie effective incluse.
+     */
+    private static boolean overlaps(HospitalStay stay, LocalDate from, LocalDate to) {
+        return stay.getAdmissionDate() != null
+                && (to == null || !stay.getAdmissionDate().isAfter(to))
+                && (stay.getDischargeDateEffective() == null || !stay.getDischargeDateEffective().isBefore(from));
+    }
+
+    /**
+     * Pour un séjour qui chevauche [from, to] : une réservation (non clôturée, admise après {@code today})
+     * ne bloque un placement que jusqu'à sa sortie prévue (même règle que {@link HospitalStayRepository#findOccupancyBetween}).
+     */
+    private static boolean blocksPlacement(HospitalStay stay, LocalDate from, LocalDate today) {
+        if (stay.getDischargeDateEffective() != null || !stay.getAdmissionDate().isAfter(today)) {
+            return true;
+        }
+        return stay.getDischargeDatePlanned() == null || !stay.getDischargeDatePlanned().isBefore(from);
+    }
+
+    private static Set<String> bedIdsOf(List<HospitalStay> stays) {
+        return stays.stream()
+                .map(HospitalStay::getBedId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Issue d'un envoi : séjours écrits, séjours refusés seuls, dernière erreur, et nouvel essai nécessaire.
+     */
+    private static final class FlushResult {
+        private final List<HospitalStay> sent = new ArrayList<>();
+        private final List<HospitalStay> rejected = new ArrayList<>();
+        private RuntimeException failure;
+        private boolean retryLater;
+    }
+}
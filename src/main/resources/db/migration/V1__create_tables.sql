@@ -0,0 +1,36 @@
+-- Tables de base : patients, lits, séjours
+
+CREATE TABLE IF NOT EXISTS patient (
+    id           VARCHAR(64)  NOT NULL,
+    first_name   VARCHAR(100) NOT NULL,
+    last_name    VARCHAR(100) NOT NULL,
+    birth_date   DATE         NOT NULL,
+    sex          VARCHAR(10)  NOT NULL,
+    pmr          BOOLEAN      NOT NULL DEFAULT FALSE,
+    isolation    BOOLEAN      NOT NULL DEFAULT FALSE,
+    phone_number VARCHAR(30),
+    notes        TEXT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS bed (
+    id                VARCHAR(64) NOT NULL,
+    room_id           VARCHAR(64) NOT NULL,
+    code              VARCHAR(32) NOT NULL,
+    status            VARCHAR(20) NOT NULL,
+    isolation_capable BOOLEAN     NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS hospital_stay (
+    id                       VARCHAR(64) NOT NULL,
+    patient_id               VARCHAR(64) NOT NULL,
+    bed_id                   VARCHAR(64) NOT NULL,
+    stay_type                VARCHAR(10) NOT NULL,
+    admission_date           DATE        NOT NULL,
+    discharge_date_planned   DATE,
+    discharge_date_effective DATE,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_hospital_stay_patient FOREIGN KEY (patient_id) REFERENCES patient (id),
+    CONSTRAINT fk_hospital_stay_bed FOREIGN KEY (bed_id) REFERENCES bed (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
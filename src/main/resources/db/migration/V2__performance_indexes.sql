@@ -0,0 +1,27 @@
+-- Index composites alignés sur les requêtes des repositories MySQL
+-- (la liste attendue est vérifiée par MysqlIndexChecker)
+
+-- Occupation à une date / sur une période (findActiveStaysOn, findOccupancyBetween, findStaysOverlapping) :
+-- index couvrant pour la projection sur bed_id
+CREATE INDEX idx_stay_admission_discharge_bed
+    ON hospital_stay (admission_date, discharge_date_effective, bed_id);
+
+-- Historique d'un patient (findAllByPatientId : WHERE patient_id = ? ORDER BY admission_date DESC)
+CREATE INDEX idx_stay_patient_admission
+    ON hospital_stay (patient_id, admission_date DESC);
+
+-- Anti-jointure de recherche de lit libre (MysqlBedRepository.findFirstFreeBed) : séjours d'un lit sur une période
+CREATE INDEX idx_stay_bed_admission_discharge
+    ON hospital_stay (bed_id, admission_date, discharge_date_effective);
+
+-- Liste et pagination par clé des séjours (findAll, streamAll, findPageAfter)
+CREATE INDEX idx_stay_admission_id
+    ON hospital_stay (admission_date DESC, id DESC);
+
+-- Lits par statut triés par code (findByStatus, findFirstFreeBed)
+CREATE INDEX idx_bed_status_code
+    ON bed (status, code);
+
+-- Liste et pagination par clé des patients (findAll, streamAll, findPageAfter)
+CREATE INDEX idx_patient_name
+    ON patient (last_name, first_name, id);
@@ -0,0 +1,17 @@
+-- Les requêtes de placement lisent aussi la sortie prévue : une réservation (séjour non clôturé
+-- pas encore commencé) libère son lit à sa sortie prévue. Les index d'occupation de V2 sont remplacés
+-- par des index qui couvrent aussi discharge_date_planned (la liste attendue est vérifiée par MysqlIndexChecker)
+
+-- Occupation à une date / sur une période (findActiveStaysOn, findStaysOverlapping, et findOccupancyBetween
+-- qui lit la sortie prévue) : index couvrant pour la projection sur bed_id
+CREATE INDEX idx_stay_admission_end_bed
+    ON hospital_stay (admission_date, discharge_date_effective, discharge_date_planned, bed_id);
+
+DROP INDEX idx_stay_admission_discharge_bed ON hospital_stay;
+
+-- Anti-jointure de recherche de lit libre (MysqlBedRepository.findFirstFreeBed).
+-- Créé avant la suppression de l'ancien index, qui peut porter la clé étrangère sur bed_id.
+CREATE INDEX idx_stay_bed_admission_end
+    ON hospital_stay (bed_id, admission_date, discharge_date_effective, discharge_date_planned);
+
+DROP INDEX idx_stay_bed_admission_discharge ON hospital_stay;
@@ -0,0 +1,138 @@
+package com.webisbrian.hospital_bed_planner.application.usecase;
+
+import com.webisbrian.hospital_bed_planner.domain.model.*;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryBedRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryHospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryPatientRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncHospitalBedPlannerTest {
+
+    /** Latence simulée de chaque lecture. */
+    private static final long LOOKUP_MILLIS = 200;
+
+    private AsyncHospitalBedPlanner planner;
+
+    @BeforeEach
+    void setUpPerTest() {
+        SlowPatientRepository patientRepository = new SlowPatientRepository();
+        SlowBedRepository bedRepository = new SlowBedRepository();
+        SlowHospitalStayRepository hospitalStayRepository = new SlowHospitalStayRepository();
+
+        patientRepository.save(new Patient("P-001", "Alice", "Martin", LocalDate.of(1980, 1, 1),
+                Sex.FEMALE, false, false, null, null));
+        bedRepository.save(new Bed("BED-1", "ROOM-1", "A01-1", BedStatus.AVAILABLE, false));
+        bedRepository.save(new Bed("BED-2", "ROOM-1", "A01-2", BedStatus.AVAILABLE, false));
+        hospitalStayRepository.save(new HospitalStay("STAY-0", "P-002", "BED-1", StayType.WEEK,
+                LocalDate.of(2025, 1, 10), null, null));
+
+        planner = new AsyncHospitalBedPlanner(patientRepository, bedRepository, hospitalStayRepository);
+    }
+
+    @AfterEach
+    void tearDownPerTest() {
+        planner.close();
+    }
+
+    @Test
+    void suggestBedForPatient_shouldRunLookupsInParallel() throws Exception {
+        // Act
+        long start = System.nanoTime();
+        Optional<Bed> bed = planner.suggestBedForPatient("P-001", LocalDate.of(2025, 1, 15), LocalDate.of(2025, 1, 20))
+                .get(5, TimeUnit.SECONDS);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Assert
+        assertEquals("BED-2", bed.orElseThrow().getId(), "BED-1 est occupé sur la période");
+        assertTrue(elapsed.toMillis() < 2 * LOOKUP_MILLIS,
+                "Trois lectures de " + LOOKUP_MILLIS + " ms doivent coûter la plus lente, pas la somme : " + elapsed.toMillis() + " ms");
+    }
+
+    @Test
+    void suggestBedForPatient_shouldNotDeadlock_whenCallerPoolIsSaturated() throws Exception {
+        // Arrange : deux threads dans l'exécuteur de l'appelant, tous deux occupés par des demandes
+        SlowPatientRepository patients = new SlowPatientRepository();
+        SlowBedRepository beds = new SlowBedRepository();
+        patients.save(new Patient("P-001", "Alice", "Martin", LocalDate.of(1980, 1, 1),
+                Sex.FEMALE, false, false, null, null));
+        beds.save(new Bed("BED-1", "ROOM-1", "A01-1", BedStatus.AVAILABLE, false));
+        ExecutorService callerPool = Executors.newFixedThreadPool(2);
+
+        try (AsyncHospitalBedPlanner bounded =
+                     new AsyncHospitalBedPlanner(patients, beds, new SlowHospitalStayRepository(), callerPool)) {
+            // Act
+            var first = bounded.suggestBedForPatient("P-001", LocalDate.of(2025, 1, 15), LocalDate.of(2025, 1, 20));
+            var second = bounded.suggestBedForPatient("P-001", LocalDate.of(2025, 1, 15), LocalDate.of(2025, 1, 20));
+
+            // Assert : les lectures ne réclament pas de thread à l'exécuteur saturé
+            assertEquals("BED-1", first.get(5, TimeUnit.SECONDS).orElseThrow().getId());
+            assertEquals("BED-1", second.get(5, TimeUnit.SECONDS).orElseThrow().getId());
+        } finally {
+            callerPool.shutdownNow();
+        }
+    }
+
+    @Test
+    void suggestBedForPatient_shouldFailWithIllegalArgument_whenPatientDoesNotExist() {
+        // Act + Assert
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> planner.suggestBedForPatient("P-404", LocalDate.of(2025, 1, 15), LocalDate.of(2025, 1, 20))
+                        .get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    }
+
+    @Test
+    void placePatient_shouldCreateStayAsynchronously() throws Exception {
+        // Act
+        Optional<HospitalStay> stay = planner.placePatient("STAY-1", "P-001",
+                LocalDate.of(2025, 1, 15), LocalDate.of(2025, 1, 20), StayType.WEEK).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals("BED-2", stay.orElseThrow().getBedId());
+    }
+
+    private static void simulateLatency() {
+        try {
+            Thread.sleep(LOOKUP_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class SlowPatientRepository extends InMemoryPatientRepository {
+        @Override
+        public Optional<Patient> findById(String id) {
+            simulateLatency();
+            return super.findById(id);
+        }
+    }
+
+    private static final class SlowBedRepository extends InMemoryBedRepository {
+        @Override
+        public List<Bed> findByStatus(BedStatus status) {
+            simulateLatency();
+            return super.findByStatus(status);
+        }
+    }
+
+    private static final class SlowHospitalStayRepository extends InMemoryHospitalStayRepository {
+        @Override
+        public BedOccupancy findOccupancyBetween(LocalDate from, LocalDate to, LocalDate today) {
+            simulateLatency();
+            return super.findOccupancyBetween(from, to, today);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.webisbrian.hospital_bed_planner.application.usecase;
+
+import com.webisbrian.hospital_bed_planner.domain.model.*;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryBedRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryHospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryPatientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceAdmissionWaveUseCaseTest {
+
+    private InMemoryPatientRepository patientRepository;
+    private InMemoryBedRepository bedRepository;
+    private InMemoryHospitalStayRepository hospitalStayRepository;
+    private PlaceAdmissionWaveUseCase placeAdmissionWaveUseCase;
+
+    @BeforeEach
+    void setUpPerTest() {
+        patientRepository = new InMemoryPatientRepository();
+        bedRepository = new InMemoryBedRepository();
+        hospitalStayRepository = new InMemoryHospitalStayRepository();
+        placeAdmissionWaveUseCase = new PlaceAdmissionWaveUseCase(patientRepository, bedRepository, hospitalStayRepository);
+
+        patientRepository.save(patient("P-001", "Alice", "Martin"));
+        patientRepository.save(patient("P-002", "Bob", "Durand"));
+        patientRepository.save(patient("P-003", "Claire", "Dupont"));
+    }
+
+    @Test
+    void placePatients_shouldAssignDistinctBedsAndPersistStays_whenEnoughBeds() {
+        // Arrange
+        bedRepository.save(new Bed("BED-2", "ROOM-1", "A02-1", BedStatus.AVAILABLE, false));
+        bedRepository.save(new Bed("BED-1", "ROOM-1", "A01-1", BedStatus.AVAILABLE, false));
+
+        LocalDate admissionDate = LocalDate.of(2025, 1, 15);
+        List<PlacementRequest> requests = List.of(
+                new PlacementRequest("STAY-1", "P-001", admissionDate, LocalDate.of(2025, 1, 20), StayType.WEEK),
+                new PlacementRequest("STAY-2", "P-002", admissionDate, null, StayType.DAY)
+        );
+
+        // Act
+        PlacementBatchResult result = placeAdmissionWaveUseCase.placePatients(requests);
+
+        // Assert
+        assertEquals(2, result.getPlaced().size());
+        assertTrue(result.getUnplaced().isEmpty());
+        assertEquals("BED-1", result.getPlaced().get(0).getBedId(), "La première demande prend le plus petit code");
+        assertEquals("BED-2", result.getPlaced().get(1).getBedId(), "Un lit déjà attribué dans la vague ne doit pas être réutilisé");
+        assertTrue(hospitalStayRepository.findById("STAY-1").isPresent(), "Les séjours doivent être persistés");
+        assertTrue(hospitalStayRepository.findById("STAY-2").isPresent(), "Les séjours doivent être persistés");
+    }
+
+    @Test
+    void placePatients_shouldReportUnplacedRequests_whenBedsRunOut() {
+        // Arrange : un lit libre, un lit occupé par un séjour existant
+        bedRepository.save(new Bed("BED-1", "ROOM-1", "A01-1", BedStatus.AVAILABLE, false));
+        bedRepository.save(new Bed("BED-2", "ROOM-1", "A02-1", BedStatus.AVAILABLE, false));
+        hospitalStayRepository.save(new HospitalStay(
+                "STAY-OCCUPANT",
+                "P-003",
+                "BED-1",
+                StayType.WEEK,
+                LocalDate.of(2025, 1, 10),
+                LocalDate.of(2025, 1, 20),
+                null
+        ));
+
+        LocalDate admissionDate = LocalDate.of(2025, 1, 15);
+        PlacementRequest first = new PlacementRequest("STAY-1", "P-001", admissionDate, null, StayType.DAY);
+        PlacementRequest second = new PlacementRequest("STAY-2", "P-002", admissionDate, null, StayType.DAY);
+
+        // Act
+        PlacementBatchResult result = placeAdmissionWaveUseCase.placePatients(List.of(first, second));
+
+        // Assert
+        assertEquals(1, result.getPlaced().size());
+        assertEquals("BED-2", result.getPlaced().get(0).getBedId());
+        assertEquals(List.of(second), result.getUnplaced());
+        assertTrue(hospitalStayRepository.findById("STAY-2").isEmpty(), "Une demande non placée ne doit pas être persistée");
+    }
+
+    @Test
+    void placePatients_shouldThrowAndPersistNothing_whenOnePatientDoesNotExist() {
+        // Arrange
+        bedRepository.save(new Bed("BED-1", "ROOM-1", "A01-1", BedStatus.AVAILABLE, false));
+        LocalDate admissionDate = LocalDate.of(2025, 1, 15);
+        List<PlacementRequest> requests = List.of(
+                new PlacementRequest("STAY-1", "P-001", admissionDate, null, StayType.DAY),
+                new PlacementRequest("STAY-2", "UNKNOWN", admissionDate, null, StayType.DAY)
+        );
+
+        // Act + Assert
+        IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> placeAdmissionWaveUseCase.placePatients(requests)
+        );
+        assertTrue(ex.getMessage().contains("Patient with id UNKNOWN does not exist"));
+        assertTrue(hospitalStayRepository.findAll().isEmpty(), "Aucun séjour ne doit être persisté");
+    }
+
+    private Patient patient(String id, String firstName, String lastName) {
+        return new Patient(
+                id,
+                firstName,
+                lastName,
+                LocalDate.of(1980, 1, 1),
+                Sex.FEMALE,
+                false,
+                false,
+                "0102030405",
+                null
+        );
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -183,4 +184,80 @@ class PlacePatientUseCaseTest {
 
         assertTrue(ex.getMessage().contains("Stay id cannot be null or blank"));
     }
+
+    @Test
+    void placePatient_shouldReturnEmpty_whenOnlyBedIsReservedDuringPlannedPeriod() {
+        // Arrange
+        String patientId = "P-001";
+        Patient patient = new Patient(
+                patientId,
+                "Alice",
+                "Martin",
+                LocalDate.of(1980, 1, 1),
+                Sex.FEMALE,
+                false,
+                false,
+                "0102030405",
+                null
+        );
+        patientRepository.save(patient);
+
+        Bed bed = new Bed("BED-1", "ROOM-1", "A01-1", BedStatus.AVAILABLE, false);
+        bedRepository.save(bed);
+
+        // Le lit est libre le jour de l'admission mais réservé deux jours plus tard
+        HospitalStay reservation = new HospitalStay(
+                "STAY-RESERVED",
+                "P-002",
+                "BED-1",
+                StayType.DAY,
+                LocalDate.of(2025, 1, 17),
+                LocalDate.of(2025, 1, 17),
+                null
+        );
+        hospitalStayRepository.save(reservation);
+
+        // Act
+        Optional<HospitalStay> result = placePatientUseCase.placePatient(
+                "STAY-1",
+                patientId,
+                LocalDate.of(2025, 1, 15),
+                LocalDate.of(2025, 1, 20),
+                StayType.WEEK
+        );
+
+        // Assert
+        assertTrue(result.isEmpty(), "Le lit ne doit pas être attribué s'il est réservé pendant le séjour prévu");
+    }
+
+    @Test
+    void placePatient_shouldPlaceStayBeforeExistingReservation_withoutDoubleBooking() {
+        // Arrange : un seul lit, déjà réservé du 25 au 27 janvier (séjour non clôturé)
+        LocalDate today = LocalDate.of(2025, 1, 15);
+        patientRepository.save(new Patient("P-001", "Alice", "Martin", LocalDate.of(1980, 1, 1),
+                Sex.FEMALE, false, false, "0102030405", null));
+        patientRepository.save(new Patient("P-002", "Bruno", "Durand", LocalDate.of(1975, 5, 5),
+                Sex.MALE, false, false, "0102030406", null));
+        patientRepository.save(new Patient("P-003", "Chloé", "Petit", LocalDate.of(1990, 9, 9),
+                Sex.FEMALE, false, false, "0102030407", null));
+        bedRepository.save(new Bed("BED-1", "ROOM-1", "A01-1", BedStatus.AVAILABLE, false));
+
+        Optional<HospitalStay> late = placePatientUseCase.placePatient(
+                "S-LATE", "P-002", today.plusDays(10), today.plusDays(12), StayType.WEEK);
+
+        // Act
+        Optional<HospitalStay> early = placePatientUseCase.placePatient(
+                "S-EARLY", "P-001", today, today.plusDays(3), StayType.WEEK);
+        Optional<HospitalStay> overlapping = placePatientUseCase.placePatient(
+                "S-OVERLAP", "P-003", today.plusDays(11), today.plusDays(14), StayType.WEEK);
+
+        // Assert
+        assertTrue(late.isPresent(), "La réservation doit être placée");
+        assertEquals("BED-1", early.orElseThrow().getBedId(),
+                "Le lit est libre avant la réservation : la sortie prévue borne l'occupation");
+        assertTrue(overlapping.isEmpty(), "Un séjour chevauchant la réservation ne doit pas obtenir le lit");
+        assertEquals(List.of("S-EARLY"),
+                hospitalStayRepository.findActiveStaysOn(today.plusDays(1)).stream().map(HospitalStay::getId).toList(),
+                "Un seul séjour occupe le lit pendant la période du séjour anticipé");
+    }
 }
@@ -0,0 +1,113 @@
+package com.webisbrian.hospital_bed_planner.domain.service;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.model.Sex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BedAssignmentSolverTest {
+
+    private BedAssignmentSolver solver;
+
+    @BeforeEach
+    void setUpPerTest() {
+        solver = new BedAssignmentSolver();
+    }
+
+    @Test
+    void solve_shouldKeepIsolationBedForIsolationPatient_whenItHasTheLowestCode() {
+        // Arrange : le glouton donnerait A01-1 (isolement) au premier patient et refuserait le second
+        List<Bed> beds = List.of(
+                new Bed("BED-1", "ROOM-1", "A01-1", BedStatus.AVAILABLE, true),
+                new Bed("BED-2", "ROOM-1", "A02-1", BedStatus.AVAILABLE, false)
+        );
+        List<Patient> patients = List.of(
+                patient("P-001", false, false),
+                patient("P-002", false, true)
+        );
+
+        // Act
+        int[] assignment = solver.solve(patients, beds);
+
+        // Assert
+        assertArrayEquals(new int[]{1, 0}, assignment);
+    }
+
+    @Test
+    void solve_shouldNeverPutIsolationPatientInStandardBed() {
+        // Arrange
+        List<Bed> beds = List.of(new Bed("BED-1", "ROOM-1", "A01-1", BedStatus.AVAILABLE, false));
+        List<Patient> patients = List.of(patient("P-001", false, true));
+
+        // Act
+        int[] assignment = solver.solve(patients, beds);
+
+        // Assert
+        assertArrayEquals(new int[]{-1}, assignment);
+    }
+
+    @Test
+    void solve_shouldServePmrPatientFirst_whenBedsAreScarce() {
+        // Arrange
+        List<Bed> beds = List.of(new Bed("BED-1", "ROOM-1", "A01-1", BedStatus.AVAILABLE, false));
+        List<Patient> patients = List.of(
+                patient("P-001", false, false),
+                patient("P-002", true, false)
+        );
+
+        // Act
+        int[] assignment = solver.solve(patients, beds);
+
+        // Assert
+        assertArrayEquals(new int[]{-1, 0}, assignment);
+    }
+
+    @Test
+    void solve_shouldAssignLargeBatchQuickly() {
+        // Arrange : 500 patients (1 sur 5 à isoler), 2000 lits (1 sur 10 avec isolement)
+        List<Bed> beds = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            beds.add(new Bed("BED-" + i, "ROOM-" + i / 2, String.format("B%04d", i), BedStatus.AVAILABLE, i % 10 == 0));
+        }
+        List<Patient> patients = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            patients.add(patient("P-" + i, i % 7 == 0, i % 5 == 0));
+        }
+
+        // Act
+        int[] assignment = assertTimeoutPreemptively(Duration.ofSeconds(1), () -> solver.solve(patients, beds));
+
+        // Assert
+        assertTrue(Arrays.stream(assignment).allMatch(bedIndex -> bedIndex >= 0), "Tous les patients doivent être placés");
+        assertEquals(500, Arrays.stream(assignment).distinct().count(), "Un lit ne peut être attribué qu'une fois");
+        for (int i = 0; i < patients.size(); i++) {
+            Bed bed = beds.get(assignment[i]);
+            assertTrue(BedAssignmentSolver.isCompatible(patients.get(i), bed));
+            assertEquals(0, BedAssignmentSolver.assignmentCost(patients.get(i), bed), "Aucun lit d'isolement ne doit être gaspillé");
+        }
+    }
+
+    private Patient patient(String id, boolean pmr, boolean isolationRequired) {
+        return new Patient(
+                id,
+                "Alice",
+                "Martin",
+                LocalDate.of(1980, 1, 1),
+                Sex.FEMALE,
+                pmr,
+                isolationRequired,
+                "0102030405",
+                null
+        );
+    }
+}
@@ -0,0 +1,96 @@
+package com.webisbrian.hospital_bed_planner.domain.service;
+
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BedOccupancyCalendarTest {
+
+    private BedOccupancyCalendar calendar;
+    private BedOccupancyIndex index;
+
+    @BeforeEach
+    void setUpPerTest() {
+        calendar = new BedOccupancyCalendar(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+        index = new BedOccupancyIndex();
+    }
+
+    @Test
+    void isOccupied_shouldMatchStayBounds_acrossWordBoundaries() {
+        // Arrange : séjour du 60e au 70e jour de l'horizon (à cheval sur deux mots de 64 jours)
+        add(stay("STAY-1", "BED-1", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 11)));
+
+        // Act + Assert
+        assertFalse(calendar.isOccupied("BED-1", LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28)));
+        assertTrue(calendar.isOccupied("BED-1", LocalDate.of(2025, 2, 1), LocalDate.of(2025, 3, 1)));
+        assertTrue(calendar.isOccupied("BED-1", LocalDate.of(2025, 3, 11), LocalDate.of(2025, 3, 11)));
+        assertFalse(calendar.isOccupied("BED-1", LocalDate.of(2025, 3, 12), LocalDate.of(2025, 6, 30)));
+    }
+
+    @Test
+    void rebuild_shouldKeepDaysCoveredByAnotherStay_whenOneStayIsRemoved() {
+        // Arrange
+        HospitalStay first = stay("STAY-1", "BED-1", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 10));
+        add(first);
+        add(stay("STAY-2", "BED-1", LocalDate.of(2025, 3, 5), LocalDate.of(2025, 3, 6)));
+
+        // Act
+        index.remove(first);
+        calendar.rebuild("BED-1", index);
+
+        // Assert
+        assertFalse(calendar.isOccupied("BED-1", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 4)));
+        assertTrue(calendar.isOccupied("BED-1", LocalDate.of(2025, 3, 5), LocalDate.of(2025, 3, 5)));
+    }
+
+    @Test
+    void occupiedBedIdsBetween_shouldReturnBedsOverlappingPeriod() {
+        // Arrange
+        add(stay("STAY-1", "BED-1", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 11)));
+        add(stay("STAY-2", "BED-2", LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 2)));
+
+        // Act + Assert
+        assertEquals(Set.of("BED-1"), calendar.occupiedBedIdsBetween(LocalDate.of(2025, 3, 11), LocalDate.of(2025, 4, 30)));
+        assertEquals(Set.of("BED-1", "BED-2"), calendar.occupiedBedIdsBetween(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)));
+        assertTrue(calendar.occupiedBedIdsBetween(LocalDate.of(2025, 3, 12), LocalDate.of(2025, 4, 30)).isEmpty());
+    }
+
+    @Test
+    void isOccupied_shouldKeepStartedOpenStay_andFreeReservationAfterPlannedDischarge() {
+        // Arrange : séjour en cours depuis le 1er mars (sortie prévue le 5), réservation du 10 au 12 mars
+        add(new HospitalStay("STAY-1", "P-001", "BED-1", StayType.WEEK, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 5), null));
+        add(new HospitalStay("STAY-2", "P-002", "BED-2", StayType.WEEK, LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 12), null));
+        LocalDate today = LocalDate.of(2025, 3, 8);
+
+        // Act + Assert
+        assertTrue(calendar.isOccupied("BED-1", LocalDate.of(2025, 3, 20), LocalDate.of(2025, 3, 25), today),
+                "Le séjour commencé garde son lit au-delà de sa sortie prévue");
+        assertFalse(calendar.isOccupied("BED-2", LocalDate.of(2025, 3, 13), LocalDate.of(2025, 3, 15), today));
+        assertTrue(calendar.isOccupied("BED-2", LocalDate.of(2025, 3, 13), LocalDate.of(2025, 3, 15)),
+                "Sans date du jour, un séjour non clôturé reste actif");
+        assertEquals(Set.of("BED-1"), calendar.occupiedBedIdsBetween(LocalDate.of(2025, 3, 13), LocalDate.of(2025, 3, 15), today));
+    }
+
+    @Test
+    void covers_shouldRejectOpenEndedOrOutOfHorizonPeriods() {
+        assertTrue(calendar.covers(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)));
+        assertFalse(calendar.covers(LocalDate.of(2025, 1, 1), null));
+        assertFalse(calendar.covers(LocalDate.of(2024, 12, 31), LocalDate.of(2025, 1, 5)));
+        assertFalse(calendar.covers(LocalDate.of(2025, 12, 30), LocalDate.of(2026, 1, 1)));
+    }
+
+    private void add(HospitalStay stay) {
+        index.add(stay);
+        calendar.mark(stay);
+    }
+
+    private HospitalStay stay(String id, String bedId, LocalDate admission, LocalDate effectiveDischarge) {
+        return new HospitalStay(id, "P-001", bedId, StayType.WEEK, admission, null, effectiveDischarge);
+    }
+}
@@ -0,0 +1,95 @@
+package com.webisbrian.hospital_bed_planner.domain.service;
+
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BedOccupancyIndexTest {
+
+    private BedOccupancyIndex index;
+
+    @BeforeEach
+    void setUpPerTest() {
+        index = new BedOccupancyIndex();
+    }
+
+    @Test
+    void isOccupied_shouldCoverAdmissionToEffectiveDischargeInclusive() {
+        // Arrange
+        index.add(stay("STAY-1", "BED-1", LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 20)));
+
+        // Act + Assert
+        assertFalse(index.isOccupied("BED-1", LocalDate.of(2025, 1, 9)));
+        assertTrue(index.isOccupied("BED-1", LocalDate.of(2025, 1, 10)));
+        assertTrue(index.isOccupied("BED-1", LocalDate.of(2025, 1, 20)));
+        assertFalse(index.isOccupied("BED-1", LocalDate.of(2025, 1, 21)));
+        assertFalse(index.isOccupied("BED-2", LocalDate.of(2025, 1, 15)), "Un lit sans séjour est libre");
+    }
+
+    @Test
+    void isOccupied_shouldDetectLongStay_whenLaterShorterStayEndedBeforeDate() {
+        // Arrange : un séjour ouvert, puis un séjour court admis plus tard sur le même lit
+        index.add(stay("STAY-1", "BED-1", LocalDate.of(2025, 1, 1), null));
+        index.add(stay("STAY-2", "BED-1", LocalDate.of(2025, 1, 5), LocalDate.of(2025, 1, 6)));
+
+        // Act + Assert
+        assertTrue(index.isOccupied("BED-1", LocalDate.of(2025, 3, 1)),
+                "Le séjour non clôturé doit continuer d'occuper le lit");
+    }
+
+    @Test
+    void remove_shouldFreeBed_whenStayIsReplacedByDischargedVersion() {
+        // Arrange
+        HospitalStay open = stay("STAY-1", "BED-1", LocalDate.of(2025, 1, 10), null);
+        index.add(open);
+
+        // Act : la sortie remplace la version ouverte du séjour
+        index.remove(open);
+        index.add(stay("STAY-1", "BED-1", LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 12)));
+
+        // Assert
+        assertTrue(index.isOccupied("BED-1", LocalDate.of(2025, 1, 12)));
+        assertFalse(index.isOccupied("BED-1", LocalDate.of(2025, 1, 13)));
+    }
+
+    @Test
+    void occupiedBedIdsBetween_shouldReturnOnlyBedsWithActiveStay() {
+        // Arrange
+        index.add(stay("STAY-1", "BED-1", LocalDate.of(2025, 1, 10), null));
+        index.add(stay("STAY-2", "BED-2", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 5)));
+        index.add(stay("STAY-3", "BED-3", LocalDate.of(2025, 2, 1), null));
+
+        // Act
+        Set<String> occupied = index.occupiedBedIdsBetween(LocalDate.of(2025, 1, 15), LocalDate.of(2025, 1, 15));
+
+        // Assert
+        assertEquals(Set.of("BED-1"), occupied);
+    }
+
+    @Test
+    void isOccupied_shouldFreeReservationAfterPlannedDischarge_onlyUntilItStarts() {
+        // Arrange : réservation non clôturée du 10 au 12 mars
+        index.add(new HospitalStay("STAY-1", "P-001", "BED-1", StayType.WEEK,
+                LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 12), null));
+
+        // Act + Assert
+        assertTrue(index.isOccupied("BED-1", LocalDate.of(2025, 3, 13), LocalDate.of(2025, 3, 15)),
+                "Un séjour non clôturé reste actif au-delà de sa sortie prévue");
+        assertFalse(index.isOccupied("BED-1", LocalDate.of(2025, 3, 13), LocalDate.of(2025, 3, 15), LocalDate.of(2025, 3, 1)),
+                "Une réservation libère son lit à sa sortie prévue");
+        assertTrue(index.isOccupied("BED-1", LocalDate.of(2025, 3, 11), LocalDate.of(2025, 3, 11), LocalDate.of(2025, 3, 1)));
+        assertTrue(index.isOccupied("BED-1", LocalDate.of(2025, 3, 13), LocalDate.of(2025, 3, 15), LocalDate.of(2025, 3, 10)),
+                "Un séjour commencé et non clôturé garde son lit");
+        assertEquals(Set.of("BED-1"), index.occupiedBedIdsBetween(LocalDate.of(2025, 3, 20), null, LocalDate.of(2025, 3, 14)));
+    }
+
+    private HospitalStay stay(String id, String bedId, LocalDate admission, LocalDate effectiveDischarge) {
+        return new HospitalStay(id, "P-001", bedId, StayType.WEEK, admission, null, effectiveDischarge);
+    }
+}
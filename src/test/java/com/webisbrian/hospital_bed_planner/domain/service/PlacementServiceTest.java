@@ -7,7 +7,9 @@ import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryPatie
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -189,4 +191,180 @@ class PlacementServiceTest {
         // Assert
         assertTrue(result.isEmpty(), "Aucun lit ne devrait être proposé quand tous les lits sont indisponibles");
     }
-}
\ No newline at end of file
+
+    @Test
+    void suggestBedForPatient_shouldReturnBedAgain_whenOccupantWasDischargedBeforeDate() {
+        // Arrange
+        String patientId = "P-001";
+        Patient patient = new Patient(
+                patientId,
+                "Alice",
+                "Martin",
+                LocalDate.of(1980, 1, 1),
+                Sex.FEMALE,
+                false,
+                false,
+                "0102030405",
+                null
+        );
+        patientRepository.save(patient);
+
+        // Lits enregistrés dans le désordre : l'ordre des codes doit primer
+        Bed bed2 = new Bed("BED-2", "ROOM-1", "A02-1", BedStatus.AVAILABLE, false);
+        Bed bed1 = new Bed("BED-1", "ROOM-1", "A01-1", BedStatus.AVAILABLE, false);
+        bedRepository.save(bed2);
+        bedRepository.save(bed1);
+
+        HospitalStay openStay = new HospitalStay(
+                "STAY-1",
+                "P-002",
+                "BED-1",
+                StayType.WEEK,
+                LocalDate.of(2025, 1, 10),
+                LocalDate.of(2025, 1, 20),
+                null
+        );
+        hospitalStayRepository.save(openStay);
+
+        // Sortie effective enregistrée le 14 : le séjour est ré-enregistré avec sa date de sortie
+        hospitalStayRepository.save(new HospitalStay(
+                "STAY-1",
+                "P-002",
+                "BED-1",
+                StayType.WEEK,
+                LocalDate.of(2025, 1, 10),
+                LocalDate.of(2025, 1, 20),
+                LocalDate.of(2025, 1, 14)
+        ));
+
+        // Act
+        Optional<Bed> onDischargeDay = placementService.suggestBedForPatient(patientId, LocalDate.of(2025, 1, 14));
+        Optional<Bed> dayAfter = placementService.suggestBedForPatient(patientId, LocalDate.of(2025, 1, 15));
+
+        // Assert
+        assertEquals("BED-2", onDischargeDay.orElseThrow().getId(), "Le lit est encore occupé le jour de la sortie");
+        assertEquals("BED-1", dayAfter.orElseThrow().getId(), "Le lit libéré doit être proposé en premier");
+    }
+
+    @Test
+    void suggestBedForPatientOverPeriod_shouldSkipBed_whenFutureReservationOverlapsPeriod() {
+        // Arrange
+        String patientId = "P-001";
+        Patient patient = new Patient(
+                patientId,
+                "Alice",
+                "Martin",
+                LocalDate.of(1980, 1, 1),
+                Sex.FEMALE,
+                false,
+                false,
+                "0102030405",
+                null
+        );
+        patientRepository.save(patient);
+
+        Bed bed1 = new Bed("BED-1", "ROOM-1", "A01-1", BedStatus.AVAILABLE, false);
+        Bed bed2 = new Bed("BED-2", "ROOM-1", "A02-1", BedStatus.AVAILABLE, false);
+        bedRepository.save(bed1);
+        bedRepository.save(bed2);
+
+        // BED-1 est libre le 13, mais réservé à partir du 15
+        HospitalStay reservation = new HospitalStay(
+                "STAY-1",
+                "P-002",
+                "BED-1",
+                StayType.WEEK,
+                LocalDate.of(2025, 1, 15),
+                LocalDate.of(2025, 1, 17),
+                null
+        );
+        hospitalStayRepository.save(reservation);
+
+        LocalDate admissionDate = LocalDate.of(2025, 1, 13);
+
+        // Act
+        Optional<Bed> sameDay = placementService.suggestBedForPatient(patientId, admissionDate);
+        Optional<Bed> wholePeriod = placementService.suggestBedForPatient(
+                patientId, admissionDate, LocalDate.of(2025, 1, 17));
+        Optional<Bed> beforeReservation = placementService.suggestBedForPatient(
+                patientId, admissionDate, LocalDate.of(2025, 1, 14));
+
+        // Assert
+        assertEquals("BED-1", sameDay.orElseThrow().getId(), "Seul le jour d'admission est vérifié");
+        assertEquals("BED-2", wholePeriod.orElseThrow().getId(), "Le lit réservé pendant la période doit être écarté");
+        assertEquals("BED-1", beforeReservation.orElseThrow().getId(), "La période se termine avant la réservation");
+    }
+
+    @Test
+    void suggestBedForPatient_shouldKeepIsolationBeds_forPatientsWhoNeedThem() {
+        // Arrange
+        Patient standardPatient = new Patient(
+                "P-001",
+                "Alice",
+                "Martin",
+                LocalDate.of(1980, 1, 1),
+                Sex.FEMALE,
+                false,
+                false,
+                "0102030405",
+                null
+        );
+        Patient isolatedPatient = new Patient(
+                "P-002",
+                "Bob",
+                "Durand",
+                LocalDate.of(1975, 5, 10),
+                Sex.MALE,
+                false,
+                true,
+                "0102030405",
+                null
+        );
+        patientRepository.save(standardPatient);
+        patientRepository.save(isolatedPatient);
+
+        Bed isolationBed = new Bed("BED-1", "ROOM-1", "A01-1", BedStatus.AVAILABLE, true);
+        Bed standardBed = new Bed("BED-2", "ROOM-1", "A02-1", BedStatus.AVAILABLE, false);
+        bedRepository.save(isolationBed);
+        bedRepository.save(standardBed);
+
+        LocalDate date = LocalDate.of(2025, 1, 15);
+
+        // Act
+        Optional<Bed> forStandard = placementService.suggestBedForPatient("P-001", date);
+        Optional<Bed> forIsolated = placementService.suggestBedForPatient("P-002", date);
+
+        // Assert
+        assertEquals("BED-2", forStandard.orElseThrow().getId(), "Le lit d'isolement ne doit pas être gaspillé");
+        assertEquals("BED-1", forIsolated.orElseThrow().getId(), "Un patient à isoler doit obtenir un lit d'isolement");
+    }
+
+    @Test
+    void suggestBedForPatientOverPeriod_shouldFreeReservationAtPlannedDischarge_butNotOverstayingStay() {
+        // Arrange : nous sommes le 10 janvier
+        Clock clock = Clock.fixed(LocalDate.of(2025, 1, 10).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        placementService = new PlacementService(patientRepository,
+                new RepositoryBedAvailability(bedRepository, hospitalStayRepository), clock);
+        patientRepository.save(new Patient("P-001", "Alice", "Martin", LocalDate.of(1980, 1, 1),
+                Sex.FEMALE, false, false, "0102030405", null));
+        bedRepository.save(new Bed("BED-1", "ROOM-1", "A01-1", BedStatus.AVAILABLE, false));
+        bedRepository.save(new Bed("BED-2", "ROOM-1", "A02-1", BedStatus.AVAILABLE, false));
+
+        // BED-1 : patient admis le 1er, sortie prévue le 5 mais toujours présent ; BED-2 : réservé du 15 au 17
+        hospitalStayRepository.save(new HospitalStay("STAY-1", "P-002", "BED-1", StayType.WEEK,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 5), null));
+        hospitalStayRepository.save(new HospitalStay("STAY-2", "P-003", "BED-2", StayType.WEEK,
+                LocalDate.of(2025, 1, 15), LocalDate.of(2025, 1, 17), null));
+
+        // Act
+        Optional<Bed> afterReservation = placementService.suggestBedForPatient(
+                "P-001", LocalDate.of(2025, 1, 18), LocalDate.of(2025, 1, 20));
+        Optional<Bed> duringReservation = placementService.suggestBedForPatient(
+                "P-001", LocalDate.of(2025, 1, 16), LocalDate.of(2025, 1, 20));
+
+        // Assert
+        assertEquals("BED-2", afterReservation.orElseThrow().getId(),
+                "La réservation libère son lit à sa sortie prévue, pas le patient resté au-delà de la sienne");
+        assertTrue(duringReservation.isEmpty(), "Aucun lit n'est libre pendant la réservation");
+    }
+}
@@ -0,0 +1,109 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedCacheTest {
+
+    private MutableClock clock;
+    private AtomicInteger loads;
+    private BoundedCache<String, String> cache;
+
+    @BeforeEach
+    void setUpPerTest() {
+        clock = new MutableClock();
+        loads = new AtomicInteger();
+        cache = new BoundedCache<>(2, Duration.ofMinutes(5), clock);
+    }
+
+    @Test
+    void get_shouldEvictLeastRecentlyUsedEntry_whenFull() {
+        // Arrange
+        cache.get("A", this::load);
+        cache.get("B", this::load);
+        cache.get("A", this::load);      // A devient le plus récent
+
+        // Act
+        cache.get("C", this::load);      // B est écarté
+        cache.get("A", this::load);
+        cache.get("B", this::load);
+
+        // Assert
+        assertEquals(4, loads.get(), "A doit rester en cache, B doit être rechargé");
+        assertEquals(2, cache.getStats().getEvictions());
+    }
+
+    @Test
+    void get_shouldCacheAbsence_untilInvalidated() {
+        // Act
+        Optional<String> first = cache.get("UNKNOWN", key -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<String> second = cache.get("UNKNOWN", this::load);
+
+        // Assert
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty(), "L'absence mise en cache doit être servie sans recharger");
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getStats().getNegativeHits());
+
+        // Act : une écriture remplace l'absence
+        cache.put("UNKNOWN", "value-UNKNOWN");
+
+        // Assert
+        assertEquals(Optional.of("value-UNKNOWN"), cache.get("UNKNOWN", this::load));
+    }
+
+    @Test
+    void get_shouldReload_whenEntryHasExpired() {
+        // Arrange
+        cache.get("A", this::load);
+
+        // Act
+        clock.advance(Duration.ofMinutes(5));
+        cache.get("A", this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.getStats().getExpirations());
+    }
+
+    private Optional<String> load(String key) {
+        loads.incrementAndGet();
+        return Optional.of("value-" + key);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-15T08:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
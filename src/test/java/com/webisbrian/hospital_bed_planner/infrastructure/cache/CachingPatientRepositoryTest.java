@@ -0,0 +1,90 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.cache;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.model.Sex;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryPatientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingPatientRepositoryTest {
+
+    private InMemoryPatientRepository delegate;
+    private CachingPatientRepository patientRepository;
+
+    @BeforeEach
+    void setUpPerTest() {
+        delegate = new InMemoryPatientRepository();
+        patientRepository = new CachingPatientRepository(delegate, 100, null);
+    }
+
+    @Test
+    void findById_shouldServeRepeatedLookupsFromCache() {
+        // Arrange
+        delegate.save(patient("P-001", "Martin"));
+
+        // Act
+        patientRepository.findById("P-001");
+        patientRepository.findById("P-001");
+        boolean exists = patientRepository.existsById("P-001");
+
+        // Assert
+        assertTrue(exists);
+        assertEquals(1, patientRepository.getCacheStats().getMisses());
+        assertEquals(2, patientRepository.getCacheStats().getHits());
+    }
+
+    @Test
+    void saveAndDelete_shouldKeepCacheConsistentWithDelegate() {
+        // Arrange : l'absence de P-001 est mise en cache
+        assertTrue(patientRepository.findById("P-001").isEmpty());
+
+        // Act + Assert : la création remplace l'absence
+        patientRepository.save(patient("P-001", "Martin"));
+        assertEquals("Martin", patientRepository.findById("P-001").orElseThrow().getLastName());
+
+        // Act + Assert : la modification est visible
+        patientRepository.save(patient("P-001", "Durand"));
+        assertEquals("Durand", patientRepository.findById("P-001").orElseThrow().getLastName());
+
+        // Act + Assert : la suppression invalide l'entrée
+        patientRepository.deleteById("P-001");
+        assertTrue(patientRepository.findById("P-001").isEmpty());
+    }
+
+    @Test
+    void findAllById_shouldLoadOnlyMissingPatients_andCacheAbsences() {
+        // Arrange : P-001 déjà en cache
+        delegate.save(patient("P-001", "Martin"));
+        delegate.save(patient("P-002", "Durand"));
+        patientRepository.findById("P-001");
+
+        // Act
+        List<Patient> first = patientRepository.findAllById(List.of("P-001", "P-002", "P-404", "P-002"));
+        List<Patient> second = patientRepository.findAllById(List.of("P-002", "P-404"));
+
+        // Assert
+        assertEquals(List.of("P-001", "P-002"), first.stream().map(Patient::getId).toList());
+        assertEquals(List.of("P-002"), second.stream().map(Patient::getId).toList());
+        assertEquals(3, patientRepository.getCacheStats().getMisses(), "P-001 au premier appel, puis P-002 et P-404");
+        assertEquals(1, patientRepository.getCacheStats().getNegativeHits(), "L'absence de P-404 est mémorisée");
+    }
+
+    private Patient patient(String id, String lastName) {
+        return new Patient(
+                id,
+                "Alice",
+                lastName,
+                LocalDate.of(1980, 1, 1),
+                Sex.FEMALE,
+                false,
+                false,
+                "0102030405",
+                null
+        );
+    }
+}
@@ -0,0 +1,99 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.file;
+
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileHospitalStayRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private FileHospitalStayRepository hospitalStayRepository;
+
+    @BeforeEach
+    void setUpPerTest() {
+        hospitalStayRepository = new FileHospitalStayRepository(tempDir);
+    }
+
+    @AfterEach
+    void tearDownPerTest() {
+        hospitalStayRepository.close();
+    }
+
+    @Test
+    void reopen_shouldRebuildIndexesFromLog() {
+        // Arrange
+        hospitalStayRepository.saveAll(List.of(
+                stay("STAY-1", "PAT-1", "BED-1", LocalDate.of(2025, 1, 10), null),
+                stay("STAY-2", "PAT-1", "BED-2", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 5)),
+                stay("STAY-3", "PAT-2", "BED-3", LocalDate.of(2025, 1, 12), LocalDate.of(2025, 1, 20))
+        ));
+        hospitalStayRepository.close();
+
+        // Act
+        hospitalStayRepository = new FileHospitalStayRepository(tempDir);
+
+        // Assert
+        assertEquals(3, hospitalStayRepository.findAll().size());
+        assertEquals(Set.of("BED-1", "BED-3"), hospitalStayRepository.findActiveStaysOn(LocalDate.of(2025, 1, 15)).stream()
+                .map(HospitalStay::getBedId)
+                .collect(Collectors.toSet()));
+        assertEquals(List.of("STAY-1", "STAY-2"),
+                hospitalStayRepository.findAllByPatientId("PAT-1").stream().map(HospitalStay::getId).toList());
+        assertEquals(List.of("STAY-3", "STAY-1"),
+                hospitalStayRepository.findPageAfter(null, 2).stream().map(HospitalStay::getId).toList(),
+                "La pagination doit suivre la date d'admission décroissante");
+    }
+
+    @Test
+    void save_shouldReplacePreviousVersionInIndexes() {
+        // Arrange
+        hospitalStayRepository.save(stay("STAY-1", "PAT-1", "BED-1", LocalDate.of(2025, 1, 10), null));
+
+        // Act : sortie puis changement de lit
+        hospitalStayRepository.save(stay("STAY-1", "PAT-1", "BED-2", LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 12)));
+
+        // Assert
+        LocalDate day = LocalDate.of(2025, 1, 11);
+        assertFalse(hospitalStayRepository.findOccupancyBetween(day, day, day).isOccupied("BED-1"),
+                "L'ancienne version ne doit plus occuper son lit");
+        assertTrue(hospitalStayRepository.findOccupancyBetween(day, day, day).isOccupied("BED-2"));
+        assertTrue(hospitalStayRepository.findActiveStaysOn(LocalDate.of(2025, 1, 13)).isEmpty());
+        assertEquals(1, hospitalStayRepository.findStaysOverlapping(LocalDate.of(2025, 1, 1), null).size());
+    }
+
+    @Test
+    void findAllByPatientId_shouldFollowPageOrder() {
+        // Arrange
+        hospitalStayRepository.saveAll(List.of(
+                stay("STAY-A", "PAT-1", "BED-1", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 3)),
+                stay("STAY-B", "PAT-1", "BED-1", LocalDate.of(2025, 1, 5), LocalDate.of(2025, 1, 6)),
+                stay("STAY-C", "PAT-1", "BED-2", LocalDate.of(2025, 1, 5), null),
+                stay("STAY-D", "PAT-2", "BED-3", LocalDate.of(2025, 1, 4), null)
+        ));
+        hospitalStayRepository.save(stay("STAY-A", "PAT-1", "BED-1", LocalDate.of(2025, 1, 8), null));
+
+        // Act
+        List<String> ids = hospitalStayRepository.findAllByPatientId("PAT-1").stream().map(HospitalStay::getId).toList();
+
+        // Assert
+        assertEquals(List.of("STAY-A", "STAY-C", "STAY-B"), ids,
+                "Date d'admission puis identifiant, décroissants, comme la pagination");
+    }
+
+    private HospitalStay stay(String id, String patientId, String bedId, LocalDate admission, LocalDate effectiveDischarge) {
+        return new HospitalStay(id, patientId, bedId, StayType.WEEK, admission, null, effectiveDischarge);
+    }
+}
@@ -0,0 +1,106 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.file;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.model.Sex;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryBedRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryHospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryPatientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositorySnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private InMemoryPatientRepository patientRepository;
+    private InMemoryBedRepository bedRepository;
+    private InMemoryHospitalStayRepository hospitalStayRepository;
+
+    @BeforeEach
+    void setUpPerTest() {
+        patientRepository = new InMemoryPatientRepository();
+        bedRepository = new InMemoryBedRepository();
+        hospitalStayRepository = new InMemoryHospitalStayRepository();
+
+        patientRepository.save(new Patient("PAT-1", "Émilie", "Durand", LocalDate.of(1980, 3, 14),
+                Sex.FEMALE, true, false, "0600000000", null));
+        patientRepository.save(new Patient("PAT-2", null, "Martin", null, null, false, true, null, "Allergie"));
+        bedRepository.save(new Bed("BED-1", "ROOM-1", "A1-1", BedStatus.AVAILABLE, true));
+        hospitalStayRepository.save(new HospitalStay("STAY-1", "PAT-1", "BED-1", StayType.WEEK,
+                LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 17), null));
+        hospitalStayRepository.save(new HospitalStay("STAY-2", "PAT-2", "BED-1", null,
+                LocalDate.of(2024, 12, 1), null, LocalDate.of(2024, 12, 5)));
+    }
+
+    @Test
+    void load_shouldRestoreEveryFieldWritten() {
+        // Arrange
+        Path snapshot = tempDir.resolve("repositories.snapshot");
+        RepositorySnapshot.write(snapshot, patientRepository, bedRepository, hospitalStayRepository);
+
+        InMemoryPatientRepository restoredPatients = new InMemoryPatientRepository();
+        InMemoryBedRepository restoredBeds = new InMemoryBedRepository();
+        InMemoryHospitalStayRepository restoredStays = new InMemoryHospitalStayRepository();
+
+        // Act
+        RepositorySnapshot.load(snapshot, restoredPatients, restoredBeds, restoredStays);
+
+        // Assert
+        Patient patient = restoredPatients.findById("PAT-1").orElseThrow();
+        assertEquals("Émilie", patient.getFirstName(), "Les chaînes non ASCII doivent être restituées");
+        assertEquals(LocalDate.of(1980, 3, 14), patient.getBirthDate());
+        assertEquals(Sex.FEMALE, patient.getSex());
+        assertTrue(patient.isPmr());
+        assertFalse(patient.isIsolationRequired());
+
+        Patient sparse = restoredPatients.findById("PAT-2").orElseThrow();
+        assertNull(sparse.getFirstName(), "Les champs nuls doivent rester nuls");
+        assertNull(sparse.getBirthDate());
+        assertNull(sparse.getSex());
+        assertTrue(sparse.isIsolationRequired());
+
+        Bed bed = restoredBeds.findById("BED-1").orElseThrow();
+        assertEquals("A1-1", bed.getCode());
+        assertEquals(BedStatus.AVAILABLE, bed.getStatus());
+        assertTrue(bed.isIsolationCapable());
+
+        HospitalStay stay = restoredStays.findById("STAY-1").orElseThrow();
+        assertEquals(StayType.WEEK, stay.getStayType());
+        assertEquals(LocalDate.of(2025, 1, 17), stay.getDischargeDatePlanned());
+        assertNull(stay.getDischargeDateEffective());
+        assertEquals(2, restoredStays.findAll().size());
+        LocalDate day = LocalDate.of(2025, 1, 12);
+        assertTrue(restoredStays.findOccupancyBetween(day, day, day).isOccupied("BED-1"),
+                "Les index d'occupation doivent être reconstruits au chargement");
+    }
+
+    @Test
+    void load_shouldRejectCorruptedSnapshot() throws IOException {
+        // Arrange
+        Path snapshot = tempDir.resolve("repositories.snapshot");
+        RepositorySnapshot.write(snapshot, patientRepository, bedRepository, hospitalStayRepository);
+        try (RandomAccessFile file = new RandomAccessFile(snapshot.toFile(), "rw")) {
+            file.seek(file.length() / 2);
+            int value = file.read();
+            file.seek(file.length() / 2);
+            file.write(value ^ 0xFF);
+        }
+
+        // Act + Assert
+        assertThrows(IllegalStateException.class, () -> RepositorySnapshot.load(snapshot,
+                new InMemoryPatientRepository(), new InMemoryBedRepository(), new InMemoryHospitalStayRepository()));
+    }
+}
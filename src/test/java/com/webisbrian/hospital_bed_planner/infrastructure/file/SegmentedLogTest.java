@@ -0,0 +1,92 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void open_shouldIgnoreTornRecordAtEndOfSegment_andAppendAfterLastValidRecord() throws IOException {
+        // Arrange : un enregistrement valide, suivi d'un enregistrement à moitié écrit
+        try (SegmentedLog<String> log = openLog(new FileStoreConfig())) {
+            log.put("A", "alpha");
+        }
+        Path segment = onlySegment();
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            int end = LogSegment.HEADER_BYTES + file.readInt();
+            file.seek(end);
+            file.writeInt(40);
+            file.writeInt(0xCAFE);
+            file.write(new byte[]{1, 2, 3});
+        }
+
+        // Act
+        try (SegmentedLog<String> log = openLog(new FileStoreConfig())) {
+            assertEquals("alpha", log.get("A").orElseThrow(), "L'enregistrement valide doit être relu");
+            assertEquals(1, log.size(), "L'enregistrement tronqué doit être ignoré");
+            log.put("B", "beta");
+        }
+
+        // Assert
+        try (SegmentedLog<String> log = openLog(new FileStoreConfig())) {
+            assertEquals("alpha", log.get("A").orElseThrow());
+            assertEquals("beta", log.get("B").orElseThrow(), "L'ajout après réparation doit être relu");
+        }
+    }
+
+    @Test
+    void put_shouldCompactSealedSegments_whenMostOfTheirBytesAreDead() {
+        // Arrange : petits segments, une clé réécrite en boucle et une clé supprimée
+        FileStoreConfig config = new FileStoreConfig(1024, FsyncPolicy.NEVER, Duration.ofSeconds(1), 0.5);
+
+        // Act
+        try (SegmentedLog<String> log = openLog(config)) {
+            log.put("KEEP", "kept");
+            log.put("GONE", "removed");
+            log.delete("GONE");
+            for (int i = 0; i < 500; i++) {
+                log.put("HOT", "version-" + i);
+            }
+
+            // Assert
+            assertTrue(log.getCompactionCount() > 0, "Des compactages doivent avoir eu lieu");
+            assertTrue(log.getSegmentCount() <= 4, "Les segments morts doivent être supprimés : " + log.getSegmentCount());
+        }
+        try (SegmentedLog<String> log = openLog(config)) {
+            assertEquals("kept", log.get("KEEP").orElseThrow(), "Une clé jamais réécrite doit survivre au compactage");
+            assertEquals("version-499", log.get("HOT").orElseThrow(), "La dernière version doit l'emporter");
+            assertTrue(log.get("GONE").isEmpty(), "Une clé supprimée ne doit pas réapparaître");
+        }
+    }
+
+    private SegmentedLog<String> openLog(FileStoreConfig config) {
+        try {
+            return new SegmentedLog<>(tempDir.resolve("log"), config, DataOutput::writeUTF, DataInput::readUTF);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir.resolve("log"))) {
+            List<Path> segments = files.toList();
+            assertEquals(1, segments.size());
+            return segments.get(0);
+        }
+    }
+}
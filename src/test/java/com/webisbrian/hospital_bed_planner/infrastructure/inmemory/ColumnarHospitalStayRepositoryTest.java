@@ -0,0 +1,121 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.inmemory;
+
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarHospitalStayRepositoryTest {
+
+    private ColumnarHospitalStayRepository hospitalStayRepository;
+
+    @BeforeEach
+    void setUpPerTest() {
+        // Petite capacité initiale : les colonnes et la table des lignes doivent grandir pendant les tests
+        hospitalStayRepository = new ColumnarHospitalStayRepository(2);
+    }
+
+    @Test
+    void findById_shouldMaterializeEveryColumn_includingNulls() {
+        // Arrange
+        hospitalStayRepository.save(new HospitalStay("STAY-1", "PAT-1", "BED-1", StayType.DAY,
+                LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 11), LocalDate.of(2025, 1, 12)));
+        hospitalStayRepository.save(new HospitalStay("STAY-2", null, null, null,
+                LocalDate.of(1960, 5, 1), null, null));
+
+        // Act
+        HospitalStay full = hospitalStayRepository.findById("STAY-1").orElseThrow();
+        HospitalStay sparse = hospitalStayRepository.findById("STAY-2").orElseThrow();
+
+        // Assert
+        assertEquals("PAT-1", full.getPatientId());
+        assertEquals("BED-1", full.getBedId());
+        assertEquals(StayType.DAY, full.getStayType());
+        assertEquals(LocalDate.of(2025, 1, 11), full.getDischargeDatePlanned());
+        assertEquals(LocalDate.of(2025, 1, 12), full.getDischargeDateEffective());
+        assertNull(sparse.getPatientId(), "Les champs nuls doivent rester nuls");
+        assertNull(sparse.getStayType());
+        assertNull(sparse.getDischargeDateEffective());
+        assertEquals(LocalDate.of(1960, 5, 1), sparse.getAdmissionDate(), "Les jours epoch négatifs doivent être gérés");
+        assertTrue(hospitalStayRepository.findById("STAY-3").isEmpty());
+    }
+
+    @Test
+    void save_shouldOverwriteRowInPlace_andUpdateOccupancy() {
+        // Arrange
+        hospitalStayRepository.save(stay("STAY-1", "PAT-1", "BED-1", LocalDate.of(2025, 1, 10), null));
+
+        // Act : sortie et changement de lit
+        hospitalStayRepository.save(stay("STAY-1", "PAT-1", "BED-2", LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 12)));
+
+        // Assert
+        assertEquals(1, hospitalStayRepository.size(), "La mise à jour ne doit pas ajouter de ligne");
+        LocalDate day = LocalDate.of(2025, 1, 11);
+        assertFalse(hospitalStayRepository.findOccupancyBetween(day, day, day).isOccupied("BED-1"));
+        assertTrue(hospitalStayRepository.findOccupancyBetween(day, day, day).isOccupied("BED-2"));
+        assertTrue(hospitalStayRepository.findActiveStaysOn(LocalDate.of(2025, 1, 13)).isEmpty());
+        assertEquals("BED-2", hospitalStayRepository.findAllByPatientId("PAT-1").get(0).getBedId());
+        assertTrue(hospitalStayRepository.findAllByPatientId("PAT-404").isEmpty());
+    }
+
+    @Test
+    void findPageAfter_shouldWalkAllStaysByAdmissionThenIdDescending() {
+        // Arrange : plusieurs séjours le même jour, insérés dans le désordre
+        List<HospitalStay> stays = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            stays.add(stay("STAY-" + (char) ('A' + i), "PAT-" + (i % 3), "BED-" + i,
+                    LocalDate.of(2025, 1, 1).plusDays(i % 4), null));
+        }
+        hospitalStayRepository.saveAll(stays);
+
+        // Act
+        List<HospitalStay> walked = new ArrayList<>();
+        List<HospitalStay> page = hospitalStayRepository.findPageAfter(null, 7);
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            page = hospitalStayRepository.findPageAfter(page.get(page.size() - 1), 7);
+        }
+
+        // Assert
+        List<String> expected = stays.stream()
+                .sorted((left, right) -> left.getAdmissionDate().equals(right.getAdmissionDate())
+                        ? right.getId().compareTo(left.getId())
+                        : right.getAdmissionDate().compareTo(left.getAdmissionDate()))
+                .map(HospitalStay::getId)
+                .toList();
+        assertEquals(expected, walked.stream().map(HospitalStay::getId).toList());
+    }
+
+    @Test
+    void findPageAfter_shouldMergeWritesMadeBetweenPages() {
+        // Arrange : un premier ordre de pagination déjà construit
+        LocalDate day = LocalDate.of(2025, 1, 1);
+        hospitalStayRepository.saveAll(List.of(
+                stay("STAY-B", "PAT-1", "BED-1", day, null),
+                stay("STAY-D", "PAT-1", "BED-2", day.plusDays(1), null),
+                stay("STAY-F", "PAT-1", "BED-3", day.plusDays(2), null)));
+        hospitalStayRepository.findPageAfter(null, 10);
+
+        // Act : nouveaux séjours, et un séjour existant dont la date d'admission change
+        hospitalStayRepository.save(stay("STAY-E", "PAT-2", "BED-4", day.plusDays(1), null));
+        hospitalStayRepository.save(stay("STAY-A", "PAT-2", "BED-5", day.plusDays(3), null));
+        hospitalStayRepository.save(stay("STAY-B", "PAT-1", "BED-1", day.plusDays(2), null));
+        hospitalStayRepository.save(stay("STAY-F", "PAT-1", "BED-3", day.plusDays(2), day.plusDays(4)));
+        List<HospitalStay> page = hospitalStayRepository.findPageAfter(null, 10);
+
+        // Assert
+        assertEquals(List.of("STAY-A", "STAY-F", "STAY-B", "STAY-E", "STAY-D"),
+                page.stream().map(HospitalStay::getId).toList(),
+                "Chaque séjour doit apparaître une seule fois, à sa place");
+    }
+
+    private HospitalStay stay(String id, String patientId, String bedId, LocalDate admission, LocalDate effectiveDischarge) {
+        return new HospitalStay(id, patientId, bedId, StayType.WEEK, admission, null, effectiveDischarge);
+    }
+}
@@ -0,0 +1,46 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.inmemory;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryBedRepositoryTest {
+
+    private InMemoryBedRepository bedRepository;
+
+    @BeforeEach
+    void setUpPerTest() {
+        bedRepository = new InMemoryBedRepository();
+        bedRepository.save(new Bed("BED-2", "ROOM-1", "A1-2", BedStatus.AVAILABLE, false));
+        bedRepository.save(new Bed("BED-1", "ROOM-1", "A1-1", BedStatus.AVAILABLE, false));
+        bedRepository.save(new Bed("BED-3", "ROOM-2", "A2-1", BedStatus.CLEANING, false));
+    }
+
+    @Test
+    void findByStatus_shouldReturnBedsOfThatStatusSortedByCode() {
+        // Act
+        List<Bed> available = bedRepository.findByStatus(BedStatus.AVAILABLE);
+
+        // Assert
+        assertEquals(List.of("A1-1", "A1-2"), available.stream().map(Bed::getCode).toList());
+        assertTrue(bedRepository.findByStatus(BedStatus.OUT_OF_ORDER).isEmpty());
+    }
+
+    @Test
+    void save_shouldMoveBedToItsNewStatus_andDeleteShouldRemoveIt() {
+        // Act : BED-3 nettoyé redevient disponible, BED-1 est supprimé
+        bedRepository.save(new Bed("BED-3", "ROOM-2", "A2-1", BedStatus.AVAILABLE, false));
+        bedRepository.deleteById("BED-1");
+
+        // Assert
+        assertEquals(List.of("BED-2", "BED-3"),
+                bedRepository.findByStatus(BedStatus.AVAILABLE).stream().map(Bed::getId).toList());
+        assertTrue(bedRepository.findByStatus(BedStatus.CLEANING).isEmpty(),
+                "Le lit ne doit plus apparaître sous son ancien statut");
+    }
+}
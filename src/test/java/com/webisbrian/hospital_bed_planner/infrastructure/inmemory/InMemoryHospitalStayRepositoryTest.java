@@ -0,0 +1,105 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.inmemory;
+
+import com.webisbrian.hospital_bed_planner.domain.model.BedOccupancy;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import com.webisbrian.hospital_bed_planner.domain.service.BedOccupancyCalendar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryHospitalStayRepositoryTest {
+
+    private InMemoryHospitalStayRepository hospitalStayRepository;
+
+    @BeforeEach
+    void setUpPerTest() {
+        hospitalStayRepository = new InMemoryHospitalStayRepository();
+    }
+
+    @Test
+    void findPageAfter_shouldWalkAllStaysByAdmissionThenIdDescending() {
+        // Arrange : deux séjours le même jour, départagés par identifiant
+        hospitalStayRepository.save(stay("STAY-1", LocalDate.of(2025, 1, 10)));
+        hospitalStayRepository.save(stay("STAY-2", LocalDate.of(2025, 1, 15)));
+        hospitalStayRepository.save(stay("STAY-3", LocalDate.of(2025, 1, 15)));
+        hospitalStayRepository.save(stay("STAY-4", LocalDate.of(2025, 1, 20)));
+
+        // Act
+        List<HospitalStay> firstPage = hospitalStayRepository.findPageAfter(null, 2);
+        List<HospitalStay> secondPage = hospitalStayRepository.findPageAfter(firstPage.get(1), 2);
+        List<HospitalStay> lastPage = hospitalStayRepository.findPageAfter(secondPage.get(1), 2);
+
+        // Assert
+        assertEquals(List.of("STAY-4", "STAY-3"), ids(firstPage));
+        assertEquals(List.of("STAY-2", "STAY-1"), ids(secondPage));
+        assertTrue(lastPage.isEmpty(), "Il ne doit plus rester de séjour après la dernière page");
+    }
+
+    @Test
+    void findPageAfter_shouldPlaceUpdatedStayAtItsNewPosition() {
+        // Arrange
+        hospitalStayRepository.save(stay("STAY-1", LocalDate.of(2025, 1, 10)));
+        hospitalStayRepository.save(stay("STAY-2", LocalDate.of(2025, 1, 15)));
+
+        // Act : la date d'admission de STAY-1 est corrigée
+        hospitalStayRepository.save(stay("STAY-1", LocalDate.of(2025, 1, 20)));
+
+        // Assert
+        assertEquals(List.of("STAY-1", "STAY-2"), ids(hospitalStayRepository.findPageAfter(null, 10)));
+    }
+
+    @Test
+    void findAllByPatientIdAndBedId_shouldFollowStayMovedToAnotherBedAndPatient() {
+        // Arrange
+        hospitalStayRepository.save(stay("STAY-1", LocalDate.of(2025, 1, 10)));
+        hospitalStayRepository.save(stay("STAY-2", LocalDate.of(2025, 1, 15)));
+
+        // Act : STAY-1 est réaffecté à un autre patient et un autre lit
+        hospitalStayRepository.save(new HospitalStay("STAY-1", "P-002", "BED-2", StayType.WEEK,
+                LocalDate.of(2025, 1, 10), null, null));
+
+        // Assert
+        assertEquals(List.of("STAY-2"), ids(hospitalStayRepository.findAllByPatientId("P-001")),
+                "L'ancien patient ne doit plus porter le séjour déplacé");
+        assertEquals(List.of("STAY-1"), ids(hospitalStayRepository.findAllByPatientId("P-002")));
+        assertEquals(List.of("STAY-2"), ids(hospitalStayRepository.findAllByBedId("BED-1")));
+        assertEquals(List.of("STAY-1"), ids(hospitalStayRepository.findAllByBedId("BED-2")));
+        assertTrue(hospitalStayRepository.findAllByBedId("BED-3").isEmpty());
+    }
+
+    @Test
+    void findOccupancyBetween_shouldReturnSnapshot_insideAndOutsideCalendarHorizon() {
+        // Arrange : horizon limité à 2025
+        InMemoryHospitalStayRepository repository = new InMemoryHospitalStayRepository(
+                new BedOccupancyCalendar(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)));
+        repository.save(new HospitalStay("STAY-1", "P-001", "BED-1", StayType.WEEK,
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 5), null));
+
+        // Act
+        LocalDate today = LocalDate.of(2025, 3, 4);
+        BedOccupancy inHorizon = repository.findOccupancyBetween(LocalDate.of(2025, 3, 4), LocalDate.of(2025, 3, 10), today);
+        BedOccupancy openEnded = repository.findOccupancyBetween(LocalDate.of(2025, 3, 6), null, today);
+        repository.save(new HospitalStay("STAY-2", "P-002", "BED-2", StayType.WEEK,
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 20), null));
+
+        // Assert
+        assertTrue(inHorizon.isOccupied("BED-1"));
+        assertTrue(openEnded.isOccupied("BED-1"), "Le séjour commencé et non clôturé garde son lit");
+        assertFalse(inHorizon.isOccupied("BED-2"), "Une écriture ultérieure ne modifie pas la photographie");
+        assertTrue(repository.findOccupancyBetween(LocalDate.of(2025, 3, 4), LocalDate.of(2025, 3, 10), today)
+                .isOccupied("BED-2"));
+    }
+
+    private List<String> ids(List<HospitalStay> stays) {
+        return stays.stream().map(HospitalStay::getId).toList();
+    }
+
+    private HospitalStay stay(String id, LocalDate admissionDate) {
+        return new HospitalStay(id, "P-001", "BED-1", StayType.WEEK, admissionDate, null, null);
+    }
+}
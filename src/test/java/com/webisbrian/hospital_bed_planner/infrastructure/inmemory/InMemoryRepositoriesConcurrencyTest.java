@@ -0,0 +1,178 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.inmemory;
+
+import com.webisbrian.hospital_bed_planner.domain.model.BedOccupancy;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRepositoriesConcurrencyTest {
+
+    private static final int WRITERS = 32;
+    private static final int WRITES_PER_WRITER = 500;
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 15);
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUpPerTest() {
+        executor = Executors.newFixedThreadPool(WRITERS + 2);
+    }
+
+    @AfterEach
+    void tearDownPerTest() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void save_shouldNotLoseUpdates_underConcurrentWritersAndReaders() throws Exception {
+        // Arrange
+        InMemoryHospitalStayRepository hospitalStayRepository = new InMemoryHospitalStayRepository();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Queue<Throwable> readerFailures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act : 32 écrivains sur des séjours distincts, 2 lecteurs en continu
+        List<Future<?>> writers = new ArrayList<>();
+        for (int writer = 0; writer < WRITERS; writer++) {
+            int writerId = writer;
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < WRITES_PER_WRITER; i++) {
+                    hospitalStayRepository.save(stay("STAY-" + writerId + "-" + i, "BED-" + writerId + "-" + i));
+                }
+                return null;
+            }));
+        }
+        for (int reader = 0; reader < 2; reader++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    while (writing.get()) {
+                        hospitalStayRepository.findActiveStaysOn(TODAY);
+                        hospitalStayRepository.findPageAfter(null, 50);
+                        hospitalStayRepository.findOccupancyBetween(TODAY, TODAY, TODAY).isOccupied("BED-0-0");
+                    }
+                } catch (Throwable e) {
+                    readerFailures.add(e);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        writing.set(false);
+
+        // Assert
+        int expected = WRITERS * WRITES_PER_WRITER;
+        assertTrue(readerFailures.isEmpty(), "Les lectures concurrentes ne doivent pas échouer : " + readerFailures);
+        assertEquals(expected, hospitalStayRepository.findAll().size(), "Aucune écriture ne doit être perdue");
+        assertEquals(expected, hospitalStayRepository.findActiveStaysOn(TODAY).size(),
+                "L'index d'occupation doit contenir chaque séjour");
+        assertEquals(expected, hospitalStayRepository.findPageAfter(null, expected + 1).size(),
+                "L'ensemble de pagination doit contenir chaque séjour");
+    }
+
+    @Test
+    void save_shouldKeepIndexesConsistent_whenWritersMoveTheSameStays() throws Exception {
+        // Arrange : 32 écrivains déplacent les mêmes 10 séjours entre leurs propres lits
+        InMemoryHospitalStayRepository hospitalStayRepository = new InMemoryHospitalStayRepository();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        List<Future<?>> writers = new ArrayList<>();
+        for (int writer = 0; writer < WRITERS; writer++) {
+            int writerId = writer;
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < WRITES_PER_WRITER; i++) {
+                    hospitalStayRepository.save(stay("STAY-" + (i % 10), "BED-" + writerId));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+
+        // Assert : les lits occupés sont exactement ceux des dernières versions
+        List<HospitalStay> stays = hospitalStayRepository.findAll();
+        Set<String> bedsOfLastVersions = stays.stream().map(HospitalStay::getBedId).collect(Collectors.toSet());
+        assertEquals(10, stays.size());
+        assertEquals(bedsOfLastVersions, hospitalStayRepository.findActiveStaysOn(TODAY).stream()
+                        .map(HospitalStay::getBedId)
+                        .collect(Collectors.toSet()),
+                "Aucune ancienne version ne doit rester dans l'index d'occupation");
+        BedOccupancy occupancy = hospitalStayRepository.findOccupancyBetween(TODAY, TODAY, TODAY);
+        for (String bedId : bedsOfLastVersions) {
+            assertTrue(occupancy.isOccupied(bedId));
+        }
+    }
+
+    @Test
+    void saveAll_shouldNotLosePatients_underConcurrentWriters() throws Exception {
+        // Arrange
+        InMemoryPatientRepository patientRepository = new InMemoryPatientRepository();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        List<Future<?>> writers = new ArrayList<>();
+        for (int writer = 0; writer < WRITERS; writer++) {
+            int writerId = writer;
+            writers.add(executor.submit(() -> {
+                start.await();
+                List<Patient> batch = new ArrayList<>();
+                for (int i = 0; i < WRITES_PER_WRITER; i++) {
+                    batch.add(new Patient("PAT-" + writerId + "-" + i, "Prénom", "Nom" + writerId,
+                            null, null, false, false, null, null));
+                    if (batch.size() == 50) {
+                        patientRepository.saveAll(batch);
+                        batch = new ArrayList<>();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+
+        // Assert
+        int expected = WRITERS * WRITES_PER_WRITER;
+        assertEquals(expected, patientRepository.findAll().size(), "Aucune écriture ne doit être perdue");
+        Set<String> paged = new HashSet<>();
+        List<Patient> page = patientRepository.findPageAfter(null, 1_000);
+        while (!page.isEmpty()) {
+            page.forEach(patient -> paged.add(patient.getId()));
+            page = patientRepository.findPageAfter(page.get(page.size() - 1), 1_000);
+        }
+        assertEquals(expected, paged.size(), "La pagination doit retrouver chaque patient");
+    }
+
+    private HospitalStay stay(String id, String bedId) {
+        return new HospitalStay(id, "PAT-1", bedId, StayType.WEEK, LocalDate.of(2025, 1, 10), null, null);
+    }
+}
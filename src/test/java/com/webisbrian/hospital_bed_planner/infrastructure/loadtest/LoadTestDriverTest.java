@@ -0,0 +1,114 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.loadtest;
+
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryBedRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryHospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryPatientRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.workload.WorkloadGenerator;
+import com.webisbrian.hospital_bed_planner.infrastructure.workload.WorkloadProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadTestDriverTest {
+
+    private InMemoryPatientRepository patientRepository;
+    private InMemoryBedRepository bedRepository;
+    private InMemoryHospitalStayRepository hospitalStayRepository;
+
+    @BeforeEach
+    void setUpPerTest() {
+        patientRepository = new InMemoryPatientRepository();
+        bedRepository = new InMemoryBedRepository();
+        hospitalStayRepository = new InMemoryHospitalStayRepository();
+        new WorkloadGenerator(new WorkloadProfile(11L, 2, 200, 2_000))
+                .generate(patientRepository, bedRepository, hospitalStayRepository);
+    }
+
+    @Test
+    void run_shouldExerciseEveryOperation_inClosedLoop(@TempDir Path directory) throws Exception {
+        // Arrange
+        LoadTestConfig config = new LoadTestConfig(LoadMode.CLOSED_LOOP, 8, 0, Duration.ofMillis(300));
+
+        // Act
+        LoadTestReport report = new LoadTestDriver(patientRepository, bedRepository, hospitalStayRepository, config).run();
+        Path file = directory.resolve("report.txt");
+        report.writeTo(file);
+
+        // Assert
+        for (LoadOperation operation : LoadOperation.values()) {
+            assertTrue(report.getLatency(operation).getCount() > 0, operation + " doit avoir été exécutée");
+            assertEquals(0, report.getErrors(operation), operation + " ne doit pas échouer");
+            assertTrue(report.getLatency(operation).valueAtPercentile(50) <= report.getLatency(operation).getMax());
+        }
+        assertTrue(report.getElapsed().compareTo(Duration.ofMillis(300)) >= 0);
+        String text = Files.readString(file);
+        assertTrue(text.startsWith("mode=CLOSED_LOOP\n"));
+        assertTrue(text.contains("p99.9_us"));
+        assertTrue(text.contains("doubleBookings=" + report.getDoubleBookings().size()));
+    }
+
+    @Test
+    void run_shouldFollowArrivalRate_inOpenLoop() {
+        // Arrange : 200 arrivées/s pendant 500 ms
+        LoadTestConfig config = new LoadTestConfig(LoadMode.OPEN_LOOP, 16, 200, Duration.ofMillis(500));
+
+        // Act
+        LoadTestReport report = new LoadTestDriver(patientRepository, bedRepository, hospitalStayRepository, config).run();
+
+        // Assert : chaque arrivée aboutit à une latence, une erreur ou une opération sans objet
+        long arrivals = 0;
+        for (LoadOperation operation : LoadOperation.values()) {
+            arrivals += report.getLatency(operation).getCount() + report.getErrors(operation) + report.getSkipped(operation);
+        }
+        assertEquals(100, arrivals, "Le débit d'arrivée ne dépend pas des temps de réponse");
+    }
+
+    @Test
+    void run_shouldNotDoubleBook_withSingleThread() {
+        // Arrange : un seul thread, placements et sorties uniquement. Toute double réservation serait un défaut
+        // de la règle d'occupation et non une course entre placements concurrents.
+        LoadTestConfig config = new LoadTestConfig(LoadMode.CLOSED_LOOP, 1, 0, Duration.ofMillis(300),
+                Map.of(LoadOperation.PLACE_PATIENT, 3, LoadOperation.DISCHARGE_PATIENT, 1),
+                LoadTestConfig.DEFAULT_REFERENCE_DATE, LoadTestConfig.DEFAULT_PLACEMENT_HORIZON_DAYS);
+
+        // Act
+        LoadTestReport report = new LoadTestDriver(patientRepository, bedRepository, hospitalStayRepository, config).run();
+
+        // Assert
+        assertTrue(report.getLatency(LoadOperation.PLACE_PATIENT).getCount() > 0, "Le tir doit placer des patients");
+        assertEquals(List.of(), report.getDoubleBookings());
+    }
+
+    @Test
+    void findDoubleBookings_shouldReportOverlappingStaysOnSameBed_only() {
+        // Arrange
+        LocalDate day = LocalDate.of(2025, 1, 15);
+        List<HospitalStay> stays = List.of(
+                stay("S-1", "BED-1", day, day.plusDays(2)),
+                stay("S-2", "BED-1", day.plusDays(3), day.plusDays(4)),      // à la suite : pas de chevauchement
+                stay("S-3", "BED-1", day.plusDays(4), null),                // même jour que la sortie de S-2
+                stay("S-4", "BED-2", day, null),
+                stay("S-5", "BED-2", day.plusDays(10), day.plusDays(12)));  // S-4 occupe toujours le lit
+
+        // Act
+        List<String> doubleBookings = LoadTestDriver.findDoubleBookings(stays);
+
+        // Assert
+        assertEquals(List.of("BED-1 S-2 S-3", "BED-2 S-4 S-5"), doubleBookings);
+    }
+
+    private HospitalStay stay(String id, String bedId, LocalDate admission, LocalDate effectiveDischarge) {
+        return new HospitalStay(id, "PAT-1", bedId, StayType.WEEK, admission, null, effectiveDischarge);
+    }
+}
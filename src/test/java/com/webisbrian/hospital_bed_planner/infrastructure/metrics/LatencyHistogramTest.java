@@ -0,0 +1,61 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void setUpPerTest() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    void valueAtPercentile_shouldStayWithinOnePercent_ofExactPercentiles() {
+        // Arrange : 1 µs à 100 ms
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros * 1_000);
+        }
+
+        // Act + Assert
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMax(), "Le maximum est exact");
+        assertWithinOnePercent(50_000_000, histogram.valueAtPercentile(50));
+        assertWithinOnePercent(99_000_000, histogram.valueAtPercentile(99));
+        assertWithinOnePercent(99_900_000, histogram.valueAtPercentile(99.9));
+        assertEquals(histogram.getMax(), histogram.valueAtPercentile(100));
+    }
+
+    @Test
+    void buckets_shouldCoverEveryValue_withBoundedRelativeError() {
+        // Arrange
+        SplittableRandom random = new SplittableRandom(3);
+
+        // Act + Assert
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong(Long.MAX_VALUE) >>> random.nextInt(63);
+            long highest = LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(value));
+            assertTrue(highest >= value, "La borne haute du seau doit couvrir la valeur " + value);
+            assertTrue(highest - value <= value / 128, "Erreur relative trop grande pour " + value);
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void valueAtPercentile_shouldReturnZero_whenEmpty() {
+        // Act + Assert
+        assertEquals(0, histogram.valueAtPercentile(99));
+        assertEquals(0.0, histogram.getMean());
+    }
+
+    private static void assertWithinOnePercent(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 100,
+                "Attendu " + expected + " à 1 % près, obtenu " + actual);
+    }
+}
@@ -0,0 +1,125 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.metrics;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.model.Sex;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.HospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.domain.repository.PatientRepository;
+import com.webisbrian.hospital_bed_planner.domain.service.PlacementService;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryBedRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryHospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryPatientRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 15);
+
+    private MetricsRegistry metrics;
+    private PatientRepository patientRepository;
+    private BedRepository bedRepository;
+    private HospitalStayRepository hospitalStayRepository;
+
+    @BeforeEach
+    void setUpPerTest() {
+        metrics = new MetricsRegistry();
+        patientRepository = new MeteredPatientRepository(new InMemoryPatientRepository(), metrics);
+        bedRepository = new MeteredBedRepository(new InMemoryBedRepository(), metrics);
+        hospitalStayRepository = new MeteredHospitalStayRepository(new InMemoryHospitalStayRepository(), metrics);
+    }
+
+    @AfterEach
+    void tearDownPerTest() {
+        metrics.close();
+    }
+
+    @Test
+    void placePatient_shouldRecordCallsFailuresAndPlacementOutcomes() {
+        // Arrange : un seul lit, deux patients
+        patientRepository.save(new Patient("PAT-1", "Jeanne", "Martin", LocalDate.of(1980, 5, 1), Sex.FEMALE,
+                false, false, null, null));
+        patientRepository.save(new Patient("PAT-2", "Paul", "Bernard", LocalDate.of(1975, 3, 2), Sex.MALE,
+                false, false, null, null));
+        bedRepository.save(new Bed("BED-1", "ROOM-1", "A1", BedStatus.AVAILABLE, false));
+        MeteredPlacePatientUseCase placePatientUseCase = new MeteredPlacePatientUseCase(
+                new PlacementService(patientRepository, bedRepository, hospitalStayRepository),
+                hospitalStayRepository, metrics);
+
+        // Act : placé, puis plus de lit libre, puis patient inconnu
+        assertTrue(placePatientUseCase.placePatient("STAY-1", "PAT-1", TODAY, TODAY.plusDays(2), StayType.WEEK).isPresent());
+        assertTrue(placePatientUseCase.placePatient("STAY-2", "PAT-2", TODAY, TODAY.plusDays(2), StayType.WEEK).isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> placePatientUseCase.placePatient("STAY-3", "PAT-404", TODAY, null, StayType.DAY));
+
+        // Assert
+        OperationMetrics placePatient = metrics.useCase("placePatient");
+        assertEquals(3, placePatient.getCalls());
+        assertEquals(1, placePatient.getFailures(), "Le patient inconnu doit compter comme échec");
+        assertTrue(placePatient.getMaxMicros() > 0);
+        assertEquals(1, metrics.getPlacement().getPlaced());
+        assertEquals(1, metrics.getPlacement().getUnplaced());
+        assertEquals(1, metrics.getPlacement().getFailed());
+        assertEquals(1.0 / 3, metrics.getPlacement().getSuccessRatio(), 1e-9);
+        assertEquals(1, metrics.repository("HospitalStayRepository", "save").getCalls(),
+                "Les repositories décorés doivent être mesurés sous le use case");
+        assertEquals(3, metrics.repository("PatientRepository", "findById").getCalls());
+    }
+
+    @Test
+    void registerMBeans_shouldExposeExistingAndLaterOperations_untilClose() throws Exception {
+        // Arrange
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        patientRepository.findById("PAT-1");
+
+        // Act
+        metrics.registerMBeans(server);
+        new MeteredDischargePatientUseCase(hospitalStayRepository, metrics);
+
+        // Assert
+        ObjectName findById = new ObjectName(MetricsRegistry.JMX_DOMAIN + ":type=Repository,name=PatientRepository.findById");
+        assertEquals(1L, server.getAttribute(findById, "Calls"));
+        assertTrue(server.isRegistered(new ObjectName(MetricsRegistry.JMX_DOMAIN + ":type=UseCase,name=discharge")),
+                "Une opération créée après l'enregistrement doit aussi être exposée");
+        assertEquals(0.0, server.getAttribute(new ObjectName(MetricsRegistry.JMX_DOMAIN + ":type=Placement"), "SuccessRatio"));
+
+        // Act + Assert
+        metrics.close();
+        assertFalse(server.isRegistered(findById), "close() doit retirer les MBeans");
+    }
+
+    @Test
+    void startPeriodicDump_shouldWriteTextReport() throws InterruptedException {
+        // Arrange
+        bedRepository.findAll();
+        CountDownLatch dumped = new CountDownLatch(1);
+        AtomicReference<String> report = new AtomicReference<>();
+
+        // Act
+        metrics.startPeriodicDump(Duration.ofMillis(10), text -> {
+            report.set(text);
+            dumped.countDown();
+        });
+
+        // Assert
+        assertTrue(dumped.await(5, TimeUnit.SECONDS), "Le rapport doit être écrit périodiquement");
+        assertTrue(report.get().contains("BedRepository.findAll"));
+        assertTrue(report.get().contains("placement placed=0 unplaced=0 failed=0"));
+        assertThrows(IllegalStateException.class, () -> metrics.startPeriodicDump(Duration.ofSeconds(1), text -> { }));
+    }
+}
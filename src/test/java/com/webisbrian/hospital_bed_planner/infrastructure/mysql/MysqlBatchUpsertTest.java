@@ -0,0 +1,84 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MysqlBatchUpsertTest {
+
+    private MysqlBatchUpsert<String> upsert;
+    private List<String> preparedSql;
+    private List<String> executions;
+
+    @BeforeEach
+    void setUpPerTest() {
+        upsert = new MysqlBatchUpsert<>("bed", List.of("id", "code"), (ps, offset, id) -> {
+            ps.setString(offset + 1, id);
+            ps.setString(offset + 2, "CODE-" + id);
+        });
+        preparedSql = new ArrayList<>();
+        executions = new ArrayList<>();
+    }
+
+    @Test
+    void sql_shouldBuildMultiRowUpsert_withoutUpdatingPrimaryKey() {
+        assertEquals(
+                "INSERT INTO bed (id, code) VALUES (?, ?), (?, ?) ON DUPLICATE KEY UPDATE code = VALUES(code)",
+                upsert.sql(2)
+        );
+    }
+
+    @Test
+    void execute_shouldBatchFullChunks_andSendRemainderInOneStatement() throws SQLException {
+        // Arrange : 2 lots complets + 201 lignes restantes
+        int rows = 2 * MysqlBatchUpsert.ROWS_PER_STATEMENT + 201;
+        List<String> ids = IntStream.range(0, rows).mapToObj(i -> "BED-" + i).toList();
+
+        // Act
+        upsert.execute(stubConnection(), ids);
+
+        // Assert
+        assertEquals(List.of(upsert.sql(MysqlBatchUpsert.ROWS_PER_STATEMENT), upsert.sql(201)), preparedSql);
+        assertEquals(List.of("addBatch", "addBatch", "executeBatch", "executeUpdate"), executions,
+                "Les lots complets doivent partir en un seul executeBatch");
+    }
+
+    private Connection stubConnection() {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("prepareStatement")) {
+                        preparedSql.add((String) args[0]);
+                        return stubStatement();
+                    }
+                    return null;
+                });
+    }
+
+    private PreparedStatement stubStatement() {
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("addBatch") || name.equals("executeBatch") || name.equals("executeUpdate")) {
+                        executions.add(name);
+                    }
+                    return switch (name) {
+                        case "executeBatch" -> new int[0];
+                        case "executeUpdate" -> 0;
+                        default -> null;
+                    };
+                });
+    }
+}
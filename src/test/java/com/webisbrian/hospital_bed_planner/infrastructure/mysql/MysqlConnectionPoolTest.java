@@ -0,0 +1,167 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MysqlConnectionPoolTest {
+
+    private AtomicInteger physicalConnectionsOpened;
+    private AtomicInteger statementsPrepared;
+    private AtomicInteger validations;
+    private MysqlConnectionPool pool;
+
+    @BeforeEach
+    void setUpPerTest() {
+        physicalConnectionsOpened = new AtomicInteger();
+        statementsPrepared = new AtomicInteger();
+        validations = new AtomicInteger();
+        MysqlPoolConfig config = new MysqlPoolConfig(
+                "jdbc:mysql://localhost/test", "user", "password",
+                0, 2,
+                Duration.ofMillis(100),
+                Duration.ofMinutes(10),
+                Duration.ofMinutes(30),
+                8,
+                1
+        );
+        pool = MysqlConnectionPool.start(config, this::stubConnection);
+    }
+
+    @AfterEach
+    void tearDownPerTest() {
+        pool.close();
+    }
+
+    @Test
+    void getConnection_shouldReusePhysicalConnection_afterClose() throws SQLException {
+        // Act
+        try (Connection first = pool.getConnection()) {
+            assertFalse(first.isClosed());
+        }
+        try (Connection second = pool.getConnection()) {
+            assertFalse(second.isClosed());
+        }
+
+        // Assert
+        assertEquals(1, physicalConnectionsOpened.get(), "La connexion rendue doit être réutilisée");
+        assertEquals(0, validations.get(), "Une connexion rendue à l'instant n'a pas besoin d'être validée");
+        assertEquals(0, pool.getMetrics().getActiveConnections());
+        assertEquals(1, pool.getMetrics().getIdleConnections());
+    }
+
+    @Test
+    void getConnection_shouldTimeOut_whenPoolIsExhausted() throws SQLException {
+        // Arrange
+        Connection first = pool.getConnection();
+        Connection second = pool.getConnection();
+
+        // Act + Assert
+        SQLException ex = assertThrows(SQLException.class, () -> pool.getConnection());
+        assertTrue(ex.getMessage().contains("Timed out"));
+
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void prepareStatement_shouldBeServedFromCache_onSameConnection() throws SQLException {
+        // Act
+        for (int i = 0; i < 3; i++) {
+            try (Connection connection = pool.getConnection();
+                 PreparedStatement statement = connection.prepareStatement("SELECT * FROM bed WHERE id = ?")) {
+                assertFalse(statement.isClosed());
+            }
+        }
+
+        // Assert
+        assertEquals(1, statementsPrepared.get(), "La requête ne doit être préparée qu'une fois");
+        assertEquals(2, pool.getMetrics().getStatementCacheHits());
+    }
+
+    @Test
+    void prepareStatement_shouldKeepStatementInUseOpen_whenEvictedFromCache() throws SQLException {
+        try (Connection connection = pool.getConnection()) {
+            // Arrange : une requête gardée ouverte, puis plus de requêtes distinctes que la taille du cache (8)
+            PreparedStatement held = connection.prepareStatement("SELECT * FROM bed WHERE id = ?");
+            for (int i = 0; i < 10; i++) {
+                try (PreparedStatement other = connection.prepareStatement("SELECT " + i)) {
+                    assertFalse(other.isClosed());
+                }
+            }
+
+            // Act + Assert
+            assertFalse(held.isClosed(), "Une requête en cours d'utilisation ne doit pas être fermée par l'éviction");
+            PreparedStatement physical = held.unwrap(PreparedStatement.class);
+            held.close();
+            assertTrue(physical.isClosed(), "La requête évincée doit être fermée quand l'emprunteur la ferme");
+        }
+    }
+
+    @Test
+    void prepareStatement_shouldNotReuseStatement_whenSettingsWereChanged() throws SQLException {
+        // Arrange : le premier emprunteur modifie la taille de paquet
+        try (Connection connection = pool.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT * FROM hospital_stay")) {
+            statement.setFetchSize(500);
+        }
+
+        // Act
+        try (Connection connection = pool.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT * FROM hospital_stay")) {
+            assertFalse(statement.isClosed());
+        }
+
+        // Assert
+        assertEquals(2, statementsPrepared.get(), "Une requête aux réglages modifiés ne doit pas être remise en cache");
+        assertEquals(0, pool.getMetrics().getStatementCacheHits());
+    }
+
+    private Connection stubConnection() {
+        physicalConnectionsOpened.incrementAndGet();
+        boolean[] closed = {false};
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "isValid" -> {
+                        validations.incrementAndGet();
+                        yield !closed[0];
+                    }
+                    case "getAutoCommit" -> !closed[0];
+                    case "isClosed" -> closed[0];
+                    case "close" -> {
+                        closed[0] = true;
+                        yield null;
+                    }
+                    case "prepareStatement" -> stubStatement();
+                    default -> null;
+                });
+    }
+
+    private PreparedStatement stubStatement() {
+        statementsPrepared.incrementAndGet();
+        boolean[] closed = {false};
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "isClosed" -> closed[0];
+                    case "close" -> {
+                        closed[0] = true;
+                        yield null;
+                    }
+                    case "unwrap" -> proxy;
+                    default -> null;
+                });
+    }
+}
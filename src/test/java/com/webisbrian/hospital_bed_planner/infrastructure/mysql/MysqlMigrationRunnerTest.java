@@ -0,0 +1,56 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MysqlMigrationRunnerTest {
+
+    @Test
+    void splitStatements_shouldIgnoreCommentsAndBlankStatements() {
+        // Arrange
+        String script = """
+                -- Tables
+                CREATE TABLE a (id INT);
+
+                -- Index
+                CREATE INDEX idx_a ON a (id);
+                """;
+
+        // Act
+        List<String> statements = MysqlMigrationRunner.splitStatements(script);
+
+        // Assert
+        assertEquals(List.of("CREATE TABLE a (id INT)", "CREATE INDEX idx_a ON a (id)"), statements);
+    }
+
+    @Test
+    void loadMigrations_shouldLoadEveryScriptInVersionOrder() {
+        // Act
+        List<MysqlMigrationRunner.Migration> migrations = MysqlMigrationRunner.loadMigrations();
+
+        // Assert
+        assertEquals(List.of(1, 2, 3), migrations.stream().map(migration -> migration.version).toList());
+        assertTrue(migrations.stream().allMatch(migration -> !MysqlMigrationRunner.splitStatements(migration.script).isEmpty()),
+                "Chaque migration doit contenir au moins une instruction");
+    }
+
+    @Test
+    void performanceMigrations_shouldCreateEveryIndexExpectedByChecker() {
+        // Arrange : colonnes de chaque CREATE INDEX des migrations
+        List<List<String>> createdIndexes = MysqlMigrationRunner.loadMigrations().stream()
+                .flatMap(migration -> MysqlMigrationRunner.splitStatements(migration.script).stream())
+                .filter(statement -> statement.startsWith("CREATE INDEX"))
+                .map(statement -> statement.substring(statement.indexOf('(') + 1, statement.lastIndexOf(')')))
+                .map(columns -> List.of(columns.replace(" DESC", "").split(",\\s*")))
+                .toList();
+
+        // Act + Assert
+        for (MysqlIndexChecker.ExpectedIndex expected : MysqlIndexChecker.EXPECTED_INDEXES) {
+            assertTrue(createdIndexes.stream().anyMatch(expected::isSatisfiedBy),
+                    "Index attendu absent des migrations : " + expected);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MysqlResultStreamTest {
+
+    private static final int ROW_COUNT = 10;
+
+    private List<String> closed;
+    private int rowsRead;
+    private Integer fetchSize;
+
+    @BeforeEach
+    void setUpPerTest() {
+        closed = new ArrayList<>();
+        rowsRead = 0;
+        fetchSize = null;
+    }
+
+    @Test
+    void open_shouldReadRowsLazily_andCloseResourcesWithStream() {
+        // Act
+        List<Integer> firstRows;
+        try (Stream<Integer> rows = MysqlResultStream.open(this::stubConnection, "SELECT * FROM hospital_stay", 2,
+                rs -> rs.getInt(1))) {
+            firstRows = rows.limit(3).toList();
+
+            // Assert (stream encore ouvert)
+            assertEquals(3, rowsRead, "Seules les lignes consommées doivent être lues");
+            assertTrue(closed.isEmpty(), "Les ressources restent ouvertes tant que le stream l'est");
+        }
+
+        // Assert
+        assertEquals(List.of(1, 2, 3), firstRows);
+        assertEquals(2, fetchSize);
+        assertEquals(List.of("ResultSet", "PreparedStatement", "Connection"), closed);
+    }
+
+    private Connection stubConnection() {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "prepareStatement" -> stubStatement();
+                    case "close" -> {
+                        closed.add("Connection");
+                        yield null;
+                    }
+                    default -> null;
+                });
+    }
+
+    private PreparedStatement stubStatement() {
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "setFetchSize" -> {
+                        fetchSize = (Integer) args[0];
+                        yield null;
+                    }
+                    case "executeQuery" -> stubResultSet();
+                    case "close" -> {
+                        closed.add("PreparedStatement");
+                        yield null;
+                    }
+                    default -> null;
+                });
+    }
+
+    private ResultSet stubResultSet() {
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "next" -> rowsRead < ROW_COUNT && ++rowsRead > 0;
+                    case "getInt" -> rowsRead;
+                    case "close" -> {
+                        closed.add("ResultSet");
+                        yield null;
+                    }
+                    default -> null;
+                });
+    }
+}
@@ -0,0 +1,46 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql.fake;
+
+import java.time.Duration;
+
+/**
+ * Latences simulées par {@link FakeMysqlServer} : ouverture de connexion, aller-retour réseau, transfert d'une ligne.
+ */
+public class FakeLatency {
+
+    /** Aucune latence : seuls les compteurs servent. */
+    public static final FakeLatency NONE = new FakeLatency(Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+    private final Duration connect;
+    private final Duration roundTrip;
+    private final Duration perRow;
+
+    /**
+     * @param connect   coût d'ouverture d'une connexion physique (TCP, TLS, authentification)
+     * @param roundTrip coût d'un aller-retour client / serveur
+     * @param perRow    coût de transfert d'une ligne, lue ou envoyée
+     */
+    public FakeLatency(Duration connect, Duration roundTrip, Duration perRow) {
+        if (connect == null || roundTrip == null || perRow == null) {
+            throw new IllegalArgumentException("Latencies cannot be null");
+        }
+        if (connect.isNegative() || roundTrip.isNegative() || perRow.isNegative()) {
+            throw new IllegalArgumentException("Latencies cannot be negative");
+        }
+        this.connect = connect;
+        this.roundTrip = roundTrip;
+        this.perRow = perRow;
+    }
+
+    /* GETTERS */
+    public Duration getConnect() {
+        return connect;
+    }
+
+    public Duration getRoundTrip() {
+        return roundTrip;
+    }
+
+    public Duration getPerRow() {
+        return perRow;
+    }
+}
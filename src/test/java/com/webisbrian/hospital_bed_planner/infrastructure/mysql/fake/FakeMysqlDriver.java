@@ -0,0 +1,91 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql.fake;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Driver JDBC des URL {@code jdbc:fakemysql:<nom>}, pour le code qui passe par {@link DriverManager}
+ * (constructeurs des repositories à partir d'une URL, {@code MysqlPoolConfig}).
+ * Chaque nom désigne un {@link FakeMysqlServer} enregistré par {@link #register(String, FakeMysqlServer)}.
+ */
+public class FakeMysqlDriver implements Driver {
+
+    public static final String URL_PREFIX = "jdbc:fakemysql:";
+
+    private static final Map<String, FakeMysqlServer> SERVERS = new ConcurrentHashMap<>();
+
+    static {
+        try {
+            DriverManager.registerDriver(new FakeMysqlDriver());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to register the fake MySQL driver", e);
+        }
+    }
+
+    /**
+     * Rend le serveur joignable sous {@code jdbc:fakemysql:<name>} et renvoie cette URL.
+     */
+    public static String register(String name, FakeMysqlServer server) {
+        if (name == null || name.isBlank() || server == null) {
+            throw new IllegalArgumentException("Server name and server cannot be null or blank");
+        }
+        SERVERS.put(name, server);
+        return URL_PREFIX + name;
+    }
+
+    public static void unregister(String name) {
+        SERVERS.remove(name);
+    }
+
+    @Override
+    public Connection connect(String url, Properties info) throws SQLException {
+        if (!acceptsURL(url)) {
+            return null;
+        }
+        String name = url.substring(URL_PREFIX.length());
+        int options = name.indexOf('?');
+        FakeMysqlServer server = SERVERS.get(options < 0 ? name : name.substring(0, options));
+        if (server == null) {
+            throw new SQLException("No fake MySQL server registered for " + url);
+        }
+        return server.connect();
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+        return url != null && url.startsWith(URL_PREFIX);
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+        return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("Fake MySQL driver does not use java.util.logging");
+    }
+}
@@ -0,0 +1,673 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql.fake;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serveur MySQL simulé en mémoire, pour mesurer et tester en CI le nombre d'allers-retours des adaptateurs MySQL
+ * (pool de connexions, écritures groupées, filtrage côté base) sans base réelle.
+ * <p>
+ * Les tables sont créées à partir du script de migration {@code V1} ; les requêtes sont celles du sous-ensemble SQL
+ * reconnu par {@link SqlParser}. Chaque connexion ouverte coûte {@link FakeLatency#getConnect()}, chaque aller-retour
+ * {@link FakeLatency#getRoundTrip()} plus {@link FakeLatency#getPerRow()} par ligne transférée. Sont des allers-retours :
+ * chaque exécution (et chaque entrée d'un {@code executeBatch}), chaque paquet de {@code fetchSize} lignes au-delà
+ * du premier, {@code commit}, {@code rollback}, {@code isValid} et {@code setAutoCommit} quand la valeur change.
+ * La préparation d'une requête est locale, comme avec les requêtes préparées côté client de Connector/J.
+ * <p>
+ * Simplifications assumées : les écritures sont visibles immédiatement (pas d'isolation, {@code rollback} n'annule
+ * rien) et les clés étrangères ne sont pas vérifiées. Les requêtes s'exécutent l'une après l'autre sous un verrou
+ * unique ; les latences sont subies hors verrou, comme l'attente réseau.
+ */
+public class FakeMysqlServer {
+
+    public static final String DEFAULT_SCHEMA = "db/migration/V1__create_tables.sql";
+
+    private static final Pattern CREATE_TABLE = Pattern.compile(
+            "CREATE\\s+TABLE\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?`?(\\w+)`?\\s*\\((.*?)\\)\\s*(?:ENGINE[^;]*)?;",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern PRIMARY_KEY = Pattern.compile("PRIMARY\\s+KEY\\s*\\(\\s*`?(\\w+)`?\\s*\\)",
+            Pattern.CASE_INSENSITIVE);
+
+    /** Marqueur d'un paramètre non lié (distinct de NULL). */
+    private static final Object UNSET = new Object();
+
+    private final FakeLatency latency;
+    private final Map<String, FakeTable> tables;
+    private final Map<String, SqlParser.Parsed> parsedStatements = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicLong connectionsOpened = new AtomicLong();
+    private final AtomicLong openConnections = new AtomicLong();
+    private final AtomicLong roundTrips = new AtomicLong();
+    private final AtomicLong statementsExecuted = new AtomicLong();
+    private final AtomicLong rowsFetched = new AtomicLong();
+    private final AtomicLong rowsSent = new AtomicLong();
+
+    public FakeMysqlServer() {
+        this(FakeLatency.NONE);
+    }
+
+    public FakeMysqlServer(FakeLatency latency) {
+        this(latency, DEFAULT_SCHEMA);
+    }
+
+    /**
+     * @param schemaResource script SQL du classpath contenant les {@code CREATE TABLE}
+     */
+    public FakeMysqlServer(FakeLatency latency, String schemaResource) {
+        if (latency == null) {
+            throw new IllegalArgumentException("Latency cannot be null");
+        }
+        this.latency = latency;
+        this.tables = loadSchema(schemaResource);
+    }
+
+    /**
+     * Ouvre une connexion physique ; utilisable comme source de connexions ({@code server::connect}).
+     */
+    public Connection connect() throws SQLException {
+        pause(latency.getConnect());
+        connectionsOpened.incrementAndGet();
+        openConnections.incrementAndGet();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler());
+    }
+
+    /**
+     * Nombre de lignes d'une table (assertions de test, sans aller-retour compté).
+     */
+    public int rowCount(String table) {
+        lock.lock();
+        try {
+            FakeTable found = tables.get(table.toLowerCase(Locale.ROOT));
+            if (found == null) {
+                throw new IllegalArgumentException("Unknown table " + table);
+            }
+            return found.rows().size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remet les compteurs à zéro (sauf les connexions encore ouvertes), par exemple après la mise en place d'un test.
+     */
+    public void resetCounters() {
+        connectionsOpened.set(0);
+        roundTrips.set(0);
+        statementsExecuted.set(0);
+        rowsFetched.set(0);
+        rowsSent.set(0);
+    }
+
+    /* GETTERS */
+    public FakeLatency getLatency() {
+        return latency;
+    }
+
+    public long getConnectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    public long getOpenConnections() {
+        return openConnections.get();
+    }
+
+    public long getRoundTrips() {
+        return roundTrips.get();
+    }
+
+    public long getStatementsExecuted() {
+        return statementsExecuted.get();
+    }
+
+    /** Lignes renvoyées au client par les SELECT. */
+    public long getRowsFetched() {
+        return rowsFetched.get();
+    }
+
+    /** Tuples envoyés au serveur par les INSERT. */
+    public long getRowsSent() {
+        return rowsSent.get();
+    }
+
+    private SqlParser.Parsed parse(String sql) throws SQLException {
+        SqlParser.Parsed parsed = parsedStatements.get(sql);
+        if (parsed == null) {
+            parsed = SqlParser.parse(sql, tables);
+            parsedStatements.putIfAbsent(sql, parsed);
+        }
+        return parsed;
+    }
+
+    private SqlStatement.Result executeQuery(SqlParser.Parsed parsed, Object[] parameters) throws SQLException {
+        statementsExecuted.incrementAndGet();
+        lock.lock();
+        try {
+            return parsed.statement.executeQuery(parameters);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int executeUpdate(SqlParser.Parsed parsed, Object[] parameters) throws SQLException {
+        statementsExecuted.incrementAndGet();
+        int affected;
+        lock.lock();
+        try {
+            affected = parsed.statement.executeUpdate(parameters);
+        } finally {
+            lock.unlock();
+        }
+        int tuples = parsed.statement instanceof SqlStatement.Insert insert ? insert.tuples.size() : 0;
+        rowsSent.addAndGet(tuples);
+        roundTrip(tuples);
+        return affected;
+    }
+
+    /**
+     * Un aller-retour transportant {@code rows} lignes.
+     */
+    private void roundTrip(int rows) throws SQLException {
+        roundTrips.incrementAndGet();
+        pause(latency.getRoundTrip().plus(latency.getPerRow().multipliedBy(rows)));
+    }
+
+    private static void pause(Duration duration) throws SQLException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        for (long remaining = duration.toNanos(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new SQLException("Interrupted during simulated network latency");
+            }
+        }
+    }
+
+    private static Map<String, FakeTable> loadSchema(String resource) {
+        // 1. Lecture du script
+        String script;
+        try (InputStream in = FakeMysqlServer.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Schema resource not found: " + resource);
+            }
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read schema resource " + resource, e);
+        }
+
+        // 2. Une table par CREATE TABLE : colonnes et clé primaire
+        Map<String, FakeTable> tables = new LinkedHashMap<>();
+        Matcher matcher = CREATE_TABLE.matcher(script);
+        while (matcher.find()) {
+            List<String> columns = new ArrayList<>();
+            String primaryKey = null;
+            for (String definition : splitTopLevel(matcher.group(2))) {
+                String upper = definition.toUpperCase(Locale.ROOT);
+                Matcher primary = PRIMARY_KEY.matcher(definition);
+                if (upper.startsWith("PRIMARY") && primary.find()) {
+                    primaryKey = primary.group(1);
+                } else if (!upper.startsWith("CONSTRAINT") && !upper.startsWith("FOREIGN")
+                        && !upper.startsWith("KEY") && !upper.startsWith("INDEX") && !upper.startsWith("UNIQUE")) {
+                    columns.add(definition.split("\\s+")[0].replace("`", ""));
+                }
+            }
+            if (primaryKey == null) {
+                throw new IllegalStateException("Table " + matcher.group(1) + " has no single-column primary key");
+            }
+            String name = matcher.group(1).toLowerCase(Locale.ROOT);
+            tables.put(name, new FakeTable(name, columns, primaryKey));
+        }
+        if (tables.isEmpty()) {
+            throw new IllegalStateException("No CREATE TABLE statement found in " + resource);
+        }
+        return tables;
+    }
+
+    /**
+     * Découpe sur les virgules hors parenthèses ({@code VARCHAR(64)}, {@code PRIMARY KEY (id)}).
+     */
+    private static List<String> splitTopLevel(String body) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                parts.add(body.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        parts.add(body.substring(start).trim());
+        parts.removeIf(String::isEmpty);
+        return parts;
+    }
+
+    private static SQLException unsupported(String type, Method method) {
+        return new SQLFeatureNotSupportedException("Fake MySQL server does not support " + type + "." + method.getName());
+    }
+
+    /**
+     * Connexion physique.
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Set<StatementHandler> statements = Collections.newSetFromMap(new IdentityHashMap<>());
+        private boolean autoCommit = true;
+        private boolean closed;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        openConnections.decrementAndGet();
+                        for (StatementHandler statement : new ArrayList<>(statements)) {
+                            statement.close();
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "isValid":
+                    if (closed) {
+                        return false;
+                    }
+                    roundTrip(0);
+                    return true;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "FakeMysqlConnection@" + Integer.toHexString(System.identityHashCode(proxy));
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("No operations allowed after connection closed");
+            }
+            switch (method.getName()) {
+                case "prepareStatement":
+                    if (args.length != 1 && args.length != 3) {
+                        throw unsupported("Connection", method);
+                    }
+                    StatementHandler statement = new StatementHandler(this, parse((String) args[0]));
+                    statements.add(statement);
+                    statement.proxy = (PreparedStatement) Proxy.newProxyInstance(
+                            PreparedStatement.class.getClassLoader(),
+                            new Class<?>[]{PreparedStatement.class},
+                            statement);
+                    return statement.proxy;
+                case "getAutoCommit":
+                    return autoCommit;
+                case "setAutoCommit":
+                    boolean value = (Boolean) args[0];
+                    if (value != autoCommit) {
+                        autoCommit = value;
+                        roundTrip(0);
+                    }
+                    return null;
+                case "commit":
+                case "rollback":
+                    if (args != null && args.length > 0) {
+                        throw unsupported("Connection", method);
+                    }
+                    if (autoCommit) {
+                        throw new SQLException("Can't call " + method.getName() + " when autocommit=true");
+                    }
+                    roundTrip(0);
+                    return null;
+                case "getWarnings":
+                    return null;
+                case "clearWarnings":
+                    return null;
+                default:
+                    throw unsupported("Connection", method);
+            }
+        }
+    }
+
+    /**
+     * Requête préparée : paramètres liés localement, envoyés à l'exécution.
+     */
+    private final class StatementHandler implements InvocationHandler {
+        private final ConnectionHandler connection;
+        private final SqlParser.Parsed parsed;
+        private final Object[] parameters;
+        private final List<Object[]> batch = new ArrayList<>();
+        private PreparedStatement proxy;
+        private ResultSetHandler currentResult;
+        private int updateCount = -1;
+        private int fetchSize;
+        private boolean closed;
+
+        StatementHandler(ConnectionHandler connection, SqlParser.Parsed parsed) {
+            this.connection = connection;
+            this.parsed = parsed;
+            this.parameters = new Object[parsed.parameterCount];
+            Arrays.fill(parameters, UNSET);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    close();
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "FakeMysqlPreparedStatement[" + parsed.statement.getClass().getSimpleName() + "]";
+                default:
+                    break;
+            }
+            if (closed || connection.closed) {
+                throw new SQLException("No operations allowed after statement closed");
+            }
+            switch (method.getName()) {
+                case "setString":
+                case "setBoolean":
+                case "setObject":
+                    return bind(args[0], args[1]);
+                case "setInt":
+                case "setLong":
+                    return bind(args[0], ((Number) args[1]).longValue());
+                case "setDate":
+                    return bind(args[0], args[1] == null ? null : ((Date) args[1]).toLocalDate());
+                case "setNull":
+                    return bind(args[0], null);
+                case "clearParameters":
+                    Arrays.fill(parameters, UNSET);
+                    return null;
+                case "addBatch":
+                    if (args != null && args.length > 0) {
+                        throw unsupported("PreparedStatement", method);
+                    }
+                    batch.add(boundParameters());
+                    return null;
+                case "clearBatch":
+                    batch.clear();
+                    return null;
+                case "executeQuery":
+                    checkNoSql(method, args);
+                    return query();
+                case "executeUpdate":
+                    checkNoSql(method, args);
+                    return update(boundParameters());
+                case "execute":
+                    checkNoSql(method, args);
+                    if (parsed.statement.isQuery()) {
+                        query();
+                        return true;
+                    }
+                    update(boundParameters());
+                    return false;
+                case "executeBatch":
+                    int[] counts = new int[batch.size()];
+                    try {
+                        for (int i = 0; i < counts.length; i++) {
+                            counts[i] = update(batch.get(i));
+                        }
+                    } finally {
+                        batch.clear();
+                    }
+                    return counts;
+                case "getResultSet":
+                    return currentResult == null ? null : currentResult.proxy;
+                case "getUpdateCount":
+                    return updateCount;
+                case "setFetchSize":
+                    int size = (Integer) args[0];
+                    if (size < 0) {
+                        throw new SQLException("Fetch size cannot be negative");
+                    }
+                    fetchSize = size;
+                    return null;
+                case "getFetchSize":
+                    return fetchSize;
+                case "getWarnings":
+                case "clearWarnings":
+                    return null;
+                default:
+                    throw unsupported("PreparedStatement", method);
+            }
+        }
+
+        private Object bind(Object index, Object value) throws SQLException {
+            int position = (Integer) index;
+            if (position < 1 || position > parameters.length) {
+                throw new SQLException("Parameter index out of range (" + position
+                        + " > number of parameters, which is " + parameters.length + ")");
+            }
+            parameters[position - 1] = value instanceof Date date ? date.toLocalDate()
+                    : value instanceof Integer number ? Long.valueOf(number) : value;
+            return null;
+        }
+
+        private Object[] boundParameters() throws SQLException {
+            for (int i = 0; i < parameters.length; i++) {
+                if (parameters[i] == UNSET) {
+                    throw new SQLException("No value specified for parameter " + (i + 1));
+                }
+            }
+            return parameters.clone();
+        }
+
+        private ResultSet query() throws SQLException {
+            if (!parsed.statement.isQuery()) {
+                throw new SQLException("Can not issue data manipulation statements with executeQuery()");
+            }
+            closeResult();
+            SqlStatement.Result result = executeQuery(parsed, boundParameters());
+            currentResult = new ResultSetHandler(this, result, fetchSize);
+            currentResult.proxy = (ResultSet) Proxy.newProxyInstance(
+                    ResultSet.class.getClassLoader(),
+                    new Class<?>[]{ResultSet.class},
+                    currentResult);
+            updateCount = -1;
+            currentResult.fetchNextChunk();
+            return currentResult.proxy;
+        }
+
+        private int update(Object[] values) throws SQLException {
+            if (parsed.statement.isQuery()) {
+                throw new SQLException("Can not issue SELECT via executeUpdate() or executeBatch()");
+            }
+            closeResult();
+            updateCount = executeUpdate(parsed, values);
+            return updateCount;
+        }
+
+        private void checkNoSql(Method method, Object[] args) throws SQLException {
+            if (args != null && args.length > 0) {
+                throw unsupported("PreparedStatement", method);
+            }
+        }
+
+        private void closeResult() {
+            if (currentResult != null) {
+                currentResult.closed = true;
+                currentResult = null;
+            }
+        }
+
+        void close() {
+            if (!closed) {
+                closed = true;
+                closeResult();
+                connection.statements.remove(this);
+            }
+        }
+    }
+
+    /**
+     * Curseur sur un résultat : lignes livrées par paquets de {@code fetchSize} (toutes d'un coup si 0).
+     */
+    private final class ResultSetHandler implements InvocationHandler {
+        private final StatementHandler statement;
+        private final SqlStatement.Result result;
+        private final int fetchSize;
+        private ResultSet proxy;
+        private int cursor = -1;
+        private int fetched;
+        private boolean lastWasNull;
+        private boolean closed;
+
+        ResultSetHandler(StatementHandler statement, SqlStatement.Result result, int fetchSize) {
+            this.statement = statement;
+            this.result = result;
+            this.fetchSize = fetchSize;
+        }
+
+        /**
+         * Transfert du paquet suivant : le premier voyage avec l'exécution, les suivants coûtent un aller-retour.
+         */
+        void fetchNextChunk() throws SQLException {
+            int total = result.rows.size();
+            int chunk = fetchSize > 0 ? Math.min(fetchSize, total - fetched) : total - fetched;
+            fetched += chunk;
+            rowsFetched.addAndGet(chunk);
+            roundTrip(chunk);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    closed = true;
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "FakeMysqlResultSet[" + result.rows.size() + " rows]";
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Operation not allowed after ResultSet closed");
+            }
+            switch (method.getName()) {
+                case "next":
+                    if (cursor + 1 >= result.rows.size()) {
+                        cursor = result.rows.size();
+                        return false;
+                    }
+                    if (cursor + 1 == fetched) {
+                        fetchNextChunk();
+                    }
+                    cursor++;
+                    return true;
+                case "wasNull":
+                    return lastWasNull;
+                case "findColumn":
+                    return columnIndex(args[0]) + 1;
+                case "getStatement":
+                    return statement.proxy;
+                case "getString":
+                    Object text = value(args[0]);
+                    return text == null ? null : text instanceof Boolean bool ? (bool ? "1" : "0") : text.toString();
+                case "getDate":
+                    Object date = value(args[0]);
+                    return date == null ? null : Date.valueOf(date instanceof LocalDate local
+                            ? local : LocalDate.parse(date.toString()));
+                case "getBoolean":
+                    Object bool = value(args[0]);
+                    return bool instanceof String string ? string.equals("1") || string.equalsIgnoreCase("true")
+                            : SqlExpression.isTrue(bool instanceof Number number ? number.longValue() : bool);
+                case "getInt":
+                    return (int) asLong(value(args[0]));
+                case "getLong":
+                    return asLong(value(args[0]));
+                case "getObject":
+                    if (args.length != 1) {
+                        throw unsupported("ResultSet", method);
+                    }
+                    Object object = value(args[0]);
+                    return object instanceof LocalDate local ? Date.valueOf(local) : object;
+                case "getWarnings":
+                case "clearWarnings":
+                    return null;
+                default:
+                    throw unsupported("ResultSet", method);
+            }
+        }
+
+        private Object value(Object column) throws SQLException {
+            if (cursor < 0 || cursor >= result.rows.size()) {
+                throw new SQLException(cursor < 0 ? "Before start of result set" : "After end of result set");
+            }
+            Object value = result.rows.get(cursor)[columnIndex(column)];
+            lastWasNull = value == null;
+            return value;
+        }
+
+        private int columnIndex(Object column) throws SQLException {
+            if (column instanceof Integer index) {
+                if (index < 1 || index > result.labels.size()) {
+                    throw new SQLException("Column Index out of range, " + index + " > " + result.labels.size());
+                }
+                return index - 1;
+            }
+            for (int i = 0; i < result.labels.size(); i++) {
+                if (result.labels.get(i).equalsIgnoreCase((String) column)) {
+                    return i;
+                }
+            }
+            throw new SQLException("Column '" + column + "' not found");
+        }
+
+        private long asLong(Object value) {
+            if (value == null) {
+                return 0;
+            }
+            if (value instanceof Boolean bool) {
+                return bool ? 1 : 0;
+            }
+            if (value instanceof Number number) {
+                return number.longValue();
+            }
+            return Long.parseLong(value.toString());
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql.fake;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.model.Sex;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import com.webisbrian.hospital_bed_planner.infrastructure.mysql.MysqlBedRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.mysql.MysqlConnectionPool;
+import com.webisbrian.hospital_bed_planner.infrastructure.mysql.MysqlHospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.mysql.MysqlPatientRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.mysql.MysqlPoolConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLSyntaxErrorException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FakeMysqlServerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 15);
+
+    private FakeMysqlServer server;
+    private MysqlPatientRepository patientRepository;
+    private MysqlBedRepository bedRepository;
+    private MysqlHospitalStayRepository hospitalStayRepository;
+
+    @BeforeEach
+    void setUpPerTest() {
+        server = new FakeMysqlServer();
+        patientRepository = new MysqlPatientRepository(server::connect, 10);
+        bedRepository = new MysqlBedRepository(server::connect);
+        hospitalStayRepository = new MysqlHospitalStayRepository(server::connect);
+    }
+
+    @Test
+    void repositories_shouldRunTheirSqlAgainstTheFakeServer() {
+        // Arrange : un lit standard occupé, un lit standard libre, un lit d'isolement libre
+        patientRepository.save(patient("PAT-1", "Martin", false));
+        patientRepository.save(patient("PAT-2", "Bernard", true));
+        bedRepository.saveAll(List.of(
+                new Bed("BED-1", "ROOM-1", "A1", BedStatus.AVAILABLE, false),
+                new Bed("BED-2", "ROOM-1", "A2", BedStatus.AVAILABLE, false),
+                new Bed("BED-3", "ROOM-2", "B1", BedStatus.AVAILABLE, true)));
+        hospitalStayRepository.save(new HospitalStay("STAY-1", "PAT-1", "BED-1", StayType.WEEK,
+                TODAY.minusDays(2), TODAY.plusDays(3), null));
+
+        // Act
+        Optional<Bed> forStandardPatient = bedRepository.findFirstFreeBed(
+                patientRepository.findById("PAT-1").orElseThrow(), TODAY, TODAY.plusDays(1), TODAY);
+        Optional<Bed> forIsolatedPatient = bedRepository.findFirstFreeBed(
+                patientRepository.findById("PAT-2").orElseThrow(), TODAY, TODAY.plusDays(1), TODAY);
+        List<Patient> firstPage = patientRepository.findPageAfter(null, 1);
+        List<Patient> secondPage = patientRepository.findPageAfter(firstPage.get(0), 1);
+
+        // Assert
+        assertEquals("BED-2", forStandardPatient.orElseThrow().getId(),
+                "Le lit standard libre doit passer avant le lit d'isolement");
+        assertEquals("BED-3", forIsolatedPatient.orElseThrow().getId());
+        assertEquals("PAT-2", firstPage.get(0).getId(), "Pagination triée par nom");
+        assertEquals("PAT-1", secondPage.get(0).getId());
+        assertEquals(List.of("STAY-1"),
+                hospitalStayRepository.findActiveStaysOn(TODAY).stream().map(HospitalStay::getId).toList());
+        assertTrue(hospitalStayRepository.findOccupancyBetween(TODAY, TODAY, TODAY).isOccupied("BED-1"));
+        assertFalse(hospitalStayRepository.findOccupancyBetween(TODAY.plusDays(10), TODAY.plusDays(10), TODAY).isOccupied("BED-2"));
+    }
+
+    @Test
+    void findFirstFreeBed_shouldEndReservationAtPlannedDischarge_butKeepStartedStay() {
+        // Arrange : le seul lit est réservé dans dix jours, sortie effective non renseignée
+        patientRepository.save(patient("PAT-1", "Martin", false));
+        bedRepository.save(new Bed("BED-1", "ROOM-1", "A1", BedStatus.AVAILABLE, false));
+        hospitalStayRepository.save(new HospitalStay("S-LATE", "PAT-1", "BED-1", StayType.WEEK,
+                TODAY.plusDays(10), TODAY.plusDays(12), null));
+        Patient patient = patientRepository.findById("PAT-1").orElseThrow();
+
+        // Act + Assert
+        assertTrue(bedRepository.findFirstFreeBed(patient, TODAY, TODAY.plusDays(3), TODAY).isPresent(),
+                "Le lit est libre avant la réservation");
+        assertTrue(bedRepository.findFirstFreeBed(patient, TODAY.plusDays(11), TODAY.plusDays(14), TODAY).isEmpty(),
+                "Le lit est occupé pendant la réservation");
+        assertTrue(bedRepository.findFirstFreeBed(patient, TODAY.plusDays(13), TODAY.plusDays(15), TODAY).isPresent(),
+                "La réservation libère le lit à sa sortie prévue");
+        assertTrue(bedRepository.findFirstFreeBed(patient, TODAY.plusDays(13), TODAY.plusDays(15), TODAY.plusDays(14)).isEmpty(),
+                "Un séjour commencé et non clôturé garde son lit au-delà de sa sortie prévue");
+        assertFalse(hospitalStayRepository.findOccupancyBetween(TODAY, TODAY.plusDays(3), TODAY).isOccupied("BED-1"));
+        assertFalse(hospitalStayRepository.findOccupancyBetween(TODAY.plusDays(13), null, TODAY).isOccupied("BED-1"));
+        assertTrue(hospitalStayRepository.findOccupancyBetween(TODAY.plusDays(13), null, TODAY.plusDays(14)).isOccupied("BED-1"));
+        assertEquals(List.of("S-LATE"), hospitalStayRepository.findActiveStaysOn(TODAY.plusDays(20)).stream()
+                .map(HospitalStay::getId)
+                .toList(), "Un séjour non clôturé reste actif");
+    }
+
+    @Test
+    void saveAll_shouldUseOneConnection_andAFewRoundTrips() {
+        // Arrange : 2 lots complets de 500 lignes + 201 lignes restantes
+        List<Bed> beds = IntStream.range(0, 1_201)
+                .mapToObj(i -> new Bed("BED-" + i, "ROOM-" + i / 2, "C" + i, BedStatus.AVAILABLE, false))
+                .toList();
+
+        // Act
+        bedRepository.saveAll(beds);
+
+        // Assert : setAutoCommit(false), 2 entrées de batch, le reste, commit
+        assertEquals(1, server.getConnectionsOpened());
+        assertEquals(5, server.getRoundTrips(), "Les lignes doivent partir par requêtes multi-lignes");
+        assertEquals(1_201, server.getRowsSent());
+        assertEquals(1_201, server.rowCount("bed"));
+
+        // Act : les mêmes lignes une par une
+        server.resetCounters();
+        beds.forEach(bedRepository::save);
+
+        // Assert
+        assertEquals(1_201, server.getConnectionsOpened(), "Sans pool, chaque écriture ouvre une connexion");
+        assertEquals(1_201, server.getRoundTrips());
+        assertEquals(1_201, server.rowCount("bed"), "L'upsert ne doit pas dupliquer les lignes");
+    }
+
+    @Test
+    void findAllById_shouldLoadPatientsByChunks_onOneConnection() {
+        // Arrange : 1 001 patients, soit 2 lots complets de 500 identifiants et 1 restant
+        List<Patient> patients = IntStream.range(0, 1_001)
+                .mapToObj(i -> patient("PAT-" + i, "Nom-" + i, false))
+                .toList();
+        patientRepository.saveAll(patients);
+        List<String> ids = new ArrayList<>(patients.stream().map(Patient::getId).toList());
+        ids.add("PAT-0");
+        ids.add("PAT-UNKNOWN");
+        server.resetCounters();
+
+        // Act
+        List<Patient> found = patientRepository.findAllById(ids);
+
+        // Assert
+        assertEquals(1_001, found.size(), "Doublons et identifiants inconnus ne doivent pas produire de ligne");
+        assertEquals(1, server.getConnectionsOpened());
+        assertEquals(3, server.getRoundTrips(), "Une requête IN par lot d'identifiants");
+        assertTrue(patientRepository.findAllById(List.of()).isEmpty());
+    }
+
+    @Test
+    void pool_shouldReusePhysicalConnection_acrossRepositoryCalls() {
+        // Arrange
+        MysqlPoolConfig config = new MysqlPoolConfig("jdbc:fakemysql:pool", "user", "password",
+                0, 2, Duration.ofSeconds(1), Duration.ofMinutes(10), Duration.ofMinutes(30), 8, 1);
+        try (MysqlConnectionPool pool = MysqlConnectionPool.start(config, server::connect)) {
+            MysqlBedRepository pooledBedRepository = new MysqlBedRepository(pool);
+            pooledBedRepository.save(new Bed("BED-1", "ROOM-1", "A1", BedStatus.AVAILABLE, false));
+
+            // Act
+            for (int i = 0; i < 10; i++) {
+                assertTrue(pooledBedRepository.findById("BED-1").isPresent());
+            }
+
+            // Assert : 11 requêtes, sans validation (isValid) puisque la connexion vient d'être rendue
+            assertEquals(1, server.getConnectionsOpened(), "La connexion physique doit être réutilisée");
+            assertEquals(11, server.getRoundTrips());
+        }
+    }
+
+    @Test
+    void streamAll_shouldFetchRowsByChunks_andInjectLatency() {
+        // Arrange : 25 patients, 10 lignes par paquet, 20 ms à l'ouverture et 5 ms par aller-retour
+        FakeMysqlServer slowServer = new FakeMysqlServer(
+                new FakeLatency(Duration.ofMillis(20), Duration.ofMillis(5), Duration.ZERO));
+        MysqlPatientRepository slowRepository = new MysqlPatientRepository(slowServer::connect, 10);
+        List<Patient> patients = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            patients.add(patient("PAT-" + i, "Nom" + i, false));
+        }
+        slowRepository.saveAll(patients);
+        slowServer.resetCounters();
+
+        // Act
+        long start = System.nanoTime();
+        long count;
+        try (Stream<Patient> stream = slowRepository.streamAll()) {
+            count = stream.count();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Assert : 3 paquets (10 + 10 + 5), donc 3 allers-retours après l'ouverture de connexion
+        assertEquals(25, count);
+        assertEquals(3, slowServer.getRoundTrips());
+        assertEquals(25, slowServer.getRowsFetched());
+        assertTrue(elapsed.compareTo(Duration.ofMillis(35)) >= 0,
+                "La latence simulée doit être subie : " + elapsed.toMillis() + " ms");
+    }
+
+    @Test
+    void driver_shouldRejectUnsupportedSql_andDuplicateKeys() throws Exception {
+        // Arrange
+        String url = FakeMysqlDriver.register("rejections", server);
+        try (Connection connection = java.sql.DriverManager.getConnection(url, "user", "password")) {
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO bed (id, room_id, code, status, isolation_capable) VALUES (?, ?, ?, ?, ?)")) {
+                insert.setString(1, "BED-1");
+                insert.setString(2, "ROOM-1");
+                insert.setString(3, "A1");
+                insert.setString(4, BedStatus.AVAILABLE.name());
+                insert.setBoolean(5, false);
+                insert.executeUpdate();
+
+                // Act + Assert
+                assertThrows(SQLIntegrityConstraintViolationException.class, insert::executeUpdate,
+                        "Sans ON DUPLICATE KEY UPDATE, une clé en double doit être refusée");
+            }
+            assertThrows(SQLSyntaxErrorException.class,
+                    () -> connection.prepareStatement("UPDATE bed SET status = ? WHERE id = ?"));
+            assertThrows(SQLSyntaxErrorException.class,
+                    () -> connection.prepareStatement("SELECT * FROM ward"));
+        } finally {
+            FakeMysqlDriver.unregister("rejections");
+        }
+        assertEquals(0, server.getOpenConnections());
+    }
+
+    private Patient patient(String id, String lastName, boolean isolationRequired) {
+        return new Patient(id, "Prénom", lastName, LocalDate.of(1980, 5, 1), Sex.FEMALE,
+                false, isolationRequired, null, null);
+    }
+}
@@ -0,0 +1,89 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql.fake;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table en mémoire : colonnes dans l'ordre du schéma, lignes indexées par clé primaire (ordre d'insertion).
+ * Les index secondaires (égalité sur une colonne) sont construits à la première recherche et invalidés à chaque écriture,
+ * à la manière des index que MySQL utiliserait pour les mêmes requêtes.
+ * Non thread-safe : {@link FakeMysqlServer} sérialise les accès.
+ */
+final class FakeTable {
+
+    private final String name;
+    private final List<String> columns;
+    private final String primaryKey;
+    private final Map<Object, Object[]> rows = new LinkedHashMap<>();
+    private final Map<Integer, Map<Object, List<Object[]>>> indexes = new HashMap<>();
+
+    FakeTable(String name, List<String> columns, String primaryKey) {
+        this.name = name;
+        this.columns = List.copyOf(columns);
+        this.primaryKey = primaryKey;
+    }
+
+    /**
+     * Position de la colonne, ou -1 si elle n'existe pas.
+     */
+    int indexOf(String column) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).equalsIgnoreCase(column)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    Object[] get(Object key) {
+        return rows.get(key);
+    }
+
+    /**
+     * Lignes dont la colonne vaut {@code value} (égalité exacte).
+     */
+    List<Object[]> lookup(int column, Object value) {
+        if (columns.get(column).equalsIgnoreCase(primaryKey)) {
+            Object[] row = rows.get(value);
+            return row == null ? List.of() : List.<Object[]>of(row);
+        }
+        Map<Object, List<Object[]>> index = indexes.computeIfAbsent(column, unused -> {
+            Map<Object, List<Object[]>> built = new HashMap<>();
+            for (Object[] row : rows.values()) {
+                built.computeIfAbsent(row[column], key -> new ArrayList<>()).add(row);
+            }
+            return built;
+        });
+        return index.getOrDefault(value, List.of());
+    }
+
+    void put(Object[] row) {
+        rows.put(row[indexOf(primaryKey)], row);
+        indexes.clear();
+    }
+
+    Object[] remove(Object key) {
+        indexes.clear();
+        return rows.remove(key);
+    }
+
+    Collection<Object[]> rows() {
+        return rows.values();
+    }
+
+    String name() {
+        return name;
+    }
+
+    List<String> columns() {
+        return columns;
+    }
+
+    String primaryKey() {
+        return primaryKey;
+    }
+}
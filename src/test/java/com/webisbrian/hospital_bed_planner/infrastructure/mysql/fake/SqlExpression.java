@@ -0,0 +1,332 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql.fake;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Expression SQL évaluée sur une ligne combinée (une ligne par table de la clause FROM, {@code null} pour le côté
+ * absent d'une jointure externe), avec la logique à trois valeurs de SQL : {@code null} vaut « inconnu ».
+ */
+interface SqlExpression {
+
+    /**
+     * Lie les références de colonnes aux tables de la requête, une fois l'analyse terminée.
+     */
+    default void resolve(List<FakeTable> tables, List<String> aliases) throws SQLException {
+    }
+
+    Object evaluate(Object[][] rows, Object[] parameters) throws SQLException;
+
+    /**
+     * Vrai seulement si l'expression vaut TRUE (une condition inconnue écarte la ligne, comme en SQL).
+     */
+    static boolean isTrue(Object value) {
+        return Boolean.TRUE.equals(value) || value instanceof Long number && number != 0;
+    }
+
+    /**
+     * Compare deux valeurs SQL, ou renvoie {@code null} si l'une est NULL.
+     * Booléens et entiers se comparent comme des entiers (BOOLEAN est un TINYINT en MySQL).
+     */
+    static Integer compare(Object left, Object right) throws SQLException {
+        Object a = normalize(left);
+        Object b = normalize(right);
+        if (a == null || b == null) {
+            return null;
+        }
+        if (a instanceof Long x && b instanceof Long y) {
+            return Long.compare(x, y);
+        }
+        if (a instanceof String x && b instanceof String y) {
+            return x.compareTo(y);
+        }
+        if (a instanceof LocalDate x && b instanceof LocalDate y) {
+            return x.compareTo(y);
+        }
+        throw new SQLException("Cannot compare " + a.getClass().getSimpleName() + " with " + b.getClass().getSimpleName());
+    }
+
+    private static Object normalize(Object value) {
+        if (value instanceof Boolean bool) {
+            return bool ? 1L : 0L;
+        }
+        if (value instanceof Integer number) {
+            return number.longValue();
+        }
+        return value;
+    }
+
+    /**
+     * Paramètre {@code ?} (index à partir de 0).
+     */
+    final class Parameter implements SqlExpression {
+        final int index;
+
+        Parameter(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Object evaluate(Object[][] rows, Object[] parameters) throws SQLException {
+            if (index >= parameters.length) {
+                throw new SQLException("No value specified for parameter " + (index + 1));
+            }
+            return parameters[index];
+        }
+    }
+
+    /**
+     * Constante : TRUE, FALSE, NULL, entier ou chaîne.
+     */
+    final class Literal implements SqlExpression {
+        final Object value;
+
+        Literal(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object evaluate(Object[][] rows, Object[] parameters) {
+            return value;
+        }
+    }
+
+    /**
+     * Colonne, éventuellement qualifiée par l'alias de sa table.
+     */
+    final class Column implements SqlExpression {
+        final String qualifier;
+        final String name;
+        int table = -1;
+        int column = -1;
+
+        Column(String qualifier, String name) {
+            this.qualifier = qualifier;
+            this.name = name;
+        }
+
+        @Override
+        public void resolve(List<FakeTable> tables, List<String> aliases) throws SQLException {
+            for (int i = 0; i < tables.size(); i++) {
+                if (qualifier != null && !qualifier.equalsIgnoreCase(aliases.get(i))) {
+                    continue;
+                }
+                int index = tables.get(i).indexOf(name);
+                if (index >= 0) {
+                    table = i;
+                    column = index;
+                    return;
+                }
+            }
+            throw new SQLException("Unknown column '" + (qualifier != null ? qualifier + "." : "") + name + "'");
+        }
+
+        @Override
+        public Object evaluate(Object[][] rows, Object[] parameters) {
+            Object[] row = rows[table];
+            return row == null ? null : row[column];
+        }
+    }
+
+    /**
+     * {@code COALESCE(a, b, ...)} : premier argument non NULL.
+     */
+    final class Coalesce implements SqlExpression {
+        final List<SqlExpression> arguments;
+
+        Coalesce(List<SqlExpression> arguments) {
+            this.arguments = List.copyOf(arguments);
+        }
+
+        @Override
+        public void resolve(List<FakeTable> tables, List<String> aliases) throws SQLException {
+            for (SqlExpression argument : arguments) {
+                argument.resolve(tables, aliases);
+            }
+        }
+
+        @Override
+        public Object evaluate(Object[][] rows, Object[] parameters) throws SQLException {
+            for (SqlExpression argument : arguments) {
+                Object value = argument.evaluate(rows, parameters);
+                if (value != null) {
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Liste de valeurs {@code (a, b, ...)}, comparée dans l'ordre lexicographique.
+     */
+    final class RowValue implements SqlExpression {
+        final List<SqlExpression> items;
+
+        RowValue(List<SqlExpression> items) {
+            this.items = List.copyOf(items);
+        }
+
+        @Override
+        public void resolve(List<FakeTable> tables, List<String> aliases) throws SQLException {
+            for (SqlExpression item : items) {
+                item.resolve(tables, aliases);
+            }
+        }
+
+        @Override
+        public Object evaluate(Object[][] rows, Object[] parameters) throws SQLException {
+            throw new SQLException("Row value is only allowed in a comparison");
+        }
+    }
+
+    /**
+     * Comparaison {@code =, <>, <, <=, >, >=}, y compris entre listes de valeurs.
+     */
+    final class Comparison implements SqlExpression {
+        final String operator;
+        final SqlExpression left;
+        final SqlExpression right;
+
+        Comparison(String operator, SqlExpression left, SqlExpression right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public void resolve(List<FakeTable> tables, List<String> aliases) throws SQLException {
+            left.resolve(tables, aliases);
+            right.resolve(tables, aliases);
+        }
+
+        @Override
+        public Object evaluate(Object[][] rows, Object[] parameters) throws SQLException {
+            Integer order = left instanceof RowValue l && right instanceof RowValue r
+                    ? compareRows(l, r, rows, parameters)
+                    : compare(left.evaluate(rows, parameters), right.evaluate(rows, parameters));
+            if (order == null) {
+                return null;
+            }
+            return switch (operator) {
+                case "=" -> order == 0;
+                case "<>", "!=" -> order != 0;
+                case "<" -> order < 0;
+                case "<=" -> order <= 0;
+                case ">" -> order > 0;
+                case ">=" -> order >= 0;
+                default -> throw new SQLException("Unsupported operator " + operator);
+            };
+        }
+
+        private static Integer compareRows(RowValue left, RowValue right, Object[][] rows, Object[] parameters)
+                throws SQLException {
+            if (left.items.size() != right.items.size()) {
+                throw new SQLException("Operand should contain " + left.items.size() + " column(s)");
+            }
+            for (int i = 0; i < left.items.size(); i++) {
+                Integer order = compare(left.items.get(i).evaluate(rows, parameters),
+                        right.items.get(i).evaluate(rows, parameters));
+                if (order == null || order != 0) {
+                    return order;
+                }
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * {@code expr IS [NOT] NULL}.
+     */
+    final class IsNull implements SqlExpression {
+        final SqlExpression operand;
+        final boolean negated;
+
+        IsNull(SqlExpression operand, boolean negated) {
+            this.operand = operand;
+            this.negated = negated;
+        }
+
+        @Override
+        public void resolve(List<FakeTable> tables, List<String> aliases) throws SQLException {
+            operand.resolve(tables, aliases);
+        }
+
+        @Override
+        public Object evaluate(Object[][] rows, Object[] parameters) throws SQLException {
+            return (operand.evaluate(rows, parameters) == null) != negated;
+        }
+    }
+
+    /**
+     * {@code expr IN (a, b, ...)} : vrai si une valeur est égale, inconnu si aucune ne l'est mais qu'une vaut NULL.
+     */
+    final class In implements SqlExpression {
+        final SqlExpression operand;
+        final List<SqlExpression> values;
+
+        In(SqlExpression operand, List<SqlExpression> values) {
+            this.operand = operand;
+            this.values = List.copyOf(values);
+        }
+
+        @Override
+        public void resolve(List<FakeTable> tables, List<String> aliases) throws SQLException {
+            operand.resolve(tables, aliases);
+            for (SqlExpression value : values) {
+                value.resolve(tables, aliases);
+            }
+        }
+
+        @Override
+        public Object evaluate(Object[][] rows, Object[] parameters) throws SQLException {
+            Object left = operand.evaluate(rows, parameters);
+            boolean unknown = false;
+            for (SqlExpression value : values) {
+                Integer order = compare(left, value.evaluate(rows, parameters));
+                if (order == null) {
+                    unknown = true;
+                } else if (order == 0) {
+                    return true;
+                }
+            }
+            return unknown ? null : false;
+        }
+    }
+
+    /**
+     * {@code AND} / {@code OR} à trois valeurs.
+     */
+    final class Logical implements SqlExpression {
+        final boolean and;
+        final SqlExpression left;
+        final SqlExpression right;
+
+        Logical(boolean and, SqlExpression left, SqlExpression right) {
+            this.and = and;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public void resolve(List<FakeTable> tables, List<String> aliases) throws SQLException {
+            left.resolve(tables, aliases);
+            right.resolve(tables, aliases);
+        }
+
+        @Override
+        public Object evaluate(Object[][] rows, Object[] parameters) throws SQLException {
+            Object a = left.evaluate(rows, parameters);
+            // Court-circuit : FALSE AND x, TRUE OR x
+            if (a != null && isTrue(a) != and) {
+                return !and;
+            }
+            Object b = right.evaluate(rows, parameters);
+            if (b != null && isTrue(b) != and) {
+                return !and;
+            }
+            return a == null || b == null ? null : and;
+        }
+    }
+}
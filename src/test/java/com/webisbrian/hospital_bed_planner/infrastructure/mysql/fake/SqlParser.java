@@ -0,0 +1,477 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql.fake;
+
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Analyseur du sous-ensemble SQL émis par les adaptateurs MySQL : SELECT (jointure sur deux tables au plus, WHERE,
+ * ORDER BY, LIMIT, DISTINCT, COALESCE, IN), INSERT multi-lignes avec ON DUPLICATE KEY UPDATE, DELETE.
+ * Toute autre syntaxe est refusée par une {@link SQLSyntaxErrorException} plutôt qu'interprétée approximativement.
+ */
+final class SqlParser {
+
+    /** Mots réservés qui ne peuvent pas servir d'alias de table. */
+    private static final Set<String> RESERVED = Set.of(
+            "WHERE", "LEFT", "INNER", "JOIN", "ON", "ORDER", "LIMIT", "GROUP", "SET", "VALUES");
+
+    private enum Kind { IDENTIFIER, NUMBER, STRING, PARAMETER, SYMBOL, END }
+
+    private static final class Token {
+        final Kind kind;
+        final String text;
+
+        Token(Kind kind, String text) {
+            this.kind = kind;
+            this.text = text;
+        }
+    }
+
+    private final String sql;
+    private final Map<String, FakeTable> tables;
+    private final List<Token> tokens;
+    private int position;
+    private int parameterCount;
+
+    private SqlParser(String sql, Map<String, FakeTable> tables) throws SQLException {
+        this.sql = sql;
+        this.tables = tables;
+        this.tokens = tokenize(sql);
+    }
+
+    /**
+     * Analyse une requête et lie ses colonnes aux tables connues.
+     */
+    static Parsed parse(String sql, Map<String, FakeTable> tables) throws SQLException {
+        SqlParser parser = new SqlParser(sql, tables);
+        SqlStatement statement = parser.statement();
+        return new Parsed(statement, parser.parameterCount);
+    }
+
+    /**
+     * Requête analysée et son nombre de paramètres {@code ?}.
+     */
+    static final class Parsed {
+        final SqlStatement statement;
+        final int parameterCount;
+
+        Parsed(SqlStatement statement, int parameterCount) {
+            this.statement = statement;
+            this.parameterCount = parameterCount;
+        }
+    }
+
+    private SqlStatement statement() throws SQLException {
+        SqlStatement statement;
+        if (acceptKeyword("SELECT")) {
+            statement = select();
+        } else if (acceptKeyword("INSERT")) {
+            statement = insert();
+        } else if (acceptKeyword("DELETE")) {
+            statement = delete();
+        } else {
+            throw syntaxError("Unsupported statement");
+        }
+        acceptSymbol(";");
+        if (peek().kind != Kind.END) {
+            throw syntaxError("Unexpected '" + peek().text + "'");
+        }
+        return statement;
+    }
+
+    private SqlStatement.Select select() throws SQLException {
+        SqlStatement.Select select = new SqlStatement.Select();
+        select.distinct = acceptKeyword("DISTINCT");
+
+        // 1. Liste de sélection
+        do {
+            select.items.add(selectItem());
+        } while (acceptSymbol(","));
+
+        // 2. FROM, puis jointure éventuelle
+        expectKeyword("FROM");
+        addTable(select);
+        if (acceptKeyword("LEFT")) {
+            acceptKeyword("OUTER");
+            expectKeyword("JOIN");
+            select.leftJoin = true;
+            addTable(select);
+            expectKeyword("ON");
+            select.joinCondition = expression();
+        } else if (acceptKeyword("INNER") || peekKeyword("JOIN")) {
+            expectKeyword("JOIN");
+            addTable(select);
+            expectKeyword("ON");
+            select.joinCondition = expression();
+        }
+
+        // 3. Clauses
+        if (acceptKeyword("WHERE")) {
+            select.where = expression();
+        }
+        if (acceptKeyword("ORDER")) {
+            expectKeyword("BY");
+            do {
+                SqlExpression expression = expression();
+                boolean descending = acceptKeyword("DESC");
+                if (!descending) {
+                    acceptKeyword("ASC");
+                }
+                select.orderBy.add(new SqlStatement.Select.Order(expression, descending));
+            } while (acceptSymbol(","));
+        }
+        if (acceptKeyword("LIMIT")) {
+            select.limit = operand();
+        }
+
+        // 4. Liaison des colonnes
+        for (SqlStatement.Select.Item item : select.items) {
+            if (item.expression != null) {
+                item.expression.resolve(select.tables, select.aliases);
+            } else if (item.starQualifier != null && select.aliases.stream().noneMatch(item.starQualifier::equalsIgnoreCase)) {
+                throw new SQLSyntaxErrorException("Unknown table '" + item.starQualifier + "'");
+            }
+        }
+        for (SqlExpression expression : new SqlExpression[]{select.joinCondition, select.where, select.limit}) {
+            if (expression != null) {
+                expression.resolve(select.tables, select.aliases);
+            }
+        }
+        for (SqlStatement.Select.Order order : select.orderBy) {
+            order.expression.resolve(select.tables, select.aliases);
+        }
+        return select;
+    }
+
+    private SqlStatement.Select.Item selectItem() throws SQLException {
+        if (acceptSymbol("*")) {
+            return new SqlStatement.Select.Item(null, null, null);
+        }
+        if (peek().kind == Kind.IDENTIFIER && peekAt(1).text.equals(".") && peekAt(2).text.equals("*")) {
+            String qualifier = next().text;
+            position += 2;
+            return new SqlStatement.Select.Item(null, qualifier, null);
+        }
+        int start = position;
+        SqlExpression expression = expression();
+        String label;
+        if (acceptKeyword("AS")) {
+            label = expectIdentifier();
+        } else if (expression instanceof SqlExpression.Column column) {
+            label = column.name;
+        } else {
+            StringBuilder text = new StringBuilder();
+            for (int i = start; i < position; i++) {
+                text.append(tokens.get(i).text);
+            }
+            label = text.toString();
+        }
+        return new SqlStatement.Select.Item(expression, null, label);
+    }
+
+    private void addTable(SqlStatement.Select select) throws SQLException {
+        FakeTable table = table(expectIdentifier());
+        String alias = table.name();
+        if (acceptKeyword("AS")) {
+            alias = expectIdentifier();
+        } else if (peek().kind == Kind.IDENTIFIER && !RESERVED.contains(peek().text.toUpperCase(Locale.ROOT))) {
+            alias = next().text;
+        }
+        select.tables.add(table);
+        select.aliases.add(alias);
+    }
+
+    private SqlStatement.Insert insert() throws SQLException {
+        SqlStatement.Insert insert = new SqlStatement.Insert();
+        expectKeyword("INTO");
+        insert.table = table(expectIdentifier());
+
+        // 1. Colonnes
+        expectSymbol("(");
+        do {
+            insert.columns.add(column(insert.table, expectIdentifier()));
+        } while (acceptSymbol(","));
+        expectSymbol(")");
+
+        // 2. Tuples
+        expectKeyword("VALUES");
+        do {
+            expectSymbol("(");
+            List<SqlExpression> tuple = new ArrayList<>();
+            do {
+                tuple.add(operand());
+            } while (acceptSymbol(","));
+            expectSymbol(")");
+            if (tuple.size() != insert.columns.size()) {
+                throw new SQLSyntaxErrorException("Column count doesn't match value count");
+            }
+            insert.tuples.add(tuple);
+        } while (acceptSymbol(","));
+
+        // 3. ON DUPLICATE KEY UPDATE c = VALUES(c), seule forme émise par MysqlBatchUpsert
+        if (acceptKeyword("ON")) {
+            expectKeyword("DUPLICATE");
+            expectKeyword("KEY");
+            expectKeyword("UPDATE");
+            insert.upsert = true;
+            do {
+                int target = column(insert.table, expectIdentifier());
+                expectSymbol("=");
+                expectKeyword("VALUES");
+                expectSymbol("(");
+                int source = column(insert.table, expectIdentifier());
+                expectSymbol(")");
+                if (target != source) {
+                    throw syntaxError("Only 'column = VALUES(column)' is supported in ON DUPLICATE KEY UPDATE");
+                }
+                insert.updatedOnDuplicate.add(target);
+            } while (acceptSymbol(","));
+        }
+        return insert;
+    }
+
+    private SqlStatement.Delete delete() throws SQLException {
+        SqlStatement.Delete delete = new SqlStatement.Delete();
+        expectKeyword("FROM");
+        delete.table = table(expectIdentifier());
+        if (acceptKeyword("WHERE")) {
+            delete.where = expression();
+            delete.where.resolve(List.of(delete.table), List.of(delete.table.name()));
+        }
+        return delete;
+    }
+
+    // --- Expressions : OR < AND < prédicat < opérande ---
+
+    private SqlExpression expression() throws SQLException {
+        SqlExpression left = conjunction();
+        while (acceptKeyword("OR")) {
+            left = new SqlExpression.Logical(false, left, conjunction());
+        }
+        return left;
+    }
+
+    private SqlExpression conjunction() throws SQLException {
+        SqlExpression left = predicate();
+        while (acceptKeyword("AND")) {
+            left = new SqlExpression.Logical(true, left, predicate());
+        }
+        return left;
+    }
+
+    private SqlExpression predicate() throws SQLException {
+        SqlExpression left = operand();
+        if (acceptKeyword("IS")) {
+            boolean negated = acceptKeyword("NOT");
+            expectKeyword("NULL");
+            return new SqlExpression.IsNull(left, negated);
+        }
+        if (acceptKeyword("IN")) {
+            expectSymbol("(");
+            List<SqlExpression> values = new ArrayList<>();
+            do {
+                values.add(operand());
+            } while (acceptSymbol(","));
+            expectSymbol(")");
+            return new SqlExpression.In(left, values);
+        }
+        Token token = peek();
+        if (token.kind == Kind.SYMBOL && Set.of("=", "<>", "!=", "<", "<=", ">", ">=").contains(token.text)) {
+            position++;
+            return new SqlExpression.Comparison(token.text, left, operand());
+        }
+        return left;
+    }
+
+    private SqlExpression operand() throws SQLException {
+        Token token = next();
+        switch (token.kind) {
+            case PARAMETER:
+                return new SqlExpression.Parameter(parameterCount++);
+            case NUMBER:
+                return new SqlExpression.Literal(Long.parseLong(token.text));
+            case STRING:
+                return new SqlExpression.Literal(token.text);
+            case SYMBOL:
+                if (token.text.equals("(")) {
+                    List<SqlExpression> items = new ArrayList<>();
+                    do {
+                        items.add(expression());
+                    } while (acceptSymbol(","));
+                    expectSymbol(")");
+                    return items.size() == 1 ? items.get(0) : new SqlExpression.RowValue(items);
+                }
+                break;
+            case IDENTIFIER:
+                switch (token.text.toUpperCase(Locale.ROOT)) {
+                    case "TRUE":
+                        return new SqlExpression.Literal(Boolean.TRUE);
+                    case "FALSE":
+                        return new SqlExpression.Literal(Boolean.FALSE);
+                    case "NULL":
+                        return new SqlExpression.Literal(null);
+                    case "COALESCE":
+                        expectSymbol("(");
+                        List<SqlExpression> arguments = new ArrayList<>();
+                        do {
+                            arguments.add(expression());
+                        } while (acceptSymbol(","));
+                        expectSymbol(")");
+                        return new SqlExpression.Coalesce(arguments);
+                    default:
+                        if (acceptSymbol(".")) {
+                            return new SqlExpression.Column(token.text, expectIdentifier());
+                        }
+                        return new SqlExpression.Column(null, token.text);
+                }
+            default:
+                break;
+        }
+        position--;
+        throw syntaxError("Unexpected '" + token.text + "'");
+    }
+
+    // --- Utilitaires ---
+
+    private FakeTable table(String name) throws SQLException {
+        FakeTable table = tables.get(name.toLowerCase(Locale.ROOT));
+        if (table == null) {
+            throw new SQLSyntaxErrorException("Table '" + name + "' doesn't exist");
+        }
+        return table;
+    }
+
+    private static int column(FakeTable table, String name) throws SQLException {
+        int index = table.indexOf(name);
+        if (index < 0) {
+            throw new SQLSyntaxErrorException("Unknown column '" + name + "' in '" + table.name() + "'");
+        }
+        return index;
+    }
+
+    private Token peek() {
+        return peekAt(0);
+    }
+
+    private Token peekAt(int offset) {
+        return tokens.get(Math.min(position + offset, tokens.size() - 1));
+    }
+
+    private Token next() {
+        Token token = peek();
+        if (token.kind != Kind.END) {
+            position++;
+        }
+        return token;
+    }
+
+    private boolean peekKeyword(String keyword) {
+        return peek().kind == Kind.IDENTIFIER && peek().text.equalsIgnoreCase(keyword);
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        if (peekKeyword(keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectKeyword(String keyword) throws SQLException {
+        if (!acceptKeyword(keyword)) {
+            throw syntaxError("Expected " + keyword);
+        }
+    }
+
+    private boolean acceptSymbol(String symbol) {
+        if (peek().kind == Kind.SYMBOL && peek().text.equals(symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectSymbol(String symbol) throws SQLException {
+        if (!acceptSymbol(symbol)) {
+            throw syntaxError("Expected '" + symbol + "'");
+        }
+    }
+
+    private String expectIdentifier() throws SQLException {
+        if (peek().kind != Kind.IDENTIFIER) {
+            throw syntaxError("Expected an identifier");
+        }
+        return next().text;
+    }
+
+    private SQLException syntaxError(String message) {
+        return new SQLSyntaxErrorException(message + " near token " + position + " in: " + sql);
+    }
+
+    private static List<Token> tokenize(String sql) throws SQLException {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (Character.isLetter(c) || c == '_') {
+                int start = i;
+                while (i < sql.length() && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '_')) {
+                    i++;
+                }
+                tokens.add(new Token(Kind.IDENTIFIER, sql.substring(start, i)));
+            } else if (c == '`') {
+                int end = sql.indexOf('`', i + 1);
+                if (end < 0) {
+                    throw new SQLSyntaxErrorException("Unterminated quoted identifier in: " + sql);
+                }
+                tokens.add(new Token(Kind.IDENTIFIER, sql.substring(i + 1, end)));
+                i = end + 1;
+            } else if (Character.isDigit(c)) {
+                int start = i;
+                while (i < sql.length() && Character.isDigit(sql.charAt(i))) {
+                    i++;
+                }
+                tokens.add(new Token(Kind.NUMBER, sql.substring(start, i)));
+            } else if (c == '\'') {
+                StringBuilder text = new StringBuilder();
+                i++;
+                while (true) {
+                    if (i >= sql.length()) {
+                        throw new SQLSyntaxErrorException("Unterminated string literal in: " + sql);
+                    }
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                            text.append('\'');
+                            i += 2;
+                            continue;
+                        }
+                        i++;
+                        break;
+                    }
+                    text.append(sql.charAt(i++));
+                }
+                tokens.add(new Token(Kind.STRING, text.toString()));
+            } else if (c == '?') {
+                tokens.add(new Token(Kind.PARAMETER, "?"));
+                i++;
+            } else if (sql.startsWith("<=", i) || sql.startsWith(">=", i)
+                    || sql.startsWith("<>", i) || sql.startsWith("!=", i)) {
+                tokens.add(new Token(Kind.SYMBOL, sql.substring(i, i + 2)));
+                i += 2;
+            } else if ("(),*=<>.;".indexOf(c) >= 0) {
+                tokens.add(new Token(Kind.SYMBOL, String.valueOf(c)));
+                i++;
+            } else {
+                throw new SQLSyntaxErrorException("Unexpected character '" + c + "' in: " + sql);
+            }
+        }
+        tokens.add(new Token(Kind.END, "end of statement"));
+        return tokens;
+    }
+}
@@ -0,0 +1,347 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.mysql.fake;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Requête analysée par {@link SqlParser}, exécutée sur les tables de {@link FakeMysqlServer} (sous son verrou).
+ */
+abstract class SqlStatement {
+
+    /**
+     * Lignes renvoyées par une requête de lecture.
+     */
+    static final class Result {
+        final List<String> labels;
+        final List<Object[]> rows;
+
+        Result(List<String> labels, List<Object[]> rows) {
+            this.labels = List.copyOf(labels);
+            this.rows = rows;
+        }
+    }
+
+    abstract boolean isQuery();
+
+    Result executeQuery(Object[] parameters) throws SQLException {
+        throw new SQLException("Statement does not return a result set");
+    }
+
+    int executeUpdate(Object[] parameters) throws SQLException {
+        throw new SQLException("Statement does not update rows; use executeQuery");
+    }
+
+    /**
+     * Conditions reliées par AND au plus haut niveau d'une clause.
+     */
+    static List<SqlExpression> conjuncts(SqlExpression expression) {
+        List<SqlExpression> conjuncts = new ArrayList<>();
+        if (expression instanceof SqlExpression.Logical logical && logical.and) {
+            conjuncts.addAll(conjuncts(logical.left));
+            conjuncts.addAll(conjuncts(logical.right));
+        } else if (expression != null) {
+            conjuncts.add(expression);
+        }
+        return conjuncts;
+    }
+
+    /**
+     * Lignes candidates de la table {@code tableIndex} : recherche par égalité {@code colonne = valeur} si la clause en
+     * contient une sur une colonne texte (clé primaire en priorité), sinon parcours complet. Les autres colonnes
+     * de la ligne combinée ne sont pas encore connues : seules les valeurs constantes et paramètres sont utilisés,
+     * ou les colonnes des tables précédentes ({@code known}).
+     */
+    static Iterable<Object[]> candidates(FakeTable table, int tableIndex, SqlExpression clause,
+                                         Object[][] known, Object[] parameters) throws SQLException {
+        List<Object[]> best = null;
+        for (SqlExpression conjunct : conjuncts(clause)) {
+            if (!(conjunct instanceof SqlExpression.Comparison comparison) || !comparison.operator.equals("=")) {
+                continue;
+            }
+            SqlExpression.Column column = null;
+            SqlExpression other = null;
+            if (comparison.left instanceof SqlExpression.Column c && c.table == tableIndex) {
+                column = c;
+                other = comparison.right;
+            } else if (comparison.right instanceof SqlExpression.Column c && c.table == tableIndex) {
+                column = c;
+                other = comparison.left;
+            }
+            if (column == null || other instanceof SqlExpression.RowValue
+                    || other instanceof SqlExpression.Column o && o.table >= tableIndex) {
+                continue;
+            }
+            if (!(other.evaluate(known, parameters) instanceof String value)) {
+                continue;
+            }
+            boolean primaryKey = table.columns().get(column.column).equalsIgnoreCase(table.primaryKey());
+            List<Object[]> rows = table.lookup(column.column, value);
+            if (best == null || primaryKey || rows.size() < best.size()) {
+                best = rows;
+            }
+        }
+        return best != null ? best : table.rows();
+    }
+
+    /**
+     * {@code SELECT [DISTINCT] ... FROM t [a] [[LEFT] JOIN u [b] ON ...] [WHERE ...] [ORDER BY ...] [LIMIT n]}.
+     */
+    static final class Select extends SqlStatement {
+
+        /**
+         * Élément de la liste de sélection : une expression, ou toutes les colonnes d'une table ({@code *}, {@code a.*}).
+         */
+        static final class Item {
+            final SqlExpression expression;     // null pour une étoile
+            final String starQualifier;         // alias de a.*, ou null pour * (toutes les tables)
+            final String label;
+
+            Item(SqlExpression expression, String starQualifier, String label) {
+                this.expression = expression;
+                this.starQualifier = starQualifier;
+                this.label = label;
+            }
+        }
+
+        /**
+         * Critère de tri.
+         */
+        static final class Order {
+            final SqlExpression expression;
+            final boolean descending;
+
+            Order(SqlExpression expression, boolean descending) {
+                this.expression = expression;
+                this.descending = descending;
+            }
+        }
+
+        boolean distinct;
+        final List<Item> items = new ArrayList<>();
+        final List<FakeTable> tables = new ArrayList<>();
+        final List<String> aliases = new ArrayList<>();
+        SqlExpression joinCondition;        // null sans jointure
+        boolean leftJoin;
+        SqlExpression where;
+        final List<Order> orderBy = new ArrayList<>();
+        SqlExpression limit;
+
+        @Override
+        boolean isQuery() {
+            return true;
+        }
+
+        @Override
+        Result executeQuery(Object[] parameters) throws SQLException {
+            // 1. FROM / JOIN / WHERE
+            List<Object[][]> matched = new ArrayList<>();
+            for (Object[] base : candidates(tables.get(0), 0, where, new Object[tables.size()][], parameters)) {
+                if (tables.size() == 1) {
+                    keepIfMatches(new Object[][]{base}, matched, parameters);
+                    continue;
+                }
+                Object[][] probe = {base, null};
+                boolean joined = false;
+                for (Object[] other : candidates(tables.get(1), 1, joinCondition, probe, parameters)) {
+                    Object[][] combined = {base, other};
+                    if (SqlExpression.isTrue(joinCondition.evaluate(combined, parameters))) {
+                        joined = true;
+                        keepIfMatches(combined, matched, parameters);
+                    }
+                }
+                if (!joined && leftJoin) {
+                    keepIfMatches(probe, matched, parameters);
+                }
+            }
+
+            // 2. ORDER BY (NULL en premier en ordre croissant, comme MySQL)
+            if (!orderBy.isEmpty()) {
+                List<Object[]> keys = new ArrayList<>(matched.size());
+                for (Object[][] rows : matched) {
+                    Object[] key = new Object[orderBy.size()];
+                    for (int i = 0; i < key.length; i++) {
+                        key[i] = orderBy.get(i).expression.evaluate(rows, parameters);
+                    }
+                    keys.add(key);
+                }
+                Integer[] positions = new Integer[matched.size()];
+                for (int i = 0; i < positions.length; i++) {
+                    positions[i] = i;
+                }
+                SQLException[] failure = new SQLException[1];
+                java.util.Arrays.sort(positions, Comparator.comparing(position -> keys.get(position), (a, b) -> {
+                    for (int i = 0; i < a.length; i++) {
+                        int order = compareForSort(a[i], b[i], failure);
+                        if (order != 0) {
+                            return orderBy.get(i).descending ? -order : order;
+                        }
+                    }
+                    return 0;
+                }));
+                if (failure[0] != null) {
+                    throw failure[0];
+                }
+                List<Object[][]> sorted = new ArrayList<>(matched.size());
+                for (Integer position : positions) {
+                    sorted.add(matched.get(position));
+                }
+                matched = sorted;
+            }
+
+            // 3. Projection, DISTINCT, LIMIT
+            long max = limit == null ? Long.MAX_VALUE : ((Number) limit.evaluate(new Object[0][], parameters)).longValue();
+            List<Object[]> output = new ArrayList<>();
+            Set<List<Object>> seen = distinct ? new LinkedHashSet<>() : null;
+            for (Object[][] rows : matched) {
+                if (output.size() >= max) {
+                    break;
+                }
+                Object[] projected = project(rows, parameters);
+                if (seen == null || seen.add(List.of(nullSafe(projected)))) {
+                    output.add(projected);
+                }
+            }
+            return new Result(labels(), output);
+        }
+
+        private void keepIfMatches(Object[][] rows, List<Object[][]> matched, Object[] parameters) throws SQLException {
+            if (where == null || SqlExpression.isTrue(where.evaluate(rows, parameters))) {
+                matched.add(rows);
+            }
+        }
+
+        private Object[] project(Object[][] rows, Object[] parameters) throws SQLException {
+            List<Object> values = new ArrayList<>();
+            for (Item item : items) {
+                if (item.expression != null) {
+                    values.add(item.expression.evaluate(rows, parameters));
+                    continue;
+                }
+                for (int t = 0; t < tables.size(); t++) {
+                    if (item.starQualifier == null || item.starQualifier.equalsIgnoreCase(aliases.get(t))) {
+                        int width = tables.get(t).columns().size();
+                        for (int c = 0; c < width; c++) {
+                            values.add(rows[t] == null ? null : rows[t][c]);
+                        }
+                    }
+                }
+            }
+            return values.toArray();
+        }
+
+        private List<String> labels() {
+            List<String> labels = new ArrayList<>();
+            for (Item item : items) {
+                if (item.expression != null) {
+                    labels.add(item.label);
+                    continue;
+                }
+                for (int t = 0; t < tables.size(); t++) {
+                    if (item.starQualifier == null || item.starQualifier.equalsIgnoreCase(aliases.get(t))) {
+                        labels.addAll(tables.get(t).columns());
+                    }
+                }
+            }
+            return labels;
+        }
+
+        private static Object[] nullSafe(Object[] values) {
+            Object[] copy = values.clone();
+            for (int i = 0; i < copy.length; i++) {
+                if (copy[i] == null) {
+                    copy[i] = Select.class;     // List.of refuse null : marqueur unique
+                }
+            }
+            return copy;
+        }
+
+        private static int compareForSort(Object a, Object b, SQLException[] failure) {
+            if (a == null || b == null) {
+                return a == null ? (b == null ? 0 : -1) : 1;
+            }
+            try {
+                return SqlExpression.compare(a, b);
+            } catch (SQLException e) {
+                failure[0] = e;
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * {@code INSERT INTO t (c1, ...) VALUES (...), ... [ON DUPLICATE KEY UPDATE c = VALUES(c), ...]}.
+     */
+    static final class Insert extends SqlStatement {
+        FakeTable table;
+        final List<Integer> columns = new ArrayList<>();
+        final List<List<SqlExpression>> tuples = new ArrayList<>();
+        final List<Integer> updatedOnDuplicate = new ArrayList<>();
+        boolean upsert;
+
+        @Override
+        boolean isQuery() {
+            return false;
+        }
+
+        @Override
+        int executeUpdate(Object[] parameters) throws SQLException {
+            int affected = 0;
+            int keyColumn = table.indexOf(table.primaryKey());
+            for (List<SqlExpression> tuple : tuples) {
+                Object[] row = new Object[table.columns().size()];
+                for (int i = 0; i < columns.size(); i++) {
+                    Object value = tuple.get(i).evaluate(new Object[0][], parameters);
+                    row[columns.get(i)] = value instanceof Integer number ? Long.valueOf(number) : value;
+                }
+                Object[] existing = table.get(row[keyColumn]);
+                if (existing == null) {
+                    table.put(row);
+                    affected += 1;
+                } else if (!upsert) {
+                    throw new SQLIntegrityConstraintViolationException(
+                            "Duplicate entry '" + row[keyColumn] + "' for key '" + table.name() + ".PRIMARY'");
+                } else {
+                    // MySQL compte 2 lignes affectées pour une mise à jour par ON DUPLICATE KEY UPDATE
+                    Object[] updated = existing.clone();
+                    for (int column : updatedOnDuplicate) {
+                        updated[column] = row[column];
+                    }
+                    table.put(updated);
+                    affected += 2;
+                }
+            }
+            return affected;
+        }
+    }
+
+    /**
+     * {@code DELETE FROM t [WHERE ...]}.
+     */
+    static final class Delete extends SqlStatement {
+        FakeTable table;
+        SqlExpression where;
+
+        @Override
+        boolean isQuery() {
+            return false;
+        }
+
+        @Override
+        int executeUpdate(Object[] parameters) throws SQLException {
+            int keyColumn = table.indexOf(table.primaryKey());
+            List<Object> keys = new ArrayList<>();
+            for (Object[] row : candidates(table, 0, where, new Object[1][], parameters)) {
+                if (where == null || SqlExpression.isTrue(where.evaluate(new Object[][]{row}, parameters))) {
+                    keys.add(row[keyColumn]);
+                }
+            }
+            keys.forEach(table::remove);
+            return keys.size();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.workload;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryBedRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryHospitalStayRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryPatientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadGeneratorTest {
+
+    private static final LocalDate REFERENCE_DATE = WorkloadProfile.DEFAULT_REFERENCE_DATE;
+
+    private WorkloadProfile profile;
+    private InMemoryPatientRepository patientRepository;
+    private InMemoryBedRepository bedRepository;
+    private InMemoryHospitalStayRepository hospitalStayRepository;
+
+    @BeforeEach
+    void setUpPerTest() {
+        // 3 services × 12 chambres × 2 lits = 72 lits
+        profile = new WorkloadProfile(7L, 3, 500, 20_000);
+        patientRepository = new InMemoryPatientRepository();
+        bedRepository = new InMemoryBedRepository();
+        hospitalStayRepository = new InMemoryHospitalStayRepository();
+    }
+
+    @Test
+    void generate_shouldProduceSameDataset_forSameSeed_whateverTheBatchSize() {
+        // Arrange
+        InMemoryPatientRepository otherPatients = new InMemoryPatientRepository();
+        InMemoryBedRepository otherBeds = new InMemoryBedRepository();
+        InMemoryHospitalStayRepository otherStays = new InMemoryHospitalStayRepository();
+
+        // Act
+        new WorkloadGenerator(profile).generate(patientRepository, bedRepository, hospitalStayRepository);
+        new WorkloadGenerator(profile, 7).generate(otherPatients, otherBeds, otherStays);
+
+        // Assert
+        assertEquals(describeStays(hospitalStayRepository.findAll()), describeStays(otherStays.findAll()),
+                "Même graine, mêmes séjours");
+        assertEquals(bedRepository.findAll().stream().map(bed -> bed.getId() + bed.getStatus()).toList(),
+                otherBeds.findAll().stream().map(bed -> bed.getId() + bed.getStatus()).toList());
+        assertEquals(patientRepository.findAll().stream().map(Patient::getFullName).sorted().toList(),
+                otherPatients.findAll().stream().map(Patient::getFullName).sorted().toList());
+    }
+
+    @Test
+    void generate_shouldRespectHospitalRules() {
+        // Act
+        new WorkloadGenerator(profile).generate(patientRepository, bedRepository, hospitalStayRepository);
+
+        // Assert : volumes
+        List<HospitalStay> stays = hospitalStayRepository.findAll();
+        assertEquals(500, patientRepository.findAll().size());
+        assertEquals(72, bedRepository.findAll().size());
+        assertEquals(20_000, stays.size());
+
+        // Assert : un patient à isoler n'est placé que dans un lit permettant l'isolement
+        Map<String, Bed> beds = bedRepository.findAll().stream().collect(Collectors.toMap(Bed::getId, Function.identity()));
+        Map<String, Patient> patients = patientRepository.findAll().stream()
+                .collect(Collectors.toMap(Patient::getId, Function.identity()));
+        for (HospitalStay stay : stays) {
+            if (patients.get(stay.getPatientId()).isIsolationRequired()) {
+                assertTrue(beds.get(stay.getBedId()).isIsolationCapable(), "Patient à isoler dans un lit sans isolement");
+            }
+            if (stay.getStayType() == StayType.DAY) {
+                assertEquals(stay.getAdmissionDate(), stay.getDischargeDatePlanned(), "Un séjour DAY sort le jour même");
+            }
+        }
+
+        // Assert : aucun chevauchement sur un lit, et statut OCCUPIED cohérent avec le séjour en cours
+        Map<String, List<HospitalStay>> staysByBed = stays.stream().collect(Collectors.groupingBy(HospitalStay::getBedId));
+        for (Map.Entry<String, List<HospitalStay>> entry : staysByBed.entrySet()) {
+            List<HospitalStay> timeline = entry.getValue().stream()
+                    .sorted(Comparator.comparing(HospitalStay::getAdmissionDate))
+                    .toList();
+            for (int i = 1; i < timeline.size(); i++) {
+                assertTrue(timeline.get(i - 1).getDischargeDatePlanned().isBefore(timeline.get(i).getAdmissionDate()),
+                        "Deux séjours se chevauchent sur " + entry.getKey());
+            }
+            boolean occupied = timeline.stream().anyMatch(stay -> !stay.getAdmissionDate().isAfter(REFERENCE_DATE)
+                    && !stay.getDischargeDatePlanned().isBefore(REFERENCE_DATE));
+            assertEquals(occupied, beds.get(entry.getKey()).getStatus() == BedStatus.OCCUPIED);
+        }
+
+        // Assert : historique clôturé, plusieurs réservations à venir par lit réservé, toutes ouvertes
+        Map<String, Long> reservationsByBed = stays.stream()
+                .filter(stay -> stay.getAdmissionDate().isAfter(REFERENCE_DATE))
+                .peek(stay -> assertNull(stay.getDischargeDateEffective(), "Une réservation ne peut pas être clôturée"))
+                .collect(Collectors.groupingBy(HospitalStay::getBedId, Collectors.counting()));
+        assertFalse(reservationsByBed.isEmpty(), "Le jeu doit contenir des réservations");
+        long reservations = reservationsByBed.values().stream().mapToLong(Long::longValue).sum();
+        assertTrue(reservations >= 2L * reservationsByBed.size(),
+                "Un lit réservé doit porter en moyenne plusieurs réservations : " + reservationsByBed);
+        assertTrue(stays.stream()
+                .filter(stay -> stay.getDischargeDatePlanned().isBefore(REFERENCE_DATE))
+                .allMatch(stay -> stay.getDischargeDateEffective() != null), "Les séjours passés doivent être clôturés");
+        assertTrue(beds.values().stream().anyMatch(Bed::isIsolationCapable));
+        assertTrue(beds.values().stream().anyMatch(bed -> !bed.isIsolationCapable()));
+    }
+
+    @Test
+    void constructor_shouldRejectIsolationPatients_withoutIsolationRooms() {
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new WorkloadProfile(1L, 1, 12, 2, 0.0, 100, 0.1, 1_000,
+                0.3, 4.0, 0.25, REFERENCE_DATE, 0.3, 30));
+    }
+
+    private static List<String> describeStays(List<HospitalStay> stays) {
+        return stays.stream()
+                .map(stay -> stay.getId() + "|" + stay.getPatientId() + "|" + stay.getBedId() + "|" + stay.getStayType()
+                        + "|" + stay.getAdmissionDate() + "|" + stay.getDischargeDatePlanned()
+                        + "|" + stay.getDischargeDateEffective())
+                .sorted()
+                .toList();
+    }
+}
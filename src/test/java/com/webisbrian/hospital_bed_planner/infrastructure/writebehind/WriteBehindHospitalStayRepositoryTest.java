@@ -0,0 +1,240 @@
+package com.webisbrian.hospital_bed_planner.infrastructure.writebehind;
+
+import com.webisbrian.hospital_bed_planner.domain.model.Bed;
+import com.webisbrian.hospital_bed_planner.domain.model.BedOccupancy;
+import com.webisbrian.hospital_bed_planner.domain.model.BedStatus;
+import com.webisbrian.hospital_bed_planner.domain.model.HospitalStay;
+import com.webisbrian.hospital_bed_planner.domain.model.Patient;
+import com.webisbrian.hospital_bed_planner.domain.model.Sex;
+import com.webisbrian.hospital_bed_planner.domain.model.StayType;
+import com.webisbrian.hospital_bed_planner.domain.repository.BedAvailabilityRepository;
+import com.webisbrian.hospital_bed_planner.domain.service.RepositoryBedAvailability;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryBedRepository;
+import com.webisbrian.hospital_bed_planner.infrastructure.inmemory.InMemoryHospitalStayRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindHospitalStayRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private InMemoryHospitalStayRepository delegate;
+    private WriteBehindHospitalStayRepository hospitalStayRepository;
+
+    @BeforeEach
+    void setUpPerTest() {
+        delegate = new InMemoryHospitalStayRepository();
+        // Délai de regroupement long : seuls flush() et close() déclenchent l'envoi pendant le test
+        hospitalStayRepository = new WriteBehindHospitalStayRepository(
+                delegate, tempDir.resolve("stays.journal"), 100, 50, Duration.ofSeconds(30), Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDownPerTest() {
+        hospitalStayRepository.close();
+    }
+
+    @Test
+    void save_shouldCoalesceWritesPerStay_andFlushLastVersion() {
+        // Act
+        hospitalStayRepository.save(stay("STAY-1", "BED-1", null));
+        hospitalStayRepository.save(stay("STAY-1", "BED-2", null));
+        hospitalStayRepository.save(stay("STAY-1", "BED-3", null));
+
+        // Assert : lecture de ses propres écritures avant envoi
+        assertTrue(delegate.findById("STAY-1").isEmpty(), "Rien ne doit être envoyé avant le flush");
+        assertEquals("BED-3", hospitalStayRepository.findById("STAY-1").orElseThrow().getBedId());
+
+        // Act
+        hospitalStayRepository.flush();
+
+        // Assert
+        assertEquals("BED-3", delegate.findById("STAY-1").orElseThrow().getBedId());
+        assertEquals(1, hospitalStayRepository.getFlushedCount(), "Les trois écritures doivent être regroupées");
+        assertEquals(0, hospitalStayRepository.getPendingCount());
+    }
+
+    @Test
+    void flush_shouldEmptyJournal_onceEveryStayIsWritten() throws IOException {
+        // Arrange
+        hospitalStayRepository.save(stay("STAY-1", "BED-1", null));
+        hospitalStayRepository.save(stay("STAY-2", "BED-2", null));
+        assertTrue(Files.size(tempDir.resolve("stays.journal")) > 0, "Les écritures doivent être journalisées");
+
+        // Act
+        hospitalStayRepository.flush();
+
+        // Assert
+        assertEquals(0, Files.size(tempDir.resolve("stays.journal")), "Le journal doit être vidé une fois tout envoyé");
+    }
+
+    @Test
+    void findOccupancyBetween_shouldSeePendingDischarge() {
+        // Arrange : séjour ouvert déjà persisté, sortie encore en attente
+        delegate.save(stay("STAY-1", "BED-1", null));
+        hospitalStayRepository.save(stay("STAY-1", "BED-1", LocalDate.of(2025, 1, 12)));
+        LocalDate day = LocalDate.of(2025, 1, 15);
+
+        // Act
+        BedOccupancy occupancy = hospitalStayRepository.findOccupancyBetween(day, day, day);
+
+        // Assert
+        assertFalse(occupancy.isOccupied("BED-1"), "La sortie en attente doit libérer le lit");
+        assertTrue(hospitalStayRepository.findActiveStaysOn(LocalDate.of(2025, 1, 15)).isEmpty());
+    }
+
+    @Test
+    void close_shouldKeepUnflushedStaysInJournal_andReplayThemOnRestart() {
+        // Arrange : base indisponible
+        Path journalPath = tempDir.resolve("failing.journal");
+        WriteBehindHospitalStayRepository failing = new WriteBehindHospitalStayRepository(
+                new UnavailableRepository(), journalPath, 100, 50, Duration.ofMillis(10), Duration.ofSeconds(1));
+        failing.save(stay("STAY-1", "BED-1", null));
+
+        // Act
+        failing.close();
+        try (WriteBehindHospitalStayRepository restarted = new WriteBehindHospitalStayRepository(
+                delegate, journalPath, 100, 50, Duration.ofMillis(10), Duration.ofSeconds(1))) {
+            restarted.flush();
+        }
+
+        // Assert
+        assertTrue(delegate.findById("STAY-1").isPresent(), "Le séjour journalisé doit être rejoué au redémarrage");
+    }
+
+    @Test
+    void save_shouldBeReplayed_whenJournalEndedWithCorruptRecordOnPreviousRestart() throws IOException {
+        // Arrange : base indisponible, journal terminé par un enregistrement tronqué (arrêt brutal pendant un ajout)
+        Path journalPath = tempDir.resolve("torn.journal");
+        WriteBehindHospitalStayRepository failing = new WriteBehindHospitalStayRepository(
+                new UnavailableRepository(), journalPath, 100, 50, Duration.ofMillis(10), Duration.ofSeconds(1));
+        failing.save(stay("STAY-1", "BED-1", null));
+        failing.close();
+        Files.write(journalPath, new byte[]{0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // Act : redémarrage toujours sans base et nouvelle écriture acquittée, puis redémarrage avec la base
+        try (WriteBehindHospitalStayRepository restarted = new WriteBehindHospitalStayRepository(
+                new UnavailableRepository(), journalPath, 100, 50, Duration.ofMillis(10), Duration.ofSeconds(1))) {
+            restarted.save(stay("STAY-2", "BED-2", null));
+        }
+        try (WriteBehindHospitalStayRepository recovered = new WriteBehindHospitalStayRepository(
+                delegate, journalPath, 100, 50, Duration.ofMillis(10), Duration.ofSeconds(1))) {
+            recovered.flush();
+        }
+
+        // Assert
+        assertTrue(delegate.findById("STAY-1").isPresent());
+        assertTrue(delegate.findById("STAY-2").isPresent(),
+                "L'écriture acquittée après la fin corrompue doit être rejouée");
+    }
+
+    @Test
+    void flush_shouldParkRejectedStay_andKeepWritingTheOthers() {
+        // Arrange : le repository décoré refuse tout lot contenant STAY-BAD
+        RejectingRepository rejecting = new RejectingRepository("STAY-BAD");
+        try (WriteBehindHospitalStayRepository repository = new WriteBehindHospitalStayRepository(
+                rejecting, tempDir.resolve("rejecting.journal"), 100, 50, Duration.ofSeconds(30), Duration.ofSeconds(1))) {
+            for (int i = 0; i < 10; i++) {
+                repository.save(stay(i == 3 ? "STAY-BAD" : "STAY-" + i, "BED-" + i, null));
+            }
+
+            // Act
+            repository.flush();
+            repository.save(stay("STAY-LATER", "BED-20", null));
+            repository.flush();
+
+            // Assert
+            assertEquals(10, rejecting.findAll().size(), "Les séjours acceptés doivent être écrits malgré le séjour refusé");
+            assertTrue(rejecting.findById("STAY-BAD").isEmpty());
+            assertEquals(List.of("STAY-BAD"), repository.getParkedStays().stream().map(HospitalStay::getId).toList());
+            assertEquals(0, repository.getPendingCount());
+            assertInstanceOf(IllegalArgumentException.class, repository.getLastFailure().orElseThrow(),
+                    "La cause du refus doit être conservée");
+        }
+    }
+
+    @Test
+    void flush_shouldKeepStaysPending_andExposeFailure_whenDelegateIsUnavailable() {
+        // Arrange
+        try (WriteBehindHospitalStayRepository unavailable = new WriteBehindHospitalStayRepository(
+                new UnavailableRepository(), tempDir.resolve("unavailable.journal"), 100, 50,
+                Duration.ofMillis(10), Duration.ofSeconds(1))) {
+            unavailable.save(stay("STAY-1", "BED-1", null));
+            unavailable.save(stay("STAY-2", "BED-2", null));
+
+            // Act
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (unavailable.getLastFailure().isEmpty() && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+
+            // Assert : une panne n'écarte aucun séjour
+            assertEquals("Database unavailable", unavailable.getLastFailure().orElseThrow().getMessage());
+            assertEquals(2, unavailable.getPendingCount());
+            assertTrue(unavailable.getParkedStays().isEmpty());
+        }
+    }
+
+    @Test
+    void bedAvailability_shouldNotOfferBedTakenByPendingStay() {
+        // Arrange : deux lits ; la recherche « en base » ne voit que le repository décoré
+        InMemoryBedRepository bedRepository = new InMemoryBedRepository();
+        bedRepository.save(new Bed("BED-1", "ROOM-1", "A1", BedStatus.AVAILABLE, false));
+        bedRepository.save(new Bed("BED-2", "ROOM-1", "A2", BedStatus.AVAILABLE, false));
+        BedAvailabilityRepository pushdown = new RepositoryBedAvailability(bedRepository, delegate);
+        BedAvailabilityRepository availability = hospitalStayRepository.bedAvailability(bedRepository, pushdown);
+        Patient patient = new Patient("P-002", "Bruno", "Durand", LocalDate.of(1975, 5, 5),
+                Sex.MALE, false, false, "0102030406", null);
+        hospitalStayRepository.save(stay("STAY-1", "BED-1", null));
+
+        // Act
+        Optional<Bed> direct = pushdown.findFirstFreeBed(patient, LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 12), LocalDate.of(2025, 1, 10));
+        Optional<Bed> routed = availability.findFirstFreeBed(patient, LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 12), LocalDate.of(2025, 1, 10));
+
+        // Assert
+        assertEquals("BED-1", direct.orElseThrow().getId(), "La recherche en base ignore le séjour en attente");
+        assertEquals("BED-2", routed.orElseThrow().getId(), "Le lit du séjour en attente ne doit pas être proposé");
+    }
+
+    private HospitalStay stay(String id, String bedId, LocalDate effectiveDischarge) {
+        return new HospitalStay(id, "P-001", bedId, StayType.WEEK, LocalDate.of(2025, 1, 10), null, effectiveDischarge);
+    }
+
+    private static final class RejectingRepository extends InMemoryHospitalStayRepository {
+        private final String rejectedId;
+
+        RejectingRepository(String rejectedId) {
+            this.rejectedId = rejectedId;
+        }
+
+        @Override
+        public void saveAll(Collection<HospitalStay> hospitalStays) {
+            if (hospitalStays.stream().anyMatch(stay -> stay.getId().equals(rejectedId))) {
+                throw new IllegalArgumentException("Unknown patient for hospital stay " + rejectedId);
+            }
+            super.saveAll(hospitalStays);
+        }
+    }
+
+    private static final class UnavailableRepository extends InMemoryHospitalStayRepository {
+        @Override
+        public void saveAll(Collection<HospitalStay> hospitalStays) {
+            throw new IllegalStateException("Database unavailable");
+        }
+    }
+}